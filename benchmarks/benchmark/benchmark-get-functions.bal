@@ -1,6 +1,7 @@
 import benchmarksprintf;
 import benchmarktypes;
 import benchmarkio;
+import benchmarklog;
 import ballerina/io;
 
 map<function()> functions;
@@ -17,6 +18,7 @@ function addFunctions() {
     addSprintfFunctions();
     addIoFunctions();
     addStringFunctions();
+    addLogFunctions();
 }
 
 function addJSONFunctions() {
@@ -59,6 +61,7 @@ function addIntFunctions() {
     functions["benchmarkIntegerTypesSubtraction"] = benchmarktypes:benchmarkIntegerTypesSubtraction;
     functions["benchmarkIntegerTypesMultiplication"] = benchmarktypes:benchmarkIntegerTypesMultiplication;
     functions["benchmarkIntegerTypesDivision"] = benchmarktypes:benchmarkIntegerTypesDivision;
+    functions["benchmarkIntArrayStore"] = benchmarktypes:benchmarkIntArrayStore;
 }
 
 function addPrintFunctions() {
@@ -75,6 +78,7 @@ function addFloatFunctions() {
     functions["benchmarkFloatSubtractionWithReturn"] = benchmarktypes:benchmarkFloatSubtractionWithReturn;
     functions["benchmarkFloatDivision"] = benchmarktypes:benchmarkFloatDivision;
     functions["benchmarkFloatDivisionWithReturn"] = benchmarktypes:benchmarkFloatDivisionWithReturn;
+    functions["benchmarkFloatArrayStore"] = benchmarktypes:benchmarkFloatArrayStore;
 }
 
 function addTimeFunctions() {
@@ -115,6 +119,12 @@ function addIoFunctions() {
     functions["benchmarkWriteBytes"] = benchmarkio:benchmarkWriteBytes;
 }
 
+function addLogFunctions() {
+    functions["benchmarkLogPrintInfo"] = benchmarklog:benchmarkLogPrintInfo;
+    functions["benchmarkLogPrintError"] = benchmarklog:benchmarkLogPrintError;
+    functions["benchmarkLogPrintDebugDisabled"] = benchmarklog:benchmarkLogPrintDebugDisabled;
+}
+
 function addStringFunctions() {
     functions["benchmarkStringContains"] = benchmarktypes:benchmarkStringContains;
     functions["benchmarkStringEqualsIgnoreCase"] = benchmarktypes:benchmarkStringEqualsIgnoreCase;
@@ -0,0 +1,13 @@
+import ballerina/log;
+
+public function benchmarkLogPrintInfo() {
+    log:printInfo("Ballerina is awesome!");
+}
+
+public function benchmarkLogPrintError() {
+    log:printError("Ballerina is awesome!");
+}
+
+public function benchmarkLogPrintDebugDisabled() {
+    log:printDebug("Ballerina is awesome!");
+}
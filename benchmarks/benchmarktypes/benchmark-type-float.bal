@@ -62,3 +62,11 @@ function floatDivision() returns (float) {
     return a / b;
 }
 
+public function benchmarkFloatArrayStore() {
+    float[] values = [];
+    int i = 0;
+    while (i < 100) {
+        values[i] = <float>i * 2.5;
+        i = i + 1;
+    }
+}
@@ -54,3 +54,11 @@ public function benchmarkIntegerTypesDivision() {
     int e = (a / b) / (c / d);
 }
 
+public function benchmarkIntArrayStore() {
+    int[] values = [];
+    int i = 0;
+    while (i < 100) {
+        values[i] = i * 1000;
+        i = i + 1;
+    }
+}
@@ -0,0 +1,257 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.logging.handlers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+
+/**
+ * A handler which publishes log records to a target handler from a background thread, so that the logging thread
+ * does not wait on formatting and writing the records. Records are kept in a bounded buffer and are published to the
+ * target in batches, flushing the target once per batch. When the buffer is full, records below the
+ * {@code dropThreshold} level are dropped and the number of dropped records is reported through the target, while the
+ * logging thread waits for space in the buffer for the other records, so that records are always published in the
+ * order they were logged.
+ * <p>
+ * Similar to {@link java.util.logging.MemoryHandler}, the handler is configured through the following
+ * {@link LogManager} properties, prefixed by the handler class name.
+ * <ul>
+ * <li>target - class name of the target handler (required)</li>
+ * <li>level - level of the handler (defaults to ALL)</li>
+ * <li>bufferSize - number of records which can be buffered (defaults to 8192)</li>
+ * <li>batchSize - maximum number of records published to the target in a batch (defaults to 256)</li>
+ * <li>dropThreshold - records below this level are dropped when the buffer is full (defaults to WARNING)</li>
+ * </ul>
+ * Buffered records are published to the target when the handler is closed, which is done by the log manager at
+ * shutdown.
+ *
+ * @since 1.0.2
+ */
+public class AsyncLogHandler extends Handler {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    private static final int DEFAULT_BATCH_SIZE = 256;
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+
+    private final Handler target;
+    private final BlockingQueue<LogRecord> buffer;
+    private final int batchSize;
+    private final Level dropThreshold;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final Thread worker;
+    private volatile boolean closed = false;
+
+    public AsyncLogHandler() {
+        this(LogManager.getLogManager(), AsyncLogHandler.class.getName());
+    }
+
+    private AsyncLogHandler(LogManager manager, String prefix) {
+        this(createTarget(manager.getProperty(prefix + ".target")),
+             getIntProperty(manager, prefix + ".bufferSize", DEFAULT_BUFFER_SIZE),
+             getIntProperty(manager, prefix + ".batchSize", DEFAULT_BATCH_SIZE),
+             getLevelProperty(manager, prefix + ".dropThreshold", Level.WARNING));
+        setLevel(getLevelProperty(manager, prefix + ".level", Level.ALL));
+    }
+
+    AsyncLogHandler(Handler target, int bufferSize, int batchSize, Level dropThreshold) {
+        this.target = target;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.batchSize = batchSize;
+        this.dropThreshold = dropThreshold;
+
+        this.worker = new Thread(this::publishBufferedRecords, "ballerina-async-log");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (!isLoggable(record)) {
+            return;
+        }
+        if (closed) {
+            target.publish(record);
+            return;
+        }
+        if (buffer.offer(record)) {
+            if (closed) {
+                // handler was closed after the record was buffered
+                publishBatches();
+            }
+            return;
+        }
+        if (record.getLevel().intValue() < dropThreshold.intValue()) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+        // Records at or above the drop threshold are never dropped
+        waitAndBuffer(record);
+    }
+
+    @Override
+    public void flush() {
+        publishBatches();
+    }
+
+    @Override
+    public void close() throws SecurityException {
+        closed = true;
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        publishBatches();
+        target.close();
+    }
+
+    private void waitAndBuffer(LogRecord record) {
+        if (Thread.currentThread() == worker) {
+            // Logged while publishing to the target, hence cannot wait for the worker itself
+            synchronized (target) {
+                target.publish(record);
+            }
+            return;
+        }
+        try {
+            while (!buffer.offer(record, POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                if (closed) {
+                    publishAfterBufferedRecords(record);
+                    return;
+                }
+            }
+            if (closed) {
+                publishBatches();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            publishAfterBufferedRecords(record);
+        }
+    }
+
+    private void publishAfterBufferedRecords(LogRecord record) {
+        publishBatches();
+        synchronized (target) {
+            target.publish(record);
+        }
+    }
+
+    private void publishBufferedRecords() {
+        while (!closed) {
+            try {
+                LogRecord record = buffer.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (record != null) {
+                    List<LogRecord> batch = new ArrayList<>(batchSize);
+                    batch.add(record);
+                    buffer.drainTo(batch, batchSize - 1);
+                    publishBatch(batch);
+                }
+            } catch (InterruptedException e) {
+                // interrupted by close; remaining records are published by the closing thread
+                return;
+            } catch (RuntimeException e) {
+                reportError(null, e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    private void publishBatches() {
+        List<LogRecord> batch = new ArrayList<>(batchSize);
+        while (buffer.drainTo(batch, batchSize) > 0) {
+            publishBatch(batch);
+            batch.clear();
+        }
+        synchronized (target) {
+            reportDroppedRecords();
+            target.flush();
+        }
+    }
+
+    private void publishBatch(List<LogRecord> batch) {
+        synchronized (target) {
+            reportDroppedRecords();
+            for (LogRecord record : batch) {
+                target.publish(record);
+            }
+            target.flush();
+        }
+    }
+
+    private void reportDroppedRecords() {
+        long dropped = droppedCount.getAndSet(0);
+        if (dropped > 0) {
+            LogRecord record = new LogRecord(Level.WARNING, dropped + " log records were dropped since the log " +
+                    "buffer was full");
+            record.setLoggerName("");
+            target.publish(record);
+        }
+    }
+
+    private static Handler createTarget(String className) {
+        if (className == null || className.trim().isEmpty()) {
+            throw new IllegalStateException("target handler is not configured for " + AsyncLogHandler.class);
+        }
+        try {
+            Class<?> targetClass;
+            try {
+                targetClass = ClassLoader.getSystemClassLoader().loadClass(className.trim());
+            } catch (ClassNotFoundException e) {
+                targetClass = Thread.currentThread().getContextClassLoader().loadClass(className.trim());
+            }
+            return (Handler) targetClass.getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalStateException("failed to create the target log handler: " + className, e);
+        }
+    }
+
+    private static int getIntProperty(LogManager manager, String name, int defaultValue) {
+        String value = manager.getProperty(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int intValue = Integer.parseInt(value.trim());
+            return intValue > 0 ? intValue : defaultValue;
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static Level getLevelProperty(LogManager manager, String name, Level defaultValue) {
+        String value = manager.getProperty(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Level.parse(value.trim());
+        } catch (IllegalArgumentException e) {
+            return defaultValue;
+        }
+    }
+}
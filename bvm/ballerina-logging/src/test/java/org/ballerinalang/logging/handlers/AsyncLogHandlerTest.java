@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.logging.handlers;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * Tests for publishing log records through the {@link AsyncLogHandler}.
+ */
+public class AsyncLogHandlerTest {
+
+    @Test(description = "Test publishing records in the order they were logged")
+    public void testOrdering() throws InterruptedException {
+        RecordingHandler target = new RecordingHandler();
+        target.publishDelayMillis = 1;
+        AsyncLogHandler handler = new AsyncLogHandler(target, 4, 2, Level.WARNING);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            handler.publish(new LogRecord(Level.WARNING, "record-" + i));
+            expected.add("record-" + i);
+        }
+        handler.close();
+        Assert.assertEquals(target.getMessages(), expected);
+    }
+
+    @Test(description = "Test dropping the records below the drop threshold when the buffer is full")
+    public void testOverflowDropsRecords() throws InterruptedException {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(target, 2, 16, Level.WARNING);
+        target.block();
+        handler.publish(new LogRecord(Level.INFO, "record-0"));
+        target.awaitBlocked();
+        for (int i = 1; i < 5; i++) {
+            handler.publish(new LogRecord(Level.INFO, "record-" + i));
+        }
+        target.unblock();
+        handler.close();
+        Assert.assertEquals(target.getMessages(), Arrays.asList("record-0",
+                "2 log records were dropped since the log buffer was full", "record-1", "record-2"));
+    }
+
+    @Test(description = "Test waiting for the buffer to have space for the records at the drop threshold")
+    public void testOverflowWaitsForRecords() throws InterruptedException {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(target, 1, 16, Level.WARNING);
+        target.block();
+        handler.publish(new LogRecord(Level.INFO, "record-0"));
+        target.awaitBlocked();
+        handler.publish(new LogRecord(Level.INFO, "record-1"));
+        Thread logger = new Thread(() -> handler.publish(new LogRecord(Level.SEVERE, "record-2")));
+        logger.start();
+        logger.join(200);
+        // Record is not published ahead of the buffered record
+        Assert.assertTrue(logger.isAlive());
+        Assert.assertEquals(target.getMessages(), Collections.singletonList("record-0"));
+
+        target.unblock();
+        logger.join(TimeUnit.SECONDS.toMillis(5));
+        Assert.assertFalse(logger.isAlive());
+        handler.close();
+        Assert.assertEquals(target.getMessages(), Arrays.asList("record-0", "record-1", "record-2"));
+    }
+
+    @Test(description = "Test publishing the buffered records when the handler is closed")
+    public void testFlushOnClose() {
+        RecordingHandler target = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(target, 1024, 16, Level.WARNING);
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            handler.publish(new LogRecord(Level.INFO, "record-" + i));
+            expected.add("record-" + i);
+        }
+        handler.close();
+        Assert.assertEquals(target.getMessages(), expected);
+        Assert.assertTrue(target.closed);
+
+        // Records logged after closing are published directly
+        handler.publish(new LogRecord(Level.INFO, "record-500"));
+        Assert.assertEquals(target.getMessages().get(500), "record-500");
+    }
+
+    /**
+     * Target handler which keeps the messages of the published records, and can be blocked on publishing.
+     */
+    private static class RecordingHandler extends Handler {
+
+        private final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        private volatile CountDownLatch blocked = new CountDownLatch(0);
+        private final CountDownLatch publishing = new CountDownLatch(1);
+        private volatile long publishDelayMillis = 0;
+        private volatile boolean closed = false;
+
+        void block() {
+            blocked = new CountDownLatch(1);
+        }
+
+        void awaitBlocked() throws InterruptedException {
+            Assert.assertTrue(publishing.await(5, TimeUnit.SECONDS));
+        }
+
+        void unblock() {
+            blocked.countDown();
+        }
+
+        List<String> getMessages() {
+            synchronized (messages) {
+                return new ArrayList<>(messages);
+            }
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            messages.add(record.getMessage());
+            publishing.countDown();
+            try {
+                blocked.await();
+                if (publishDelayMillis > 0) {
+                    Thread.sleep(publishDelayMillis);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
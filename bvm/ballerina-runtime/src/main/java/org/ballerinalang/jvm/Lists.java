@@ -46,17 +46,17 @@ public class Lists {
 
         switch (((BArrayType) array.getType()).getElementType().getTag()) {
             case TypeTags.BOOLEAN_TAG:
-                return new Boolean(array.getBoolean(index));
+                return Boolean.valueOf(array.getBoolean(index));
             case TypeTags.BYTE_TAG:
-                return new Long(array.getByte(index));
+                return Long.valueOf(array.getByte(index));
             case TypeTags.FLOAT_TAG:
-                return new Double(array.getFloat(index));
+                return Double.valueOf(array.getFloat(index));
             case TypeTags.DECIMAL_TAG:
                 return array.getRefValue(index);
             case TypeTags.INT_TAG:
-                return new Long((int) array.getInt(index));
+                return Long.valueOf(array.getInt(index));
             case TypeTags.STRING_TAG:
-                return new String(array.getString(index));
+                return array.getString(index);
             default:
                 return array.getRefValue(index);
         }
@@ -106,6 +106,55 @@ public class Lists {
         }
     }
 
+    /*
+     * Following methods store a primitive value without boxing it, when the array is known at runtime to hold
+     * values of the same primitive type. Otherwise they fall back to the type checked generic store.
+     */
+
+    public static void addInt(ArrayValue array, long index, long value) {
+        if (isArrayOfType(array, TypeTags.INT_TAG)) {
+            array.add(index, value);
+            return;
+        }
+        add(array, index, value);
+    }
+
+    public static void addFloat(ArrayValue array, long index, double value) {
+        if (isArrayOfType(array, TypeTags.FLOAT_TAG)) {
+            array.add(index, value);
+            return;
+        }
+        add(array, index, value);
+    }
+
+    public static void addBoolean(ArrayValue array, long index, boolean value) {
+        if (isArrayOfType(array, TypeTags.BOOLEAN_TAG)) {
+            array.add(index, value);
+            return;
+        }
+        add(array, index, value);
+    }
+
+    public static void addByte(ArrayValue array, long index, int value) {
+        if (isArrayOfType(array, TypeTags.BYTE_TAG)) {
+            array.add(index, (byte) value);
+            return;
+        }
+        add(array, index, value);
+    }
+
+    public static void addString(ArrayValue array, long index, String value) {
+        if (isArrayOfType(array, TypeTags.STRING_TAG)) {
+            array.add(index, value);
+            return;
+        }
+        add(array, index, value);
+    }
+
+    private static boolean isArrayOfType(ArrayValue array, int elementTypeTag) {
+        return array.getType().getTag() == TypeTags.ARRAY_TAG && array.elementType.getTag() == elementTypeTag;
+    }
+
     private static boolean isTupleIndexWithinRange(BTupleType tuple, long index) {
         return index >= 0 && index < tuple.getTupleTypes().size();
     }
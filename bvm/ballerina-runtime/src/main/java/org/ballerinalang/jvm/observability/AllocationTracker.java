@@ -0,0 +1,138 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.observability;
+
+import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.jvm.observability.metrics.DefaultMetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.MetricId;
+import org.ballerinalang.jvm.observability.metrics.MetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.StatisticConfig;
+import org.ballerinalang.jvm.observability.metrics.Tag;
+import org.ballerinalang.jvm.observability.metrics.Tags;
+import org.ballerinalang.jvm.scheduling.Strand;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.CONFIG_ALLOCATION_METRICS_ENABLED;
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.CONFIG_METRICS_ENABLED;
+
+/**
+ * Tracks the bytes allocated by the strands serving a request, so that they can be reported per service and
+ * resource. Tracking is enabled only if both metrics and allocation metrics are enabled, and the JVM can measure
+ * the bytes allocated by a thread.
+ * <p>
+ * A strand is charged with the bytes its thread allocated between the time it was picked up by the scheduler and
+ * the time it yielded or completed. Strands started by a strand are charged to the same request.
+ * </p>
+ *
+ * @since 1.0.2
+ */
+public class AllocationTracker {
+
+    public static final String KEY_ALLOCATED_BYTES = "__allocated_bytes__";
+
+    private static final String TAG_KEY_SERVICE = "service";
+    private static final String TAG_KEY_RESOURCE = "resource";
+
+    private static final PrintStream consoleError = System.err;
+
+    private static final com.sun.management.ThreadMXBean threadMXBean;
+    private static final boolean enabled;
+
+    static {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        boolean supported = threadBean instanceof com.sun.management.ThreadMXBean &&
+                ((com.sun.management.ThreadMXBean) threadBean).isThreadAllocatedMemorySupported();
+        threadMXBean = supported ? (com.sun.management.ThreadMXBean) threadBean : null;
+        enabled = supported && configRegistry.getAsBoolean(CONFIG_METRICS_ENABLED) &&
+                configRegistry.getAsBoolean(CONFIG_ALLOCATION_METRICS_ENABLED);
+        if (enabled) {
+            threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        }
+    }
+
+    private AllocationTracker() {
+    }
+
+    /**
+     * Check if allocation tracking is enabled or not.
+     *
+     * @return true if allocation tracking is enabled else false
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the total number of bytes allocated by the current thread so far. The bytes allocated during a period
+     * are the difference of this value at its start and end.
+     *
+     * @return bytes allocated by the current thread, or zero if allocation tracking is not enabled
+     */
+    public static long getAllocatedBytes() {
+        if (!enabled) {
+            return 0;
+        }
+        return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Charges the bytes allocated by the current thread since the given point to the request served by a strand.
+     *
+     * @param strand         strand which ran on the current thread
+     * @param allocatedSince value of {@link #getAllocatedBytes()} when the strand started to run
+     */
+    public static void chargeStrand(Strand strand, long allocatedSince) {
+        LongAdder allocatedBytes = strand.allocatedBytes;
+        if (allocatedBytes != null) {
+            allocatedBytes.add(getAllocatedBytes() - allocatedSince);
+        }
+    }
+
+    /**
+     * Reports the bytes allocated to serve a request to a resource.
+     *
+     * @param connectorName  name of the server connector which received the request
+     * @param serviceName    name of the service
+     * @param resourceName   name of the resource
+     * @param allocatedBytes bytes allocated to serve the request
+     */
+    public static void recordServerAllocation(String connectorName, String serviceName, String resourceName,
+                                              long allocatedBytes) {
+        Set<Tag> tags = new HashSet<>(2);
+        try {
+            Tags.tags(tags, TAG_KEY_SERVICE, serviceName, TAG_KEY_RESOURCE, resourceName);
+            MetricRegistry metricRegistry = DefaultMetricRegistry.getInstance();
+            metricRegistry.counter(new MetricId(connectorName + "_allocated_bytes_total",
+                    "Total number of bytes allocated to serve requests", tags)).increment(allocatedBytes);
+            metricRegistry.gauge(new MetricId(connectorName + "_request_allocated_bytes",
+                    "Bytes allocated to serve a request", tags), StatisticConfig.DEFAULT).setValue(allocatedBytes);
+        } catch (RuntimeException e) {
+            // Metric Provider may throw exceptions if there is a mismatch in tags.
+            consoleError.println("error: error collecting allocation metrics for " + connectorName + " with tags " +
+                    tags + ": " + e.getMessage());
+        }
+    }
+}
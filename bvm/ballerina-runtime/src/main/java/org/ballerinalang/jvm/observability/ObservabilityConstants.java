@@ -69,6 +69,7 @@ public class ObservabilityConstants {
 
     // Metrics Configs
     public static final String CONFIG_METRICS_ENABLED = CONFIG_TABLE_METRICS + ".enabled";
+    public static final String CONFIG_ALLOCATION_METRICS_ENABLED = CONFIG_TABLE_METRICS + ".allocations.enabled";
 
     // Tracing Configs
     public static final String CONFIG_TRACING_ENABLED = CONFIG_TABLE_TRACING + ".enabled";
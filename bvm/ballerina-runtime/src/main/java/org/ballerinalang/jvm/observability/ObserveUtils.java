@@ -47,12 +47,14 @@ import static org.ballerinalang.jvm.observability.tracer.TraceConstants.TAG_SPAN
 public class ObserveUtils {
     private static final List<BallerinaObserver> observers = new CopyOnWriteArrayList<>();
     private static final boolean enabled;
+    private static final boolean metricsEnabled;
     private static final boolean tracingEnabled;
 
     static {
         ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        metricsEnabled = configRegistry.getAsBoolean(CONFIG_METRICS_ENABLED);
         tracingEnabled = configRegistry.getAsBoolean(CONFIG_TRACING_ENABLED);
-        enabled = configRegistry.getAsBoolean(CONFIG_METRICS_ENABLED) || tracingEnabled;
+        enabled = metricsEnabled || tracingEnabled;
     }
 
     /**
@@ -213,6 +215,32 @@ public class ObserveUtils {
         }
     }
 
+    /**
+     * Decides whether the trace of a request received by a service is recorded, before the observation of the
+     * request starts. When metrics are disabled as well, the tags of a request of which the trace is not recorded
+     * are not used, hence need not be collected. The observer context is still needed even then, as it carries the
+     * decision to the contexts of the calls made while serving the request, which would otherwise start traces of
+     * their own.
+     *
+     * @param observerContext observer context of the request, holding the trace properties received with it
+     * @return true if the trace of the request is recorded
+     */
+    public static boolean sampleTrace(ObserverContext observerContext) {
+        if (!tracingEnabled) {
+            return false;
+        }
+        return TracingUtils.sampleTrace(observerContext);
+    }
+
+    /**
+     * Check if metrics are enabled or not.
+     *
+     * @return true if metrics are enabled else false
+     */
+    public static boolean isMetricsEnabled() {
+        return metricsEnabled;
+    }
+
     /**
      * Check if observability is enabled or not.
      *
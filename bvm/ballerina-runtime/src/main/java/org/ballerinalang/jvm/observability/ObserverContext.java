@@ -55,6 +55,10 @@ public class ObserverContext {
 
     private boolean isSystemSpan;
 
+    private boolean traceSampled = true;
+
+    private boolean traceSamplingDecided;
+
     public ObserverContext() {
         this.properties = new HashMap<>();
         this.tags = new HashMap<>();
@@ -140,6 +144,25 @@ public class ObserverContext {
         this.parent = parent;
     }
 
+    /**
+     * Checks whether the trace of this context is recorded. The decision is made for the root context of a trace,
+     * and the contexts under it follow the same decision.
+     *
+     * @return true if the trace is recorded
+     */
+    public boolean isTraceSampled() {
+        return parent != null ? parent.isTraceSampled() : traceSampled;
+    }
+
+    public void setTraceSampled(boolean traceSampled) {
+        this.traceSampled = traceSampled;
+        this.traceSamplingDecided = true;
+    }
+
+    public boolean isTraceSamplingDecided() {
+        return traceSamplingDecided;
+    }
+
     public boolean isSystemSpan() {
         return isSystemSpan;
     }
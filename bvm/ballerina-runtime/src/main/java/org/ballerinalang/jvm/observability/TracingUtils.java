@@ -18,6 +18,8 @@
 package org.ballerinalang.jvm.observability;
 
 import org.ballerinalang.jvm.observability.tracer.BSpan;
+import org.ballerinalang.jvm.observability.tracer.TraceManager;
+import org.ballerinalang.jvm.observability.tracer.TraceSampler;
 import org.ballerinalang.jvm.values.ErrorValue;
 
 import java.util.HashMap;
@@ -51,6 +53,13 @@ public class TracingUtils {
      * @param isClient        true if the starting span is a client
      */
     public static void startObservation(ObserverContext observerContext, boolean isClient) {
+        if (observerContext.getParent() == null) {
+            sampleTrace(observerContext);
+        }
+        if (!observerContext.isTraceSampled()) {
+            // No span is created for a trace which is not recorded
+            return;
+        }
         BSpan span = new BSpan(observerContext, isClient);
         span.setConnectorName(observerContext.getServiceName() != null ?
                 observerContext.getServiceName() : ObservabilityConstants.UNKNOWN_SERVICE);
@@ -75,6 +84,36 @@ public class TracingUtils {
         span.startSpan();
     }
 
+    /**
+     * Decides whether the trace started by an {@link ObserverContext} is recorded, unless it was already decided.
+     *
+     * @param observerContext root context of the trace
+     * @return true if the trace is recorded
+     */
+    public static boolean sampleTrace(ObserverContext observerContext) {
+        if (!observerContext.isTraceSamplingDecided()) {
+            observerContext.setTraceSampled(isTraceSampled(observerContext));
+        }
+        return observerContext.isTraceSampled();
+    }
+
+    /**
+     * Decides whether a new trace is recorded. A trace continued from an upstream service is always recorded, so
+     * that the distributed trace is not broken, and does not take from the rate limit of the sampler.
+     */
+    private static boolean isTraceSampled(ObserverContext observerContext) {
+        Map<String, String> traceProperties =
+                (Map<String, String>) observerContext.getProperty(PROPERTY_TRACE_PROPERTIES);
+        if (traceProperties != null) {
+            String serviceName = observerContext.getServiceName() != null ?
+                    observerContext.getServiceName() : ObservabilityConstants.UNKNOWN_SERVICE;
+            if (TraceManager.getInstance().hasSpanContext(traceProperties, serviceName)) {
+                return true;
+            }
+        }
+        return TraceSampler.getInstance().sample();
+    }
+
     /**
      * Finishes a span in an {@link ObserverContext}.
      *
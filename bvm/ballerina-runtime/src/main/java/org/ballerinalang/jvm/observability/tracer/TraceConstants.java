@@ -50,5 +50,10 @@ public class TraceConstants {
 
     public static final String JAEGER = "jaeger";
     public static final String TRACER_NAME_CONFIG = CONFIG_TABLE_TRACING + ".name";
+    public static final String SAMPLING_RATE_CONFIG = CONFIG_TABLE_TRACING + ".sampling.rate";
+    public static final String SAMPLING_MAX_TRACES_PER_SECOND_CONFIG =
+            CONFIG_TABLE_TRACING + ".sampling.maxTracesPerSecond";
+
+    static final double DEFAULT_SAMPLING_RATE = 1.0;
 
 }
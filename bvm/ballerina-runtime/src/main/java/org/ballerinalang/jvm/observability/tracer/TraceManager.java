@@ -75,6 +75,17 @@ public class TraceManager {
         tags.forEach((key, value) -> bSpan.getSpan().setTag(key, String.valueOf(value)));
     }
 
+    /**
+     * Checks whether the given trace properties carry the span context of a trace started by an upstream service.
+     *
+     * @param traceContext trace properties received from the upstream service
+     * @param serviceName  name of the service
+     * @return true if the properties carry a span context
+     */
+    public boolean hasSpanContext(Map<String, String> traceContext, String serviceName) {
+        return !traceContext.isEmpty() && extractSpanContext(traceContext, serviceName) != null;
+    }
+
     public Map<String, String> extractTraceContext(Span span, String serviceName) {
         Map<String, String> carrierMap = new HashMap<>();
         Tracer tracer = tracerStore.getTracer(serviceName);
@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.observability.tracer;
+
+import org.ballerinalang.config.ConfigRegistry;
+
+import java.io.PrintStream;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.DEFAULT_SAMPLING_RATE;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.SAMPLING_MAX_TRACES_PER_SECOND_CONFIG;
+import static org.ballerinalang.jvm.observability.tracer.TraceConstants.SAMPLING_RATE_CONFIG;
+
+/**
+ * {@code TraceSampler} decides whether a new trace is recorded, before any span of the trace is created. A trace
+ * is recorded with the configured probability, and no more traces are recorded than the configured number per
+ * second. The rate limit allows a burst of up to one second worth of traces.
+ *
+ * @since 1.0.2
+ */
+public class TraceSampler {
+
+    private static final long NANOS_PER_SECOND = 1000000000L;
+    private static final PrintStream consoleError = System.err;
+    private static final TraceSampler instance = createSampler();
+
+    private final double samplingRate;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong nextTraceTime = new AtomicLong(System.nanoTime());
+
+    /**
+     * Creates a sampler.
+     *
+     * @param samplingRate        probability of recording a trace, between 0 and 1
+     * @param maxTracesPerSecond  maximum number of traces recorded per second, or zero for no limit
+     */
+    TraceSampler(double samplingRate, long maxTracesPerSecond) {
+        this.samplingRate = samplingRate;
+        this.intervalNanos = maxTracesPerSecond > 0 ? Math.max(NANOS_PER_SECOND / maxTracesPerSecond, 1) : 0;
+        this.burstNanos = NANOS_PER_SECOND - intervalNanos;
+    }
+
+    public static TraceSampler getInstance() {
+        return instance;
+    }
+
+    /**
+     * Decides whether a new trace is recorded.
+     *
+     * @return true if the trace should be recorded
+     */
+    public boolean sample() {
+        if (samplingRate <= 0) {
+            return false;
+        }
+        if (samplingRate < 1 && ThreadLocalRandom.current().nextDouble() >= samplingRate) {
+            return false;
+        }
+        return intervalNanos == 0 || acquire();
+    }
+
+    private boolean acquire() {
+        long now = System.nanoTime();
+        while (true) {
+            long next = nextTraceTime.get();
+            long start = next - now > 0 ? next : now;
+            if (start - now > burstNanos) {
+                return false;
+            }
+            if (nextTraceTime.compareAndSet(next, start + intervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    private static TraceSampler createSampler() {
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        double samplingRate = DEFAULT_SAMPLING_RATE;
+        long maxTracesPerSecond = 0;
+        try {
+            samplingRate = Double.parseDouble(configRegistry.getConfigOrDefault(SAMPLING_RATE_CONFIG,
+                    String.valueOf(DEFAULT_SAMPLING_RATE)));
+            maxTracesPerSecond = Long.parseLong(configRegistry.getConfigOrDefault(
+                    SAMPLING_MAX_TRACES_PER_SECOND_CONFIG, "0"));
+        } catch (NumberFormatException e) {
+            consoleError.println("error: error in observability tracing sampling configurations: " +
+                    e.getMessage() + ". Defaulted to recording all traces");
+            samplingRate = DEFAULT_SAMPLING_RATE;
+            maxTracesPerSecond = 0;
+        }
+        return new TraceSampler(samplingRate, maxTracesPerSecond);
+    }
+}
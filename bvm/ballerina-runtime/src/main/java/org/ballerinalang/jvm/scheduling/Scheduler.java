@@ -17,6 +17,7 @@
 package org.ballerinalang.jvm.scheduling;
 
 import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.observability.AllocationTracker;
 import org.ballerinalang.jvm.transactions.TransactionLocalContext;
 import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.BTypes;
@@ -231,6 +232,7 @@ public class Scheduler {
 
             Object result = null;
             Throwable panic = null;
+            long allocatedSince = AllocationTracker.getAllocatedBytes();
             try {
                 if (DEBUG) {
                     debugLog(item + " executing");
@@ -250,6 +252,9 @@ public class Scheduler {
                     RuntimeUtils.printCrashLog(panic);
                 }
             } finally {
+                if (AllocationTracker.isEnabled()) {
+                    AllocationTracker.chargeStrand(item.future.strand, allocatedSince);
+                }
                 strandHolder.get().strand = null;
             }
 
@@ -430,6 +435,7 @@ public class Scheduler {
         Strand newStrand = new Strand(this, parent, properties);
         if (parent != null) {
             newStrand.observerContext = parent.observerContext;
+            newStrand.allocatedBytes = parent.allocatedBytes;
         }
         FutureValue future = new FutureValue(newStrand, callback, constraint);
         infectResourceFunction(newStrand, future);
@@ -32,6 +32,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -59,6 +60,7 @@ public class Strand {
     public Set<ChannelDetails> channelDetails;
     public Set<SchedulerItem> dependants;
     public ObserverContext observerContext;
+    public LongAdder allocatedBytes;
     public boolean cancel;
 
     SchedulerItem schedulerItem;
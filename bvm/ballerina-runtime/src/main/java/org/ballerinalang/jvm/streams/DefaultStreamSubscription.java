@@ -31,9 +31,7 @@ public class DefaultStreamSubscription extends StreamSubscription {
     private StreamValue stream;
     private FPValue<Object[], Object> functionPointer;
 
-    DefaultStreamSubscription(StreamValue stream, FPValue<Object[], Object> functionPointer,
-                              StreamSubscriptionManager streamSubscriptionManager) {
-        super(streamSubscriptionManager);
+    DefaultStreamSubscription(StreamValue stream, FPValue<Object[], Object> functionPointer) {
         this.stream = stream;
         this.functionPointer = functionPointer;
     }
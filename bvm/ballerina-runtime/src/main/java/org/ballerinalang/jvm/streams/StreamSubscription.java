@@ -22,25 +22,17 @@ package org.ballerinalang.jvm.streams;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.values.StreamValue;
 
-import java.util.Observable;
-import java.util.Observer;
-
 /**
  * The {@link StreamSubscription} is the base abstract class for {@link DefaultStreamSubscription}.
  *
  * @since 0.995.0
  */
 
-public abstract class StreamSubscription extends Observable {
-
-    StreamSubscription(Observer observer) {
-        addObserver(observer);
-    }
+public abstract class StreamSubscription {
 
     public void send(Strand strand, Object data) {
-        setChanged();
         // we need the strand, the real record value published and the boolean saying if we have defaultable fields
-        notifyObservers(new Object[]{strand, data, false});
+        execute(new Object[]{strand, data, false});
     }
 
     public abstract void execute(Object[] fpParams);
@@ -19,27 +19,29 @@
 package org.ballerinalang.jvm.streams;
 
 import org.ballerinalang.jvm.scheduling.Strand;
-import org.ballerinalang.jvm.util.exceptions.BallerinaException;
 import org.ballerinalang.jvm.values.CloneUtils;
 import org.ballerinalang.jvm.values.FPValue;
+import org.ballerinalang.jvm.values.RefValue;
 import org.ballerinalang.jvm.values.StreamValue;
 
-import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Observable;
-import java.util.Observer;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
  * The {@link StreamSubscriptionManager} manages the streams subscriptions. It is responsible for registering
  * subscriptions for streams and sending events to correct stream through the subscription.
+ * <p>
+ * Subscriptions of a stream are kept in a copy-on-write list, as subscriptions are registered once while events are
+ * published frequently, so that publishing does not need to lock. A published value is cloned for each subscription,
+ * unless the value is immutable, in which case the same value is shared by all the subscriptions.
  *
  * @since 0.995.0
  */
-public class StreamSubscriptionManager implements Observer {
+public class StreamSubscriptionManager {
 
-    private Map<String, List<StreamSubscription>> processors = new HashMap<>();
+    private Map<String, List<StreamSubscription>> processors = new ConcurrentHashMap<>();
 
     private static StreamSubscriptionManager streamSubscriptionManager = new StreamSubscriptionManager();
 
@@ -52,30 +54,27 @@ public class StreamSubscriptionManager implements Observer {
     }
 
     public void registerMessageProcessor(StreamValue stream, FPValue<Object[], Object> functionPointer) {
-        synchronized (this) {
-            processors.computeIfAbsent(stream.streamId, key -> new ArrayList<>())
-                    .add(new DefaultStreamSubscription(stream, functionPointer, this));
-        }
+        processors.computeIfAbsent(stream.streamId, key -> new CopyOnWriteArrayList<>())
+                .add(new DefaultStreamSubscription(stream, functionPointer));
     }
 
     public void sendMessage(StreamValue stream, Strand strand, Object value) {
         List<StreamSubscription> msgProcessors = processors.get(stream.streamId);
-        if (msgProcessors != null) {
-            msgProcessors.forEach(processor -> processor.send(strand, CloneUtils.cloneValue(value)));
-        }
-    }
-
-    @Override
-    public void update(Observable o, Object arg) {
-        if (!(o instanceof StreamSubscription)) {
-            throw new BallerinaException("Invalid subscription. Expected a subscription to a stream");
+        if (msgProcessors == null) {
+            return;
         }
-        StreamSubscription msgProcessor = (StreamSubscription) o;
-        StreamValue stream = msgProcessor.getStream();
-        if (!(arg instanceof Object[])) {
-            throw new BallerinaException("Invalid data parameters received to stream: " + stream.getStreamId());
+        if (isImmutable(value)) {
+            for (StreamSubscription processor : msgProcessors) {
+                processor.send(strand, value);
+            }
         } else {
-            msgProcessor.execute((Object[]) arg);
+            for (StreamSubscription processor : msgProcessors) {
+                processor.send(strand, CloneUtils.cloneValue(value));
+            }
         }
     }
+
+    private static boolean isImmutable(Object value) {
+        return !(value instanceof RefValue) || ((RefValue) value).isFrozen();
+    }
 }
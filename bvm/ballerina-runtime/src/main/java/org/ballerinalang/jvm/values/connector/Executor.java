@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.jvm.values.connector;
 
+import org.ballerinalang.jvm.observability.AllocationTracker;
 import org.ballerinalang.jvm.observability.ObservabilityConstants;
 import org.ballerinalang.jvm.observability.ObserveUtils;
 import org.ballerinalang.jvm.observability.ObserverContext;
@@ -38,6 +39,7 @@ import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 /**
@@ -69,6 +71,9 @@ public class Executor {
                 strand.observerContext =
                         (ObserverContext) properties.remove(ObservabilityConstants.KEY_OBSERVER_CONTEXT);
             }
+            if (AllocationTracker.isEnabled() && properties != null) {
+                strand.allocatedBytes = (LongAdder) properties.remove(AllocationTracker.KEY_ALLOCATED_BYTES);
+            }
             return service.call(strand, resourceName, args);
         };
         BUnionType unionType = new BUnionType(new BType[] { BTypes.typeError, BTypes.typeNull },
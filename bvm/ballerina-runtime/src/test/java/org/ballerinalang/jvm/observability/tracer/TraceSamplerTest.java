@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm.observability.tracer;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for the sampling rate and the rate limit of the {@link TraceSampler}.
+ */
+public class TraceSamplerTest {
+
+    @Test(description = "Test recording no traces with a zero sampling rate")
+    public void testZeroSamplingRate() {
+        TraceSampler sampler = new TraceSampler(0, 0);
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertFalse(sampler.sample());
+        }
+    }
+
+    @Test(description = "Test recording all the traces with a sampling rate of one")
+    public void testFullSamplingRate() {
+        TraceSampler sampler = new TraceSampler(1, 0);
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertTrue(sampler.sample());
+        }
+    }
+
+    @Test(description = "Test recording a fraction of the traces")
+    public void testFractionalSamplingRate() {
+        TraceSampler sampler = new TraceSampler(0.25, 0);
+        int sampled = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (sampler.sample()) {
+                sampled++;
+            }
+        }
+        Assert.assertTrue(sampled > 2000 && sampled < 3000, "sampled " + sampled + " of 10000 traces");
+    }
+
+    @Test(description = "Test recording a burst of up to one second worth of traces")
+    public void testBurst() {
+        TraceSampler sampler = new TraceSampler(1, 10);
+        for (int i = 0; i < 10; i++) {
+            Assert.assertTrue(sampler.sample());
+        }
+        Assert.assertFalse(sampler.sample());
+    }
+
+    @Test(description = "Test recording traces again as the rate limit refills")
+    public void testRefill() throws InterruptedException {
+        TraceSampler sampler = new TraceSampler(1, 2);
+        Assert.assertTrue(sampler.sample());
+        Assert.assertTrue(sampler.sample());
+        Assert.assertFalse(sampler.sample());
+
+        // One trace is allowed every 500 milliseconds
+        Thread.sleep(600);
+        Assert.assertTrue(sampler.sample());
+        Assert.assertFalse(sampler.sample());
+    }
+}
@@ -33,6 +33,7 @@ import org.ballerinalang.packerina.task.CreateExecutableTask;
 import org.ballerinalang.packerina.task.CreateJarTask;
 import org.ballerinalang.packerina.task.CreateLockFileTask;
 import org.ballerinalang.packerina.task.CreateTargetDirTask;
+import org.ballerinalang.packerina.task.PrintClassDataSharingCommandTask;
 import org.ballerinalang.packerina.task.PrintExecutablePathTask;
 import org.ballerinalang.packerina.task.RunCompilerPluginTask;
 import org.ballerinalang.packerina.task.RunTestsTask;
@@ -137,6 +138,11 @@ public class BuildCommand implements BLauncherCmd {
                         description = "Compile Ballerina program to a native binary")
     private boolean nativeBinary;
 
+    @CommandLine.Option(names = "--create-cds-archive", hidden = true,
+                        description = "Print the commands to create a class data sharing archive next to the " +
+                                      "executable on its first run, to reduce the start up time of later runs.")
+    private boolean createCdsArchive;
+
     @CommandLine.Option(names = "--dump-bir", hidden = true)
     private boolean dumpBIR;
 
@@ -180,6 +186,16 @@ public class BuildCommand implements BLauncherCmd {
             CommandUtil.exitError(this.exitWhenFinish);
             return;
         }
+
+        if (this.createCdsArchive && !PrintClassDataSharingCommandTask.isSupported()) {
+            CommandUtil.printError(this.errStream,
+                    "creating class data sharing archives requires Java 13 or later, but the build is running " +
+                    "on Java " + System.getProperty("java.specification.version") + ".",
+                    null,
+                    false);
+            CommandUtil.exitError(this.exitWhenFinish);
+            return;
+        }
     
         // if -a or --all flag is not given, then it is mandatory to give a module name or ballerina file as arg.
         if (!this.buildAll && (this.argList == null || this.argList.size() == 0)) {
@@ -388,6 +404,8 @@ public class BuildCommand implements BLauncherCmd {
                                                                                         // file
                 .addTask(new CopyExecutableTask(outputPath), !isSingleFileBuild)    // copy executable
                 .addTask(new PrintExecutablePathTask(), this.compile)   // print the location of the executable
+                .addTask(new PrintClassDataSharingCommandTask(), this.compile || !this.createCdsArchive) // print
+                                                                        // the AppCDS run commands(opt-in only)
                 .addTask(new RunCompilerPluginTask(), this.compile) // run compiler plugins
                 .addTask(new CleanTargetDirTask(), !isSingleFileBuild)  // clean the target dir(single bals only)
                 .build();
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.packerina.task;
+
+import org.ballerinalang.packerina.buildcontext.BuildContext;
+import org.ballerinalang.packerina.buildcontext.BuildContextField;
+import org.ballerinalang.packerina.buildcontext.sourcecontext.SingleFileContext;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.ballerinalang.packerina.buildcontext.sourcecontext.SourceType.SINGLE_BAL_FILE;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BLANG_COMPILED_JAR_EXT;
+
+/**
+ * Task for printing the commands to run the executables with an application class data sharing (AppCDS) archive.
+ * The archive contains the pre-parsed and pre-verified classes of the executable, which reduces the start up time of
+ * short lived programs.
+ * <p>
+ * The program is not run during the build. Instead, the archive is dumped by the JVM with
+ * {@code -XX:ArchiveClassesAtExit} when the executable is launched for the first time, so that it holds the JDK and
+ * application classes the program actually loads. Later launches map the archive with {@code -XX:SharedArchiveFile}.
+ * The archive is placed next to the final executable, since the JVM validates it against the class path it was dumped
+ * with. Hence this requires the {@link CopyExecutableTask} to be completed for single file builds.
+ * <p>
+ * Dynamic archives are only supported on Java 13 or later.
+ */
+public class PrintClassDataSharingCommandTask implements Task {
+
+    private static final int MIN_JAVA_VERSION = 13;
+    private static final String CDS_ARCHIVE_EXT = ".jsa";
+
+    /**
+     * Checks whether the JVM running the build can create dynamic class data sharing archives.
+     *
+     * @return true if the JVM is Java 13 or later
+     */
+    public static boolean isSupported() {
+        return getJavaMajorVersion(System.getProperty("java.specification.version")) >= MIN_JAVA_VERSION;
+    }
+
+    @Override
+    public void execute(BuildContext buildContext) {
+        boolean headerPrinted = false;
+        for (BLangPackage module : buildContext.getModules()) {
+            if (!module.symbol.entryPointExists) {
+                continue;
+            }
+            if (!headerPrinted) {
+                buildContext.out().println();
+                buildContext.out().println("Running with class data sharing archives");
+                headerPrinted = true;
+            }
+            Path executablePath = getExecutablePath(buildContext, module).toAbsolutePath();
+            Path archivePath = getArchivePath(executablePath);
+            buildContext.out().println("\tfirst run, to create '" + archivePath + "':");
+            buildContext.out().println("\t\t" + String.join(" ", getArchiveCommand("java", executablePath,
+                    archivePath)));
+            buildContext.out().println("\tlater runs:");
+            buildContext.out().println("\t\t" + String.join(" ", getRunCommand("java", executablePath, archivePath)));
+        }
+    }
+
+    /**
+     * Returns the final location of the executable. Executables of single files are copied out of the target
+     * directory, which is deleted at the end of the build.
+     */
+    private static Path getExecutablePath(BuildContext buildContext, BLangPackage module) {
+        if (SINGLE_BAL_FILE == buildContext.getSourceType()) {
+            SingleFileContext singleFileContext = buildContext.get(BuildContextField.SOURCE_CONTEXT);
+            if (null != singleFileContext.getExecutableFilePath()) {
+                return singleFileContext.getExecutableFilePath();
+            }
+        }
+        return buildContext.getExecutablePathFromTarget(module.packageID);
+    }
+
+    static List<String> getArchiveCommand(String javaCommand, Path executablePath, Path archivePath) {
+        List<String> command = new ArrayList<>();
+        command.add(javaCommand);
+        command.add("-XX:ArchiveClassesAtExit=" + archivePath.toString());
+        command.add("-jar");
+        command.add(executablePath.toString());
+        return command;
+    }
+
+    static List<String> getRunCommand(String javaCommand, Path executablePath, Path archivePath) {
+        List<String> command = new ArrayList<>();
+        command.add(javaCommand);
+        command.add("-XX:SharedArchiveFile=" + archivePath.toString());
+        command.add("-jar");
+        command.add(executablePath.toString());
+        return command;
+    }
+
+    static Path getArchivePath(Path executablePath) {
+        String executableName = executablePath.toString();
+        if (executableName.endsWith(BLANG_COMPILED_JAR_EXT)) {
+            executableName = executableName.substring(0, executableName.length() - BLANG_COMPILED_JAR_EXT.length());
+        }
+        return Paths.get(executableName + CDS_ARCHIVE_EXT);
+    }
+
+    static int getJavaMajorVersion(String specificationVersion) {
+        if (specificationVersion == null) {
+            return 0;
+        }
+        // Java 8 and earlier report versions of the form 1.x
+        String version = specificationVersion.startsWith("1.") ? specificationVersion.substring(2) :
+                specificationVersion;
+        int end = version.indexOf('.');
+        try {
+            return Integer.parseInt(end < 0 ? version : version.substring(0, end));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.packerina.task;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Test cases for the commands to run executables with class data sharing archives.
+ *
+ * @since 1.0.2
+ */
+public class PrintClassDataSharingCommandTaskTest {
+
+    private static final String JAVA = "java";
+    private final Path executable = Paths.get("out", "hello.jar");
+    private final Path archive = Paths.get("out", "hello.jsa");
+
+    @Test(description = "Test placing the archive next to the executable")
+    public void testArchivePath() {
+        Assert.assertEquals(PrintClassDataSharingCommandTask.getArchivePath(executable), archive);
+    }
+
+    @Test(description = "Test dumping the archive when the executable is launched for the first time")
+    public void testArchiveCommand() {
+        Assert.assertEquals(PrintClassDataSharingCommandTask.getArchiveCommand(JAVA, executable, archive),
+                Arrays.asList(JAVA, "-XX:ArchiveClassesAtExit=" + archive, "-jar", executable.toString()));
+    }
+
+    @Test(description = "Test running the executable with the archive")
+    public void testRunCommand() {
+        Assert.assertEquals(PrintClassDataSharingCommandTask.getRunCommand(JAVA, executable, archive),
+                Arrays.asList(JAVA, "-XX:SharedArchiveFile=" + archive, "-jar", executable.toString()));
+    }
+
+    @Test(description = "Test reading the major version of the JVM running the build")
+    public void testJavaMajorVersion() {
+        Assert.assertEquals(PrintClassDataSharingCommandTask.getJavaMajorVersion("1.8"), 8);
+        Assert.assertEquals(PrintClassDataSharingCommandTask.getJavaMajorVersion("11"), 11);
+        Assert.assertEquals(PrintClassDataSharingCommandTask.getJavaMajorVersion("13.0"), 13);
+        Assert.assertEquals(PrintClassDataSharingCommandTask.getJavaMajorVersion(null), 0);
+        Assert.assertEquals(PrintClassDataSharingCommandTask.getJavaMajorVersion("unknown"), 0);
+    }
+}
@@ -761,9 +761,20 @@ type InstructionGenerator object {
         self.loadVar(inst.lhsOp.variableDcl);
         self.loadVar(inst.keyOp.variableDcl);
         self.loadVar(inst.rhsOp.variableDcl);
-        addBoxInsn(self.mv, inst.rhsOp.variableDcl.typeValue);
 
         bir:BType varRefType = inst.lhsOp.variableDcl.typeValue;
+        bir:BType valueType = inst.rhsOp.variableDcl.typeValue;
+        if (varRefType is bir:BArrayType && !(varRefType.eType is bir:BJSONType)) {
+            // store primitive values without boxing them
+            string? primitiveStoreDesc = getPrimitiveArrayStoreDesc(valueType);
+            if (primitiveStoreDesc is string) {
+                self.mv.visitMethodInsn(INVOKESTATIC, LIST_UTILS, getPrimitiveArrayStoreMethod(valueType),
+                                        primitiveStoreDesc, false);
+                return;
+            }
+        }
+
+        addBoxInsn(self.mv, valueType);
         if (varRefType is bir:BJSONType ||
                 (varRefType is bir:BArrayType && varRefType.eType  is bir:BJSONType)) {
             self.mv.visitMethodInsn(INVOKESTATIC, JSON_UTILS, "setArrayElement",
@@ -1115,6 +1126,35 @@ type InstructionGenerator object {
     }
 };
 
+function getPrimitiveArrayStoreDesc(bir:BType valueType) returns string? {
+    if (valueType is bir:BTypeInt) {
+        return io:sprintf("(L%s;JJ)V", ARRAY_VALUE);
+    } else if (valueType is bir:BTypeFloat) {
+        return io:sprintf("(L%s;JD)V", ARRAY_VALUE);
+    } else if (valueType is bir:BTypeBoolean) {
+        return io:sprintf("(L%s;JZ)V", ARRAY_VALUE);
+    } else if (valueType is bir:BTypeByte) {
+        return io:sprintf("(L%s;JI)V", ARRAY_VALUE);
+    } else if (valueType is bir:BTypeString) {
+        return io:sprintf("(L%s;JL%s;)V", ARRAY_VALUE, STRING_VALUE);
+    }
+    return ();
+}
+
+function getPrimitiveArrayStoreMethod(bir:BType valueType) returns string {
+    if (valueType is bir:BTypeInt) {
+        return "addInt";
+    } else if (valueType is bir:BTypeFloat) {
+        return "addFloat";
+    } else if (valueType is bir:BTypeBoolean) {
+        return "addBoolean";
+    } else if (valueType is bir:BTypeByte) {
+        return "addByte";
+    } else {
+        return "addString";
+    }
+}
+
 function addBoxInsn(jvm:MethodVisitor mv, bir:BType? bType) {
     if (bType is ()) {
         return;
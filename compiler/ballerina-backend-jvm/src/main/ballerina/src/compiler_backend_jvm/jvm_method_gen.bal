@@ -134,20 +134,26 @@ function genJMethodForBFunc(bir:Function func,
         k += 1;
     }
 
-    bir:VariableDcl stateVar = { typeValue: "string", //should  be javaInt
-                                 name: { value: "state" },
-                                 kind: "TEMP" };
-    var stateVarIndex = indexMap.getIndex(stateVar);
-    mv.visitInsn(ICONST_0);
-    mv.visitVarInsn(ISTORE, stateVarIndex);
+    // functions which can never yield the strand don't need the state variable, and the frame spill and
+    // resume logic.
+    boolean isNonYielding = isNonYieldingFunction(func, attachedType);
+    int stateVarIndex = -1;
+    if (!isNonYielding) {
+        bir:VariableDcl stateVar = { typeValue: "string", //should  be javaInt
+                                     name: { value: "state" },
+                                     kind: "TEMP" };
+        stateVarIndex = indexMap.getIndex(stateVar);
+        mv.visitInsn(ICONST_0);
+        mv.visitVarInsn(ISTORE, stateVarIndex);
 
-    mv.visitVarInsn(ALOAD, localVarOffset);
-    mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "resumeIndex", "I");
-    jvm:Label resumeLable = labelGen.getLabel(funcName + "resume");
-    mv.visitJumpInsn(IFGT, resumeLable);
+        mv.visitVarInsn(ALOAD, localVarOffset);
+        mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "resumeIndex", "I");
+        jvm:Label resumeLable = labelGen.getLabel(funcName + "resume");
+        mv.visitJumpInsn(IFGT, resumeLable);
 
-    jvm:Label varinitLable = labelGen.getLabel(funcName + "varinit");
-    mv.visitLabel(varinitLable);
+        jvm:Label varinitLable = labelGen.getLabel(funcName + "varinit");
+        mv.visitLabel(varinitLable);
+    }
 
     bir:VariableDcl varDcl = getVariableDcl(localVars[0]);
     returnVarRefIndex = indexMap.getIndex(varDcl);
@@ -162,22 +168,6 @@ function genJMethodForBFunc(bir:Function func,
 
     // process basic blocks
     bir:BasicBlock?[] basicBlocks = func.basicBlocks;
-
-    jvm:Label[] lables = [];
-    int[] states = [];
-
-    int i = 0;
-    while (i < basicBlocks.length()) {
-        bir:BasicBlock bb = getBasicBlock(basicBlocks[i]);
-        if(i == 0){
-            lables[i] = labelGen.getLabel(funcName + bb.id.value);
-        } else {
-            lables[i] = labelGen.getLabel(funcName + bb.id.value + "beforeTerm");
-        }
-        states[i] = i;
-        i = i + 1;
-    }
-
     TerminatorGenerator termGen = new(mv, indexMap, labelGen, errorGen, module);
 
     // uncomment to test yield
@@ -191,63 +181,18 @@ function genJMethodForBFunc(bir:Function func,
     // termGen.genReturnTerm({kind:"RETURN"}, returnVarRefIndex, func);
     // mv.visitLabel(l0);
 
-    mv.visitVarInsn(ILOAD, stateVarIndex);
-    jvm:Label yieldLable = labelGen.getLabel(funcName + "yield");
-    mv.visitLookupSwitchInsn(yieldLable, states, lables);
+    if (!isNonYielding) {
+        genStateSwitch(mv, basicBlocks, labelGen, funcName, stateVarIndex);
+    }
 
     generateBasicBlocks(mv, basicBlocks, labelGen, errorGen, instGen, termGen, func, returnVarRefIndex, stateVarIndex,
-                            localVarOffset, false, module, currentPackageName, attachedType, isObserved, isService, serviceName);
-
-    string frameName = getFrameClassName(currentPackageName, funcName, attachedType);
-    mv.visitLabel(resumeLable);
-    mv.visitVarInsn(ALOAD, localVarOffset);
-    mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "frames", "[Ljava/lang/Object;");
-    mv.visitVarInsn(ALOAD, localVarOffset);
-    mv.visitInsn(DUP);
-    mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "resumeIndex", "I");
-    mv.visitInsn(ICONST_1);
-    mv.visitInsn(ISUB);
-    mv.visitInsn(DUP_X1);
-    mv.visitFieldInsn(PUTFIELD, "org/ballerinalang/jvm/scheduling/Strand", "resumeIndex", "I");
-    mv.visitInsn(AALOAD);
-    mv.visitTypeInsn(CHECKCAST, frameName);
-
-    geerateFrameClassFieldLoad(localVarOffset, localVars, mv, indexMap, frameName);
-    mv.visitFieldInsn(GETFIELD, frameName, "state", "I");
-    mv.visitVarInsn(ISTORE, stateVarIndex);
-    mv.visitJumpInsn(GOTO, varinitLable);
-
-
-    mv.visitLabel(yieldLable);
-    mv.visitTypeInsn(NEW, frameName);
-    mv.visitInsn(DUP);
-    mv.visitMethodInsn(INVOKESPECIAL, frameName, "<init>", "()V", false);
-
-
-    geerateFrameClassFieldUpdate(localVarOffset, localVars, mv, indexMap, frameName);
-
-    mv.visitInsn(DUP);
-    mv.visitVarInsn(ILOAD, stateVarIndex);
-    mv.visitFieldInsn(PUTFIELD, frameName, "state", "I");
-
-
-    bir:VariableDcl frameVar = { typeValue: "string", // should be record or something
-                                 name: { value: "frame" },
-                                 kind: "TEMP" };
-    var frameVarIndex = indexMap.getIndex(frameVar);
-    mv.visitVarInsn(ASTORE, frameVarIndex);
+                            localVarOffset, false, module, currentPackageName, attachedType, isObserved, isService,
+                            serviceName, isNonYielding = isNonYielding);
 
-    mv.visitVarInsn(ALOAD, localVarOffset);
-    mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "frames", "[Ljava/lang/Object;");
-    mv.visitVarInsn(ALOAD, localVarOffset);
-    mv.visitInsn(DUP);
-    mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "resumeIndex", "I");
-    mv.visitInsn(DUP_X1);
-    mv.visitInsn(ICONST_1);
-    mv.visitInsn(IADD);
-    mv.visitFieldInsn(PUTFIELD, "org/ballerinalang/jvm/scheduling/Strand", "resumeIndex", "I");
-    mv.visitVarInsn(ALOAD, frameVarIndex);
-    mv.visitInsn(AASTORE);
+    if (!isNonYielding) {
+        genFrameSpillAndResume(mv, localVars, indexMap, labelGen, funcName, currentPackageName, attachedType,
+                                localVarOffset, stateVarIndex);
+    }
 
     jvm:Label methodEndLabel = new;
     // generate the try catch finally to stop observing if an error occurs.
@@ -338,6 +283,86 @@ function genJMethodForBFunc(bir:Function func,
     mv.visitEnd();
 }
 
+function genStateSwitch(jvm:MethodVisitor mv, bir:BasicBlock?[] basicBlocks, LabelGenerator labelGen,
+                        string funcName, int stateVarIndex) {
+    jvm:Label[] lables = [];
+    int[] states = [];
+
+    int i = 0;
+    while (i < basicBlocks.length()) {
+        bir:BasicBlock bb = getBasicBlock(basicBlocks[i]);
+        if(i == 0){
+            lables[i] = labelGen.getLabel(funcName + bb.id.value);
+        } else {
+            lables[i] = labelGen.getLabel(funcName + bb.id.value + "beforeTerm");
+        }
+        states[i] = i;
+        i = i + 1;
+    }
+
+    mv.visitVarInsn(ILOAD, stateVarIndex);
+    jvm:Label yieldLable = labelGen.getLabel(funcName + "yield");
+    mv.visitLookupSwitchInsn(yieldLable, states, lables);
+}
+
+function genFrameSpillAndResume(jvm:MethodVisitor mv, bir:VariableDcl?[] localVars, BalToJVMIndexMap indexMap,
+                                LabelGenerator labelGen, string funcName, string currentPackageName,
+                                bir:BType? attachedType, int localVarOffset, int stateVarIndex) {
+    string frameName = getFrameClassName(currentPackageName, funcName, attachedType);
+    jvm:Label resumeLable = labelGen.getLabel(funcName + "resume");
+    mv.visitLabel(resumeLable);
+    mv.visitVarInsn(ALOAD, localVarOffset);
+    mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "frames", "[Ljava/lang/Object;");
+    mv.visitVarInsn(ALOAD, localVarOffset);
+    mv.visitInsn(DUP);
+    mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "resumeIndex", "I");
+    mv.visitInsn(ICONST_1);
+    mv.visitInsn(ISUB);
+    mv.visitInsn(DUP_X1);
+    mv.visitFieldInsn(PUTFIELD, "org/ballerinalang/jvm/scheduling/Strand", "resumeIndex", "I");
+    mv.visitInsn(AALOAD);
+    mv.visitTypeInsn(CHECKCAST, frameName);
+
+    geerateFrameClassFieldLoad(localVarOffset, localVars, mv, indexMap, frameName);
+    mv.visitFieldInsn(GETFIELD, frameName, "state", "I");
+    mv.visitVarInsn(ISTORE, stateVarIndex);
+    jvm:Label varinitLable = labelGen.getLabel(funcName + "varinit");
+    mv.visitJumpInsn(GOTO, varinitLable);
+
+
+    jvm:Label yieldLable = labelGen.getLabel(funcName + "yield");
+    mv.visitLabel(yieldLable);
+    mv.visitTypeInsn(NEW, frameName);
+    mv.visitInsn(DUP);
+    mv.visitMethodInsn(INVOKESPECIAL, frameName, "<init>", "()V", false);
+
+
+    geerateFrameClassFieldUpdate(localVarOffset, localVars, mv, indexMap, frameName);
+
+    mv.visitInsn(DUP);
+    mv.visitVarInsn(ILOAD, stateVarIndex);
+    mv.visitFieldInsn(PUTFIELD, frameName, "state", "I");
+
+
+    bir:VariableDcl frameVar = { typeValue: "string", // should be record or something
+                                 name: { value: "frame" },
+                                 kind: "TEMP" };
+    var frameVarIndex = indexMap.getIndex(frameVar);
+    mv.visitVarInsn(ASTORE, frameVarIndex);
+
+    mv.visitVarInsn(ALOAD, localVarOffset);
+    mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "frames", "[Ljava/lang/Object;");
+    mv.visitVarInsn(ALOAD, localVarOffset);
+    mv.visitInsn(DUP);
+    mv.visitFieldInsn(GETFIELD, "org/ballerinalang/jvm/scheduling/Strand", "resumeIndex", "I");
+    mv.visitInsn(DUP_X1);
+    mv.visitInsn(ICONST_1);
+    mv.visitInsn(IADD);
+    mv.visitFieldInsn(PUTFIELD, "org/ballerinalang/jvm/scheduling/Strand", "resumeIndex", "I");
+    mv.visitVarInsn(ALOAD, frameVarIndex);
+    mv.visitInsn(AASTORE);
+}
+
 function geerateFrameClassFieldLoad(int localVarOffset, bir:VariableDcl?[] localVars, jvm:MethodVisitor mv,
                                     BalToJVMIndexMap indexMap, string frameName) {
     int k = localVarOffset;
@@ -577,7 +602,7 @@ function generateBasicBlocks(jvm:MethodVisitor mv, bir:BasicBlock?[] basicBlocks
             ErrorHandlerGenerator errorGen, InstructionGenerator instGen, TerminatorGenerator termGen,
             bir:Function func, int returnVarRefIndex, int stateVarIndex, int localVarOffset, boolean isArg,
             bir:Package module, string currentPackageName, bir:BType? attachedType, boolean isObserved = false,
-            boolean isService = false, string serviceName = "") {
+            boolean isService = false, string serviceName = "", boolean isNonYielding = false) {
     int j = 0;
     string funcName = cleanupFunctionName(<@untainted> func.name.value);
 
@@ -737,7 +762,7 @@ function generateBasicBlocks(jvm:MethodVisitor mv, bir:BasicBlock?[] basicBlocks
         mv.visitLabel(bbEndLable);
 
         bir:Terminator terminator = bb.terminator;
-        if (!isArg) {
+        if (!isArg && !isNonYielding) {
             // SIPUSH range is (-32768 to 32767) so if the state index goes beyond that, need to use visitLdcInsn
             mv.visitIntInsn(SIPUSH, j);
             mv.visitVarInsn(ISTORE, stateVarIndex);
@@ -779,7 +804,13 @@ function generateBasicBlocks(jvm:MethodVisitor mv, bir:BasicBlock?[] basicBlocks
 
         var thenBB = terminator["thenBB"];
         if (thenBB is bir:BasicBlock) {
-            genYieldCheck(mv, termGen.labelGen, thenBB, funcName, localVarOffset);
+            if (isNonYielding) {
+                // callee can never yield, hence directly goto thenBB
+                jvm:Label gotoLabel = labelGen.getLabel(funcName + thenBB.id.value);
+                mv.visitJumpInsn(GOTO, gotoLabel);
+            } else {
+                genYieldCheck(mv, termGen.labelGen, thenBB, funcName, localVarOffset);
+            }
         }
         j += 1;
     }
@@ -1997,6 +2028,10 @@ function generateFrameClassForFunction (bir:Package pkg, bir:Function? func, map
             return;
         }
     }
+    if (isNonYieldingFunction(currentFunc, attachedType)) {
+        // non-yielding functions never spill their locals to a frame
+        return;
+    }
     string frameClassName = getFrameClassName(pkgName, currentFunc.name.value, attachedType);
     jvm:ClassWriter cw = new(COMPUTE_FRAMES);
     cw.visitSource(currentFunc.pos.sourceFileName);
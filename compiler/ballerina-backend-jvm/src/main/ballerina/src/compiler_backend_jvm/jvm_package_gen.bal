@@ -167,6 +167,7 @@ public function generatePackage(bir:ModuleID moduleId, @tainted JarFile jarFile,
     // generate object/record value classes
     ObjectGenerator objGen = new(module);
     objGen.generateValueClasses(module.typeDefs, jarFile.pkgEntries);
+    analyseNonYieldingFunctions(module);
     generateFrameClasses(module, jarFile.pkgEntries);
 
     foreach var [ moduleClass, v ] in jvmClassMap.entries() {
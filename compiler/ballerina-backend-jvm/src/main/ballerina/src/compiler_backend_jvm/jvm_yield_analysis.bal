@@ -0,0 +1,93 @@
+// Copyright (c) 2019 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/bir;
+
+// Module level functions of the module being generated, which are proven to never yield the strand.
+// Methods generated for these functions do not need the frame spill and resume logic.
+map<boolean> nonYieldingFunctions = {};
+
+# Computes the set of module level functions that can never yield the strand. A function is non-yielding
+# if all of its terminators are local control flow, or non-virtual calls to other non-yielding functions
+# of the same module. Remote calls, locks, worker interactions, async calls, function pointer calls and
+# calls to extern functions are all treated as yielding. The analysis starts by assuming every candidate
+# is non-yielding and removes functions until a fixed point is reached, so recursive functions without any
+# yielding terminator are also identified as non-yielding.
+#
+# + module - module whose functions are analysed
+function analyseNonYieldingFunctions(bir:Package module) {
+    nonYieldingFunctions = {};
+    foreach var func in module.functions {
+        bir:Function birFunc = getFunction(func);
+        if (isNonYieldingCandidate(module, birFunc)) {
+            nonYieldingFunctions[birFunc.name.value] = true;
+        }
+    }
+
+    boolean changed = true;
+    while (changed) {
+        changed = false;
+        foreach var func in module.functions {
+            bir:Function birFunc = getFunction(func);
+            string funcName = birFunc.name.value;
+            if (nonYieldingFunctions[funcName] == true && mayYield(module, birFunc)) {
+                nonYieldingFunctions[funcName] = false;
+                changed = true;
+            }
+        }
+    }
+}
+
+function isNonYieldingFunction(bir:Function func, bir:BType? attachedType) returns boolean {
+    // Attached functions are dispatched through the object value, hence never considered.
+    if !(attachedType is ()) {
+        return false;
+    }
+    return nonYieldingFunctions[func.name.value] == true;
+}
+
+function isNonYieldingCandidate(bir:Package module, bir:Function func) returns boolean {
+    if (isExternFunc(func)) {
+        return false;
+    }
+
+    // workers and remote functions are observed and interact with other strands.
+    if ((func.flags & bir:WORKER) == bir:WORKER || (func.flags & bir:REMOTE) == bir:REMOTE) {
+        return false;
+    }
+
+    string funcName = func.name.value;
+    return !(isModuleInitFunction(module, func) || funcName == getModuleStartFuncName(module) ||
+                funcName == getModuleStopFuncName(module));
+}
+
+function mayYield(bir:Package module, bir:Function func) returns boolean {
+    foreach var bb in func.basicBlocks {
+        bir:Terminator terminator = getBasicBlock(bb).terminator;
+        if (terminator is bir:GOTO || terminator is bir:Branch || terminator is bir:Return ||
+                terminator is bir:Panic) {
+            continue;
+        }
+
+        if (terminator is bir:Call && !terminator.isVirtual && terminator.pkgID.org == module.org.value &&
+                terminator.pkgID.name == module.name.value &&
+                nonYieldingFunctions[terminator.name.value] == true) {
+            continue;
+        }
+        return true;
+    }
+    return false;
+}
@@ -20,6 +20,7 @@ import org.ballerinalang.model.TreeBuilder;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.model.symbols.SymbolKind;
 import org.ballerinalang.model.tree.NodeKind;
+import org.ballerinalang.model.tree.OperatorKind;
 import org.ballerinalang.model.tree.clauses.HavingNode;
 import org.ballerinalang.model.tree.clauses.OrderByVariableNode;
 import org.ballerinalang.model.tree.clauses.SelectExpressionNode;
@@ -135,6 +136,7 @@ public class StreamingCodeDesugar extends BLangNodeVisitor {
     private static final String NEXT_PROCESS_LAMBDA_PARAM_REFERENCE = "$lambda$streaming$next$process$var$ref";
     private static final String JOIN_CONDITION_LAMBDA_PARAM_REFERENCE =
             "$lambda$streaming$join$onCondition$input$variable";
+    private static final String JOIN_KEY_LAMBDA_PARAM_REFERENCE = "$lambda$streaming$join$key$input$variable";
     private static final String SELECT_WITH_GROUP_BY_LAMBDA_PARAM_REFERENCE =
             "$lambda$streaming$groupby$select$input$variable";
     private static final String STREAM_EVENT_ARRAY_PARAM_REFERENCE = "$lambda$streaming$stream$event$variable";
@@ -175,6 +177,8 @@ public class StreamingCodeDesugar extends BLangNodeVisitor {
     private static final String ORDER_TYPE_ASC = "ASC" + STR_ENDING;
     private static final String NEXT_PROCESS_POINTER_ARG_NAME = "nextProcessPointer";
     private static final String ON_CONDITION_NAMED_ARG_NAME = "conditionFunc";
+    private static final String LHS_KEY_NAMED_ARG_NAME = "lhsKeyFunc";
+    private static final String RHS_KEY_NAMED_ARG_NAME = "rhsKeyFunc";
 
     private final SymbolTable symTable;
     private final SymbolResolver symResolver;
@@ -911,6 +915,8 @@ public class StreamingCodeDesugar extends BLangNodeVisitor {
             BLangBlockStmt funcBody = conditionFunc.function.body;
             BType lhsType = onExpr.lhsExpr.type;
             BType rhsType = onExpr.rhsExpr.type;
+            // Key lambdas are created before the on condition is rewritten, as the rewrite replaces the attributes
+            BLangLambdaFunction[] keyFuncs = createJoinKeyLambdas(onExpr);
             BLangBinaryExpr refactoredOnExpr = (BLangBinaryExpr) preSelectDesuagr.rewrite(onExpr,
                     new BSymbol[]{lhsDataMap.symbol, rhsDataMap.symbol}, streamAliasMap, rhsStream);
 
@@ -920,9 +926,9 @@ public class StreamingCodeDesugar extends BLangNodeVisitor {
 
             //onExpr.lhsExpr = desugar.addConversionExprIfRequired(onExpr.lhsExpr, on)
             addReturnStmt(onExpr.pos, funcBody, onExpr);
-            createJoinProcessorStmt(joinStreamingInput, conditionFunc);
+            createJoinProcessorStmt(joinStreamingInput, conditionFunc, keyFuncs);
         } else if (onExpr == null && !isTableJoin) {
-            createJoinProcessorStmt(joinStreamingInput, null);
+            createJoinProcessorStmt(joinStreamingInput, null, null);
         } else {
             createTableJoinProcessorStmt(joinStreamingInput);
         }
@@ -1012,8 +1018,77 @@ public class StreamingCodeDesugar extends BLangNodeVisitor {
         return conditionFunc;
     }
 
+    /* Create below lambda functions for the attributes of an equality in the on condition, such as
+       `stockStream.symbol == twitterStream.company`, so that the windows can be indexed on the join key.
+       function (map<anydata> data) returns anydata {
+           return data["stockStream.symbol"];
+       }
+    */
+    private BLangLambdaFunction[] createJoinKeyLambdas(BLangBinaryExpr onExpr) {
+        BLangBinaryExpr equalityExpr = findJoinKeyEquality(onExpr);
+        if (equalityExpr == null) {
+            return null;
+        }
+        BLangFieldBasedAccess lhsKey = (BLangFieldBasedAccess) equalityExpr.lhsExpr;
+        BLangFieldBasedAccess rhsKey = (BLangFieldBasedAccess) equalityExpr.rhsExpr;
+        if (isRhsStreamAttribute(lhsKey)) {
+            BLangFieldBasedAccess temp = lhsKey;
+            lhsKey = rhsKey;
+            rhsKey = temp;
+        }
+        return new BLangLambdaFunction[]{createJoinKeyLambda(lhsKey, getVariableName(JOIN_KEY_LAMBDA_PARAM_REFERENCE)),
+                createJoinKeyLambda(rhsKey, getVariableName(JOIN_KEY_LAMBDA_PARAM_REFERENCE) + 1)};
+    }
+
+    private BLangBinaryExpr findJoinKeyEquality(BLangExpression expr) {
+        if (expr.getKind() != NodeKind.BINARY_EXPR) {
+            return null;
+        }
+        BLangBinaryExpr binaryExpr = (BLangBinaryExpr) expr;
+        if (binaryExpr.opKind == OperatorKind.AND) {
+            BLangBinaryExpr equalityExpr = findJoinKeyEquality(binaryExpr.lhsExpr);
+            return equalityExpr != null ? equalityExpr : findJoinKeyEquality(binaryExpr.rhsExpr);
+        }
+        if (binaryExpr.opKind == OperatorKind.EQUAL && isJoinKeyAttribute(binaryExpr.lhsExpr)
+                && isJoinKeyAttribute(binaryExpr.rhsExpr)
+                && binaryExpr.lhsExpr.type.tag == binaryExpr.rhsExpr.type.tag
+                && isRhsStreamAttribute((BLangFieldBasedAccess) binaryExpr.lhsExpr)
+                != isRhsStreamAttribute((BLangFieldBasedAccess) binaryExpr.rhsExpr)) {
+            return binaryExpr;
+        }
+        return null;
+    }
+
+    private boolean isJoinKeyAttribute(BLangExpression expr) {
+        if (expr.getKind() != NodeKind.FIELD_BASED_ACCESS_EXPR) {
+            return false;
+        }
+        BLangExpression streamRef = ((BLangFieldBasedAccess) expr).expr;
+        // The index is keyed on the string value of the key, which is only equal for equal values of these types
+        return streamRef.getKind() == NodeKind.SIMPLE_VARIABLE_REF && streamRef.type.tag == TypeTags.STREAM
+                && (expr.type.tag == TypeTags.INT || expr.type.tag == TypeTags.STRING
+                || expr.type.tag == TypeTags.BOOLEAN);
+    }
+
+    private boolean isRhsStreamAttribute(BLangFieldBasedAccess attribute) {
+        String variableName = ((BLangSimpleVarRef) attribute.expr).variableName.value;
+        String rhsStreamName = rhsStream.symbol.toString();
+        return variableName.equals(rhsStreamName) || variableName.equals(streamAliasMap.get(rhsStreamName));
+    }
+
+    private BLangLambdaFunction createJoinKeyLambda(BLangFieldBasedAccess attribute, String paramName) {
+        BLangSimpleVariable dataMap = createMapTypeVariable(paramName, attribute.pos, env);
+        BLangLambdaFunction keyFunc = createLambdaWithVarArg(attribute.pos, new BLangSimpleVariable[]{dataMap},
+                ASTBuilderUtil.createTypeNode(symTable.anydataType));
+        BLangExpression keyExpr = (BLangExpression) preSelectDesuagr.rewrite(attribute,
+                new BSymbol[]{dataMap.symbol, dataMap.symbol}, streamAliasMap, rhsStream);
+        addReturnStmt(attribute.pos, keyFunc.function.body,
+                desugar.addConversionExprIfRequired(keyExpr, symTable.anydataType));
+        return keyFunc;
+    }
+
     private void createJoinProcessorStmt(BLangJoinStreamingInput joinStreamingInput,
-                                         BLangLambdaFunction conditionExpr) {
+                                         BLangLambdaFunction conditionExpr, BLangLambdaFunction[] keyExprs) {
 
         BLangExpression nextProcessMethodAccess = createNextProcessFuncPointer(joinStreamingInput.pos);
 
@@ -1050,6 +1125,17 @@ public class StreamingCodeDesugar extends BLangNodeVisitor {
             createJoinInvocation.argExprs.add(conditionNamedArgExpression);
         }
 
+        if (keyExprs != null) {
+            BLangNamedArgsExpression lhsKeyNamedArgExpression =
+                    ASTBuilderUtil.createNamedArg(LHS_KEY_NAMED_ARG_NAME, keyExprs[0]);
+            BLangNamedArgsExpression rhsKeyNamedArgExpression =
+                    ASTBuilderUtil.createNamedArg(RHS_KEY_NAMED_ARG_NAME, keyExprs[1]);
+            createJoinInvocation.requiredArgs.add(lhsKeyNamedArgExpression);
+            createJoinInvocation.argExprs.add(lhsKeyNamedArgExpression);
+            createJoinInvocation.requiredArgs.add(rhsKeyNamedArgExpression);
+            createJoinInvocation.argExprs.add(rhsKeyNamedArgExpression);
+        }
+
         // streams:JoinProcess variable name
         BLangSimpleVariable joinInvokableTypeVariable =
                 ASTBuilderUtil.createVariable(joinStreamingInput.pos, getVariableName(JOIN_PROCESS_FUNC_REFERENCE),
@@ -20,15 +20,23 @@ import com.google.common.cache.CacheBuilder;
 import org.antlr.v4.runtime.DefaultErrorStrategy;
 import org.ballerinalang.langserver.compiler.common.modal.BallerinaFile;
 import org.wso2.ballerinalang.compiler.SourceDirectory;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.Name;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 
 import static org.ballerinalang.compiler.CompilerOptionName.COMPILER_PHASE;
 import static org.ballerinalang.compiler.CompilerOptionName.PRESERVE_WHITESPACE;
@@ -105,6 +113,53 @@ public class LSCompilerCache {
                                         "'} cleared " + count + " cached entries for the project");
     }
 
+    /**
+     * Clears the cache entries with this source root which are affected by a change of the given module, which are
+     * the entries of the whole project, of the module itself and of the modules importing it directly or
+     * transitively. Entries of the other modules of the project are retained.
+     *
+     * @param context       {@link LSContext}
+     * @param sourceRoot    source root
+     * @param changedModule name of the changed module, or the file name if the file is not within a module
+     */
+    public static synchronized void clear(LSServiceOperationContext context, String sourceRoot,
+                                          String changedModule) {
+        AtomicInteger count = new AtomicInteger(0);
+        packageMap.forEach((key, cacheEntry) -> {
+            if (key.sourceRoot.equals(sourceRoot) && (key.moduleName == null
+                    || key.moduleName.equals(changedModule) || importsModule(cacheEntry, changedModule))) {
+                packageMap.remove(key);
+                count.getAndIncrement();
+            }
+        });
+        LSClientLogger.logTrace("Operation '" + context.getOperation().getName() + "' {projectRoot: '" + sourceRoot +
+                                        "', module: '" + changedModule + "'} cleared " + count +
+                                        " cached entries affected by the module");
+    }
+
+    private static boolean importsModule(CacheEntry cacheEntry, String moduleName) {
+        if (!cacheEntry.bLangPackages.isLeft() || cacheEntry.bLangPackages.getLeft().symbol == null) {
+            // Cannot find the imports, hence considered as affected
+            return true;
+        }
+        Set<BPackageSymbol> visited = new HashSet<>();
+        Deque<BPackageSymbol> pending = new ArrayDeque<>(cacheEntry.bLangPackages.getLeft().symbol.imports);
+        while (!pending.isEmpty()) {
+            BPackageSymbol symbol = pending.pop();
+            if (!visited.add(symbol)) {
+                continue;
+            }
+            String importName = symbol.pkgID.getNameComps().stream()
+                    .map(Name::getValue)
+                    .collect(Collectors.joining("."));
+            if (importName.equals(moduleName)) {
+                return true;
+            }
+            pending.addAll(symbol.imports);
+        }
+        return false;
+    }
+
     /**
      * Clears all cache entries.
      */
@@ -125,6 +180,7 @@ public class LSCompilerCache {
      */
     public static class Key {
         private final String sourceRoot;
+        private final String moduleName;
         private final String errorStrategy;
 
         private final String compilerPhase;
@@ -134,7 +190,20 @@ public class LSCompilerCache {
         private final String sourceDirectory;
 
         public Key(String sourceRoot, LSContext context) {
+            this(sourceRoot, null, context);
+        }
+
+        /**
+         * Creates a key for a compilation of a single module of the project, or of a file which is not within a
+         * module. A null module name represents the compilation of the whole project.
+         *
+         * @param sourceRoot source root
+         * @param moduleName module name or file name
+         * @param context    {@link LSContext}
+         */
+        public Key(String sourceRoot, String moduleName, LSContext context) {
             this.sourceRoot = sourceRoot;
+            this.moduleName = moduleName;
             CompilerContext compilerContext = context.get(DocumentServiceKeys.COMPILER_CONTEXT_KEY);
             CompilerOptions options = CompilerOptions.getInstance(compilerContext);
             this.compilerPhase = options.get(COMPILER_PHASE);
@@ -154,6 +223,7 @@ public class LSCompilerCache {
             }
             Key key = (Key) o;
             return (key.sourceRoot.equals(sourceRoot)
+                    && Objects.equals(moduleName, key.moduleName)
                     && errorStrategy != null && errorStrategy.equals(key.errorStrategy)
                     && compilerPhase != null && compilerPhase.equals(key.compilerPhase)
                     && preserveWhitespace != null && preserveWhitespace.equals(key.preserveWhitespace)
@@ -165,16 +235,17 @@ public class LSCompilerCache {
         @Override
         public int hashCode() {
             return Arrays.hashCode(
-                    new String[]{sourceRoot, errorStrategy, compilerPhase, preserveWhitespace, testEnabled, skipTests,
+                    new String[]{sourceRoot, moduleName, errorStrategy, compilerPhase, preserveWhitespace, testEnabled, skipTests,
                             sourceDirectory});
         }
 
         @Override
         public String toString() {
             return String.format(
-                    "sourceRoot %s, errorStrategy: %s, compilerPhase: %s, preserveWS: %s, testEnabled: %s, " +
+                    "sourceRoot %s, module: %s, errorStrategy: %s, compilerPhase: %s, preserveWS: %s, testEnabled: %s, " +
                             "skipTests: %s, sourceDirectory: %s",
                     sourceRoot,
+                    moduleName != null ? moduleName : "",
                     errorStrategy != null ? errorStrategy.substring(errorStrategy.lastIndexOf(".") + 1) : "",
                     compilerPhase != null ? compilerPhase : "",
                     preserveWhitespace != null ? preserveWhitespace : "",
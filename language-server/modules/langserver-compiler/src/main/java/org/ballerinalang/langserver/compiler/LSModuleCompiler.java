@@ -152,8 +152,10 @@ public class LSModuleCompiler {
 
         if (compileFullProject && !projectRoot.isEmpty() && sourceDoc.isWithinProject()) {
             if (clearProjectModules) {
-                // If the flag is set, we remove all the modules in the current project from the LSPackageCache
-                LSPackageCache.getInstance(compilerContext).invalidateProjectModules(sourceDoc.getProjectModules());
+                // If the flag is set, we remove the current module and the project modules depending on it from the
+                // LSPackageCache. The other project modules are unaffected by the change and are reused as is.
+                LSPackageCache.getInstance(compilerContext).invalidateProjectModules(sourceDoc.getProjectModules(),
+                        context.get(DocumentServiceKeys.CURRENT_PKG_NAME_KEY));
             }
             Compiler compiler = LSCompilerUtil.getCompiler(context, relativeFilePath, compilerContext, errStrategy);
             List<BLangPackage> projectPackages = compilePackagesSafe(compiler, projectRoot, false, context);
@@ -194,7 +196,7 @@ public class LSModuleCompiler {
      */
     protected static BLangPackage compileSafe(Compiler compiler, String projectRoot, String pkgName, LSContext context)
             throws CompilationFailedException {
-        LSCompilerCache.Key key = new LSCompilerCache.Key(projectRoot, context);
+        LSCompilerCache.Key key = new LSCompilerCache.Key(projectRoot, pkgName, context);
         try {
             long startTime = 0L;
             if (LSClientLogger.isTraceEnabled()) {
@@ -19,13 +19,19 @@ import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import org.ballerinalang.model.elements.PackageID;
 import org.wso2.ballerinalang.compiler.PackageCache;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.Name;
 import org.wso2.ballerinalang.compiler.util.Names;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
@@ -86,6 +92,17 @@ public class LSPackageCache {
         packageCache.remove(modules);
     }
     
+    /**
+     * Remove the changed module and the project modules which depend on it, directly or transitively. Symbols of the
+     * other project modules are retained, hence those are not re-analyzed when the project is compiled.
+     *
+     * @param modules       list of project module names
+     * @param changedModule name of the changed module
+     */
+    public void invalidateProjectModules(List<String> modules, String changedModule) {
+        packageCache.remove(packageCache.getDependentModules(modules, changedModule));
+    }
+
     public void clearCache() {
         packageCache.clearCache();
     }
@@ -175,6 +192,51 @@ public class LSPackageCache {
             });
         }
         
+        /**
+         * Returns the changed module and the given modules which import it, directly or transitively, as found in
+         * the cached module symbols.
+         *
+         * @param modules       list of module names to look for dependents
+         * @param changedModule name of the changed module
+         * @return {@link List} list of module names to be invalidated
+         */
+        public List<String> getDependentModules(List<String> modules, String changedModule) {
+            Map<String, Set<String>> importsMap = new HashMap<>();
+            this.packageMap.values().stream()
+                    .filter(bLangPackage -> bLangPackage.symbol != null)
+                    .forEach(bLangPackage -> addImports(importsMap, bLangPackage.symbol));
+            this.packageSymbolMap.values().forEach(symbol -> addImports(importsMap, symbol));
+
+            List<String> dependents = new ArrayList<>();
+            dependents.add(changedModule);
+            boolean changed = true;
+            while (changed) {
+                changed = false;
+                for (String module : modules) {
+                    if (dependents.contains(module)) {
+                        continue;
+                    }
+                    Set<String> imports = importsMap.getOrDefault(module, Collections.emptySet());
+                    if (imports.stream().anyMatch(dependents::contains)) {
+                        dependents.add(module);
+                        changed = true;
+                    }
+                }
+            }
+            return dependents;
+        }
+
+        private static void addImports(Map<String, Set<String>> importsMap, BPackageSymbol symbol) {
+            Set<String> imports = importsMap.computeIfAbsent(getModuleName(symbol.pkgID), key -> new HashSet<>());
+            symbol.imports.forEach(importSymbol -> imports.add(getModuleName(importSymbol.pkgID)));
+        }
+
+        private static String getModuleName(PackageID packageID) {
+            return packageID.getNameComps().stream()
+                    .map(Name::getValue)
+                    .collect(Collectors.joining("."));
+        }
+
         public void clearCache() {
             this.packageMap.clear();
             this.packageSymbolMap.clear();
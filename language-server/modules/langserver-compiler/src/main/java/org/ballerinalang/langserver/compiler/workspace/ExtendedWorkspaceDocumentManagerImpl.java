@@ -16,6 +16,7 @@
 package org.ballerinalang.langserver.compiler.workspace;
 
 import org.eclipse.lsp4j.CodeLens;
+import org.eclipse.lsp4j.Range;
 
 import java.io.IOException;
 import java.nio.file.Files;
@@ -76,6 +77,22 @@ public class ExtendedWorkspaceDocumentManagerImpl extends WorkspaceDocumentManag
         openOrUpdateFile(filePath, updatedContent);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateFile(Path filePath, Range range, String text) throws WorkspaceDocumentException {
+        if (isExplicitMode && isTempFile(filePath)) {
+            // If explicit mode is on and temp file, handle it locally
+            tempDocument.applyChange(range, text);
+        } else if (super.isFileOpen(filePath)) {
+            // If file open, call parent class
+            super.updateFile(filePath, range, text);
+        } else {
+            throw new WorkspaceDocumentException("File " + filePath.toString() + " is not opened in document manager.");
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
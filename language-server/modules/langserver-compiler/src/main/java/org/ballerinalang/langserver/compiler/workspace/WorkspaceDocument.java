@@ -19,6 +19,8 @@ package org.ballerinalang.langserver.compiler.workspace;
 
 import org.ballerinalang.langserver.compiler.common.LSDocument;
 import org.eclipse.lsp4j.CodeLens;
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -83,6 +85,50 @@ public class WorkspaceDocument {
         this.content = content;
     }
 
+    /**
+     * Replaces the given range of the content with the given text, as sent in an incremental text document change.
+     *
+     * @param range range of the content to be replaced
+     * @param text  text to replace the range with
+     */
+    public void applyChange(Range range, String text) {
+        int startOffset = getOffset(range.getStart());
+        int endOffset = Math.max(startOffset, getOffset(range.getEnd()));
+        this.content = this.content.substring(0, startOffset) + text + this.content.substring(endOffset);
+    }
+
+    /**
+     * Returns the offset of a position within the content. LSP positions are based on UTF-16 code units, same as the
+     * java strings. Characters beyond the end of a line, and lines beyond the end of content are clamped.
+     *
+     * @param position position within the content
+     * @return offset of the position
+     */
+    private int getOffset(Position position) {
+        int length = this.content.length();
+        int offset = 0;
+        int line = 0;
+        while (line < position.getLine() && offset < length) {
+            char c = this.content.charAt(offset++);
+            if (c == '\r' && offset < length && this.content.charAt(offset) == '\n') {
+                offset++;
+            }
+            if (c == '\r' || c == '\n') {
+                line++;
+            }
+        }
+        int character = 0;
+        while (character < position.getCharacter() && offset < length) {
+            char c = this.content.charAt(offset);
+            if (c == '\r' || c == '\n') {
+                break;
+            }
+            offset++;
+            character++;
+        }
+        return offset;
+    }
+
     public void setPrunedContent(String prunedContent) {
         this.prunedContent = prunedContent;
         this.usePrunedSource = true;
@@ -19,6 +19,7 @@ package org.ballerinalang.langserver.compiler.workspace;
 
 import org.ballerinalang.langserver.compiler.common.LSDocument;
 import org.eclipse.lsp4j.CodeLens;
+import org.eclipse.lsp4j.Range;
 
 import java.nio.file.Path;
 import java.util.List;
@@ -64,7 +65,7 @@ public interface WorkspaceDocumentManager {
      * <pre>
      * Optional&lt;Lock&gt; lock = documentManager.lockFile(filePath);
      * try {
-     *     documentManager.updateFile(filePath, range, "");
+     *     documentManager.updateFile(filePath, "");
      * } finally {
      *     lock.ifPresent(Lock:unlock);
      * }
@@ -76,6 +77,26 @@ public interface WorkspaceDocumentManager {
      */
     void updateFile(Path filePath, String updatedContent) throws WorkspaceDocumentException;
 
+    /**
+     * Updates the given range of a file in document manager with new text.
+     *
+     * Usage example:
+     * <pre>
+     * Optional&lt;Lock&gt; lock = documentManager.lockFile(filePath);
+     * try {
+     *     documentManager.updateFile(filePath, range, "");
+     * } finally {
+     *     lock.ifPresent(Lock:unlock);
+     * }
+     * </pre>
+     *
+     * @param filePath Path of the file
+     * @param range    Range of the content to be replaced
+     * @param text     Text to replace the range with
+     * @throws WorkspaceDocumentException when file cannot be updated.
+     */
+    void updateFile(Path filePath, Range range, String text) throws WorkspaceDocumentException;
+
     /**
      * Updates code lenses of a given file in document manager with new code lenses sent to client.
      *
@@ -21,6 +21,7 @@ import org.ballerinalang.langserver.compiler.LSCompilerUtil;
 import org.ballerinalang.langserver.compiler.common.LSDocument;
 import org.ballerinalang.langserver.compiler.workspace.repository.LangServerFSProjectDirectory;
 import org.eclipse.lsp4j.CodeLens;
+import org.eclipse.lsp4j.Range;
 
 import java.io.IOException;
 import java.nio.charset.Charset;
@@ -93,6 +94,18 @@ public class WorkspaceDocumentManagerImpl implements WorkspaceDocumentManager {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void updateFile(Path filePath, Range range, String text) throws WorkspaceDocumentException {
+        if (isFileOpen(filePath)) {
+            documentList.get(filePath).getDocument().ifPresent(document -> document.applyChange(range, text));
+        } else {
+            throw new WorkspaceDocumentException("File " + filePath.toString() + " is not opened in document manager.");
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -16,6 +16,8 @@
 
 package org.ballerinalang.langserver.compiler.workspace;
 
+import org.eclipse.lsp4j.Position;
+import org.eclipse.lsp4j.Range;
 import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
@@ -70,6 +72,27 @@ public class WorkspaceDocumentTest {
         document.setContent(INITIAL_CONTENT);
     }
 
+    @Test
+    public void testApplyChange() {
+        document.applyChange(new Range(new Position(0, 8), new Position(0, 15)), "text");
+        Assert.assertEquals(document.getContent(), "initial text");
+        document.applyChange(new Range(new Position(0, 0), new Position(0, 0)), "some ");
+        Assert.assertEquals(document.getContent(), "some initial text");
+        document.setContent(INITIAL_CONTENT);
+    }
+
+    @Test
+    public void testApplyChangeOnMultipleLines() {
+        document.setContent("line one\nline two\r\nline three");
+        document.applyChange(new Range(new Position(1, 5), new Position(2, 4)), "2\nline");
+        Assert.assertEquals(document.getContent(), "line one\nline 2\nline three");
+        document.applyChange(new Range(new Position(2, 5), new Position(2, 100)), "3");
+        Assert.assertEquals(document.getContent(), "line one\nline 2\nline 3");
+        document.applyChange(new Range(new Position(0, 100), new Position(1, 0)), " ");
+        Assert.assertEquals(document.getContent(), "line one line 2\nline 3");
+        document.setContent(INITIAL_CONTENT);
+    }
+
     @Test
     public void testToString() {
         Assert.assertNotNull(document.toString());
@@ -119,7 +119,7 @@ public class BallerinaLanguageServer implements ExtendedLanguageServer, Extended
         completionOptions.setTriggerCharacters(Arrays.asList(":", ".", ">", "@"));
 
         res.getCapabilities().setCompletionProvider(completionOptions);
-        res.getCapabilities().setTextDocumentSync(TextDocumentSyncKind.Full);
+        res.getCapabilities().setTextDocumentSync(TextDocumentSyncKind.Incremental);
 //        res.getCapabilities().setSignatureHelpProvider(signatureHelpOptions);
         res.getCapabilities().setHoverProvider(true);
         res.getCapabilities().setDocumentSymbolProvider(false);
@@ -215,7 +215,7 @@ public class BallerinaLanguageServer implements ExtendedLanguageServer, Extended
 
     private LSIndexImpl initLSIndex() {
         String indexDumpPath = Paths.get(CommonUtil.BALLERINA_HOME + "/lib/tools/lang-server/resources/" +
-                "lang-server-index.sql").toString();
+                "lang-server-index.bin").toString();
         return new LSIndexImpl(indexDumpPath);
     }
 
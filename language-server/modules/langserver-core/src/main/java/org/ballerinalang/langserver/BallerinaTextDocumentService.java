@@ -651,7 +651,11 @@ class BallerinaTextDocumentService implements TextDocumentService {
             // Update content
             List<TextDocumentContentChangeEvent> changes = params.getContentChanges();
             for (TextDocumentContentChangeEvent changeEvent : changes) {
-                documentManager.updateFile(compilationPath, changeEvent.getText());
+                if (changeEvent.getRange() == null) {
+                    documentManager.updateFile(compilationPath, changeEvent.getText());
+                } else {
+                    documentManager.updateFile(compilationPath, changeEvent.getRange(), changeEvent.getText());
+                }
             }
 
             // Schedule diagnostics
@@ -665,9 +669,15 @@ class BallerinaTextDocumentService implements TextDocumentService {
                     ctx.put(DocumentServiceKeys.FILE_URI_KEY, fileURI);
                     LSDocument lsDocument = new LSDocument(fileURI);
                     diagnosticsHelper.compileAndSendDiagnostics(client, ctx, lsDocument, documentManager);
-                    // Clear current cache upon successfull compilation
+                    // Clear the cache entries affected by the changed module upon successfull compilation
                     // If the compiler fails, still we'll have the cached entry(marked as outdated)
-                    LSCompilerCache.clear(ctx, lsDocument.getProjectRoot());
+                    String changedModule = lsDocument.getOwnerModule();
+                    if (changedModule.isEmpty()) {
+                        // File is not within a module, hence compiled by its file name
+                        Path fileName = lsDocument.getPath().getFileName();
+                        changedModule = fileName == null ? "" : fileName.toString();
+                    }
+                    LSCompilerCache.clear(ctx, lsDocument.getProjectRoot(), changedModule);
                 } catch (CompilationFailedException e) {
                     String msg = "Computing 'diagnostics' failed!";
                     logError(msg, e, params.getTextDocument(), (Position) null);
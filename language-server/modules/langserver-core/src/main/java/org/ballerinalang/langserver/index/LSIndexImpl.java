@@ -18,37 +18,45 @@
 package org.ballerinalang.langserver.index;
 
 import org.ballerinalang.langserver.index.dao.DAOFactory;
-import org.h2.tools.Script;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
 import java.nio.file.Path;
-import java.sql.Connection;
-import java.sql.DriverManager;
-import java.sql.SQLException;
+import java.nio.file.Paths;
 
 /**
- * Implementation for LSIndex.
+ * Implementation for LSIndex, backed by an in-memory {@link LSIndexStore}.
  */
 public class LSIndexImpl implements LSIndex {
 
-    private static final String DRIVER = "org.h2.Driver";
-
     private static final Logger logger = LoggerFactory.getLogger(LSIndexImpl.class);
- 
-    private Connection connection;
+
+    private LSIndexStore store;
     
     private DAOFactory daoFactory;
 
+    /**
+     * Creates an empty index.
+     */
+    public LSIndexImpl() {
+        this.store = new LSIndexStore();
+        this.daoFactory = new DAOFactory(this.store);
+    }
+
+    /**
+     * Creates an index from a saved index dump.
+     *
+     * @param indexPath path of the index dump
+     */
     public LSIndexImpl(String indexPath) {
-        String connectionURL = "jdbc:h2:mem:test\\;INIT=RUNSCRIPT FROM '" + indexPath.replace("\\", "\\\\") + "'";
         try {
-            Class.forName(DRIVER);
-            this.connection = DriverManager.getConnection(connectionURL);
-            this.daoFactory = new DAOFactory(this.connection);
-        } catch (ClassNotFoundException | SQLException e) {
-            logger.error("Error in Creating new Index DB Connection.");
+            this.store = LSIndexStore.load(Paths.get(indexPath));
+        } catch (IOException | LSIndexException e) {
+            logger.error("Error in Loading the Index from: " + indexPath);
+            this.store = new LSIndexStore();
         }
+        this.daoFactory = new DAOFactory(this.store);
     }
 
     /**
@@ -90,9 +98,10 @@ public class LSIndexImpl implements LSIndex {
     @Override
     public boolean saveIndexDump(Path path) {
         try {
-            Script.process(connection, path.toString(), "", "");
-        } catch (SQLException e) {
-            logger.error("Error in Creating Index DB Dump.");
+            this.store.save(path);
+            return true;
+        } catch (IOException e) {
+            logger.error("Error in Creating Index Dump.");
         }
         return false;
     }
@@ -104,11 +113,7 @@ public class LSIndexImpl implements LSIndex {
      */
     @Override
     public boolean closeConnection() {
-        try {
-            this.connection.close();
-        } catch (SQLException e) {
-            logger.error("Failed to close the Index DB connection");
-        }
+        // Index is kept in memory, hence there are no resources to be released
         return true;
     }
 
@@ -0,0 +1,465 @@
+/*
+*  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+*  Unless required by applicable law or agreed to in writing,
+*  software distributed under the License is distributed on an
+*  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+*  KIND, either express or implied.  See the License for the
+*  specific language governing permissions and limitations
+*  under the License.
+*/
+package org.ballerinalang.langserver.index;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * In-memory store of the Language Server Index.
+ * <p>
+ * Entries are kept in tables indexed by the entry ID, and the symbols of a package are grouped by the package ID, so
+ * that looking up the symbols of a package does not require scanning the tables. The store can be saved to, and
+ * loaded from a compact binary file. Completion items are kept in the JSON form, since each lookup needs its own copy
+ * of the completion item to be modified by the completion providers.
+ *
+ * @since 1.0.2
+ */
+public class LSIndexStore {
+
+    private static final int MAGIC = 0x4C534958;
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final List<PackageEntry> packages = new ArrayList<>();
+
+    private final Map<String, List<PackageEntry>> packagesByName = new HashMap<>();
+
+    private final List<FunctionEntry> functions = new ArrayList<>();
+
+    private final List<ObjectEntry> objects = new ArrayList<>();
+
+    private final List<RecordEntry> records = new ArrayList<>();
+
+    private final List<TypeEntry> types = new ArrayList<>();
+
+    /**
+     * Add a package entry.
+     *
+     * @param name      package name
+     * @param orgName   organization name
+     * @param version   package version
+     * @return {@link Integer}  ID of the added entry
+     */
+    public synchronized int addPackage(String name, String orgName, String version) {
+        PackageEntry entry = new PackageEntry(packages.size(), name, orgName, version);
+        packages.add(entry);
+        packagesByName.computeIfAbsent(name, key -> new ArrayList<>()).add(entry);
+        return entry.id;
+    }
+
+    /**
+     * Add a function entry.
+     *
+     * @param packageId         package ID
+     * @param objectId          object ID which the function attached to, -1 if not
+     * @param name              function name
+     * @param isPrivate         whether the function is private
+     * @param isAction          whether the function is an action
+     * @param isAttached        whether the function is attached
+     * @param completionItem    completion item JSON
+     * @return {@link Integer}  ID of the added entry
+     * @throws LSIndexException when the package ID is not in the index
+     */
+    public synchronized int addFunction(int packageId, int objectId, String name, boolean isPrivate, boolean isAction,
+                                        boolean isAttached, String completionItem) throws LSIndexException {
+        FunctionEntry entry = new FunctionEntry(functions.size(), packageId, objectId, name, isPrivate, isAction,
+                isAttached, completionItem);
+        getPackage(packageId).functions.add(entry);
+        functions.add(entry);
+        return entry.id;
+    }
+
+    /**
+     * Add an object entry.
+     *
+     * @param packageId         package ID
+     * @param name              object name
+     * @param fields            object fields
+     * @param type              object type
+     * @param isPrivate         whether the object is private
+     * @param completionItem    completion item JSON
+     * @return {@link Integer}  ID of the added entry
+     * @throws LSIndexException when the package ID is not in the index
+     */
+    public synchronized int addObject(int packageId, String name, String fields, ObjectType type, boolean isPrivate,
+                                      String completionItem) throws LSIndexException {
+        ObjectEntry entry = new ObjectEntry(objects.size(), packageId, name, fields, type, isPrivate, completionItem);
+        getPackage(packageId).objects.add(entry);
+        objects.add(entry);
+        return entry.id;
+    }
+
+    /**
+     * Add a record entry.
+     *
+     * @param packageId         package ID
+     * @param name              record name
+     * @param fields            record fields
+     * @param isPrivate         whether the record is private
+     * @param completionItem    completion item JSON
+     * @return {@link Integer}  ID of the added entry
+     * @throws LSIndexException when the package ID is not in the index
+     */
+    public synchronized int addRecord(int packageId, String name, String fields, boolean isPrivate,
+                                      String completionItem) throws LSIndexException {
+        RecordEntry entry = new RecordEntry(records.size(), packageId, name, fields, isPrivate, completionItem);
+        getPackage(packageId).records.add(entry);
+        records.add(entry);
+        return entry.id;
+    }
+
+    /**
+     * Add an entry for other types.
+     *
+     * @param packageId         package ID
+     * @param name              type name
+     * @param fields            type fields
+     * @param completionItem    completion item JSON
+     * @return {@link Integer}  ID of the added entry
+     * @throws LSIndexException when the package ID is not in the index
+     */
+    public synchronized int addType(int packageId, String name, String fields, String completionItem)
+            throws LSIndexException {
+        TypeEntry entry = new TypeEntry(types.size(), packageId, name, fields, completionItem);
+        getPackage(packageId).types.add(entry);
+        types.add(entry);
+        return entry.id;
+    }
+
+    public synchronized List<PackageEntry> getPackages() {
+        return Collections.unmodifiableList(new ArrayList<>(packages));
+    }
+
+    /**
+     * Get the package entry for the given ID.
+     *
+     * @param id    package ID
+     * @return {@link PackageEntry} package entry
+     * @throws LSIndexException when the package ID is not in the index
+     */
+    public synchronized PackageEntry getPackage(int id) throws LSIndexException {
+        if (id < 0 || id >= packages.size()) {
+            throw new LSIndexException("Invalid id provided to retrieve BLang Package Symbol");
+        }
+        return packages.get(id);
+    }
+
+    /**
+     * Get the package entries with the given name.
+     *
+     * @param name  package name
+     * @return {@link List} list of package entries
+     */
+    public synchronized List<PackageEntry> getPackages(String name) {
+        return packagesByName.getOrDefault(name, Collections.emptyList());
+    }
+
+    public synchronized List<ObjectEntry> getObjects() {
+        return Collections.unmodifiableList(new ArrayList<>(objects));
+    }
+
+    /**
+     * Save the store to the given file.
+     *
+     * @param path  file path to save the store
+     * @throws IOException when the file cannot be written
+     */
+    public synchronized void save(Path path) throws IOException {
+        Path parent = path.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(packages.size());
+            for (PackageEntry entry : packages) {
+                writeString(out, entry.name);
+                writeString(out, entry.orgName);
+                writeString(out, entry.version);
+            }
+            out.writeInt(functions.size());
+            for (FunctionEntry entry : functions) {
+                out.writeInt(entry.packageId);
+                out.writeInt(entry.objectId);
+                out.writeBoolean(entry.isPrivate);
+                out.writeBoolean(entry.isAction);
+                out.writeBoolean(entry.isAttached);
+                writeString(out, entry.name);
+                writeString(out, entry.completionItem);
+            }
+            out.writeInt(objects.size());
+            for (ObjectEntry entry : objects) {
+                out.writeInt(entry.packageId);
+                out.writeInt(entry.type.getValue());
+                out.writeBoolean(entry.isPrivate);
+                writeString(out, entry.name);
+                writeString(out, entry.fields);
+                writeString(out, entry.completionItem);
+            }
+            out.writeInt(records.size());
+            for (RecordEntry entry : records) {
+                out.writeInt(entry.packageId);
+                out.writeBoolean(entry.isPrivate);
+                writeString(out, entry.name);
+                writeString(out, entry.fields);
+                writeString(out, entry.completionItem);
+            }
+            out.writeInt(types.size());
+            for (TypeEntry entry : types) {
+                out.writeInt(entry.packageId);
+                writeString(out, entry.name);
+                writeString(out, entry.fields);
+                writeString(out, entry.completionItem);
+            }
+        }
+    }
+
+    /**
+     * Load a store from the given file. The file is memory mapped and decoded in a single pass.
+     *
+     * @param path  file path of the saved store
+     * @return {@link LSIndexStore} loaded store
+     * @throws IOException      when the file cannot be read
+     * @throws LSIndexException when the file content is not a valid index
+     */
+    public static LSIndexStore load(Path path) throws IOException, LSIndexException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.remaining() < 8 || buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            throw new LSIndexException("Invalid or incompatible index file: " + path);
+        }
+
+        LSIndexStore store = new LSIndexStore();
+        int count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            store.addPackage(readString(buffer), readString(buffer), readString(buffer));
+        }
+        count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            int packageId = buffer.getInt();
+            int objectId = buffer.getInt();
+            boolean isPrivate = buffer.get() != 0;
+            boolean isAction = buffer.get() != 0;
+            boolean isAttached = buffer.get() != 0;
+            store.addFunction(packageId, objectId, readString(buffer), isPrivate, isAction, isAttached,
+                    readString(buffer));
+        }
+        count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            int packageId = buffer.getInt();
+            ObjectType type = ObjectType.get(buffer.getInt());
+            boolean isPrivate = buffer.get() != 0;
+            store.addObject(packageId, readString(buffer), readString(buffer), type, isPrivate, readString(buffer));
+        }
+        count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            int packageId = buffer.getInt();
+            boolean isPrivate = buffer.get() != 0;
+            store.addRecord(packageId, readString(buffer), readString(buffer), isPrivate, readString(buffer));
+        }
+        count = buffer.getInt();
+        for (int i = 0; i < count; i++) {
+            int packageId = buffer.getInt();
+            store.addType(packageId, readString(buffer), readString(buffer), readString(buffer));
+        }
+        return store;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Package entry of the index.
+     */
+    public static class PackageEntry {
+
+        public final int id;
+
+        public final String name;
+
+        public final String orgName;
+
+        public final String version;
+
+        public final List<FunctionEntry> functions = new ArrayList<>();
+
+        public final List<ObjectEntry> objects = new ArrayList<>();
+
+        public final List<RecordEntry> records = new ArrayList<>();
+
+        public final List<TypeEntry> types = new ArrayList<>();
+
+        private PackageEntry(int id, String name, String orgName, String version) {
+            this.id = id;
+            this.name = name;
+            this.orgName = orgName;
+            this.version = version;
+        }
+    }
+
+    /**
+     * Function entry of the index.
+     */
+    public static class FunctionEntry {
+
+        public final int id;
+
+        public final int packageId;
+
+        public final int objectId;
+
+        public final String name;
+
+        public final boolean isPrivate;
+
+        public final boolean isAction;
+
+        public final boolean isAttached;
+
+        public final String completionItem;
+
+        private FunctionEntry(int id, int packageId, int objectId, String name, boolean isPrivate, boolean isAction,
+                              boolean isAttached, String completionItem) {
+            this.id = id;
+            this.packageId = packageId;
+            this.objectId = objectId;
+            this.name = name;
+            this.isPrivate = isPrivate;
+            this.isAction = isAction;
+            this.isAttached = isAttached;
+            this.completionItem = completionItem;
+        }
+    }
+
+    /**
+     * Object entry of the index.
+     */
+    public static class ObjectEntry {
+
+        public final int id;
+
+        public final int packageId;
+
+        public final String name;
+
+        public final String fields;
+
+        public final ObjectType type;
+
+        public final boolean isPrivate;
+
+        public final String completionItem;
+
+        private ObjectEntry(int id, int packageId, String name, String fields, ObjectType type, boolean isPrivate,
+                            String completionItem) {
+            this.id = id;
+            this.packageId = packageId;
+            this.name = name;
+            this.fields = fields;
+            this.type = type;
+            this.isPrivate = isPrivate;
+            this.completionItem = completionItem;
+        }
+    }
+
+    /**
+     * Record entry of the index.
+     */
+    public static class RecordEntry {
+
+        public final int id;
+
+        public final int packageId;
+
+        public final String name;
+
+        public final String fields;
+
+        public final boolean isPrivate;
+
+        public final String completionItem;
+
+        private RecordEntry(int id, int packageId, String name, String fields, boolean isPrivate,
+                            String completionItem) {
+            this.id = id;
+            this.packageId = packageId;
+            this.name = name;
+            this.fields = fields;
+            this.isPrivate = isPrivate;
+            this.completionItem = completionItem;
+        }
+    }
+
+    /**
+     * Entry of the index for other types.
+     */
+    public static class TypeEntry {
+
+        public final int id;
+
+        public final int packageId;
+
+        public final String name;
+
+        public final String fields;
+
+        public final String completionItem;
+
+        private TypeEntry(int id, int packageId, String name, String fields, String completionItem) {
+            this.id = id;
+            this.packageId = packageId;
+            this.name = name;
+            this.fields = fields;
+            this.completionItem = completionItem;
+        }
+    }
+}
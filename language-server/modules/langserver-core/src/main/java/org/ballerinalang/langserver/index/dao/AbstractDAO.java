@@ -18,14 +18,8 @@
 package org.ballerinalang.langserver.index.dao;
 
 import org.ballerinalang.langserver.index.LSIndexException;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.ballerinalang.langserver.index.LSIndexStore;
 
-import java.sql.Connection;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.sql.Statement;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -35,12 +29,10 @@ import java.util.List;
  */
 abstract class AbstractDAO<T> {
 
-    private static final Logger logger = LoggerFactory.getLogger(AbstractDAO.class);
-    
-    protected Connection connection;
+    protected LSIndexStore store;
 
-    AbstractDAO(Connection connection) {
-        this.connection = connection;
+    AbstractDAO(LSIndexStore store) {
+        this.store = store;
     }
 
     /**
@@ -86,46 +78,4 @@ abstract class AbstractDAO<T> {
      * @throws LSIndexException Exception while retrieving entry from index
      */
     public abstract List<T> get(T dto) throws LSIndexException;
-
-    /**
-     * Release the resources.
-     * 
-     * @param resultSet     Result Set to close
-     * @param statement     statement to close
-     */
-    public void releaseResources(ResultSet resultSet, Statement statement) {
-        if (resultSet != null) {
-            try {
-                resultSet.close();
-            } catch (SQLException e) {
-                logger.error("Error while closing the result set");
-            }
-        }
-        
-        if (statement != null) {
-            try {
-                statement.close();
-            } catch (SQLException e) {
-                logger.error("Error while closing the prepared statement");
-            }
-        }
-    }
-
-    /**
-     * Get the list of generated keys(ids) from the result set.
-     *
-     * @param resultSet         Result Set to get the IDs
-     * @return {@link List}     List of generated IDs
-     */
-    protected List<Integer> getGeneratedKeys(ResultSet resultSet) {
-        List<Integer> generatedKeys = new ArrayList<>();
-        try {
-            while (resultSet.next()) {
-                generatedKeys.add(resultSet.getInt(1));
-            }
-        } catch (SQLException e) {
-            logger.error("Error getting the Generated Keys: [" + e.getMessage() + "]");
-        }
-        return generatedKeys;
-    }
 }
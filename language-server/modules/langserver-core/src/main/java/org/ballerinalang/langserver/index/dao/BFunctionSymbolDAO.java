@@ -19,13 +19,9 @@ package org.ballerinalang.langserver.index.dao;
 
 import org.ballerinalang.langserver.index.DTOUtil;
 import org.ballerinalang.langserver.index.LSIndexException;
+import org.ballerinalang.langserver.index.LSIndexStore;
 import org.ballerinalang.langserver.index.dto.BFunctionSymbolDTO;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -36,8 +32,8 @@ import java.util.List;
  */
 public class BFunctionSymbolDAO extends AbstractDAO<BFunctionSymbolDTO> {
     
-    BFunctionSymbolDAO(Connection connection) {
-        super(connection);
+    BFunctionSymbolDAO(LSIndexStore store) {
+        super(store);
     }
 
     /**
@@ -46,8 +42,9 @@ public class BFunctionSymbolDAO extends AbstractDAO<BFunctionSymbolDTO> {
      * @param dto DTO to insert in to the index DB
      */
     @Override
-    public int insert(BFunctionSymbolDTO dto) {
-        return -1;
+    public int insert(BFunctionSymbolDTO dto) throws LSIndexException {
+        return this.store.addFunction(dto.getPackageId(), dto.getObjectId(), dto.getName(), dto.isPrivate(),
+                dto.isAction(), dto.isAttached(), DTOUtil.completionItemToJSON(dto.getCompletionItem()));
     }
 
     /**
@@ -59,31 +56,11 @@ public class BFunctionSymbolDAO extends AbstractDAO<BFunctionSymbolDTO> {
      */
     @Override
     public List<Integer> insertBatch(List<BFunctionSymbolDTO> dtoList) throws LSIndexException {
-        String query = "INSERT INTO bLangFunction " +
-                "(packageId, objectId, name, completionItem, private, action, attached)" +
-                " VALUES (?, ?, ?, ?, ?, ?, ?)";
-        PreparedStatement statement = null;
-        ResultSet rs = null;
-        try {
-            statement = this.connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS);
-            for (BFunctionSymbolDTO dto : dtoList) {
-                statement.setInt(1, dto.getPackageId());
-                statement.setInt(2, dto.getObjectId());
-                statement.setString(3, dto.getName());
-                statement.setString(4, DTOUtil.completionItemToJSON(dto.getCompletionItem()));
-                statement.setBoolean(5, dto.isPrivate());
-                statement.setBoolean(6, dto.isAction());
-                statement.setBoolean(7, dto.isAttached());
-                statement.addBatch();
-            }
-            statement.executeBatch();
-            rs = statement.getGeneratedKeys();
-            return this.getGeneratedKeys(rs);
-        } catch (SQLException e) {
-            throw new LSIndexException("Error while inserting BLang Function in to Index");
-        } finally {
-            this.releaseResources(rs, statement);
+        List<Integer> generatedKeys = new ArrayList<>();
+        for (BFunctionSymbolDTO dto : dtoList) {
+            generatedKeys.add(this.insert(dto));
         }
+        return generatedKeys;
     }
 
     /**
@@ -122,25 +99,17 @@ public class BFunctionSymbolDAO extends AbstractDAO<BFunctionSymbolDTO> {
      */
     public List<BFunctionSymbolDTO> getAllActions() throws LSIndexException {
         List<BFunctionSymbolDTO> funcDTOs = new ArrayList<>();
-        String query = "SELECT p.ID, o.ID, f.NAME FROM BLANGOBJECT as o JOIN BLANGPACKAGE as p ON p.ID = o.PACKAGEID " +
-                "WHERE o.TYPE  = 1 AND p.NAME LIKE ? AND o.NAME LIKE ?";
-        PreparedStatement statement = null;
-        ResultSet rs = null;
-        try {
-            statement = this.connection.prepareStatement(query);
-            rs = statement.executeQuery();
-            BFunctionSymbolDTO funcDTO = new BFunctionSymbolDTO.BFunctionDTOBuilder()
-                    .setPackageId(rs.getInt(1))
-                    .setObjectId(rs.getInt(2))
-                    .setName(rs.getString(3))
-                    .build();
-            funcDTOs.add(funcDTO);
-            
-            return funcDTOs;
-        } catch (SQLException e) {
-            throw new LSIndexException("Error retrieving actions from index");
-        } finally {
-            this.releaseResources(rs, statement);
+        for (LSIndexStore.PackageEntry pkgEntry : this.store.getPackages()) {
+            for (LSIndexStore.FunctionEntry entry : pkgEntry.functions) {
+                if (entry.isAction) {
+                    funcDTOs.add(new BFunctionSymbolDTO.BFunctionDTOBuilder()
+                            .setPackageId(entry.packageId)
+                            .setObjectId(entry.objectId)
+                            .setName(entry.name)
+                            .build());
+                }
+            }
         }
+        return funcDTOs;
     }
 }
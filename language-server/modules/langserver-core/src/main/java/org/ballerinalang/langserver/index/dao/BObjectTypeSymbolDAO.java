@@ -19,14 +19,10 @@ package org.ballerinalang.langserver.index.dao;
 
 import org.ballerinalang.langserver.index.DTOUtil;
 import org.ballerinalang.langserver.index.LSIndexException;
+import org.ballerinalang.langserver.index.LSIndexStore;
 import org.ballerinalang.langserver.index.ObjectType;
 import org.ballerinalang.langserver.index.dto.BObjectTypeSymbolDTO;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -37,8 +33,8 @@ import java.util.List;
  */
 public class BObjectTypeSymbolDAO extends AbstractDAO<BObjectTypeSymbolDTO> {
     
-    BObjectTypeSymbolDAO(Connection connection) {
-        super(connection);
+    BObjectTypeSymbolDAO(LSIndexStore store) {
+        super(store);
     }
 
     /**
@@ -47,8 +43,9 @@ public class BObjectTypeSymbolDAO extends AbstractDAO<BObjectTypeSymbolDTO> {
      * @param dto DTO to insert in to the index DB
      */
     @Override
-    public int insert(BObjectTypeSymbolDTO dto) {
-        return -1;
+    public int insert(BObjectTypeSymbolDTO dto) throws LSIndexException {
+        return this.store.addObject(dto.getPackageId(), dto.getName(), dto.getFields(), dto.getType(),
+                dto.isPrivate(), DTOUtil.completionItemToJSON(dto.getCompletionItem()));
     }
 
     /**
@@ -60,29 +57,11 @@ public class BObjectTypeSymbolDAO extends AbstractDAO<BObjectTypeSymbolDTO> {
      */
     @Override
     public List<Integer> insertBatch(List<BObjectTypeSymbolDTO> dtoList) throws LSIndexException {
-        String query = "INSERT INTO bLangObject (packageId, name, fields, type, private, completionItem)" +
-                "VALUES (?, ?, ?, ?, ?, ?)";
-        PreparedStatement statement = null;
-        ResultSet rs = null;
-        try {
-            statement = this.connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS);
-            for (BObjectTypeSymbolDTO dto : dtoList) {
-                statement.setInt(1, dto.getPackageId());
-                statement.setString(2, dto.getName());
-                statement.setString(3, dto.getFields());
-                statement.setInt(4, dto.getType().getValue());
-                statement.setBoolean(5, dto.isPrivate());
-                statement.setString(6, DTOUtil.completionItemToJSON(dto.getCompletionItem()));
-                statement.addBatch();
-            }
-            statement.executeBatch();
-            rs = statement.getGeneratedKeys();
-            return this.getGeneratedKeys(rs);
-        } catch (SQLException e) {
-            throw new LSIndexException("Error while inserting BLang Object in to Index");
-        } finally {
-            this.releaseResources(rs, statement);
+        List<Integer> generatedKeys = new ArrayList<>();
+        for (BObjectTypeSymbolDTO dto : dtoList) {
+            generatedKeys.add(this.insert(dto));
         }
+        return generatedKeys;
     }
 
     /**
@@ -120,30 +99,19 @@ public class BObjectTypeSymbolDAO extends AbstractDAO<BObjectTypeSymbolDTO> {
      * @throws LSIndexException     Exception while index access
      */
     public List<BObjectTypeSymbolDTO> getAllClientEndpoints() throws LSIndexException {
-        String query = "SELECT id, packageId, name, type, private, completionItem FROM bLangObject WHERE type = 1";
-        PreparedStatement statement = null;
-        ResultSet rs = null;
-        try {
-            List<BObjectTypeSymbolDTO> epDTOs = new ArrayList<>();
-            statement = this.connection.prepareStatement(query);
-            rs = statement.executeQuery();
-            while (rs.next()) {
-                BObjectTypeSymbolDTO epDto = new BObjectTypeSymbolDTO.BObjectTypeSymbolDTOBuilder()
-                        .setId(rs.getInt(1))
-                        .setPackageId(rs.getInt(2))
-                        .setName(rs.getString(3))
-                        .setType(ObjectType.get(rs.getInt(4)))
-                        .setPrivate(rs.getBoolean(5))
-                        .setCompletionItem(DTOUtil.jsonToCompletionItem(rs.getString(6)))
-                        .build();
-                epDTOs.add(epDto);
+        List<BObjectTypeSymbolDTO> epDTOs = new ArrayList<>();
+        for (LSIndexStore.ObjectEntry entry : this.store.getObjects()) {
+            if (entry.type == ObjectType.CLIENT) {
+                epDTOs.add(new BObjectTypeSymbolDTO.BObjectTypeSymbolDTOBuilder()
+                        .setId(entry.id)
+                        .setPackageId(entry.packageId)
+                        .setName(entry.name)
+                        .setType(entry.type)
+                        .setPrivate(entry.isPrivate)
+                        .setCompletionItem(DTOUtil.jsonToCompletionItem(entry.completionItem))
+                        .build());
             }
-
-            return epDTOs;
-        } catch (SQLException e) {
-            throw new LSIndexException("Error retrieving client endpoints from index");
-        } finally {
-            this.releaseResources(rs, statement);
         }
+        return epDTOs;
     }
 }
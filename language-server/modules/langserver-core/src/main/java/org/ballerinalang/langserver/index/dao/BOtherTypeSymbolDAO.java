@@ -19,13 +19,10 @@ package org.ballerinalang.langserver.index.dao;
 
 import org.ballerinalang.langserver.index.DTOUtil;
 import org.ballerinalang.langserver.index.LSIndexException;
+import org.ballerinalang.langserver.index.LSIndexStore;
 import org.ballerinalang.langserver.index.dto.OtherTypeSymbolDTO;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -35,8 +32,8 @@ import java.util.List;
  */
 public class BOtherTypeSymbolDAO extends AbstractDAO<OtherTypeSymbolDTO> {
     
-    BOtherTypeSymbolDAO(Connection connection) {
-        super(connection);
+    BOtherTypeSymbolDAO(LSIndexStore store) {
+        super(store);
     }
 
     /**
@@ -45,8 +42,9 @@ public class BOtherTypeSymbolDAO extends AbstractDAO<OtherTypeSymbolDTO> {
      * @param dto DTO to insert in to the index DB
      */
     @Override
-    public int insert(OtherTypeSymbolDTO dto) {
-        return -1;
+    public int insert(OtherTypeSymbolDTO dto) throws LSIndexException {
+        return this.store.addType(dto.getPackageId(), dto.getName(), dto.getFields(),
+                DTOUtil.completionItemToJSON(dto.getCompletionItem()));
     }
 
     /**
@@ -58,28 +56,11 @@ public class BOtherTypeSymbolDAO extends AbstractDAO<OtherTypeSymbolDTO> {
      */
     @Override
     public List<Integer> insertBatch(List<OtherTypeSymbolDTO> dtoList) throws LSIndexException {
-        String query = "INSERT INTO bLangType (packageId, name, fields, completionItem) values (?, ?, ?, ?)";
-        PreparedStatement statement = null;
-        ResultSet rs = null;
-
-        try {
-            statement = this.connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS);
-            for (OtherTypeSymbolDTO dto : dtoList) {
-                statement.setInt(1, dto.getPackageId());
-                statement.setString(2, dto.getName());
-                statement.setString(3, dto.getFields());
-                statement.setString(4, DTOUtil.completionItemToJSON(dto.getCompletionItem()));
-                statement.addBatch();
-            }
-            statement.executeBatch();
-            rs = statement.getGeneratedKeys();
-            
-            return this.getGeneratedKeys(rs);
-        } catch (SQLException e) {
-            throw new LSIndexException("Error while inserting Other BType in to Index");
-        } finally {
-            this.releaseResources(rs, statement);
+        List<Integer> generatedKeys = new ArrayList<>();
+        for (OtherTypeSymbolDTO dto : dtoList) {
+            generatedKeys.add(this.insert(dto));
         }
+        return generatedKeys;
     }
 
     /**
@@ -19,17 +19,14 @@ package org.ballerinalang.langserver.index.dao;
 
 import org.ballerinalang.langserver.index.DTOUtil;
 import org.ballerinalang.langserver.index.LSIndexException;
+import org.ballerinalang.langserver.index.LSIndexStore;
+import org.ballerinalang.langserver.index.ObjectType;
 import org.ballerinalang.langserver.index.dto.BFunctionSymbolDTO;
 import org.ballerinalang.langserver.index.dto.BObjectTypeSymbolDTO;
 import org.ballerinalang.langserver.index.dto.BPackageSymbolDTO;
 import org.ballerinalang.langserver.index.dto.BRecordTypeSymbolDTO;
 import org.ballerinalang.langserver.index.dto.OtherTypeSymbolDTO;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -40,8 +37,8 @@ import java.util.List;
  */
 public class BPackageSymbolDAO extends AbstractDAO<BPackageSymbolDTO> {
 
-    public BPackageSymbolDAO(Connection connection) {
-        super(connection);
+    public BPackageSymbolDAO(LSIndexStore store) {
+        super(store);
     }
 
     /**
@@ -51,24 +48,7 @@ public class BPackageSymbolDAO extends AbstractDAO<BPackageSymbolDTO> {
      */
     @Override
     public int insert(BPackageSymbolDTO dto) throws LSIndexException {
-        String query = "INSERT INTO bLangPackage (name, orgName, version) VALUES (?, ?, ?)";
-        PreparedStatement statement = null;
-        ResultSet rs = null;
-
-        try {
-            statement = this.connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS);
-            statement.setString(1, dto.getName());
-            statement.setString(2, dto.getOrgName());
-            statement.setString(3, dto.getVersion());
-            statement.executeUpdate();
-            rs = statement.getGeneratedKeys();
-            List<Integer> keys = this.getGeneratedKeys(rs);
-            return keys.get(0);
-        } catch (SQLException e) {
-            throw new LSIndexException("Error while inserting BLang Package");
-        } finally {
-            this.releaseResources(rs, statement);
-        }
+        return this.store.addPackage(dto.getName(), dto.getOrgName(), dto.getVersion());
     }
 
     /**
@@ -92,28 +72,10 @@ public class BPackageSymbolDAO extends AbstractDAO<BPackageSymbolDTO> {
     @Override
     public List<BPackageSymbolDTO> getAll() throws LSIndexException {
         List<BPackageSymbolDTO> pkgDTOs = new ArrayList<>();
-        String query = "SELECT id, name, orgName, version FROM bLangPackage";
-        PreparedStatement statement = null;
-        ResultSet rs = null;
-        try {
-            statement = this.connection.prepareStatement(query);
-            rs = statement.executeQuery();
-            while (rs.next()) {
-                BPackageSymbolDTO dto = new BPackageSymbolDTO.BPackageSymbolDTOBuilder()
-                        .setId(rs.getInt(1))
-                        .setName(rs.getString(2))
-                        .setOrgName(rs.getString(3))
-                        .setVersion(rs.getString(4))
-                        .build();
-                pkgDTOs.add(dto);
-            }
-            
-            return pkgDTOs;
-        } catch (SQLException e) {
-            throw new LSIndexException("Error while retrieving Packages from Index");
-        } finally {
-            this.releaseResources(rs, statement);
+        for (LSIndexStore.PackageEntry entry : this.store.getPackages()) {
+            pkgDTOs.add(getPackageSymbolDTO(entry));
         }
+        return pkgDTOs;
     }
 
     /**
@@ -125,63 +87,16 @@ public class BPackageSymbolDAO extends AbstractDAO<BPackageSymbolDTO> {
      */
     @Override
     public BPackageSymbolDTO get(int id) throws LSIndexException {
-        String query = "SELECT id, name, orgName, version FROM bLangPackage WHERE id = ?";
-        PreparedStatement statement = null;
-        ResultSet rs = null;
-
-        try {
-            statement = this.connection.prepareStatement(query);
-            statement.setInt(1, id);
-            rs = statement.executeQuery();
-            if (rs.next()) {
-                return new BPackageSymbolDTO.BPackageSymbolDTOBuilder()
-                        .setId(rs.getInt(1))
-                        .setName(rs.getString(2))
-                        .setOrgName(rs.getString(3))
-                        .setVersion(rs.getString(4))
-                        .build();
-            } else {
-                throw new LSIndexException("Invalid id provided to retrieve BLang Package Symbol");
-            }
-        } catch (SQLException e) {
-            throw new LSIndexException("Error while retrieving package entry from Index");
-        } finally {
-            this.releaseResources(rs, statement);
-        }
+        return getPackageSymbolDTO(this.store.getPackage(id));
     }
 
     @Override
     public List<BPackageSymbolDTO> get(BPackageSymbolDTO dto) throws LSIndexException {
-        StringBuilder query = new StringBuilder("SELECT id, name, orgName, version FROM bLangPackage WHERE name = ?");
-        PreparedStatement statement = null;
-        ResultSet rs = null;
         List<BPackageSymbolDTO> resultList = new ArrayList<>();
-        if (dto.getOrgName() != null && !dto.getOrgName().isEmpty()) {
-            query.append(" AND orgName = ?");
-        }
-
-        try {
-            statement = this.connection.prepareStatement(query.toString());
-            statement.setString(1, dto.getName());
-            if (dto.getOrgName() != null && !dto.getOrgName().isEmpty()) {
-                statement.setString(2, dto.getOrgName());
-            }
-            rs = statement.executeQuery();
-            while (rs.next()) {
-                BPackageSymbolDTO resultDto = new BPackageSymbolDTO.BPackageSymbolDTOBuilder()
-                        .setId(rs.getInt(1))
-                        .setName(rs.getString(2))
-                        .setOrgName(rs.getString(3))
-                        .setVersion(rs.getString(4))
-                        .build();
-                resultList.add(resultDto);
-            }
-            return resultList;
-        } catch (SQLException e) {
-            throw new LSIndexException("Error retrieving package from Index");
-        } finally {
-            this.releaseResources(rs, statement);
+        for (LSIndexStore.PackageEntry entry : getPackageEntries(dto)) {
+            resultList.add(getPackageSymbolDTO(entry));
         }
+        return resultList;
     }
 
     /**
@@ -198,50 +113,25 @@ public class BPackageSymbolDAO extends AbstractDAO<BPackageSymbolDTO> {
     public List<BFunctionSymbolDTO> getFunctions(BPackageSymbolDTO dto, int objectId, boolean pvt, boolean attached,
                                                  boolean action)
             throws LSIndexException {
-        int indexCounter = 0;
-        ResultSet rs = null;
-        PreparedStatement statement = null;
-        StringBuilder query = new StringBuilder("SELECT p.id, p.name, p.orgName, f.completionItem, f.name, " +
-                "f.private, f.attached FROM (SELECT id, name, orgName FROM bLangPackage WHERE name = ?");
-        if (dto.getOrgName().isEmpty()) {
-            query.append(") ");
-        } else {
-            query.append(" AND orgName = ?) ");
-        }
-        query.append("AS p INNER JOIN bLangFunction AS f WHERE p.id=f.packageId AND f.objectId = ? AND f.private = ? " +
-                " AND f.attached = ? AND f.action = ? AND f.name NOT LIKE '%<init>%' AND " + "f.name NOT " +
-                "LIKE '%<start>%' AND f.name NOT LIKE '%<stop>%'");
-
-        try {
-            statement = this.connection.prepareStatement(query.toString());
-            statement.setString(++indexCounter, dto.getName());
-            if (!dto.getOrgName().isEmpty()) {
-                statement.setString(++indexCounter, dto.getOrgName());
-            }
-            statement.setInt(++indexCounter, objectId);
-            statement.setBoolean(++indexCounter, pvt);
-            statement.setBoolean(++indexCounter, attached);
-            statement.setBoolean(++indexCounter, action);
-
-            rs = statement.executeQuery();
-            List<BFunctionSymbolDTO> functionSymbolDTOList = new ArrayList<>();
-            while (rs.next()) {
+        List<BFunctionSymbolDTO> functionSymbolDTOList = new ArrayList<>();
+        for (LSIndexStore.PackageEntry pkgEntry : getPackageEntries(dto)) {
+            for (LSIndexStore.FunctionEntry entry : pkgEntry.functions) {
+                if (entry.objectId != objectId || entry.isPrivate != pvt || entry.isAttached != attached ||
+                        entry.isAction != action || entry.name.contains("<init>") ||
+                        entry.name.contains("<start>") || entry.name.contains("<stop>")) {
+                    continue;
+                }
                 BFunctionSymbolDTO functionDto = new BFunctionSymbolDTO.BFunctionDTOBuilder()
-                        .setPackageId(rs.getInt(1))
-                        .setAttached(rs.getBoolean(7))
-                        .setPrivate(rs.getBoolean(6))
-                        .setCompletionItem(DTOUtil.jsonToCompletionItem(rs.getString(4)))
-                        .setName(rs.getString(5))
+                        .setPackageId(entry.packageId)
+                        .setAttached(entry.isAttached)
+                        .setPrivate(entry.isPrivate)
+                        .setCompletionItem(DTOUtil.jsonToCompletionItem(entry.completionItem))
+                        .setName(entry.name)
                         .build();
                 functionSymbolDTOList.add(functionDto);
             }
-            
-            return functionSymbolDTOList;
-        } catch (SQLException e) {
-            throw new LSIndexException("Error while retrieving Function information for package from Index");
-        } finally {
-            this.releaseResources(rs, statement);
         }
+        return functionSymbolDTOList;
     }
 
     /**
@@ -253,44 +143,22 @@ public class BPackageSymbolDAO extends AbstractDAO<BPackageSymbolDTO> {
      * @throws LSIndexException     Exception while processing Index operation.
      */
     public List<BRecordTypeSymbolDTO> getRecords(BPackageSymbolDTO dto, boolean isPrivate) throws LSIndexException {
-        ResultSet rs = null;
-        PreparedStatement statement = null;
-        int parameterIndex = 0;
-        StringBuilder query = new StringBuilder("SELECT p.id, p.name, p.orgName, r.completionItem, r.name, r.private " +
-                "FROM (SELECT id, name, orgName FROM bLangPackage WHERE name = ?");
-        if (dto.getOrgName().isEmpty()) {
-            query.append(") ");
-        } else {
-            query.append(" AND orgName = ?) ");
-        }
-        query.append("AS p INNER JOIN bLangRecord AS r WHERE p.id = r.packageId AND r.private = ?");
-
-        try {
-            statement = this.connection.prepareStatement(query.toString());
-            statement.setString(++parameterIndex, dto.getName());
-            if (!dto.getOrgName().isEmpty()) {
-                statement.setString(++parameterIndex, dto.getOrgName());
-            }
-            statement.setBoolean(++parameterIndex, isPrivate);
-
-            rs = statement.executeQuery();
-            List<BRecordTypeSymbolDTO> recordTypeSymbolDTOs = new ArrayList<>();
-            while (rs.next()) {
+        List<BRecordTypeSymbolDTO> recordTypeSymbolDTOs = new ArrayList<>();
+        for (LSIndexStore.PackageEntry pkgEntry : getPackageEntries(dto)) {
+            for (LSIndexStore.RecordEntry entry : pkgEntry.records) {
+                if (entry.isPrivate != isPrivate) {
+                    continue;
+                }
                 BRecordTypeSymbolDTO recordDTO = new BRecordTypeSymbolDTO.BRecordTypeSymbolDTOBuilder()
-                        .setPackageId(rs.getInt(1))
-                        .setCompletionItem(DTOUtil.jsonToCompletionItem(rs.getString(4)))
-                        .setName(rs.getString(5))
-                        .setPrivate(rs.getBoolean(6))
+                        .setPackageId(entry.packageId)
+                        .setCompletionItem(DTOUtil.jsonToCompletionItem(entry.completionItem))
+                        .setName(entry.name)
+                        .setPrivate(entry.isPrivate)
                         .build();
                 recordTypeSymbolDTOs.add(recordDTO);
             }
-
-            return recordTypeSymbolDTOs;
-        } catch (SQLException e) {
-            throw new LSIndexException("Error while retrieving Record information for package from Index");
-        } finally {
-            this.releaseResources(rs, statement);
         }
+        return recordTypeSymbolDTOs;
     }
 
     /**
@@ -301,41 +169,18 @@ public class BPackageSymbolDAO extends AbstractDAO<BPackageSymbolDTO> {
      * @throws LSIndexException     Exception while processing Index operation.
      */
     public List<OtherTypeSymbolDTO> getOtherTypes(BPackageSymbolDTO dto) throws LSIndexException {
-        PreparedStatement statement = null;
-        ResultSet rs = null;
-        int parameterIndex = 0;
-        StringBuilder query = new StringBuilder("SELECT p.id, p.name, p.orgName, t.completionItem, t.name " +
-                "FROM (SELECT id, name, orgName FROM bLangPackage WHERE name = ?");
-        if (dto.getOrgName().isEmpty()) {
-            query.append(") "); 
-        } else {
-            query.append(" AND orgName = ?) ");
-        }
-        query.append("AS p INNER JOIN bLangType AS t WHERE p.id = t.packageId");
-
-        try {
-            statement = this.connection.prepareStatement(query.toString());
-            statement.setString(++parameterIndex, dto.getName());
-            if (!dto.getOrgName().isEmpty()) {
-                statement.setString(++parameterIndex, dto.getOrgName());
-            }
-            rs = statement.executeQuery();
-            List<OtherTypeSymbolDTO> otherTypeSymbolDTOs = new ArrayList<>();
-            while (rs.next()) {
+        List<OtherTypeSymbolDTO> otherTypeSymbolDTOs = new ArrayList<>();
+        for (LSIndexStore.PackageEntry pkgEntry : getPackageEntries(dto)) {
+            for (LSIndexStore.TypeEntry entry : pkgEntry.types) {
                 OtherTypeSymbolDTO otherTypeSymbolDTO = new OtherTypeSymbolDTO.OtherTypeSymbolDTOBuilder()
-                        .setPackageId(rs.getInt(1))
-                        .setCompletionItem(DTOUtil.jsonToCompletionItem(rs.getString(4)))
-                        .setName(rs.getString(5))
+                        .setPackageId(entry.packageId)
+                        .setCompletionItem(DTOUtil.jsonToCompletionItem(entry.completionItem))
+                        .setName(entry.name)
                         .build();
                 otherTypeSymbolDTOs.add(otherTypeSymbolDTO);
             }
-
-            return otherTypeSymbolDTOs;
-        } catch (SQLException e) {
-            throw new LSIndexException("Error while retrieving Other Type information for package from Index");
-        } finally {
-            this.releaseResources(rs, statement);
         }
+        return otherTypeSymbolDTOs;
     }
 
     /**
@@ -347,42 +192,15 @@ public class BPackageSymbolDAO extends AbstractDAO<BPackageSymbolDTO> {
      * @throws LSIndexException     Exception while processing Index operation.
      */
     public List<BObjectTypeSymbolDTO> getObjects(BPackageSymbolDTO dto, boolean isPrivate) throws LSIndexException {
-        PreparedStatement statement = null;
-        ResultSet rs = null;
-        int parameterIndex = 0;
-        StringBuilder query = new StringBuilder("SELECT p.id, p.name, p.orgName, o.completionItem, o.name, " +
-                "o.private FROM (select id, name, orgName FROM bLangPackage WHERE name = ?");
-        if (dto.getOrgName().isEmpty()) {
-            query.append(") ");
-        } else {
-            query.append(" AND orgName = ?) ");
-        }
-        query.append("AS p INNER JOIN bLangObject AS o WHERE p.id = o.packageId AND o.type = 3 AND o.private = ?");
-        try {
-            statement = this.connection.prepareStatement(query.toString());
-            statement.setString(++parameterIndex, dto.getName());
-            if (!dto.getOrgName().isEmpty()) {
-                statement.setString(++parameterIndex, dto.getOrgName());
+        List<BObjectTypeSymbolDTO> objectTypeSymbolDTOs = new ArrayList<>();
+        for (LSIndexStore.PackageEntry pkgEntry : getPackageEntries(dto)) {
+            for (LSIndexStore.ObjectEntry entry : pkgEntry.objects) {
+                if (entry.type == ObjectType.OBJECT && entry.isPrivate == isPrivate) {
+                    objectTypeSymbolDTOs.add(getObjectTypeSymbolDTO(entry));
+                }
             }
-            statement.setBoolean(++parameterIndex, isPrivate);
-            
-            rs = statement.executeQuery();
-            List<BObjectTypeSymbolDTO> objectTypeSymbolDTOs = new ArrayList<>();
-            while (rs.next()) {
-                BObjectTypeSymbolDTO objectTypeSymbolDTO = new BObjectTypeSymbolDTO.BObjectTypeSymbolDTOBuilder()
-                        .setPackageId(rs.getInt(1))
-                        .setCompletionItem(DTOUtil.jsonToCompletionItem(rs.getString(4)))
-                        .setName(rs.getString(5))
-                        .build();
-                objectTypeSymbolDTOs.add(objectTypeSymbolDTO);
-            }
-
-            return objectTypeSymbolDTOs;
-        } catch (SQLException e) {
-            throw new LSIndexException("Error while retrieving Object Type information for package from Index");
-        } finally {
-            this.releaseResources(rs, statement);
         }
+        return objectTypeSymbolDTOs;
     }
 
     /**
@@ -393,40 +211,48 @@ public class BPackageSymbolDAO extends AbstractDAO<BPackageSymbolDTO> {
      * @throws LSIndexException     Exception while processing Index operation.
      */
     public List<BObjectTypeSymbolDTO> getClientEndpoints(BPackageSymbolDTO dto) throws LSIndexException {
-        PreparedStatement statement = null;
-        ResultSet rs = null;
-        int parameterIndex = 0;
-        StringBuilder query = new StringBuilder("SELECT p.id, p.name, p.orgName, o.completionItem, o.name, " +
-                "o.private FROM (select id, name, orgName FROM bLangPackage WHERE name = ?");
-        if (dto.getOrgName().isEmpty()) {
-            query.append(") ");
-        } else {
-            query.append(" AND orgName = ?) ");
-        }
-        query.append("AS p INNER JOIN bLangObject AS o WHERE p.id = o.packageId AND o.type = 1");
-        try {
-            statement = this.connection.prepareStatement(query.toString());
-            statement.setString(++parameterIndex, dto.getName());
-            if (!dto.getOrgName().isEmpty()) {
-                statement.setString(++parameterIndex, dto.getOrgName());
-            }
-            
-            rs = statement.executeQuery();
-            List<BObjectTypeSymbolDTO> objectTypeSymbolDTOs = new ArrayList<>();
-            while (rs.next()) {
-                BObjectTypeSymbolDTO objectTypeSymbolDTO = new BObjectTypeSymbolDTO.BObjectTypeSymbolDTOBuilder()
-                        .setPackageId(rs.getInt(1))
-                        .setCompletionItem(DTOUtil.jsonToCompletionItem(rs.getString(4)))
-                        .setName(rs.getString(5))
-                        .build();
-                objectTypeSymbolDTOs.add(objectTypeSymbolDTO);
+        List<BObjectTypeSymbolDTO> objectTypeSymbolDTOs = new ArrayList<>();
+        for (LSIndexStore.PackageEntry pkgEntry : getPackageEntries(dto)) {
+            for (LSIndexStore.ObjectEntry entry : pkgEntry.objects) {
+                if (entry.type == ObjectType.CLIENT) {
+                    objectTypeSymbolDTOs.add(getObjectTypeSymbolDTO(entry));
+                }
             }
+        }
+        return objectTypeSymbolDTOs;
+    }
 
-            return objectTypeSymbolDTOs;
-        } catch (SQLException e) {
-            throw new LSIndexException("Error while retrieving Client endpoint information for package from Index");
-        } finally {
-            this.releaseResources(rs, statement);
+    /**
+     * Get the package entries matching the name, and the organization name if given.
+     *
+     * @param dto                   Package Symbol DTO
+     * @return {@link List}         List of matching package entries
+     */
+    private List<LSIndexStore.PackageEntry> getPackageEntries(BPackageSymbolDTO dto) {
+        String orgName = dto.getOrgName();
+        List<LSIndexStore.PackageEntry> pkgEntries = new ArrayList<>();
+        for (LSIndexStore.PackageEntry entry : this.store.getPackages(dto.getName())) {
+            if (orgName == null || orgName.isEmpty() || orgName.equals(entry.orgName)) {
+                pkgEntries.add(entry);
+            }
         }
+        return pkgEntries;
+    }
+
+    private static BPackageSymbolDTO getPackageSymbolDTO(LSIndexStore.PackageEntry entry) {
+        return new BPackageSymbolDTO.BPackageSymbolDTOBuilder()
+                .setId(entry.id)
+                .setName(entry.name)
+                .setOrgName(entry.orgName)
+                .setVersion(entry.version)
+                .build();
+    }
+
+    private static BObjectTypeSymbolDTO getObjectTypeSymbolDTO(LSIndexStore.ObjectEntry entry) {
+        return new BObjectTypeSymbolDTO.BObjectTypeSymbolDTOBuilder()
+                .setPackageId(entry.packageId)
+                .setCompletionItem(DTOUtil.jsonToCompletionItem(entry.completionItem))
+                .setName(entry.name)
+                .build();
     }
 }
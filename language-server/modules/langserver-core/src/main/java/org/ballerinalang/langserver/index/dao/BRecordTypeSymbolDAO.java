@@ -19,13 +19,10 @@ package org.ballerinalang.langserver.index.dao;
 
 import org.ballerinalang.langserver.index.DTOUtil;
 import org.ballerinalang.langserver.index.LSIndexException;
+import org.ballerinalang.langserver.index.LSIndexStore;
 import org.ballerinalang.langserver.index.dto.BRecordTypeSymbolDTO;
 
-import java.sql.Connection;
-import java.sql.PreparedStatement;
-import java.sql.ResultSet;
-import java.sql.SQLException;
-import java.sql.Statement;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -35,8 +32,8 @@ import java.util.List;
  */
 public class BRecordTypeSymbolDAO extends AbstractDAO<BRecordTypeSymbolDTO> {
     
-    BRecordTypeSymbolDAO(Connection connection) {
-        super(connection);
+    BRecordTypeSymbolDAO(LSIndexStore store) {
+        super(store);
     }
 
     /**
@@ -45,8 +42,9 @@ public class BRecordTypeSymbolDAO extends AbstractDAO<BRecordTypeSymbolDTO> {
      * @param dto DTO to insert in to the index DB
      */
     @Override
-    public int insert(BRecordTypeSymbolDTO dto) {
-        return -1;
+    public int insert(BRecordTypeSymbolDTO dto) throws LSIndexException {
+        return this.store.addRecord(dto.getPackageId(), dto.getName(), dto.getFields(), dto.isPrivate(),
+                DTOUtil.completionItemToJSON(dto.getCompletionItem()));
     }
 
     /**
@@ -58,30 +56,11 @@ public class BRecordTypeSymbolDAO extends AbstractDAO<BRecordTypeSymbolDTO> {
      */
     @Override
     public List<Integer> insertBatch(List<BRecordTypeSymbolDTO> dtoList) throws LSIndexException {
-        PreparedStatement statement = null;
-        ResultSet rs = null;
-        String query = "INSERT INTO bLangRecord (packageId, name, fields, private, completionItem) VALUES " +
-                "(?, ?, ?, ?, ?)";
-
-        try {
-            statement = this.connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS);
-
-            for (BRecordTypeSymbolDTO dto : dtoList) {
-                statement.setInt(1, dto.getPackageId());
-                statement.setString(2, dto.getName());
-                statement.setString(3, dto.getFields());
-                statement.setBoolean(4, dto.isPrivate());
-                statement.setString(5, DTOUtil.completionItemToJSON(dto.getCompletionItem()));
-                statement.addBatch();
-            }
-            statement.executeBatch();
-            rs = statement.getGeneratedKeys();
-            return this.getGeneratedKeys(rs);
-        } catch (SQLException e) {
-            throw new LSIndexException("Error while inserting BLang Record in to Index");
-        } finally {
-            this.releaseResources(rs, statement);
+        List<Integer> generatedKeys = new ArrayList<>();
+        for (BRecordTypeSymbolDTO dto : dtoList) {
+            generatedKeys.add(this.insert(dto));
         }
+        return generatedKeys;
     }
 
     /**
@@ -17,7 +17,7 @@
 */
 package org.ballerinalang.langserver.index.dao;
 
-import java.sql.Connection;
+import org.ballerinalang.langserver.index.LSIndexStore;
 
 /**
  * DAO factory to produce Various DAOs.
@@ -26,24 +26,24 @@ import java.sql.Connection;
  */
 public class DAOFactory {
 
-    private Connection connection;
+    private LSIndexStore store;
 
-    public DAOFactory(Connection connection) {
-        this.connection = connection;
+    public DAOFactory(LSIndexStore store) {
+        this.store = store;
     }
 
     public AbstractDAO get(DAOType type) {
         switch (type) {
             case FUNCTION_SYMBOL:
-                return new BFunctionSymbolDAO(this.connection);
+                return new BFunctionSymbolDAO(this.store);
             case OBJECT_TYPE:
-                return new BObjectTypeSymbolDAO(this.connection);
+                return new BObjectTypeSymbolDAO(this.store);
             case OTHER_TYPE_SYMBOL:
-                return new BOtherTypeSymbolDAO(this.connection);
+                return new BOtherTypeSymbolDAO(this.store);
             case PACKAGE_SYMBOL:
-                return new BPackageSymbolDAO(this.connection);
+                return new BPackageSymbolDAO(this.store);
             case RECORD_TYPE_SYMBOL:
-                return new BRecordTypeSymbolDAO(this.connection);
+                return new BRecordTypeSymbolDAO(this.store);
             default:
                 // Should not come to this point and if so, there is a bug.
                 return null;
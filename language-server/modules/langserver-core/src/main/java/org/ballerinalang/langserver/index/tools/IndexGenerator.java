@@ -84,7 +84,7 @@ public class IndexGenerator {
 
     public static void main(String[] args) {
         IndexGenerator indexGenerator = new IndexGenerator();
-        LSIndexImpl lsIndex = new LSIndexImpl("classpath:lang-server-index.sql");
+        LSIndexImpl lsIndex = new LSIndexImpl();
         List<BPackageSymbol> bPackageSymbols = indexGenerator.getBLangPackages();
         List<BLangPackageContent> bPackageSymbolDTOs = bPackageSymbols.stream()
                 .filter(bPackageSymbol -> !CommonUtil.isInvalidSymbol(bPackageSymbol))
@@ -101,9 +101,9 @@ public class IndexGenerator {
         String saveDumpPath = file.getAbsolutePath().replaceAll("classes.*", "");
         // Following is to support both the gradle and maven builds
         if (saveDumpPath.endsWith("build" + CommonUtil.FILE_SEPARATOR)) {
-            saveDumpPath += "ballerina-home/main/lib/tools/lang-server/resources/lang-server-index.sql";
+            saveDumpPath += "ballerina-home/main/lib/tools/lang-server/resources/lang-server-index.bin";
         } else {
-            saveDumpPath += "lib/tools/lang-server/resources/lang-server-index.sql";
+            saveDumpPath += "lib/tools/lang-server/resources/lang-server-index.bin";
         }
         lsIndex.saveIndexDump(Paths.get(saveDumpPath));
     }
@@ -0,0 +1,116 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.langserver.index;
+
+import org.ballerinalang.langserver.index.dao.BObjectTypeSymbolDAO;
+import org.ballerinalang.langserver.index.dao.BPackageSymbolDAO;
+import org.ballerinalang.langserver.index.dao.DAOType;
+import org.ballerinalang.langserver.index.dto.BFunctionSymbolDTO;
+import org.ballerinalang.langserver.index.dto.BObjectTypeSymbolDTO;
+import org.ballerinalang.langserver.index.dto.BPackageSymbolDTO;
+import org.eclipse.lsp4j.CompletionItem;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Tests for the in-memory Language Server Index.
+ *
+ * @since 1.0.2
+ */
+public class LSIndexStoreTest {
+
+    private Path indexPath;
+
+    private LSIndexImpl lsIndex;
+
+    @BeforeClass
+    public void init() throws Exception {
+        LSIndexStore store = new LSIndexStore();
+        int httpId = store.addPackage("http", "ballerina", "");
+        store.addPackage("io", "ballerina", "");
+        store.addFunction(httpId, -1, "parseHeader", false, false, false, completionItem("parseHeader"));
+        store.addFunction(httpId, -1, "privateFunction", true, false, false, completionItem("privateFunction"));
+        store.addFunction(httpId, -1, "<init>", false, false, false, completionItem("<init>"));
+        store.addObject(httpId, "Client", "", ObjectType.CLIENT, false, completionItem("Client"));
+        store.addObject(httpId, "Request", "", ObjectType.OBJECT, false, completionItem("Request"));
+
+        indexPath = Files.createTempFile("lang-server-index", ".bin");
+        // Mapped index file cannot be deleted on some platforms while the index is in use
+        indexPath.toFile().deleteOnExit();
+        store.save(indexPath);
+        lsIndex = new LSIndexImpl(indexPath.toString());
+    }
+
+    @Test
+    public void testPackageLookup() throws LSIndexException {
+        BPackageSymbolDAO pkgDAO = (BPackageSymbolDAO) lsIndex.getDaoFactory().get(DAOType.PACKAGE_SYMBOL);
+        Assert.assertEquals(pkgDAO.getAll().size(), 2);
+
+        List<BPackageSymbolDTO> result = pkgDAO.get(packageDTO("http", "ballerina"));
+        Assert.assertEquals(result.size(), 1);
+        Assert.assertEquals(pkgDAO.get(result.get(0).getId()).getName(), "http");
+        Assert.assertTrue(pkgDAO.get(packageDTO("http", "foo")).isEmpty());
+        Assert.assertEquals(pkgDAO.get(packageDTO("io", "")).size(), 1);
+    }
+
+    @Test
+    public void testPackageContentLookup() throws LSIndexException {
+        BPackageSymbolDAO pkgDAO = (BPackageSymbolDAO) lsIndex.getDaoFactory().get(DAOType.PACKAGE_SYMBOL);
+        BPackageSymbolDTO http = packageDTO("http", "ballerina");
+
+        List<BFunctionSymbolDTO> functions = pkgDAO.getFunctions(http, -1, false, false, false);
+        Assert.assertEquals(functions.size(), 1);
+        Assert.assertEquals(functions.get(0).getCompletionItem().getLabel(), "parseHeader");
+
+        List<BObjectTypeSymbolDTO> objects = pkgDAO.getObjects(http, false);
+        Assert.assertEquals(objects.size(), 1);
+        Assert.assertEquals(objects.get(0).getName(), "Request");
+
+        List<BObjectTypeSymbolDTO> clients = pkgDAO.getClientEndpoints(http);
+        Assert.assertEquals(clients.size(), 1);
+        Assert.assertEquals(clients.get(0).getName(), "Client");
+
+        BObjectTypeSymbolDAO objDAO = (BObjectTypeSymbolDAO) lsIndex.getDaoFactory().get(DAOType.OBJECT_TYPE);
+        Assert.assertEquals(objDAO.getAllClientEndpoints().size(), 1);
+    }
+
+    @Test
+    public void testCompletionItemsAreNotShared() throws LSIndexException {
+        BPackageSymbolDAO pkgDAO = (BPackageSymbolDAO) lsIndex.getDaoFactory().get(DAOType.PACKAGE_SYMBOL);
+        BPackageSymbolDTO http = packageDTO("http", "ballerina");
+        CompletionItem first = pkgDAO.getFunctions(http, -1, false, false, false).get(0).getCompletionItem();
+        CompletionItem second = pkgDAO.getFunctions(http, -1, false, false, false).get(0).getCompletionItem();
+        Assert.assertNotSame(first, second);
+    }
+
+    private static BPackageSymbolDTO packageDTO(String name, String orgName) {
+        return new BPackageSymbolDTO.BPackageSymbolDTOBuilder()
+                .setName(name)
+                .setOrgName(orgName)
+                .build();
+    }
+
+    private static String completionItem(String label) {
+        return DTOUtil.completionItemToJSON(new CompletionItem(label));
+    }
+}
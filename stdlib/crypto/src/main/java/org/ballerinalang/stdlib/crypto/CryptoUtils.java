@@ -32,6 +32,8 @@ import java.security.Signature;
 import java.security.SignatureException;
 import java.security.spec.AlgorithmParameterSpec;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -69,6 +71,17 @@ public class CryptoUtils {
      */
     private static final int[] VALID_AES_KEY_SIZES = new int[] { 16, 24, 32 };
 
+    /**
+     * Crypto primitives are expensive to look up from the providers, hence instances are reused by the thread which
+     * created them, keyed by the algorithm. Each instance is initialized before use, which resets any state left by
+     * the previous operation.
+     */
+    private static final ThreadLocal<Map<String, Mac>> MACS = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, MessageDigest>> MESSAGE_DIGESTS =
+            ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, Signature>> SIGNATURES = ThreadLocal.withInitial(HashMap::new);
+    private static final ThreadLocal<Map<String, Cipher>> CIPHERS = ThreadLocal.withInitial(HashMap::new);
+
     private CryptoUtils() {
 
     }
@@ -84,7 +97,7 @@ public class CryptoUtils {
     public static byte[] hmac(String algorithm, byte[] key, byte[] input) {
         try {
             SecretKey secretKey = new SecretKeySpec(key, algorithm);
-            Mac mac = Mac.getInstance(algorithm);
+            Mac mac = getMac(algorithm);
             mac.init(secretKey);
             return mac.doFinal(input);
         } catch (NoSuchAlgorithmException | InvalidKeyException e) {
@@ -101,10 +114,9 @@ public class CryptoUtils {
      */
     public static byte[] hash(String algorithm, byte[] input) {
         try {
-            MessageDigest messageDigest;
-            messageDigest = MessageDigest.getInstance(algorithm);
-            messageDigest.update(input);
-            return messageDigest.digest();
+            MessageDigest messageDigest = getMessageDigest(algorithm);
+            messageDigest.reset();
+            return messageDigest.digest(input);
         } catch (NoSuchAlgorithmException e) {
             throw CryptoUtils.createError("Error occurred while calculating hash: " + e.getMessage());
         }
@@ -120,7 +132,7 @@ public class CryptoUtils {
      */
     public static Object sign(String algorithm, PrivateKey privateKey, byte[] input) {
         try {
-            Signature sig = Signature.getInstance(algorithm);
+            Signature sig = getSignature(algorithm);
             sig.initSign(privateKey);
             sig.update(input);
             return new ArrayValue(sig.sign());
@@ -142,7 +154,7 @@ public class CryptoUtils {
      */
     public static Object verify(String algorithm, PublicKey publicKey, byte[] data, byte[] signature) {
         try {
-            Signature sig = Signature.getInstance(algorithm);
+            Signature sig = getSignature(algorithm);
             sig.initVerify(publicKey);
             sig.update(data);
             return sig.verify(signature);
@@ -184,8 +196,8 @@ public class CryptoUtils {
                 return CryptoUtils.createError("Valid tag sizes are: " + Arrays.toString(VALID_GCM_TAG_SIZES));
             }
             AlgorithmParameterSpec paramSpec = buildParameterSpec(transformedAlgorithmMode, iv, (int) tagSize);
-            Cipher cipher = Cipher.getInstance(Constants.RSA + "/" + transformedAlgorithmMode + "/"
-                    + transformedAlgorithmPadding);
+            Cipher cipher = getCipher(Constants.RSA + "/" + transformedAlgorithmMode + "/"
+                    + transformedAlgorithmPadding, transformedAlgorithmMode);
             initCipher(cipher, cipherMode, key, paramSpec);
             return new ArrayValue(cipher.doFinal(input));
         } catch (NoSuchAlgorithmException e) {
@@ -227,7 +239,8 @@ public class CryptoUtils {
                         Arrays.toString(VALID_GCM_TAG_SIZES));
             }
             AlgorithmParameterSpec paramSpec = buildParameterSpec(transformedAlgorithmMode, iv, (int) tagSize);
-            Cipher cipher = Cipher.getInstance("AES/" + transformedAlgorithmMode + "/" + transformedAlgorithmPadding);
+            Cipher cipher = getCipher("AES/" + transformedAlgorithmMode + "/" + transformedAlgorithmPadding,
+                    transformedAlgorithmMode);
             initCipher(cipher, cipherMode, keySpec, paramSpec);
             return new ArrayValue(cipher.doFinal(input));
         } catch (NoSuchAlgorithmException e) {
@@ -242,6 +255,81 @@ public class CryptoUtils {
         }
     }
 
+    /**
+     * Get the MAC instance of the given algorithm, which is owned by the current thread.
+     *
+     * @param algorithm MAC algorithm
+     * @return MAC instance
+     * @throws NoSuchAlgorithmException if the algorithm is not supported
+     */
+    private static Mac getMac(String algorithm) throws NoSuchAlgorithmException {
+        Map<String, Mac> macs = MACS.get();
+        Mac mac = macs.get(algorithm);
+        if (mac == null) {
+            mac = Mac.getInstance(algorithm);
+            macs.put(algorithm, mac);
+        }
+        return mac;
+    }
+
+    /**
+     * Get the message digest instance of the given algorithm, which is owned by the current thread.
+     *
+     * @param algorithm hashing algorithm
+     * @return message digest instance
+     * @throws NoSuchAlgorithmException if the algorithm is not supported
+     */
+    private static MessageDigest getMessageDigest(String algorithm) throws NoSuchAlgorithmException {
+        Map<String, MessageDigest> messageDigests = MESSAGE_DIGESTS.get();
+        MessageDigest messageDigest = messageDigests.get(algorithm);
+        if (messageDigest == null) {
+            messageDigest = MessageDigest.getInstance(algorithm);
+            messageDigests.put(algorithm, messageDigest);
+        }
+        return messageDigest;
+    }
+
+    /**
+     * Get the signature instance of the given algorithm, which is owned by the current thread.
+     *
+     * @param algorithm signing algorithm
+     * @return signature instance
+     * @throws NoSuchAlgorithmException if the algorithm is not supported
+     */
+    private static Signature getSignature(String algorithm) throws NoSuchAlgorithmException {
+        Map<String, Signature> signatures = SIGNATURES.get();
+        Signature signature = signatures.get(algorithm);
+        if (signature == null) {
+            signature = Signature.getInstance(algorithm);
+            signatures.put(algorithm, signature);
+        }
+        return signature;
+    }
+
+    /**
+     * Get the cipher instance of the given transformation. Ciphers in GCM mode are not reused, since a GCM cipher
+     * cannot be initialized again for encryption with the same key and IV.
+     *
+     * @param transformation cipher transformation
+     * @param algorithmMode  mode of the transformation
+     * @return cipher instance
+     * @throws NoSuchAlgorithmException if the algorithm is not supported
+     * @throws NoSuchPaddingException   if the padding scheme is not supported
+     */
+    private static Cipher getCipher(String transformation, String algorithmMode)
+            throws NoSuchAlgorithmException, NoSuchPaddingException {
+        if (Constants.GCM.equals(algorithmMode)) {
+            return Cipher.getInstance(transformation);
+        }
+        Map<String, Cipher> ciphers = CIPHERS.get();
+        Cipher cipher = ciphers.get(transformation);
+        if (cipher == null) {
+            cipher = Cipher.getInstance(transformation);
+            ciphers.put(transformation, cipher);
+        }
+        return cipher;
+    }
+
     /**
      * Initialize cipher for encryption and decryption operations.
      *
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.crypto;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.security.Key;
+import java.security.KeyStore;
+import java.security.KeyStoreException;
+import java.security.NoSuchAlgorithmException;
+import java.security.UnrecoverableKeyException;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of the loaded PKCS12 key stores, and the certificates and keys read from them.
+ * <p>
+ * Key stores are cached by the absolute path of the key store file. A cached key store is loaded again if the last
+ * modified time or the size of the file has changed, or if it is accessed with a different password.
+ *
+ * @since 1.0.2
+ */
+public class KeyStoreCache {
+
+    private static final Map<String, CachedKeyStore> keyStores = new ConcurrentHashMap<>();
+
+    private KeyStoreCache() {
+    }
+
+    /**
+     * Returns the key store of the given file, loading the key store if it is not cached or the file has changed.
+     *
+     * @param keyStoreFile key store file
+     * @param password     password of the key store
+     * @return cached key store
+     * @throws IOException              if the key store file cannot be read
+     * @throws KeyStoreException        if the PKCS12 key store type is not available
+     * @throws NoSuchAlgorithmException if the key store integrity check algorithm is not available
+     * @throws CertificateException     if a certificate in the key store cannot be loaded
+     */
+    public static CachedKeyStore getKeyStore(File keyStoreFile, String password)
+            throws IOException, KeyStoreException, NoSuchAlgorithmException, CertificateException {
+        String path = keyStoreFile.getAbsolutePath();
+        long lastModified = keyStoreFile.lastModified();
+        long length = keyStoreFile.length();
+        CachedKeyStore cachedKeyStore = keyStores.get(path);
+        if (cachedKeyStore != null && cachedKeyStore.isValid(password, lastModified, length)) {
+            return cachedKeyStore;
+        }
+        KeyStore keyStore = KeyStore.getInstance(Constants.KEYSTORE_TYPE_PKCS12);
+        try (FileInputStream fileInputStream = new FileInputStream(keyStoreFile)) {
+            keyStore.load(fileInputStream, password.toCharArray());
+        }
+        cachedKeyStore = new CachedKeyStore(keyStore, password, lastModified, length);
+        keyStores.put(path, cachedKeyStore);
+        return cachedKeyStore;
+    }
+
+    /**
+     * A loaded key store along with the certificates and keys read from it.
+     */
+    public static class CachedKeyStore {
+
+        private final KeyStore keyStore;
+        private final String password;
+        private final long lastModified;
+        private final long length;
+        private final Map<String, Certificate> certificates = new ConcurrentHashMap<>();
+        private final Map<String, RecoveredKey> keys = new ConcurrentHashMap<>();
+
+        private CachedKeyStore(KeyStore keyStore, String password, long lastModified, long length) {
+            this.keyStore = keyStore;
+            this.password = password;
+            this.lastModified = lastModified;
+            this.length = length;
+        }
+
+        private boolean isValid(String password, long lastModified, long length) {
+            return this.password.equals(password) && this.lastModified == lastModified && this.length == length;
+        }
+
+        /**
+         * Returns the certificate of the given alias.
+         *
+         * @param alias alias of the certificate
+         * @return the certificate or null if the alias does not exist
+         * @throws KeyStoreException if the key store is not loaded
+         */
+        public Certificate getCertificate(String alias) throws KeyStoreException {
+            Certificate certificate = certificates.get(alias);
+            if (certificate == null) {
+                certificate = keyStore.getCertificate(alias);
+                if (certificate != null) {
+                    certificates.put(alias, certificate);
+                }
+            }
+            return certificate;
+        }
+
+        /**
+         * Returns the key of the given alias, recovering the key with the given password if it is not recovered with
+         * the same password before.
+         *
+         * @param alias       alias of the key
+         * @param keyPassword password for recovering the key
+         * @return the key or null if the alias does not exist
+         * @throws KeyStoreException         if the key store is not loaded
+         * @throws NoSuchAlgorithmException  if the algorithm for recovering the key is not available
+         * @throws UnrecoverableKeyException if the key cannot be recovered
+         */
+        public Key getKey(String alias, String keyPassword)
+                throws KeyStoreException, NoSuchAlgorithmException, UnrecoverableKeyException {
+            RecoveredKey recoveredKey = keys.get(alias);
+            if (recoveredKey != null && recoveredKey.password.equals(keyPassword)) {
+                return recoveredKey.key;
+            }
+            Key key = keyStore.getKey(alias, keyPassword.toCharArray());
+            if (key != null) {
+                keys.put(alias, new RecoveredKey(key, keyPassword));
+            }
+            return key;
+        }
+    }
+
+    /**
+     * A key along with the password which it was recovered with.
+     */
+    private static class RecoveredKey {
+
+        private final Key key;
+        private final String password;
+
+        private RecoveredKey(Key key, String password) {
+            this.key = key;
+            this.password = password;
+        }
+    }
+}
@@ -24,12 +24,11 @@ import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.stdlib.crypto.Constants;
 import org.ballerinalang.stdlib.crypto.CryptoUtils;
+import org.ballerinalang.stdlib.crypto.KeyStoreCache;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.PrivateKey;
@@ -54,17 +53,17 @@ public class DecodePrivateKey {
 
         File keyStoreFile = new File(CryptoUtils.substituteVariables(
                 keyStore.get(Constants.KEY_STORE_RECORD_PATH_FIELD).toString()));
-        try (FileInputStream fileInputStream = new FileInputStream(keyStoreFile)) {
-            KeyStore keystore = KeyStore.getInstance(Constants.KEYSTORE_TYPE_PKCS12);
+        try {
+            KeyStoreCache.CachedKeyStore keystore;
             try {
-                keystore.load(fileInputStream, keyStore.get(Constants.KEY_STORE_RECORD_PASSWORD_FIELD).toString()
-                        .toCharArray());
+                keystore = KeyStoreCache.getKeyStore(keyStoreFile,
+                        keyStore.get(Constants.KEY_STORE_RECORD_PASSWORD_FIELD).toString());
             } catch (NoSuchAlgorithmException e) {
                 return CryptoUtils.createError("Keystore integrity check algorithm is not found: " + e.getMessage());
             }
 
             try {
-                privateKey = (PrivateKey) keystore.getKey(keyAlias, keyPassword.toCharArray());
+                privateKey = (PrivateKey) keystore.getKey(keyAlias, keyPassword);
             } catch (NoSuchAlgorithmException e) {
                 return CryptoUtils.createError("algorithm for key recovery is not found: " + e.getMessage());
             } catch (UnrecoverableKeyException e) {
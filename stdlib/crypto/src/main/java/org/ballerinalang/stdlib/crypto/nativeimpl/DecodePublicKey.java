@@ -25,13 +25,12 @@ import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.stdlib.crypto.Constants;
 import org.ballerinalang.stdlib.crypto.CryptoUtils;
+import org.ballerinalang.stdlib.crypto.KeyStoreCache;
 import org.ballerinalang.stdlib.time.util.TimeUtils;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.security.KeyStore;
 import java.security.KeyStoreException;
 import java.security.NoSuchAlgorithmException;
 import java.security.PublicKey;
@@ -55,11 +54,11 @@ public class DecodePublicKey {
 
         File keyStoreFile = new File(
                 CryptoUtils.substituteVariables(keyStore.get(Constants.KEY_STORE_RECORD_PATH_FIELD).toString()));
-        try (FileInputStream fileInputStream = new FileInputStream(keyStoreFile)) {
-            KeyStore keystore = KeyStore.getInstance(Constants.KEYSTORE_TYPE_PKCS12);
+        try {
+            KeyStoreCache.CachedKeyStore keystore;
             try {
-                keystore.load(fileInputStream, keyStore.get(Constants.KEY_STORE_RECORD_PASSWORD_FIELD).toString()
-                        .toCharArray());
+                keystore = KeyStoreCache.getKeyStore(keyStoreFile,
+                        keyStore.get(Constants.KEY_STORE_RECORD_PASSWORD_FIELD).toString());
             } catch (NoSuchAlgorithmException e) {
                 throw CryptoUtils.createError("Keystore integrity check algorithm is not found: " + e.getMessage());
             }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.crypto;
+
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.Key;
+
+/**
+ * Test cases for the key store cache.
+ *
+ * @since 1.0.2
+ */
+public class KeyStoreCacheTest {
+
+    private Path keyStorePath;
+
+    @BeforeClass
+    public void setup() {
+        keyStorePath = Paths.get("src", "test", "resources", "datafiles", "testKeystore.p12").toAbsolutePath();
+    }
+
+    @Test(description = "Check whether a key store is loaded once for the same file and password.")
+    public void testCachedKeyStore() throws Exception {
+        File keyStoreFile = keyStorePath.toFile();
+        KeyStoreCache.CachedKeyStore keyStore = KeyStoreCache.getKeyStore(keyStoreFile, "ballerina");
+        Assert.assertSame(KeyStoreCache.getKeyStore(keyStoreFile, "ballerina"), keyStore);
+
+        Key key = keyStore.getKey("ballerina", "ballerina");
+        Assert.assertNotNull(key);
+        Assert.assertSame(keyStore.getKey("ballerina", "ballerina"), key);
+        Assert.assertNotNull(keyStore.getCertificate("ballerina"));
+        Assert.assertNull(keyStore.getCertificate("unknown"));
+    }
+
+    @Test(description = "Check whether a key store is not served from the cache for a different password.",
+            expectedExceptions = IOException.class)
+    public void testCachedKeyStoreWithInvalidPassword() throws Exception {
+        KeyStoreCache.getKeyStore(keyStorePath.toFile(), "ballerina");
+        KeyStoreCache.getKeyStore(keyStorePath.toFile(), "invalid");
+    }
+
+    @Test(description = "Check whether a key store is loaded again when the key store file is modified.")
+    public void testModifiedKeyStore() throws Exception {
+        Path copiedKeyStorePath = Files.createTempFile("testKeystore", ".p12");
+        try {
+            Files.copy(keyStorePath, copiedKeyStorePath, StandardCopyOption.REPLACE_EXISTING);
+            File keyStoreFile = copiedKeyStorePath.toFile();
+            KeyStoreCache.CachedKeyStore keyStore = KeyStoreCache.getKeyStore(keyStoreFile, "ballerina");
+
+            Assert.assertTrue(keyStoreFile.setLastModified(keyStoreFile.lastModified() - 10000));
+            KeyStoreCache.CachedKeyStore reloadedKeyStore = KeyStoreCache.getKeyStore(keyStoreFile, "ballerina");
+            Assert.assertNotSame(reloadedKeyStore, keyStore);
+            Assert.assertNotNull(reloadedKeyStore.getKey("ballerina", "ballerina"));
+        } finally {
+            Files.deleteIfExists(copiedKeyStorePath);
+        }
+    }
+}
@@ -33,6 +33,7 @@ import org.ballerinalang.jvm.values.MapValueImpl;
 import org.ballerinalang.jvm.values.utils.StringUtils;
 
 import java.io.IOException;
+import java.util.IdentityHashMap;
 import java.util.Map;
 
 import static org.ballerinalang.net.grpc.builder.utils.BalGenerationUtils.toCamelCase;
@@ -43,6 +44,11 @@ import static org.ballerinalang.net.grpc.builder.utils.BalGenerationUtils.toCame
  * @since 1.0.0
  */
 public class Message {
+    private static final BArrayType FLOAT_ARRAY_TYPE = new BArrayType(BTypes.typeFloat);
+    private static final BArrayType INT_ARRAY_TYPE = new BArrayType(BTypes.typeInt);
+    private static final BArrayType BOOLEAN_ARRAY_TYPE = new BArrayType(BTypes.typeBoolean);
+    private static final BArrayType STRING_ARRAY_TYPE = new BArrayType(BTypes.typeString);
+
     private String messageName;
     private int memoizedSize = -1;
     private HttpHeaders headers;
@@ -51,6 +57,11 @@ public class Message {
 
     private boolean isError = false;
     private Throwable error;
+    /**
+     * Nested messages of this message, created while computing the serialized size so that their sizes are not
+     * computed again while writing the message.
+     */
+    private Map<Object, Message> nestedMessages;
 
     public Message(String messageName, Object bMessage) {
         this.messageName = messageName;
@@ -58,6 +69,12 @@ public class Message {
         this.descriptor = MessageRegistry.getInstance().getMessageDescriptor(messageName);
     }
 
+    private Message(Descriptors.Descriptor descriptor, Object bMessage) {
+        this.messageName = descriptor.getName();
+        this.bMessage = bMessage;
+        this.descriptor = descriptor;
+    }
+
     private Message(String messageName) {
         this.messageName = messageName;
     }
@@ -111,12 +128,7 @@ public class Message {
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_DOUBLE_VALUE: {
                         if (bMapValue != null) {
                             if (fieldDescriptor.isRepeated()) {
-                                ArrayValue floatArray = new ArrayValue(new BArrayType(BTypes.typeFloat));
-                                if (bMapValue.containsKey(name)) {
-                                    floatArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, floatArray);
-                                }
+                                ArrayValue floatArray = getRepeatedFieldArray(bMapValue, name, FLOAT_ARRAY_TYPE);
                                 floatArray.add(floatArray.size(), input.readDouble());
                             } else if (fieldDescriptor.getContainingOneof() != null) {
                                 updateBMapValue(bType, bMapValue, fieldDescriptor, input.readDouble());
@@ -131,12 +143,7 @@ public class Message {
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FLOAT_VALUE: {
                         if (bMapValue != null) {
                             if (fieldDescriptor.isRepeated()) {
-                                ArrayValue floatArray = new ArrayValue(new BArrayType(BTypes.typeFloat));
-                                if (bMapValue.containsKey(name)) {
-                                    floatArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, floatArray);
-                                }
+                                ArrayValue floatArray = getRepeatedFieldArray(bMapValue, name, FLOAT_ARRAY_TYPE);
                                 floatArray.add(floatArray.size(),
                                         Double.parseDouble(String.valueOf(input.readFloat())));
                             } else if (fieldDescriptor.getContainingOneof() != null) {
@@ -153,12 +160,7 @@ public class Message {
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT64_VALUE: {
                         if (bMapValue != null) {
                             if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = new ArrayValue(new BArrayType(BTypes.typeInt));
-                                if (bMapValue.containsKey(name)) {
-                                    intArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, intArray);
-                                }
+                                ArrayValue intArray = getRepeatedFieldArray(bMapValue, name, INT_ARRAY_TYPE);
                                 intArray.add(intArray.size(), input.readInt64());
                             } else if (fieldDescriptor.getContainingOneof() != null) {
                                 updateBMapValue(bType, bMapValue, fieldDescriptor, input.readInt64());
@@ -173,12 +175,7 @@ public class Message {
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_UINT64_VALUE: {
                         if (bMapValue != null) {
                             if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = new ArrayValue(new BArrayType(BTypes.typeInt));
-                                if (bMapValue.containsKey(name)) {
-                                    intArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, intArray);
-                                }
+                                ArrayValue intArray = getRepeatedFieldArray(bMapValue, name, INT_ARRAY_TYPE);
                                 intArray.add(intArray.size(), input.readUInt64());
                             } else if (fieldDescriptor.getContainingOneof() != null) {
                                 updateBMapValue(bType, bMapValue, fieldDescriptor, input.readUInt64());
@@ -193,12 +190,7 @@ public class Message {
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_INT32_VALUE: {
                         if (bMapValue != null) {
                             if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = new ArrayValue(new BArrayType(BTypes.typeInt));
-                                if (bMapValue.containsKey(name)) {
-                                    intArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, intArray);
-                                }
+                                ArrayValue intArray = getRepeatedFieldArray(bMapValue, name, INT_ARRAY_TYPE);
                                 intArray.add(intArray.size(), input.readInt32());
                             } else if (fieldDescriptor.getContainingOneof() != null) {
                                 updateBMapValue(bType, bMapValue, fieldDescriptor, input.readInt32());
@@ -213,12 +205,7 @@ public class Message {
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED64_VALUE: {
                         if (bMapValue != null) {
                             if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = new ArrayValue(new BArrayType(BTypes.typeInt));
-                                if (bMapValue.containsKey(name)) {
-                                    intArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, intArray);
-                                }
+                                ArrayValue intArray = getRepeatedFieldArray(bMapValue, name, INT_ARRAY_TYPE);
                                 intArray.add(intArray.size(), input.readFixed64());
                             } else if (fieldDescriptor.getContainingOneof() != null) {
                                 updateBMapValue(bType, bMapValue, fieldDescriptor, input.readFixed64());
@@ -233,12 +220,7 @@ public class Message {
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_FIXED32_VALUE: {
                         if (bMapValue != null) {
                             if (fieldDescriptor.isRepeated()) {
-                                ArrayValue intArray = new ArrayValue(new BArrayType(BTypes.typeInt));
-                                if (bMapValue.containsKey(name)) {
-                                    intArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, intArray);
-                                }
+                                ArrayValue intArray = getRepeatedFieldArray(bMapValue, name, INT_ARRAY_TYPE);
                                 intArray.add(intArray.size(), input.readFixed32());
                             } else if (fieldDescriptor.getContainingOneof() != null) {
                                 updateBMapValue(bType, bMapValue, fieldDescriptor, input.readFixed32());
@@ -253,12 +235,7 @@ public class Message {
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_BOOL_VALUE: {
                         if (bMapValue != null) {
                             if (fieldDescriptor.isRepeated()) {
-                                ArrayValue booleanArray = new ArrayValue(new BArrayType(BTypes.typeBoolean));
-                                if (bMapValue.containsKey(name)) {
-                                    booleanArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, booleanArray);
-                                }
+                                ArrayValue booleanArray = getRepeatedFieldArray(bMapValue, name, BOOLEAN_ARRAY_TYPE);
                                 booleanArray.add(booleanArray.size(), input.readBool());
                             } else if (fieldDescriptor.getContainingOneof() != null) {
                                 updateBMapValue(bType, bMapValue, fieldDescriptor, input.readBool());
@@ -273,14 +250,8 @@ public class Message {
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_STRING_VALUE: {
                         if (bMapValue != null) {
                             if (fieldDescriptor.isRepeated()) {
-                                ArrayValue stringArray = new ArrayValue(new BArrayType(BTypes.typeString));
-                                if (bMapValue.containsKey(name)) {
-                                    stringArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, stringArray);
-                                }
+                                ArrayValue stringArray = getRepeatedFieldArray(bMapValue, name, STRING_ARRAY_TYPE);
                                 stringArray.add(stringArray.size(), input.readStringRequireUtf8());
-                                bMapValue.put(name, stringArray);
                             } else if (fieldDescriptor.getContainingOneof() != null) {
                                 updateBMapValue(bType, bMapValue, fieldDescriptor, input.readStringRequireUtf8());
                             } else {
@@ -294,15 +265,9 @@ public class Message {
                     case DescriptorProtos.FieldDescriptorProto.Type.TYPE_ENUM_VALUE: {
                         if (bMapValue != null) {
                             if (fieldDescriptor.isRepeated()) {
-                                ArrayValue stringArray = new ArrayValue(new BArrayType(BTypes.typeString));
-                                if (bMapValue.containsKey(name)) {
-                                    stringArray = (ArrayValue) bMapValue.get(name);
-                                } else {
-                                    bMapValue.put(name, stringArray);
-                                }
+                                ArrayValue stringArray = getRepeatedFieldArray(bMapValue, name, STRING_ARRAY_TYPE);
                                 stringArray.add(stringArray.size(), fieldDescriptor.getEnumType().findValueByNumber
                                         (input.readEnum()).toString());
-                                bMapValue.put(name, stringArray);
                             } else if (fieldDescriptor.getContainingOneof() != null) {
                                 Object bValue = fieldDescriptor.getEnumType().findValueByNumber(input
                                         .readEnum()).toString();
@@ -371,6 +336,15 @@ public class Message {
         }
     }
 
+    private ArrayValue getRepeatedFieldArray(MapValue<String, Object> bMapValue, String name, BArrayType arrayType) {
+        ArrayValue valueArray = (ArrayValue) bMapValue.get(name);
+        if (valueArray == null) {
+            valueArray = new ArrayValue(arrayType);
+            bMapValue.put(name, valueArray);
+        }
+        return valueArray;
+    }
+
     private void updateBMapValue(BType bType, MapValue<String, Object> bMapValue,
                                  Descriptors.FieldDescriptor fieldDescriptor, Object bValue) {
         MapValue<String, Object> bMsg = getOneOfBValue(bType, fieldDescriptor, bValue);
@@ -618,15 +592,13 @@ public class Message {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                Message message = new Message(fieldDescriptor.getMessageType().getName(),
-                                        valueArray.getRefValue(i));
+                                Message message = getNestedMessage(fieldDescriptor, valueArray.getRefValue(i));
                                 output.writeTag(fieldDescriptor.getNumber(), WireFormat.WIRETYPE_LENGTH_DELIMITED);
                                 output.writeUInt32NoTag(message.getSerializedSize());
                                 message.writeTo(output);
                             }
                         } else {
-                            Message message = new Message(fieldDescriptor.getMessageType().getName(),
-                                    bValue);
+                            Message message = getNestedMessage(fieldDescriptor, bValue);
                             output.writeTag(fieldDescriptor.getNumber(), WireFormat.WIRETYPE_LENGTH_DELIMITED);
                             output.writeUInt32NoTag(message.getSerializedSize());
                             message.writeTo(output);
@@ -634,7 +606,7 @@ public class Message {
                     } else if (isOneofField(bMapValue, fieldDescriptor)) {
                         Object bValue = getOneofFieldMap(bMapValue, fieldDescriptor);
                         if (hasOneofFieldValue(fieldDescriptor.getName(), bValue)) {
-                            Message message = new Message(fieldDescriptor.getMessageType().getName(),
+                            Message message = getNestedMessage(fieldDescriptor,
                                     ((MapValue) bValue).get(fieldDescriptor.getName()));
                             output.writeTag(fieldDescriptor.getNumber(), WireFormat.WIRETYPE_LENGTH_DELIMITED);
                             output.writeUInt32NoTag(message.getSerializedSize());
@@ -950,19 +922,17 @@ public class Message {
                         if (bValue instanceof ArrayValue) {
                             ArrayValue valueArray = (ArrayValue) bValue;
                             for (int i = 0; i < valueArray.size(); i++) {
-                                MapValue<String, Object> value = (MapValue) valueArray.getRefValue(i);
-                                Message message = new Message(fieldDescriptor.getMessageType().getName(), value);
+                                Message message = getNestedMessage(fieldDescriptor, valueArray.getRefValue(i));
                                 size += computeMessageSize(fieldDescriptor, message);
                             }
                         } else {
-                            Message message = new Message(fieldDescriptor.getMessageType().getName(),
-                                    bValue);
+                            Message message = getNestedMessage(fieldDescriptor, bValue);
                             size += computeMessageSize(fieldDescriptor, message);
                         }
                     } else if (isOneofField(bMapValue, fieldDescriptor)) {
                         Object bValue = getOneofFieldMap(bMapValue, fieldDescriptor);
                         if (hasOneofFieldValue(fieldDescriptor.getName(), bValue)) {
-                            Message message = new Message(fieldDescriptor.getMessageType().getName(),
+                            Message message = getNestedMessage(fieldDescriptor,
                                     ((MapValue) bValue).get(fieldDescriptor.getName()));
                             size += computeMessageSize(fieldDescriptor, message);
                         }
@@ -1023,6 +993,26 @@ public class Message {
         return (bValue instanceof MapValue) && ((MapValue) bValue).containsKey(fieldName);
     }
 
+    /**
+     * Returns the message of a nested message value. The same message is returned for a value on each call, hence
+     * the serialized size of a nested message is computed only once.
+     *
+     * @param fieldDescriptor descriptor of the message field
+     * @param bValue          nested message value
+     * @return nested message
+     */
+    private Message getNestedMessage(Descriptors.FieldDescriptor fieldDescriptor, Object bValue) {
+        if (nestedMessages == null) {
+            nestedMessages = new IdentityHashMap<>();
+        }
+        Message message = nestedMessages.get(bValue);
+        if (message == null || message.descriptor != fieldDescriptor.getMessageType()) {
+            message = new Message(fieldDescriptor.getMessageType(), bValue);
+            nestedMessages.put(bValue, message);
+        }
+        return message;
+    }
+
     private int computeMessageSize(Descriptors.FieldDescriptor fieldDescriptor, Message message) {
         return CodedOutputStream.computeTagSize(fieldDescriptor
                 .getNumber()) + CodedOutputStream.computeUInt32SizeNoTag
@@ -1047,7 +1037,7 @@ public class Message {
                                 final CodedInputStream in) throws IOException {
         int length = in.readRawVarint32();
         final int oldLimit = in.pushLimit(length);
-        Message result = new MessageParser(fieldDescriptor.getMessageType().getName(), bType).parseFrom(in);
+        Message result = new MessageParser(fieldDescriptor.getMessageType(), bType).parseFrom(in);
         in.popLimit(oldLimit);
         return result;
     }
@@ -22,6 +22,7 @@ import org.ballerinalang.jvm.types.BType;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Proto Message Parser.
@@ -30,6 +31,13 @@ import java.util.Map;
  */
 public class MessageParser {
 
+    /**
+     * Field descriptors of the messages keyed by the tag value of each field. Since parsers are created for each
+     * nested message, the field descriptors of a message are computed only once and shared by the parsers.
+     */
+    private static final Map<Descriptors.Descriptor, Map<Integer, Descriptors.FieldDescriptor>> FIELD_TAG_VALUES =
+            new ConcurrentHashMap<>();
+
     private final String messageName;
     private final BType bType;
     private final Map<Integer, Descriptors.FieldDescriptor> fieldDescriptors;
@@ -37,7 +45,14 @@ public class MessageParser {
     public MessageParser(String messageName, BType bType) {
         this.messageName = messageName;
         this.bType = bType;
-        this.fieldDescriptors = computeFieldTagValues();
+        this.fieldDescriptors = getFieldTagValues(
+                MessageRegistry.getInstance().getMessageDescriptor(messageName));
+    }
+
+    MessageParser(Descriptors.Descriptor messageDescriptor, BType bType) {
+        this.messageName = messageDescriptor.getName();
+        this.bType = bType;
+        this.fieldDescriptors = getFieldTagValues(messageDescriptor);
     }
 
     /**
@@ -57,9 +72,14 @@ public class MessageParser {
         return new Message(messageName, null);
     }
 
-    private Map<Integer, Descriptors.FieldDescriptor> computeFieldTagValues() {
+    private static Map<Integer, Descriptors.FieldDescriptor> getFieldTagValues(
+            Descriptors.Descriptor messageDescriptor) {
+        return FIELD_TAG_VALUES.computeIfAbsent(messageDescriptor, MessageParser::computeFieldTagValues);
+    }
+
+    private static Map<Integer, Descriptors.FieldDescriptor> computeFieldTagValues(
+            Descriptors.Descriptor messageDescriptor) {
         Map<Integer, Descriptors.FieldDescriptor> fieldDescriptors = new HashMap<>();
-        Descriptors.Descriptor messageDescriptor = MessageRegistry.getInstance().getMessageDescriptor(messageName);
         for (Descriptors.FieldDescriptor fieldDescriptor : messageDescriptor.getFields()) {
             Descriptors.FieldDescriptor.Type fieldType = fieldDescriptor.getType();
             int number = fieldDescriptor.getNumber();
@@ -16,6 +16,7 @@
 
 import ballerina/cache;
 import ballerina/log;
+import ballerina/time;
 
 # Implements a cache for storing HTTP responses. This cache complies with the caching policy set when configuring
 # HTTP caching in the HTTP client endpoint.
@@ -25,11 +26,16 @@ import ballerina/log;
 #            `CACHE_CONTROL_AND_VALIDATORS`. The default behaviour is to allow caching only when the `cache-control`
 #            header and either the `etag` or `last-modified` header are present.
 # + isShared - Specifies whether the HTTP caching layer should behave as a public cache or a private cache
+# + coalesceRequests - Specifies whether identical concurrent requests for a resource missing in the cache share a
+#                      single request to the origin server
+# + inFlightRequests - The requests sent to the origin server on cache misses, which are yet to complete
 public type HttpCache object {
 
     public cache:Cache cache;
     public CachingPolicy policy = CACHE_CONTROL_AND_VALIDATORS;
     public boolean isShared = false;
+    boolean coalesceRequests = false;
+    map<future<Response|ClientError>> inFlightRequests = {};
 
     # Creates the HTTP cache.
     #
@@ -38,6 +44,7 @@ public type HttpCache object {
             self.cache = new cache:Cache(cacheConfig.expiryTimeInMillis, cacheConfig.capacity, cacheConfig.evictionFactor);
             self.policy = cacheConfig.policy;
             self.isShared = cacheConfig.isShared;
+            self.coalesceRequests = cacheConfig.coalesceRequests;
     }
 
     function isAllowedToCache(Response response) returns boolean {
@@ -150,6 +157,34 @@ public type HttpCache object {
     function remove (string key) {
         self.cache.remove(key);
     }
+
+    // Returns the request in flight for the given key, sending a new one to the origin server if there is none. The
+    // lookup and the send are done under the same lock, so only one request is sent per key. The boolean in the
+    // returned tuple is true if the request was sent by this call.
+    function getOrSendInFlightRequest(HttpClient httpClient, @tainted Request req, time:Time currentT, string path,
+                                      string httpMethod, boolean forwardRequest, string flightKey)
+                                                                returns [future<Response|ClientError>, boolean] {
+        future<Response|ClientError>? inFlightRequest = ();
+        boolean sent = false;
+        lock {
+            inFlightRequest = self.inFlightRequests[flightKey];
+            if (inFlightRequest is ()) {
+                future<Response|ClientError> newRequest = start sendInFlightRequest(self, httpClient, req, currentT,
+                                                                                    path, httpMethod, forwardRequest,
+                                                                                    flightKey);
+                self.inFlightRequests[flightKey] = newRequest;
+                inFlightRequest = newRequest;
+                sent = true;
+            }
+        }
+        return [<future<Response|ClientError>> inFlightRequest, sent];
+    }
+
+    function removeInFlightRequest(string flightKey) {
+        lock {
+            _ = self.inFlightRequests.remove(flightKey);
+        }
+    }
 };
 
 function isCacheableStatusCode(int statusCode) returns boolean {
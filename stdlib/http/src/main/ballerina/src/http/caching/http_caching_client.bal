@@ -37,6 +37,11 @@ const string PUT = "PUT";
 const string PATCH = "PATCH";
 const string HEAD = "HEAD";
 
+// Request headers which select the representation of a resource. Requests are coalesced only if these are the same.
+const string ACCEPT = "accept";
+const string ACCEPT_ENCODING = "accept-encoding";
+const string ACCEPT_LANGUAGE = "accept-language";
+
 # Used for configuring the caching behaviour. Setting the `policy` field in the `CacheConfig` record allows
 # the user to control the caching behaviour.
 public type CachingPolicy CACHE_CONTROL_AND_VALIDATORS|RFC_7234;
@@ -59,6 +64,10 @@ public const RFC_7234 = "RFC_7234";
 # + policy - Gives the user some control over the caching behaviour. By default, this is set to
 #            `CACHE_CONTROL_AND_VALIDATORS`. The default behaviour is to allow caching only when the `cache-control`
 #            header and either the `etag` or `last-modified` header are present.
+# + coalesceRequests - Specifies whether identical concurrent requests for a resource missing in the cache should
+#                      wait on a single request to the origin server, instead of each of them being sent to the origin
+#                      server. When enabled, stale responses served without validation are also refreshed in the
+#                      background.
 public type CacheConfig record {|
     boolean enabled = true;
     boolean isShared = false;
@@ -66,6 +75,7 @@ public type CacheConfig record {|
     int capacity = 8388608; // 8MB
     float evictionFactor = 0.2;
     CachingPolicy policy = CACHE_CONTROL_AND_VALIDATORS;
+    boolean coalesceRequests = false;
 |};
 
 # An HTTP caching client implementation which takes an `HttpActions` instance and wraps it with an HTTP caching layer.
@@ -367,6 +377,9 @@ function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Requ
             if (!isNoCacheSet(reqCache, resCache) && !req.hasHeader(PRAGMA)) {
                 log:printDebug("Serving cached stale response without validating with the origin server");
                 cachedResponse.setHeader(WARNING, WARNING_110_RESPONSE_IS_STALE);
+                if (cache.coalesceRequests && httpMethod == GET && !forwardRequest) {
+                    refreshInBackground(cache, httpClient, req, path);
+                }
                 return cachedResponse;
             }
         }
@@ -387,9 +400,20 @@ function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Requ
         });
     }
 
+    RequestCacheControl? reqCache = req.cacheControl;
+    if (cache.coalesceRequests && !(reqCache is RequestCacheControl && reqCache.noStore)) {
+        return getCoalescedResponse(cache, httpClient, req, currentT, path, httpMethod, forwardRequest);
+    }
+
     log:printDebug(function() returns string {
         return "Sending new request to: " + path;
     });
+    return sendNewCacheableRequest(cache, httpClient, req, currentT, path, httpMethod, forwardRequest);
+}
+
+function sendNewCacheableRequest(HttpCache cache, HttpClient httpClient, @tainted Request req, time:Time currentT,
+                                 string path, string httpMethod, boolean forwardRequest)
+                                                                                returns @tainted Response|ClientError {
     var response = sendNewRequest(httpClient, req, path, httpMethod, forwardRequest);
     if (response is Response) {
         if (cache.isAllowedToCache(response)) {
@@ -401,6 +425,77 @@ function getCachedResponse(HttpCache cache, HttpClient httpClient, @tainted Requ
     return response;
 }
 
+// Waits on the request in flight for the same resource, sending one if there is none. The request in flight stores
+// its response in the cache before it completes, so the requests waiting on it are served from the cache. They are
+// sent to the origin server on their own only if the response could not be cached.
+function getCoalescedResponse(HttpCache cache, HttpClient httpClient, @tainted Request req, time:Time currentT,
+                              string path, string httpMethod, boolean forwardRequest)
+                                                                                returns @tainted Response|ClientError {
+    string flightKey = getFlightKey(req, httpMethod, path);
+    var [inFlightRequest, sentByThisRequest] = cache.getOrSendInFlightRequest(httpClient, req, currentT, path,
+                                                                              httpMethod, forwardRequest, flightKey);
+    if (sentByThisRequest) {
+        log:printDebug(function() returns string {
+            return "Sending new request to: " + path;
+        });
+    }
+
+    var response = wait inFlightRequest;
+    if (sentByThisRequest || response is ClientError) {
+        return response;
+    }
+
+    log:printDebug(function() returns string {
+        return "Request in flight completed for: '" + httpMethod + " " + path + "'";
+    });
+    if (cache.hasKey(getCacheKey(httpMethod, path))) {
+        return getCachedResponse(cache, httpClient, req, httpMethod, path, cache.isShared, forwardRequest);
+    }
+    return sendNewRequest(httpClient, req, path, httpMethod, forwardRequest);
+}
+
+function sendInFlightRequest(HttpCache cache, HttpClient httpClient, @tainted Request req, time:Time currentT,
+                             string path, string httpMethod, boolean forwardRequest, string flightKey)
+                                                                                returns @tainted Response|ClientError {
+    var response = sendNewCacheableRequest(cache, httpClient, req, currentT, path, httpMethod, forwardRequest);
+    cache.removeInFlightRequest(flightKey);
+    return response;
+}
+
+// Refreshes a stale response in the cache, unless a request for the same resource is already in flight. The refresh
+// request carries the content negotiation headers of the request which triggered it, so that it fetches the same
+// representation. A private cache also passes on the credentials of its user.
+function refreshInBackground(HttpCache cache, HttpClient httpClient, Request req, string path) {
+    Request refreshRequest = new;
+    string[] copiedHeaders = cache.isShared ? [ACCEPT, ACCEPT_ENCODING, ACCEPT_LANGUAGE] :
+                                              [ACCEPT, ACCEPT_ENCODING, ACCEPT_LANGUAGE, AUTHORIZATION];
+    foreach var header in copiedHeaders {
+        if (req.hasHeader(header)) {
+            foreach var value in req.getHeaders(header) {
+                refreshRequest.addHeader(header, value);
+            }
+        }
+    }
+    string flightKey = getFlightKey(refreshRequest, GET, path);
+    var [_, sent] = cache.getOrSendInFlightRequest(httpClient, refreshRequest, time:currentTime(), path, GET, false,
+                                                   flightKey);
+    if (sent) {
+        log:printDebug(function() returns string {
+            return "Refreshing the stale response for '" + path + "' in the background";
+        });
+    }
+}
+
+function getFlightKey(Request req, string httpMethod, string path) returns string {
+    string flightKey = getCacheKey(httpMethod, path);
+    foreach var header in [ACCEPT, ACCEPT_ENCODING, ACCEPT_LANGUAGE] {
+        if (req.hasHeader(header)) {
+            flightKey = flightKey + "\n" + header + ": " + req.getHeader(header);
+        }
+    }
+    return flightKey;
+}
+
 function isNoCacheSet(RequestCacheControl? reqCC, ResponseCacheControl? resCC) returns boolean {
     if (reqCC is RequestCacheControl && reqCC.noCache) {
         return true;
@@ -0,0 +1,65 @@
+// Copyright (c) 2019 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+# Implementation of the least outstanding requests load balancing strategy. Of two randomly picked HTTP clients, the
+# one with fewer requests in flight is chosen, skipping the endpoints ejected as outliers.
+#
+# + outlierEjection - The configurations for ejecting outlier endpoints
+public type LoadBalancerLeastOutstandingRule object {
+
+    *LoadBalancerFeedbackRule;
+
+    public OutlierEjectionConfig outlierEjection;
+
+    # Initializes the rule.
+    #
+    # + outlierEjection - The configurations for ejecting outlier endpoints
+    public function __init(OutlierEjectionConfig outlierEjection = {}) {
+        self.outlierEjection = outlierEjection;
+    }
+
+    # Provides an HTTP client which is chosen according to the least outstanding requests algorithm.
+    #
+    # + loadBalanceCallerActionsArray - Array of HTTP clients which needs to be load balanced
+    # + return - Chosen `Client` from the algorithm or an `http:ClientError` for a failure in
+    #            the algorithm implementation
+    public function getNextClient(Client?[] loadBalanceCallerActionsArray) returns Client|ClientError {
+        return nativeGetNextAdaptiveClient(self, loadBalanceCallerActionsArray, false, 0, self.outlierEjection, []);
+    }
+
+    # Provides an HTTP client which is chosen according to the least outstanding requests algorithm, other than the
+    # given clients.
+    #
+    # + loadBalanceCallerActionsArray - Array of HTTP clients which needs to be load balanced
+    # + excludedClients - The HTTP clients which are not to be chosen, unless all the clients are excluded
+    # + return - Chosen `Client` from the algorithm or an `http:ClientError` for a failure in
+    #            the algorithm implementation
+    public function getNextClientExcluding(Client?[] loadBalanceCallerActionsArray, Client[] excludedClients)
+                                           returns Client|ClientError {
+        return nativeGetNextAdaptiveClient(self, loadBalanceCallerActionsArray, false, 0, self.outlierEjection,
+                                           excludedClients);
+    }
+
+    # Records the result of a request sent through an HTTP client chosen by the rule.
+    #
+    # + httpClient - The HTTP client through which the request was sent
+    # + latencyInNanos - The time taken by the request in nanoseconds
+    # + failed - Whether the request failed or received a server error response
+    public function onResult(Client httpClient, int latencyInNanos, boolean failed) {
+        nativeRecordAdaptiveResult(self, httpClient, latencyInNanos, failed);
+    }
+};
@@ -26,3 +26,50 @@ public type LoadBalancerRule abstract object {
     #            for the failure in the algorithm implementation
     public function getNextClient(Client?[] loadBalanceCallerActionsArray) returns Client|ClientError;
 };
+
+# LoadBalancerFeedbackRule is a `LoadBalancerRule` which chooses the HTTP clients based on the results of the
+# previous requests. The `LoadBalanceClient` reports the result of every request sent through a client chosen by
+# such a rule.
+public type LoadBalancerFeedbackRule abstract object {
+
+    *LoadBalancerRule;
+
+    # Records the result of a request sent through an HTTP client chosen by the rule.
+    #
+    # + httpClient - The HTTP client through which the request was sent
+    # + latencyInNanos - The time taken by the request in nanoseconds
+    # + failed - Whether the request failed or received a server error response
+    public function onResult(Client httpClient, int latencyInNanos, boolean failed);
+
+    # Provides an HTTP client which is chosen according to the algorithm, other than the given clients. Used to fail
+    # over a request to the HTTP clients which it was not sent through yet.
+    #
+    # + loadBalanceCallerActionsArray - Array of HTTP clients which needs to be load balanced
+    # + excludedClients - The HTTP clients which are not to be chosen, unless all the clients are excluded
+    # + return - Chosen `Client` from the algorithm or an `http:ClientError`
+    #            for the failure in the algorithm implementation
+    public function getNextClientExcluding(Client?[] loadBalanceCallerActionsArray, Client[] excludedClients)
+                                           returns Client|ClientError;
+};
+
+# Provides a set of configurations for ejecting the endpoints which behave as outliers from load balancing.
+#
+# + consecutiveFailures - The number of consecutive failures after which an endpoint is ejected. An endpoint is not
+#                         ejected for its failures if this is 0.
+# + ejectionTimeInMillis - The time for which an ejected endpoint does not receive requests
+# + maxEjectionPercentage - The maximum percentage of the endpoints which can be ejected at a time
+# + latencyFactor - The factor of the average latency of the other endpoints beyond which an endpoint is ejected.
+#                   An endpoint is not ejected for its latency if this is 0.
+public type OutlierEjectionConfig record {|
+    int consecutiveFailures = 5;
+    int ejectionTimeInMillis = 30000;
+    float maxEjectionPercentage = 50.0;
+    float latencyFactor = 0.0;
+|};
+
+function nativeGetNextAdaptiveClient(LoadBalancerFeedbackRule lbRule, Client?[] loadBalanceClientsArray,
+                                     boolean peakEwma, int decayTimeInMillis, OutlierEjectionConfig outlierEjection,
+                                     Client[] excludedClients) returns Client|ClientError = external;
+
+function nativeRecordAdaptiveResult(LoadBalancerFeedbackRule lbRule, Client httpClient, int latencyInNanos,
+                                    boolean failed) = external;
@@ -15,6 +15,7 @@
 // under the License.
 
 import ballerina/mime;
+import ballerina/time;
 
 # LoadBalanceClient endpoint provides load balancing functionality over multiple HTTP clients.
 #
@@ -256,10 +257,20 @@ function performLoadBalanceAction(LoadBalanceClient lb, string path, Request req
         }
     }
 
+    Client[] failedClients = [];
     while (loadBalanceTermination < lb.loadBalanceClientsArray.length()) {
-        var loadBalanceClient = lb.lbRule.getNextClient(lb.loadBalanceClientsArray);
+        LoadBalancerRule lbRule = lb.lbRule;
+        Client|ClientError loadBalanceClient;
+        if (lbRule is LoadBalancerFeedbackRule && failedClients.length() > 0) {
+            // Fails over to the endpoints on which the request did not fail yet
+            loadBalanceClient = lbRule.getNextClientExcluding(lb.loadBalanceClientsArray, failedClients);
+        } else {
+            loadBalanceClient = lbRule.getNextClient(lb.loadBalanceClientsArray);
+        }
         if (loadBalanceClient is Client) {
+            int startTime = time:nanoTime();
             var serviceResponse = invokeEndpoint(path, request, requestAction, loadBalanceClient);
+            recordLoadBalanceResult(lb.lbRule, loadBalanceClient, startTime, serviceResponse);
             if (serviceResponse is Response) {
                 return serviceResponse;
             } else if (serviceResponse is HttpFuture) {
@@ -268,6 +279,7 @@ function performLoadBalanceAction(LoadBalanceClient lb, string path, Request req
                 if (lb.failover) {
                     loadBalancerInRequest = check createFailoverRequest(loadBalancerInRequest, requestEntity);
                     loadBalanceActionErrorData.httpActionErr[lbErrorIndex] = serviceResponse;
+                    failedClients[lbErrorIndex] = loadBalanceClient;
                     lbErrorIndex += 1;
                     loadBalanceTermination = loadBalanceTermination + 1;
                 } else {
@@ -281,6 +293,18 @@ function performLoadBalanceAction(LoadBalanceClient lb, string path, Request req
     return populateGenericLoadBalanceActionError(loadBalanceActionErrorData);
 }
 
+// Reports the result of a request to the load balancing rule, if the rule chooses clients based on the results.
+function recordLoadBalanceResult(LoadBalancerRule lbRule, Client loadBalanceClient, int startTime,
+                                 HttpResponse|ClientError serviceResponse) {
+    if (lbRule is LoadBalancerFeedbackRule) {
+        boolean failed = true;
+        if (serviceResponse is Response) {
+            failed = serviceResponse.statusCode >= 500;
+        }
+        lbRule.onResult(loadBalanceClient, time:nanoTime() - startTime, failed);
+    }
+}
+
 // Populates generic error specific to Load Balance connector by including all the errors returned from endpoints.
 function populateGenericLoadBalanceActionError(LoadBalanceActionErrorData loadBalanceActionErrorData)
                                                     returns ClientError {
@@ -318,7 +342,9 @@ function populateGenericLoadBalanceActionError(LoadBalanceActionErrorData loadBa
 # + auth - Configurations related to the HTTP authentication.
 # + circuitBreaker - Circuit Breaker configuration
 # + retryConfig - Retry related options
-# + lbRule - LoadBalancing rule
+# + lbRule - LoadBalancing rule. The round robin rule is used if no rule is given. The
+#            `LoadBalancerLeastOutstandingRule` and the `LoadBalancerPeakEwmaRule` balance the load based on the load
+#            and latency of the endpoints
 # + failover - Configuration for load balancer whether to fail over in case of a failure
 public type LoadBalanceClientConfiguration record {|
     string httpVersion = HTTP_1_1;
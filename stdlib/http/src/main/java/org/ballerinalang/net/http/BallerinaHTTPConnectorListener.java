@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.net.http;
 
+import org.ballerinalang.jvm.observability.AllocationTracker;
 import org.ballerinalang.jvm.observability.ObservabilityConstants;
 import org.ballerinalang.jvm.observability.ObserveUtils;
 import org.ballerinalang.jvm.observability.ObserverContext;
@@ -94,6 +95,7 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
 
     protected void extractPropertiesAndStartResourceExecution(HttpCarbonMessage inboundMessage,
                                                               HttpResource httpResource) {
+        long allocatedSince = AllocationTracker.getAllocatedBytes();
         boolean isTransactionInfectable = httpResource.isTransactionInfectable();
         boolean isInterruptible = httpResource.isInterruptible();
         Map<String, Object> properties = collectRequestProperties(inboundMessage, isTransactionInfectable,
@@ -106,15 +108,26 @@ public class BallerinaHTTPConnectorListener implements HttpConnectorListener {
             Map<String, String> httpHeaders = new HashMap<>();
             inboundMessage.getHeaders().forEach(entry -> httpHeaders.put(entry.getKey(), entry.getValue()));
             observerContext.addProperty(PROPERTY_TRACE_PROPERTIES, httpHeaders);
-            observerContext.addTag(TAG_KEY_HTTP_METHOD, inboundMessage.getHttpMethod());
-            observerContext.addTag(TAG_KEY_PROTOCOL, (String) inboundMessage.getProperty(HttpConstants.PROTOCOL));
-            observerContext.addTag(TAG_KEY_HTTP_URL, inboundMessage.getRequestUrl());
+            observerContext.setServiceName(httpResource.getParentService().getName());
+            if (ObserveUtils.isMetricsEnabled() || ObserveUtils.sampleTrace(observerContext)) {
+                observerContext.addTag(TAG_KEY_HTTP_METHOD, inboundMessage.getHttpMethod());
+                observerContext.addTag(TAG_KEY_PROTOCOL, (String) inboundMessage.getProperty(HttpConstants.PROTOCOL));
+                observerContext.addTag(TAG_KEY_HTTP_URL, inboundMessage.getRequestUrl());
+            }
             properties.put(ObservabilityConstants.KEY_OBSERVER_CONTEXT, observerContext);
         }
-        CallableUnitCallback callback = new HttpCallableUnitCallback(inboundMessage);
+        HttpResourceAllocation allocation = null;
+        if (AllocationTracker.isEnabled()) {
+            allocation = new HttpResourceAllocation(httpResource);
+            properties.put(AllocationTracker.KEY_ALLOCATED_BYTES, allocation.getAllocatedBytes());
+        }
+        CallableUnitCallback callback = new HttpCallableUnitCallback(inboundMessage, allocation);
         ObjectValue service = httpResource.getParentService().getBalService();
         Executor.submit(httpServicesRegistry.getScheduler(), service, httpResource.getName(), callback, properties,
                         signatureParams);
+        if (allocation != null) {
+            allocation.dispatched(allocatedSince);
+        }
     }
 
     protected boolean accessed(HttpCarbonMessage inboundMessage) {
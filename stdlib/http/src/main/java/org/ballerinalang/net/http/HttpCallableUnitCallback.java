@@ -27,20 +27,30 @@ import org.wso2.transport.http.netty.message.HttpCarbonMessage;
  */
 public class HttpCallableUnitCallback implements CallableUnitCallback {
     private HttpCarbonMessage requestMessage;
+    private HttpResourceAllocation allocation;
 
-    HttpCallableUnitCallback(HttpCarbonMessage requestMessage) {
+    HttpCallableUnitCallback(HttpCarbonMessage requestMessage, HttpResourceAllocation allocation) {
         this.requestMessage = requestMessage;
+        this.allocation = allocation;
     }
 
     @Override
     public void notifySuccess() {
         requestMessage.waitAndReleaseAllEntities();
+        recordAllocation();
     }
 
     @Override
     public void notifyFailure(ErrorValue error) {
         HttpUtil.handleFailure(requestMessage, error);
         requestMessage.waitAndReleaseAllEntities();
+        recordAllocation();
+    }
+
+    private void recordAllocation() {
+        if (allocation != null) {
+            allocation.resourceCompleted();
+        }
     }
 
 }
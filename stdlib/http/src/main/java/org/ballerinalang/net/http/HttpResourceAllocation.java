@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.net.http;
+
+import org.ballerinalang.jvm.observability.AllocationTracker;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.ballerinalang.jvm.observability.ObservabilityConstants.SERVER_CONNECTOR_HTTP;
+
+/**
+ * {@code HttpResourceAllocation} adds up the bytes allocated to dispatch a request to a resource and to run the
+ * resource, and reports them once both are done. The resource may complete before the listener returns from
+ * dispatching it, so whichever of them finishes last reports the bytes.
+ *
+ * @since 1.0.2
+ */
+class HttpResourceAllocation {
+
+    private final String serviceName;
+    private final String resourceName;
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final AtomicInteger pendingParts = new AtomicInteger(2);
+
+    HttpResourceAllocation(HttpResource httpResource) {
+        this(httpResource.getServiceName(), httpResource.getName());
+    }
+
+    HttpResourceAllocation(String serviceName, String resourceName) {
+        this.serviceName = serviceName;
+        this.resourceName = resourceName;
+    }
+
+    /**
+     * Returns the counter to which the strands running the resource add the bytes they allocate.
+     */
+    LongAdder getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Adds the bytes allocated by the listener to dispatch the request, and reports the allocation if the resource
+     * has already completed.
+     *
+     * @param allocatedSince bytes allocated by the listener thread when it started to dispatch the request
+     */
+    void dispatched(long allocatedSince) {
+        allocatedBytes.add(AllocationTracker.getAllocatedBytes() - allocatedSince);
+        complete();
+    }
+
+    /**
+     * Reports the allocation if the listener has already dispatched the request.
+     */
+    void resourceCompleted() {
+        complete();
+    }
+
+    private void complete() {
+        if (pendingParts.decrementAndGet() == 0) {
+            report(allocatedBytes.sum());
+        }
+    }
+
+    /**
+     * Reports the bytes allocated to serve the request, once both the dispatching and the resource are done.
+     *
+     * @param bytes bytes allocated to serve the request
+     */
+    void report(long bytes) {
+        AllocationTracker.recordServerAllocation(SERVER_CONNECTOR_HTTP, serviceName, resourceName, bytes);
+    }
+}
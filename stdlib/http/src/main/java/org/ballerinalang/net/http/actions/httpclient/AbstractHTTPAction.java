@@ -42,6 +42,8 @@ import org.ballerinalang.net.http.DataContext;
 import org.ballerinalang.net.http.HttpConstants;
 import org.ballerinalang.net.http.HttpErrorType;
 import org.ballerinalang.net.http.HttpUtil;
+import org.ballerinalang.net.http.clientendpoint.OutboundEndpoint;
+import org.ballerinalang.net.http.clientendpoint.OutboundEndpoint.ResolvedRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.wso2.transport.http.netty.contract.Constants;
@@ -57,7 +59,6 @@ import org.wso2.transport.http.netty.message.ResponseHandle;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.net.MalformedURLException;
-import java.net.URL;
 import java.util.Optional;
 
 import static io.netty.handler.codec.http.HttpHeaderNames.ACCEPT_ENCODING;
@@ -77,10 +78,11 @@ public abstract class AbstractHTTPAction {
 
     private static final Logger logger = LoggerFactory.getLogger(AbstractHTTPAction.class);
 
-    private static final String CACHE_BALLERINA_VERSION;
+    private static final String USER_AGENT;
 
     static {
-        CACHE_BALLERINA_VERSION = System.getProperty(BALLERINA_VERSION);
+        String ballerinaVersion = System.getProperty(BALLERINA_VERSION);
+        USER_AGENT = ballerinaVersion != null ? "ballerina/" + ballerinaVersion : "ballerina";
     }
 
     protected static HttpCarbonMessage createOutboundRequestMsg(Strand strand, String serviceUri, MapValue config, 
@@ -121,14 +123,11 @@ public abstract class AbstractHTTPAction {
             outboundRequest.setHeader(HttpConstants.HEADER_X_REGISTER_AT_URL, transactionLocalContext.getURL());
         }
         try {
-            String uri = getServiceUri(serviceUri) + path;
-            URL url = new URL(uri);
+            ResolvedRequest request = OutboundEndpoint.get(getServiceUri(serviceUri)).resolve(serviceUri, path);
+            OutboundEndpoint endpoint = request.getEndpoint();
 
-            int port = getOutboundReqPort(url);
-            String host = url.getHost();
-
-            setOutboundReqProperties(outboundRequest, url, port, host, nonEntityBodyReq);
-            setOutboundReqHeaders(outboundRequest, port, host);
+            setOutboundReqProperties(outboundRequest, endpoint, request.getPath(), nonEntityBodyReq);
+            setOutboundReqHeaders(outboundRequest, endpoint);
 
         } catch (MalformedURLException e) {
             throw HttpUtil.createHttpError("malformed URL specified. " + e.getMessage(),
@@ -146,33 +145,22 @@ public abstract class AbstractHTTPAction {
         return serviceUri;
     }
 
-    private static void setOutboundReqHeaders(HttpCarbonMessage outboundRequest, int port, String host) {
+    private static void setOutboundReqHeaders(HttpCarbonMessage outboundRequest, OutboundEndpoint endpoint) {
         HttpHeaders headers = outboundRequest.getHeaders();
-        setHostHeader(host, port, headers);
+        headers.set(HttpHeaderNames.HOST, endpoint.getHostHeader());
         setOutboundUserAgent(headers);
         removeConnectionHeader(headers);
     }
 
-    private static void setOutboundReqProperties(HttpCarbonMessage outboundRequest, URL url, int port, String host,
-                                                 Boolean nonEntityBodyReq) {
-        outboundRequest.setProperty(Constants.HTTP_HOST, host);
-        outboundRequest.setProperty(Constants.HTTP_PORT, port);
-
-        String outboundReqPath = getOutboundReqPath(url);
+    private static void setOutboundReqProperties(HttpCarbonMessage outboundRequest, OutboundEndpoint endpoint,
+                                                 String outboundReqPath, Boolean nonEntityBodyReq) {
+        outboundRequest.setProperty(Constants.HTTP_HOST, endpoint.getHost());
+        outboundRequest.setProperty(Constants.HTTP_PORT, endpoint.getPort());
         outboundRequest.setProperty(HttpConstants.TO, outboundReqPath);
-
-        outboundRequest.setProperty(HttpConstants.PROTOCOL, url.getProtocol());
+        outboundRequest.setProperty(HttpConstants.PROTOCOL, endpoint.getProtocol());
         outboundRequest.setProperty(HttpConstants.NO_ENTITY_BODY, nonEntityBodyReq);
     }
 
-    private static void setHostHeader(String host, int port, HttpHeaders headers) {
-        if (port == 80 || port == 443) {
-            headers.set(HttpHeaderNames.HOST, host);
-        } else {
-            headers.set(HttpHeaderNames.HOST, host + ":" + port);
-        }
-    }
-
     private static void removeConnectionHeader(HttpHeaders headers) {
         // Remove existing Connection header
         if (headers.contains(HttpHeaderNames.CONNECTION)) {
@@ -181,35 +169,9 @@ public abstract class AbstractHTTPAction {
     }
 
     private static void setOutboundUserAgent(HttpHeaders headers) {
-        String userAgent;
-        if (CACHE_BALLERINA_VERSION != null) {
-            userAgent = "ballerina/" + CACHE_BALLERINA_VERSION;
-        } else {
-            userAgent = "ballerina";
-        }
-
         if (!headers.contains(HttpHeaderNames.USER_AGENT)) { // If User-Agent is not already set from program
-            headers.set(HttpHeaderNames.USER_AGENT, userAgent);
-        }
-    }
-
-    private static String getOutboundReqPath(URL url) {
-        String toPath = url.getPath();
-        String query = url.getQuery();
-        if (query != null) {
-            toPath = toPath + "?" + query;
-        }
-        return toPath;
-    }
-
-    private static int getOutboundReqPort(URL url) {
-        int port = 80;
-        if (url.getPort() != -1) {
-            port = url.getPort();
-        } else if (url.getProtocol().equalsIgnoreCase(HttpConstants.PROTOCOL_HTTPS)) {
-            port = 443;
+            headers.set(HttpHeaderNames.USER_AGENT, USER_AGENT);
         }
-        return port;
     }
 
     protected static void executeNonBlockingAction(DataContext dataContext, boolean async) {
@@ -34,7 +34,6 @@ import org.wso2.transport.http.netty.contractimpl.sender.channel.pool.Connection
 import org.wso2.transport.http.netty.message.HttpConnectorUtil;
 
 import java.net.MalformedURLException;
-import java.net.URL;
 import java.util.Map;
 
 import static org.ballerinalang.net.http.HttpConstants.CLIENT_ENDPOINT_CONFIG;
@@ -66,13 +65,14 @@ public class CreateSimpleHttpClient {
                 CLIENT_ENDPOINT_CONFIG);
         HttpConnectionManager connectionManager = HttpConnectionManager.getInstance();
         String scheme;
-        URL url;
+        OutboundEndpoint endpoint;
         try {
-            url = new URL(urlString);
+            // Parses the service URI once, so that requests only have to join their paths to it
+            endpoint = OutboundEndpoint.get(urlString);
         } catch (MalformedURLException e) {
             throw HttpUtil.createHttpError("malformed URL: " + urlString, HttpErrorType.GENERIC_CLIENT_ERROR);
         }
-        scheme = url.getProtocol();
+        scheme = endpoint.getProtocol();
         Map<String, Object> properties =
                 HttpConnectorUtil.getTransportProperties(connectionManager.getTransportConfig());
         SenderConfiguration senderConfiguration = new SenderConfiguration();
@@ -0,0 +1,152 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.net.http.clientendpoint;
+
+import org.ballerinalang.net.http.HttpConstants;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code OutboundEndpoint} holds the parts of a client service URI which are the same for every request sent by the
+ * client, so that a request only has to join its path to the parsed base path.
+ *
+ * @since 1.0.2
+ */
+public class OutboundEndpoint {
+
+    private static final int MAX_CACHED_ENDPOINTS = 1024;
+    private static final Map<String, OutboundEndpoint> ENDPOINTS = new ConcurrentHashMap<>();
+
+    private final String protocol;
+    private final String host;
+    private final int port;
+    private final String hostHeader;
+    private final String basePath;
+    private final boolean pathJoinable;
+
+    private OutboundEndpoint(URL url) {
+        this.protocol = url.getProtocol();
+        this.host = url.getHost();
+        this.port = getPort(url);
+        this.hostHeader = port == 80 || port == 443 ? host : host + ":" + port;
+        this.basePath = url.getPath();
+        // A base URI with a query, fragment or user info is resolved again for every request
+        this.pathJoinable = url.getQuery() == null && url.getRef() == null && url.getUserInfo() == null;
+    }
+
+    /**
+     * Returns the endpoint of the given service URI, parsing the URI only if it has not been parsed before.
+     *
+     * @param serviceUri the service URI of the client
+     * @return the endpoint of the service URI
+     * @throws MalformedURLException if the service URI is not a valid URL
+     */
+    public static OutboundEndpoint get(String serviceUri) throws MalformedURLException {
+        OutboundEndpoint endpoint = ENDPOINTS.get(serviceUri);
+        if (endpoint == null) {
+            endpoint = new OutboundEndpoint(new URL(serviceUri));
+            if (ENDPOINTS.size() >= MAX_CACHED_ENDPOINTS) {
+                ENDPOINTS.clear();
+            }
+            ENDPOINTS.put(serviceUri, endpoint);
+        }
+        return endpoint;
+    }
+
+    /**
+     * Resolves the given request path against this endpoint. Paths which could change more than the path and query
+     * of the service URI, such as the authority, are resolved by parsing the full URL.
+     *
+     * @param serviceUri the service URI of this endpoint
+     * @param path       the request path
+     * @return the endpoint to send the request to, and the path and query of the request
+     * @throws MalformedURLException if the request URL is not a valid URL
+     */
+    public ResolvedRequest resolve(String serviceUri, String path) throws MalformedURLException {
+        if (pathJoinable && isJoinablePath(path)) {
+            return new ResolvedRequest(this, basePath.isEmpty() ? path : basePath + path);
+        }
+        URL url = new URL(serviceUri + path);
+        OutboundEndpoint endpoint = new OutboundEndpoint(url);
+        String requestPath = url.getPath();
+        if (url.getQuery() != null) {
+            requestPath = requestPath + "?" + url.getQuery();
+        }
+        return new ResolvedRequest(endpoint, requestPath);
+    }
+
+    public String getProtocol() {
+        return protocol;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public String getHostHeader() {
+        return hostHeader;
+    }
+
+    private static boolean isJoinablePath(String path) {
+        if (path.isEmpty()) {
+            return true;
+        }
+        char first = path.charAt(0);
+        return (first == '/' || first == '?') && path.indexOf('#') < 0 && !path.startsWith("//");
+    }
+
+    private static int getPort(URL url) {
+        int port = 80;
+        if (url.getPort() != -1) {
+            port = url.getPort();
+        } else if (url.getProtocol().equalsIgnoreCase(HttpConstants.PROTOCOL_HTTPS)) {
+            port = 443;
+        }
+        return port;
+    }
+
+    /**
+     * The endpoint and path of an outbound request.
+     */
+    public static class ResolvedRequest {
+
+        private final OutboundEndpoint endpoint;
+        private final String path;
+
+        private ResolvedRequest(OutboundEndpoint endpoint, String path) {
+            this.endpoint = endpoint;
+            this.path = path;
+        }
+
+        public OutboundEndpoint getEndpoint() {
+            return endpoint;
+        }
+
+        public String getPath() {
+            return path;
+        }
+    }
+}
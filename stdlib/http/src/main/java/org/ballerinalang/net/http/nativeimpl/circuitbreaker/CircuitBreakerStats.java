@@ -0,0 +1,212 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl.circuitbreaker;
+
+import org.ballerinalang.jvm.values.ObjectValue;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@code CircuitBreakerStats} keeps the state of a circuit breaker and the statistics of the requests in its rolling
+ * window.
+ * <p>
+ * The rolling window is divided into buckets of counters, and the bucket of a request is chosen from the time elapsed
+ * since the circuit breaker started. A bucket is reused once the rolling window has passed it, and the buckets which
+ * are older than the rolling window are left out of the statistics, so no bookkeeping is needed when the circuit
+ * breaker has been idle. Requests are counted with {@link LongAdder}s and the state changes through compare and set,
+ * so requests never wait on each other except when a bucket is reused, which happens once per bucket interval.
+ *
+ * @since 1.0.2
+ */
+public class CircuitBreakerStats {
+
+    static final int CLOSED = 0;
+    static final int OPEN = 1;
+    static final int HALF_OPEN = 2;
+
+    // Results of updating the state, which tell the state change made by the update, if any
+    static final int RESET_TIMEOUT_REACHED = 3;
+    static final int TRIAL_RUN_FAILED = 4;
+    static final int TRIAL_RUN_SUCCEEDED = 5;
+    static final int FAILURE_THRESHOLD_EXCEEDED = 6;
+
+    static final String CIRCUIT_BREAKER_STATS = "circuitBreakerStats";
+
+    private final Bucket[] buckets;
+    private final long startTime;
+    private final long bucketSizeInMillis;
+    private final long requestVolumeThreshold;
+    private final double failureThreshold;
+    private final long resetTimeInMillis;
+
+    private final AtomicInteger state = new AtomicInteger(CLOSED);
+    private volatile boolean lastRequestSuccess = false;
+    private volatile long lastErrorTime;
+    private volatile long lastForcedOpenTime;
+
+    CircuitBreakerStats(long startTime, int noOfBuckets, long bucketSizeInMillis, long requestVolumeThreshold,
+                        double failureThreshold, long resetTimeInMillis) {
+        this.buckets = new Bucket[Math.max(noOfBuckets, 1)];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket();
+        }
+        this.startTime = startTime;
+        this.bucketSizeInMillis = Math.max(bucketSizeInMillis, 1);
+        this.requestVolumeThreshold = requestVolumeThreshold;
+        this.failureThreshold = failureThreshold;
+        this.resetTimeInMillis = resetTimeInMillis;
+        this.lastErrorTime = startTime;
+        this.lastForcedOpenTime = startTime;
+    }
+
+    static CircuitBreakerStats getStats(ObjectValue circuitBreakerClient) {
+        return (CircuitBreakerStats) circuitBreakerClient.getNativeData(CIRCUIT_BREAKER_STATS);
+    }
+
+    /**
+     * Updates the state of the circuit for a new request, and counts the request.
+     *
+     * @return the state of the circuit, or the state change made by this update
+     */
+    int updateState() {
+        long now = System.currentTimeMillis();
+        long currentBucket = getBucketNumber(now);
+        long totalCount = 0;
+        long failureCount = 0;
+        long rejectedCount = 0;
+        for (Bucket bucket : buckets) {
+            if (isInWindow(bucket.number, currentBucket)) {
+                totalCount += bucket.totalCount.sum();
+                failureCount += bucket.failureCount.sum();
+                rejectedCount += bucket.rejectedCount.sum();
+            }
+        }
+
+        int result;
+        int currentState = state.get();
+        if (totalCount >= requestVolumeThreshold && currentState == HALF_OPEN) {
+            if (!lastRequestSuccess) {
+                // If the trial run has failed, trip the circuit again
+                result = transition(HALF_OPEN, OPEN, TRIAL_RUN_FAILED);
+            } else {
+                // If the trial run was successful reset the circuit
+                result = transition(HALF_OPEN, CLOSED, TRIAL_RUN_SUCCEEDED);
+            }
+        } else if (totalCount >= requestVolumeThreshold && currentState == CLOSED) {
+            long completedCount = totalCount - rejectedCount;
+            double failureRatio = completedCount > 0 ? (double) failureCount / completedCount : 0;
+            if (failureRatio > failureThreshold) {
+                result = transition(CLOSED, OPEN, FAILURE_THRESHOLD_EXCEEDED);
+            } else {
+                result = CLOSED;
+            }
+        } else if (currentState == OPEN && now - getEffectiveErrorTime() > resetTimeInMillis) {
+            result = transition(OPEN, HALF_OPEN, RESET_TIMEOUT_REACHED);
+        } else {
+            result = currentState;
+        }
+        getBucket(currentBucket).totalCount.increment();
+        return result;
+    }
+
+    /**
+     * Records the result of a request which was allowed through the circuit.
+     *
+     * @param success whether the request succeeded
+     */
+    void recordResult(boolean success) {
+        long now = System.currentTimeMillis();
+        lastRequestSuccess = success;
+        if (!success) {
+            lastErrorTime = now;
+            getBucket(getBucketNumber(now)).failureCount.increment();
+        }
+    }
+
+    /**
+     * Records a request which was rejected as the circuit is open.
+     *
+     * @return the time in milliseconds until the circuit is reset
+     */
+    long rejectRequest() {
+        long now = System.currentTimeMillis();
+        getBucket(getBucketNumber(now)).rejectedCount.increment();
+        return resetTimeInMillis - (now - getEffectiveErrorTime());
+    }
+
+    int getState() {
+        return state.get();
+    }
+
+    void forceOpen() {
+        state.set(OPEN);
+        lastForcedOpenTime = System.currentTimeMillis();
+    }
+
+    void forceClose() {
+        state.set(CLOSED);
+    }
+
+    private int transition(int from, int to, int transition) {
+        if (state.compareAndSet(from, to)) {
+            return transition;
+        }
+        // Another request changed the state first
+        return state.get();
+    }
+
+    private long getEffectiveErrorTime() {
+        return Math.max(lastErrorTime, lastForcedOpenTime);
+    }
+
+    private long getBucketNumber(long time) {
+        return Math.max(time - startTime, 0) / bucketSizeInMillis;
+    }
+
+    private boolean isInWindow(long bucketNumber, long currentBucket) {
+        return bucketNumber <= currentBucket && bucketNumber > currentBucket - buckets.length;
+    }
+
+    private Bucket getBucket(long bucketNumber) {
+        Bucket bucket = buckets[(int) (bucketNumber % buckets.length)];
+        if (bucket.number != bucketNumber) {
+            synchronized (bucket) {
+                if (bucket.number < bucketNumber) {
+                    bucket.totalCount.reset();
+                    bucket.failureCount.reset();
+                    bucket.rejectedCount.reset();
+                    bucket.number = bucketNumber;
+                }
+            }
+        }
+        return bucket;
+    }
+
+    /**
+     * Counters of the requests received within a bucket interval.
+     */
+    private static class Bucket {
+
+        private volatile long number = -1;
+        private final LongAdder totalCount = new LongAdder();
+        private final LongAdder failureCount = new LongAdder();
+        private final LongAdder rejectedCount = new LongAdder();
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl.circuitbreaker;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+
+/**
+ * {@code ForceCircuitState} is the extern function which forces a circuit into the open or the closed state.
+ *
+ * @since 1.0.2
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "http",
+        functionName = "nativeForceCircuitState",
+        args = {@Argument(name = "circuitBreakerClient", type = TypeKind.OBJECT),
+                @Argument(name = "open", type = TypeKind.BOOLEAN)}
+)
+public class ForceCircuitState {
+
+    public static void nativeForceCircuitState(Strand strand, ObjectValue circuitBreakerClient, boolean open) {
+        CircuitBreakerStats stats = CircuitBreakerStats.getStats(circuitBreakerClient);
+        if (open) {
+            stats.forceOpen();
+        } else {
+            stats.forceClose();
+        }
+    }
+}
@@ -16,32 +16,29 @@
  *  under the License.
  */
 
-package org.ballerinalang.nativeimpl;
+package org.ballerinalang.net.http.nativeimpl.circuitbreaker;
 
 import org.ballerinalang.jvm.scheduling.Strand;
-import org.ballerinalang.jvm.values.MapValue;
-import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.ReturnType;
 
 /**
- * ballerina.model.streams:deserialize(string str).
+ * {@code GetCircuitState} is the extern function which returns the current state of a circuit.
  *
- * @since 0.990.5
+ * @since 1.0.2
  */
 @BallerinaFunction(
-        orgName = "ballerina", packageName = "streams",
-        functionName = "deserialize",
-        args = {@Argument(name = "serializedString", type = TypeKind.STRING)},
-        returnType = {@ReturnType(type = TypeKind.MAP)},
-        isPublic = true
+        orgName = "ballerina", packageName = "http",
+        functionName = "nativeGetCircuitState",
+        args = {@Argument(name = "circuitBreakerClient", type = TypeKind.OBJECT)},
+        returnType = {@ReturnType(type = TypeKind.INT)}
 )
-public class Deserialize {
+public class GetCircuitState {
 
-    public static MapValue deserialize(Strand strand, Object object, String str) {
-        return new MapValueImpl();
+    public static long nativeGetCircuitState(Strand strand, ObjectValue circuitBreakerClient) {
+        return CircuitBreakerStats.getStats(circuitBreakerClient).getState();
     }
 }
-
@@ -0,0 +1,64 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl.circuitbreaker;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+
+/**
+ * {@code InitCircuitBreaker} is the extern function which creates the {@link CircuitBreakerStats} of a circuit
+ * breaker client.
+ *
+ * @since 1.0.2
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "http",
+        functionName = "nativeInitCircuitBreaker",
+        args = {@Argument(name = "circuitBreakerClient", type = TypeKind.OBJECT),
+                @Argument(name = "circuitBreakerInferredConfig", type = TypeKind.RECORD),
+                @Argument(name = "startTime", type = TypeKind.INT)}
+)
+public class InitCircuitBreaker {
+
+    private static final String FAILURE_THRESHOLD = "failureThreshold";
+    private static final String RESET_TIME = "resetTimeInMillis";
+    private static final String NO_OF_BUCKETS = "noOfBuckets";
+    private static final String ROLLING_WINDOW = "rollingWindow";
+    private static final String REQUEST_VOLUME_THRESHOLD = "requestVolumeThreshold";
+    private static final String BUCKET_SIZE = "bucketSizeInMillis";
+
+    @SuppressWarnings("unchecked")
+    public static void nativeInitCircuitBreaker(Strand strand, ObjectValue circuitBreakerClient,
+                                                MapValue<String, Object> circuitBreakerInferredConfig,
+                                                long startTime) {
+        MapValue<String, Object> rollingWindow =
+                (MapValue<String, Object>) circuitBreakerInferredConfig.get(ROLLING_WINDOW);
+        CircuitBreakerStats stats = new CircuitBreakerStats(startTime,
+                circuitBreakerInferredConfig.getIntValue(NO_OF_BUCKETS).intValue(),
+                rollingWindow.getIntValue(BUCKET_SIZE),
+                rollingWindow.getIntValue(REQUEST_VOLUME_THRESHOLD),
+                circuitBreakerInferredConfig.getFloatValue(FAILURE_THRESHOLD),
+                circuitBreakerInferredConfig.getIntValue(RESET_TIME));
+        circuitBreakerClient.addNativeData(CircuitBreakerStats.CIRCUIT_BREAKER_STATS, stats);
+    }
+}
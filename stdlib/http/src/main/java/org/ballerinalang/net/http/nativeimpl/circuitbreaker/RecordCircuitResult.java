@@ -0,0 +1,43 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl.circuitbreaker;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+
+/**
+ * {@code RecordCircuitResult} is the extern function which records the result of a request allowed through a circuit.
+ *
+ * @since 1.0.2
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "http",
+        functionName = "nativeRecordCircuitResult",
+        args = {@Argument(name = "circuitBreakerClient", type = TypeKind.OBJECT),
+                @Argument(name = "success", type = TypeKind.BOOLEAN)}
+)
+public class RecordCircuitResult {
+
+    public static void nativeRecordCircuitResult(Strand strand, ObjectValue circuitBreakerClient, boolean success) {
+        CircuitBreakerStats.getStats(circuitBreakerClient).recordResult(success);
+    }
+}
@@ -16,32 +16,29 @@
  *  under the License.
  */
 
-package org.ballerinalang.nativeimpl;
+package org.ballerinalang.net.http.nativeimpl.circuitbreaker;
 
 import org.ballerinalang.jvm.scheduling.Strand;
-import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.ReturnType;
 
 /**
- * ballerina.model.streams:serialize(map obj).
+ * {@code UpdateCircuitState} is the extern function which updates the state of a circuit for a new request.
  *
- * @since 0.990.5
+ * @since 1.0.2
  */
 @BallerinaFunction(
-        orgName = "ballerina", packageName = "streams",
-        functionName = "serialize",
-        args = {@Argument(name = "data", type = TypeKind.MAP)},
-        returnType = {@ReturnType(type = TypeKind.STRING)},
-        isPublic = true
+        orgName = "ballerina", packageName = "http",
+        functionName = "nativeUpdateCircuitState",
+        args = {@Argument(name = "circuitBreakerClient", type = TypeKind.OBJECT)},
+        returnType = {@ReturnType(type = TypeKind.INT)}
 )
-public class Serialize {
+public class UpdateCircuitState {
 
-    public static String serialize(Strand strand, Object value, MapValue data) {
-        //TODO: implement serializers for JBAL values
-        return "";
+    public static long nativeUpdateCircuitState(Strand strand, ObjectValue circuitBreakerClient) {
+        return CircuitBreakerStats.getStats(circuitBreakerClient).updateState();
     }
 }
-
@@ -0,0 +1,338 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl.loadbalancer;
+
+import org.ballerinalang.jvm.values.ArrayValue;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * {@code AdaptiveLoadBalancer} keeps the load and health statistics of the endpoints of a load balance client, and
+ * chooses an endpoint for each request from them.
+ * <p>
+ * An endpoint is chosen by comparing the cost of two randomly picked endpoints, which spreads the load without having
+ * to scan or lock the statistics of all the endpoints. The cost of an endpoint is either the number of outstanding
+ * requests, or its peak EWMA latency weighted by the number of outstanding requests. A failed request counts as a
+ * multiple of the latency of the endpoint, so that an endpoint which fails fast does not look cheap. An endpoint
+ * which fails consecutively, or whose latency is far above the rest, is ejected for a while as long as not too many
+ * endpoints are ejected. All the statistics are updated with atomic operations, so requests of different strands
+ * never wait on each other.
+ *
+ * @since 1.0.2
+ */
+public class AdaptiveLoadBalancer {
+
+    private static final long NANOS_PER_MILLI = 1000000L;
+    private static final double FAILURE_PENALTY_FACTOR = 2.0;
+
+    private final ArrayValue clients;
+    private final boolean peakEwma;
+    private final double decayTimeNanos;
+    private final int consecutiveFailuresToEject;
+    private final long ejectionTimeNanos;
+    private final double maxEjectionPercentage;
+    private final double latencyFactor;
+
+    private final AtomicIntegerArray outstanding;
+    private final AtomicIntegerArray consecutiveFailures;
+    private final AtomicLongArray ejectedUntil;
+    private final AtomicLongArray latencyBits;
+    private final AtomicLongArray latencyTimestamps;
+
+    /**
+     * Creates the statistics of a load balance client.
+     *
+     * @param clients                    endpoints of the client
+     * @param peakEwma                   whether the cost of an endpoint includes its latency
+     * @param decayTimeMillis            time over which the latency of an endpoint is averaged
+     * @param consecutiveFailuresToEject number of consecutive failures after which an endpoint is ejected, or zero to
+     *                                   never eject an endpoint for its failures
+     * @param ejectionTimeMillis         time for which an endpoint is ejected
+     * @param maxEjectionPercentage      maximum percentage of the endpoints which can be ejected at a time
+     * @param latencyFactor              factor of the average latency of the other endpoints beyond which an endpoint
+     *                                   is ejected, or zero to never eject an endpoint for its latency
+     */
+    AdaptiveLoadBalancer(ArrayValue clients, boolean peakEwma, long decayTimeMillis, int consecutiveFailuresToEject,
+                         long ejectionTimeMillis, double maxEjectionPercentage, double latencyFactor) {
+        int endpointCount = clients.size();
+        this.clients = clients;
+        this.peakEwma = peakEwma;
+        this.decayTimeNanos = Math.max(decayTimeMillis, 1) * (double) NANOS_PER_MILLI;
+        this.consecutiveFailuresToEject = consecutiveFailuresToEject;
+        this.ejectionTimeNanos = ejectionTimeMillis * NANOS_PER_MILLI;
+        this.maxEjectionPercentage = maxEjectionPercentage;
+        this.latencyFactor = latencyFactor;
+        this.outstanding = new AtomicIntegerArray(endpointCount);
+        this.consecutiveFailures = new AtomicIntegerArray(endpointCount);
+        this.ejectedUntil = new AtomicLongArray(endpointCount);
+        this.latencyBits = new AtomicLongArray(endpointCount);
+        this.latencyTimestamps = new AtomicLongArray(endpointCount);
+    }
+
+    ArrayValue getClients() {
+        return clients;
+    }
+
+    /**
+     * Returns the index of the given endpoint client.
+     *
+     * @param client endpoint client
+     * @return index of the client, or -1 if it is not an endpoint of this load balancer
+     */
+    int indexOf(Object client) {
+        for (int i = 0; i < getEndpointCount(); i++) {
+            if (clients.getRefValue(i) == client) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int getEndpointCount() {
+        return outstanding.length();
+    }
+
+    /**
+     * Returns the peak EWMA latency of an endpoint.
+     *
+     * @param index index of the endpoint
+     * @return latency in nanoseconds, or zero if no request was recorded for the endpoint yet
+     */
+    double getLatency(int index) {
+        return Double.longBitsToDouble(latencyBits.get(index));
+    }
+
+    /**
+     * Returns whether an endpoint is ejected at the moment.
+     *
+     * @param index index of the endpoint
+     * @return true if the endpoint is ejected
+     */
+    boolean isEjected(int index) {
+        return isEjected(index, System.nanoTime());
+    }
+
+    /**
+     * Chooses the endpoint for a request, and counts the request as outstanding on it.
+     *
+     * @return index of the chosen endpoint
+     */
+    int choose() {
+        return choose(null);
+    }
+
+    /**
+     * Chooses the endpoint for a request among the endpoints which are not excluded, and counts the request as
+     * outstanding on it. All the endpoints are considered if all of them are excluded.
+     *
+     * @param excluded whether each endpoint is excluded, e.g. as the request already failed on it, or null
+     * @return index of the chosen endpoint
+     */
+    int choose(boolean[] excluded) {
+        int[] candidates = getCandidates(excluded);
+        int count = candidates == null ? getEndpointCount() : candidates.length;
+        int chosen;
+        if (count == 1) {
+            chosen = getCandidate(candidates, 0);
+        } else {
+            long now = System.nanoTime();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            int first = random.nextInt(count);
+            int second = random.nextInt(count - 1);
+            if (second >= first) {
+                second++;
+            }
+            first = getCandidate(candidates, first);
+            second = getCandidate(candidates, second);
+            boolean firstEjected = isEjected(first, now);
+            boolean secondEjected = isEjected(second, now);
+            if (firstEjected && secondEjected) {
+                chosen = chooseAvailable(candidates, count, now, random.nextInt(count));
+            } else if (firstEjected) {
+                chosen = second;
+            } else if (secondEjected) {
+                chosen = first;
+            } else {
+                chosen = getCost(second) < getCost(first) ? second : first;
+            }
+        }
+        outstanding.incrementAndGet(chosen);
+        return chosen;
+    }
+
+    /**
+     * Records the result of a request sent to an endpoint, and ejects the endpoint if it turned out to be an outlier.
+     *
+     * @param index         index of the endpoint
+     * @param latencyNanos  time taken by the request
+     * @param failed        whether the request failed
+     */
+    void record(int index, long latencyNanos, boolean failed) {
+        outstanding.decrementAndGet(index);
+        long now = System.nanoTime();
+        long observedLatency = Math.max(latencyNanos, 0);
+        double latency = updateLatency(index, failed ? getFailureLatency(index, observedLatency) : observedLatency,
+                                       now);
+        if (failed) {
+            int failures = consecutiveFailures.incrementAndGet(index);
+            if (consecutiveFailuresToEject > 0 && failures >= consecutiveFailuresToEject) {
+                eject(index, now);
+            }
+        } else {
+            consecutiveFailures.set(index, 0);
+            if (latencyFactor > 0 && latency > latencyFactor * getAverageLatencyOfOthers(index)) {
+                eject(index, now);
+            }
+        }
+    }
+
+    /**
+     * Returns the indexes of the endpoints which are not excluded, or null if all the endpoints are candidates.
+     */
+    private int[] getCandidates(boolean[] excluded) {
+        if (excluded == null) {
+            return null;
+        }
+        int count = getEndpointCount();
+        int[] candidates = new int[count];
+        int candidateCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (i >= excluded.length || !excluded[i]) {
+                candidates[candidateCount++] = i;
+            }
+        }
+        if (candidateCount == 0 || candidateCount == count) {
+            return null;
+        }
+        return Arrays.copyOf(candidates, candidateCount);
+    }
+
+    private static int getCandidate(int[] candidates, int position) {
+        return candidates == null ? position : candidates[position];
+    }
+
+    /**
+     * Returns the first candidate from the given position which is not ejected, or the candidate at the given position
+     * if all the candidates are ejected.
+     */
+    private int chooseAvailable(int[] candidates, int count, long now, int start) {
+        for (int i = 0; i < count; i++) {
+            int index = getCandidate(candidates, (start + i) % count);
+            if (!isEjected(index, now)) {
+                return index;
+            }
+        }
+        return getCandidate(candidates, start);
+    }
+
+    /**
+     * Returns the latency recorded for a failed request. A failure costs a multiple of the latency of the endpoint,
+     * or of the other endpoints if it is faster, up to the decay time so that the endpoint recovers soon after it
+     * succeeds again.
+     */
+    private double getFailureLatency(int index, long latencyNanos) {
+        double base = Math.max(latencyNanos, getLatency(index));
+        double othersLatency = getAverageLatencyOfOthers(index);
+        if (othersLatency != Double.MAX_VALUE) {
+            base = Math.max(base, othersLatency);
+        }
+        return Math.max(Math.min(base * FAILURE_PENALTY_FACTOR, decayTimeNanos), latencyNanos);
+    }
+
+    private double getCost(int index) {
+        int load = outstanding.get(index);
+        if (!peakEwma) {
+            return load;
+        }
+        double latency = getLatency(index);
+        if (latency == 0) {
+            // Endpoints without a latency yet are preferred, so that they are measured
+            return load;
+        }
+        return latency * (load + 1);
+    }
+
+    /**
+     * Updates the peak EWMA latency of an endpoint. A latency above the average replaces it, so that the average
+     * reacts to a slowing endpoint at once, while a lower latency is averaged in based on the time since the last
+     * update.
+     */
+    private double updateLatency(int index, double latencyNanos, long now) {
+        while (true) {
+            long currentBits = latencyBits.get(index);
+            double current = Double.longBitsToDouble(currentBits);
+            double updated;
+            if (current == 0 || latencyNanos > current) {
+                updated = latencyNanos;
+            } else {
+                long elapsed = Math.max(now - latencyTimestamps.get(index), 0);
+                double weight = Math.exp(-elapsed / decayTimeNanos);
+                updated = current * weight + latencyNanos * (1 - weight);
+            }
+            if (latencyBits.compareAndSet(index, currentBits, Double.doubleToRawLongBits(updated))) {
+                latencyTimestamps.set(index, now);
+                return updated;
+            }
+        }
+    }
+
+    private double getAverageLatencyOfOthers(int index) {
+        double total = 0;
+        int measured = 0;
+        for (int i = 0; i < getEndpointCount(); i++) {
+            double latency = getLatency(i);
+            if (i != index && latency > 0) {
+                total += latency;
+                measured++;
+            }
+        }
+        return measured == 0 ? Double.MAX_VALUE : total / measured;
+    }
+
+    private boolean isEjected(int index, long now) {
+        long until = ejectedUntil.get(index);
+        return until != 0 && now - until < 0;
+    }
+
+    private void eject(int index, long now) {
+        long until = ejectedUntil.get(index);
+        if (until != 0 && now - until < 0) {
+            return;
+        }
+        int ejected = 1;
+        for (int i = 0; i < getEndpointCount(); i++) {
+            if (i != index && isEjected(i, now)) {
+                ejected++;
+            }
+        }
+        if (ejected * 100.0 > maxEjectionPercentage * getEndpointCount()) {
+            return;
+        }
+        long ejectUntil = now + ejectionTimeNanos;
+        if (ejectUntil == 0) {
+            ejectUntil = 1;
+        }
+        if (ejectedUntil.compareAndSet(index, until, ejectUntil)) {
+            consecutiveFailures.set(index, 0);
+        }
+    }
+}
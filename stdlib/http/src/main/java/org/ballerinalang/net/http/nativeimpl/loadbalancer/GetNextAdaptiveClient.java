@@ -0,0 +1,101 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl.loadbalancer;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.ReturnType;
+import org.ballerinalang.net.http.HttpErrorType;
+import org.ballerinalang.net.http.HttpUtil;
+
+/**
+ * {@code GetNextAdaptiveClient} is the extern function which chooses the endpoint of a load balance client for a
+ * request, according to the statistics kept by an {@link AdaptiveLoadBalancer}. The endpoints on which a request
+ * already failed are excluded when it fails over.
+ *
+ * @since 1.0.2
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "http",
+        functionName = "nativeGetNextAdaptiveClient",
+        args = {@Argument(name = "lbRule", type = TypeKind.OBJECT),
+                @Argument(name = "loadBalanceClientsArray", type = TypeKind.ARRAY),
+                @Argument(name = "peakEwma", type = TypeKind.BOOLEAN),
+                @Argument(name = "decayTimeInMillis", type = TypeKind.INT),
+                @Argument(name = "outlierEjection", type = TypeKind.RECORD),
+                @Argument(name = "excludedClients", type = TypeKind.ARRAY)},
+        returnType = {@ReturnType(type = TypeKind.OBJECT),
+                @ReturnType(type = TypeKind.RECORD, structType = "Error")}
+)
+public class GetNextAdaptiveClient {
+
+    static final String LOAD_BALANCER = "adaptiveLoadBalancer";
+    private static final String CONSECUTIVE_FAILURES = "consecutiveFailures";
+    private static final String EJECTION_TIME = "ejectionTimeInMillis";
+    private static final String MAX_EJECTION_PERCENTAGE = "maxEjectionPercentage";
+    private static final String LATENCY_FACTOR = "latencyFactor";
+
+    public static Object nativeGetNextAdaptiveClient(Strand strand, ObjectValue lbRule,
+                                                     ArrayValue loadBalanceClientsArray, boolean peakEwma,
+                                                     long decayTimeInMillis, MapValue<String, Object> outlierEjection,
+                                                     ArrayValue excludedClients) {
+        if (loadBalanceClientsArray.size() == 0) {
+            return HttpUtil.createHttpError("no endpoints to load balance", HttpErrorType.GENERIC_CLIENT_ERROR);
+        }
+        AdaptiveLoadBalancer loadBalancer = (AdaptiveLoadBalancer) lbRule.getNativeData(LOAD_BALANCER);
+        if (loadBalancer == null || loadBalancer.getClients() != loadBalanceClientsArray) {
+            loadBalancer = createLoadBalancer(lbRule, loadBalanceClientsArray, peakEwma, decayTimeInMillis,
+                                              outlierEjection);
+        }
+        if (excludedClients.size() == 0) {
+            return loadBalanceClientsArray.getRefValue(loadBalancer.choose());
+        }
+        boolean[] excluded = new boolean[loadBalanceClientsArray.size()];
+        for (int i = 0; i < excludedClients.size(); i++) {
+            int index = loadBalancer.indexOf(excludedClients.getRefValue(i));
+            if (index >= 0) {
+                excluded[index] = true;
+            }
+        }
+        return loadBalanceClientsArray.getRefValue(loadBalancer.choose(excluded));
+    }
+
+    private static AdaptiveLoadBalancer createLoadBalancer(ObjectValue lbRule, ArrayValue loadBalanceClientsArray,
+                                                           boolean peakEwma, long decayTimeInMillis,
+                                                           MapValue<String, Object> outlierEjection) {
+        // Created once per load balance client, when the rule chooses the first endpoint
+        synchronized (lbRule) {
+            AdaptiveLoadBalancer loadBalancer = (AdaptiveLoadBalancer) lbRule.getNativeData(LOAD_BALANCER);
+            if (loadBalancer == null || loadBalancer.getClients() != loadBalanceClientsArray) {
+                loadBalancer = new AdaptiveLoadBalancer(loadBalanceClientsArray, peakEwma, decayTimeInMillis,
+                        outlierEjection.getIntValue(CONSECUTIVE_FAILURES).intValue(),
+                        outlierEjection.getIntValue(EJECTION_TIME),
+                        outlierEjection.getFloatValue(MAX_EJECTION_PERCENTAGE),
+                        outlierEjection.getFloatValue(LATENCY_FACTOR));
+                lbRule.addNativeData(LOAD_BALANCER, loadBalancer);
+            }
+            return loadBalancer;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.net.http.nativeimpl.loadbalancer;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+
+/**
+ * {@code RecordAdaptiveResult} is the extern function which records the result of a request sent to an endpoint
+ * chosen by an {@link AdaptiveLoadBalancer}.
+ *
+ * @since 1.0.2
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "http",
+        functionName = "nativeRecordAdaptiveResult",
+        args = {@Argument(name = "lbRule", type = TypeKind.OBJECT),
+                @Argument(name = "httpClient", type = TypeKind.OBJECT),
+                @Argument(name = "latencyInNanos", type = TypeKind.INT),
+                @Argument(name = "failed", type = TypeKind.BOOLEAN)}
+)
+public class RecordAdaptiveResult {
+
+    public static void nativeRecordAdaptiveResult(Strand strand, ObjectValue lbRule, ObjectValue httpClient,
+                                                  long latencyInNanos, boolean failed) {
+        AdaptiveLoadBalancer loadBalancer =
+                (AdaptiveLoadBalancer) lbRule.getNativeData(GetNextAdaptiveClient.LOAD_BALANCER);
+        if (loadBalancer == null) {
+            return;
+        }
+        int index = loadBalancer.indexOf(httpClient);
+        if (index >= 0) {
+            loadBalancer.record(index, latencyInNanos, failed);
+        }
+    }
+}
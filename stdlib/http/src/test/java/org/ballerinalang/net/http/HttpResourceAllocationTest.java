@@ -0,0 +1,105 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.net.http;
+
+import org.ballerinalang.jvm.observability.AllocationTracker;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Test cases for reporting the bytes allocated to serve a request once both the listener has dispatched the request
+ * and the resource has completed.
+ */
+public class HttpResourceAllocationTest {
+
+    private static final long RESOURCE_BYTES = 1024;
+
+    @Test(description = "Test reporting when the resource completes after the request is dispatched")
+    public void testResourceCompletedAfterDispatched() {
+        TestAllocation allocation = new TestAllocation();
+        allocation.dispatched(AllocationTracker.getAllocatedBytes());
+        Assert.assertTrue(allocation.reports.isEmpty());
+
+        allocation.getAllocatedBytes().add(RESOURCE_BYTES);
+        allocation.resourceCompleted();
+        Assert.assertEquals(allocation.reports.size(), 1);
+        Assert.assertTrue(allocation.reports.get(0) >= RESOURCE_BYTES);
+    }
+
+    @Test(description = "Test reporting when the resource completes before the request is dispatched")
+    public void testResourceCompletedBeforeDispatched() {
+        TestAllocation allocation = new TestAllocation();
+        allocation.getAllocatedBytes().add(RESOURCE_BYTES);
+        allocation.resourceCompleted();
+        Assert.assertTrue(allocation.reports.isEmpty());
+
+        allocation.dispatched(AllocationTracker.getAllocatedBytes());
+        Assert.assertEquals(allocation.reports.size(), 1);
+        Assert.assertTrue(allocation.reports.get(0) >= RESOURCE_BYTES);
+    }
+
+    @Test(description = "Test reporting once when the resource completes while the request is being dispatched")
+    public void testConcurrentCompletion() throws InterruptedException {
+        for (int i = 0; i < 1000; i++) {
+            TestAllocation allocation = new TestAllocation();
+            CountDownLatch start = new CountDownLatch(1);
+            Thread resource = new Thread(() -> {
+                awaitQuietly(start);
+                allocation.getAllocatedBytes().add(RESOURCE_BYTES);
+                allocation.resourceCompleted();
+            });
+            resource.start();
+            start.countDown();
+            allocation.dispatched(AllocationTracker.getAllocatedBytes());
+            resource.join();
+            Assert.assertEquals(allocation.reports.size(), 1);
+            Assert.assertTrue(allocation.reports.get(0) >= RESOURCE_BYTES);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Allocation which keeps the reported bytes instead of recording them as metrics.
+     */
+    private static class TestAllocation extends HttpResourceAllocation {
+
+        private final List<Long> reports = Collections.synchronizedList(new ArrayList<>());
+
+        TestAllocation() {
+            super("testService", "testResource");
+        }
+
+        @Override
+        void report(long bytes) {
+            reports.add(bytes);
+        }
+    }
+}
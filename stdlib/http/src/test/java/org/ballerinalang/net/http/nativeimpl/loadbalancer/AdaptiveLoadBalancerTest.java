@@ -0,0 +1,170 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+
+package org.ballerinalang.net.http.nativeimpl.loadbalancer;
+
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for choosing endpoints and ejecting outliers in the adaptive load balancer.
+ */
+public class AdaptiveLoadBalancerTest {
+
+    private static final long NANOS_PER_MILLI = 1000000L;
+
+    @Test(description = "Test choosing the endpoint with the least outstanding requests")
+    public void testChooseLeastOutstanding() {
+        AdaptiveLoadBalancer loadBalancer = createLoadBalancer(2, false, 60000, 0, 0, 0);
+        int[] chosenCounts = new int[2];
+        for (int i = 0; i < 100; i++) {
+            chosenCounts[loadBalancer.choose()]++;
+        }
+        Assert.assertEquals(chosenCounts[0], 50);
+        Assert.assertEquals(chosenCounts[1], 50);
+    }
+
+    @Test(description = "Test choosing the endpoint with the least peak EWMA latency weighted by its load")
+    public void testChooseByPeakEwma() {
+        AdaptiveLoadBalancer loadBalancer = createLoadBalancer(2, true, 60000, 0, 0, 0);
+        // Endpoints without a latency are chosen first, so that they are measured
+        Assert.assertNotEquals(loadBalancer.choose(), loadBalancer.choose());
+        loadBalancer.record(0, 100 * NANOS_PER_MILLI, false);
+        loadBalancer.record(1, 10 * NANOS_PER_MILLI, false);
+
+        // Faster endpoint is chosen until its latency weighted by its outstanding requests reaches the slower one
+        for (int i = 0; i < 9; i++) {
+            Assert.assertEquals(loadBalancer.choose(), 1);
+        }
+    }
+
+    @Test(description = "Test replacing the latency by a peak and averaging in a lower latency over time")
+    public void testUpdateLatency() throws InterruptedException {
+        AdaptiveLoadBalancer loadBalancer = createLoadBalancer(1, true, 60000, 0, 0, 0);
+        loadBalancer.record(0, 10 * NANOS_PER_MILLI, false);
+        Assert.assertEquals(loadBalancer.getLatency(0), 10.0 * NANOS_PER_MILLI);
+        loadBalancer.record(0, 50 * NANOS_PER_MILLI, false);
+        Assert.assertEquals(loadBalancer.getLatency(0), 50.0 * NANOS_PER_MILLI);
+        // Lower latency barely moves the average well within the decay time
+        loadBalancer.record(0, 10 * NANOS_PER_MILLI, false);
+        Assert.assertTrue(loadBalancer.getLatency(0) > 49.0 * NANOS_PER_MILLI);
+
+        loadBalancer = createLoadBalancer(1, true, 1, 0, 0, 0);
+        loadBalancer.record(0, 50 * NANOS_PER_MILLI, false);
+        Thread.sleep(20);
+        // Lower latency replaces the average once the decay time has passed many times over
+        loadBalancer.record(0, 10 * NANOS_PER_MILLI, false);
+        Assert.assertTrue(loadBalancer.getLatency(0) < 11.0 * NANOS_PER_MILLI);
+    }
+
+    @Test(description = "Test penalizing the latency of an endpoint which fails fast")
+    public void testFailurePenalty() {
+        AdaptiveLoadBalancer loadBalancer = createLoadBalancer(2, true, 60000, 0, 0, 0);
+        Assert.assertNotEquals(loadBalancer.choose(), loadBalancer.choose());
+        loadBalancer.record(0, 10 * NANOS_PER_MILLI, false);
+        loadBalancer.record(1, 10 * NANOS_PER_MILLI, false);
+        // A failure faster than the endpoints still costs more than their latency
+        Assert.assertEquals(loadBalancer.choose(new boolean[]{true, false}), 1);
+        loadBalancer.record(1, NANOS_PER_MILLI, true);
+        Assert.assertEquals(loadBalancer.getLatency(1), 20.0 * NANOS_PER_MILLI);
+        Assert.assertEquals(loadBalancer.choose(new boolean[]{true, false}), 1);
+        loadBalancer.record(1, NANOS_PER_MILLI, true);
+        Assert.assertEquals(loadBalancer.getLatency(1), 40.0 * NANOS_PER_MILLI);
+        for (int i = 0; i < 3; i++) {
+            Assert.assertEquals(loadBalancer.choose(), 0);
+        }
+
+        // Penalty does not exceed the decay time
+        loadBalancer = createLoadBalancer(1, true, 15, 0, 0, 0);
+        loadBalancer.record(0, 10 * NANOS_PER_MILLI, true);
+        Assert.assertEquals(loadBalancer.getLatency(0), 15.0 * NANOS_PER_MILLI);
+    }
+
+    @Test(description = "Test excluding the endpoints on which a request already failed")
+    public void testChooseExcluding() {
+        AdaptiveLoadBalancer loadBalancer = createLoadBalancer(3, false, 60000, 0, 0, 0);
+        for (int i = 0; i < 20; i++) {
+            Assert.assertEquals(loadBalancer.choose(new boolean[]{true, false, true}), 1);
+        }
+        for (int i = 0; i < 20; i++) {
+            Assert.assertNotEquals(loadBalancer.choose(new boolean[]{true, false, false}), 0);
+        }
+        // All the endpoints are considered if all of them are excluded
+        int[] chosenCounts = new int[3];
+        for (int i = 0; i < 30; i++) {
+            chosenCounts[loadBalancer.choose(new boolean[]{true, true, true})]++;
+        }
+        Assert.assertTrue(chosenCounts[0] > 0);
+    }
+
+    @Test(description = "Test ejecting an endpoint which fails consecutively")
+    public void testEjectOnConsecutiveFailures() {
+        AdaptiveLoadBalancer loadBalancer = createLoadBalancer(2, false, 60000, 3, 50, 0);
+        loadBalancer.record(0, NANOS_PER_MILLI, true);
+        loadBalancer.record(0, NANOS_PER_MILLI, true);
+        // A successful request resets the consecutive failures
+        loadBalancer.record(0, NANOS_PER_MILLI, false);
+        loadBalancer.record(0, NANOS_PER_MILLI, true);
+        loadBalancer.record(0, NANOS_PER_MILLI, true);
+        Assert.assertFalse(loadBalancer.isEjected(0));
+        loadBalancer.record(0, NANOS_PER_MILLI, true);
+        Assert.assertTrue(loadBalancer.isEjected(0));
+
+        for (int i = 0; i < 20; i++) {
+            Assert.assertEquals(loadBalancer.choose(), 1);
+        }
+    }
+
+    @Test(description = "Test ejecting an endpoint of which the latency is far above the other endpoints")
+    public void testEjectSlowEndpoint() {
+        AdaptiveLoadBalancer loadBalancer = createLoadBalancer(3, true, 60000, 0, 50, 3);
+        loadBalancer.record(0, 10 * NANOS_PER_MILLI, false);
+        loadBalancer.record(1, 10 * NANOS_PER_MILLI, false);
+        loadBalancer.record(2, 20 * NANOS_PER_MILLI, false);
+        Assert.assertFalse(loadBalancer.isEjected(2));
+        loadBalancer.record(2, 100 * NANOS_PER_MILLI, false);
+        Assert.assertTrue(loadBalancer.isEjected(2));
+        Assert.assertFalse(loadBalancer.isEjected(0));
+        Assert.assertFalse(loadBalancer.isEjected(1));
+    }
+
+    @Test(description = "Test not ejecting more endpoints than the maximum ejection percentage")
+    public void testMaxEjectionPercentage() {
+        AdaptiveLoadBalancer loadBalancer = createLoadBalancer(4, false, 60000, 1, 50, 0);
+        loadBalancer.record(0, NANOS_PER_MILLI, true);
+        loadBalancer.record(1, NANOS_PER_MILLI, true);
+        loadBalancer.record(2, NANOS_PER_MILLI, true);
+        Assert.assertTrue(loadBalancer.isEjected(0));
+        Assert.assertTrue(loadBalancer.isEjected(1));
+        Assert.assertFalse(loadBalancer.isEjected(2));
+        Assert.assertFalse(loadBalancer.isEjected(3));
+    }
+
+    private static AdaptiveLoadBalancer createLoadBalancer(int endpointCount, boolean peakEwma, long decayTimeMillis,
+                                                           int consecutiveFailuresToEject,
+                                                           double maxEjectionPercentage, double latencyFactor) {
+        String[] clients = new String[endpointCount];
+        for (int i = 0; i < endpointCount; i++) {
+            clients[i] = "endpoint-" + i;
+        }
+        return new AdaptiveLoadBalancer(new ArrayValue(clients), peakEwma, decayTimeMillis,
+                consecutiveFailuresToEject, 60000, maxEjectionPercentage, latencyFactor);
+    }
+}
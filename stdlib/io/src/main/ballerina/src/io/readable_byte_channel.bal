@@ -42,6 +42,15 @@ public type ReadableByteChannel object {
     # + return - Return a decoded ReadableByteChannel or `Error` if any error occurred
     public function base64Decode() returns ReadableByteChannel|Error = external;
 
+    # Transfers all the remaining bytes of the channel to a given WritableByteChannel.
+    #
+    # Where possible, the bytes are transferred directly from OS cache (i.e from a file to a file or a socket),
+    # without reading the bytes into memory.
+    #
+    # + dstChannel - WritableByteChannel which the bytes should be written to
+    # + return - Number of bytes transferred or `Error` if any error occurred
+    public function transferTo(WritableByteChannel dstChannel) returns int|Error = external;
+
     # Closes a given ReadableByteChannel.
     #
     # + return - Will return () if there's no error
@@ -21,6 +21,7 @@ import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.utils.IOUtils;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.WritableByteChannel;
 
@@ -55,6 +56,37 @@ public class FileIOChannel extends Channel {
         }
     }
 
+    /**
+     * <p>
+     * Transfers the file content from the current position to the specified destination.
+     * </p>
+     * <p>
+     * The content is transferred directly from OS cache where the destination is a file or a socket, without copying
+     * the content to the heap.
+     * </p>
+     * <p>
+     * {@inheritDoc}
+     */
+    @Override
+    public long transferTo(WritableByteChannel dstChannel) throws IOException {
+        long fileSize = channel.size();
+        long position = channel.position();
+        long startPosition = position;
+        while (position < fileSize) {
+            long transferredBytes = channel.transferTo(position, fileSize - position, dstChannel);
+            if (transferredBytes <= 0) {
+                break;
+            }
+            position += transferredBytes;
+        }
+        channel.position(position);
+        if (position >= fileSize) {
+            // Reading at the end of the file marks the channel as reached its end
+            super.read(ByteBuffer.allocate(1));
+        }
+        return position - startPosition;
+    }
+
     @Override
     public Channel getChannel() {
         throw new UnsupportedOperationException();
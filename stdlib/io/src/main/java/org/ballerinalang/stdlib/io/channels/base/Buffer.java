@@ -230,18 +230,16 @@ public class Buffer {
         if (null != remainingContent && remainingContent.capacity() >= numberOfBytesRequested) {
             return copyRemainingContent(numberOfBytesRequested, remainingContent);
         } else {
-            if (null != remainingContent && remainingContent.hasRemaining()) {
-                remainingContent = deepCopy(remainingContent);
-            }
             if (byteBuffer != null && byteBuffer.capacity() >= numberOfBytesRequested) {
-                //If the required amount of bytes > than the current buffer size we enlarge the buffer
-                byteBuffer.clear();
+                //The remaining bytes are moved to the beginning of the buffer in place, without copying them to an
+                //intermediate buffer
+                byteBuffer.compact();
             } else {
-                //In this case we re-allocate
+                //In this case we re-allocate, the remaining bytes are copied from the previous buffer
                 byteBuffer = allocate(numberOfBytesRequested);
-            }
-            if (null != remainingContent && remainingContent.hasRemaining()) {
-                byteBuffer.put(remainingContent);
+                if (null != remainingContent && remainingContent.hasRemaining()) {
+                    byteBuffer.put(remainingContent);
+                }
             }
             channel.read(byteBuffer);
             return resize(byteBuffer, numberOfBytesRequested);
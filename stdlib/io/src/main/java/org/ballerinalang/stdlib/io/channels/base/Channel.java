@@ -57,6 +57,11 @@ public abstract class Channel implements IOChannel {
 
     private static final Logger log = LoggerFactory.getLogger(Channel.class);
 
+    /**
+     * Size of the buffer used when transferring bytes between channels.
+     */
+    private static final int TRANSFER_BUFFER_SIZE = 65536;
+
     /**
      * <p>
      * Will read/write bytes from the provided channel
@@ -81,6 +86,44 @@ public abstract class Channel implements IOChannel {
      */
     public abstract void transfer(int position, int count, WritableByteChannel dstChannel) throws IOException;
 
+    /**
+     * <p>
+     * Transfers all the remaining bytes of the channel to the given destination, reading until the end of the
+     * channel is reached.
+     * </p>
+     * <p>
+     * The bytes are transferred through a direct buffer, so that the content does not need to be copied to the heap.
+     * Channels which could transfer bytes directly from OS cache should override this.
+     * </p>
+     *
+     * @param dstChannel destination channel to transfer.
+     * @return the number of bytes transferred.
+     * @throws IOException during I/O error.
+     */
+    public long transferTo(WritableByteChannel dstChannel) throws IOException {
+        ByteBuffer transferBuffer = ByteBuffer.allocateDirect(TRANSFER_BUFFER_SIZE);
+        long transferredBytes = 0;
+        while (!hasReachedEnd()) {
+            int readBytes = read(transferBuffer);
+            transferBuffer.flip();
+            while (transferBuffer.hasRemaining()) {
+                int writtenBytes = dstChannel.write(transferBuffer);
+                if (writtenBytes <= 0) {
+                    // Bytes already read from the source would be lost if the transfer is stopped here
+                    throw new IOException("destination channel did not accept the transferred bytes");
+                }
+                transferredBytes += writtenBytes;
+            }
+            transferBuffer.clear();
+            if (readBytes == 0 && !hasReachedEnd()) {
+                // No bytes are available at the moment, i.e. the source is a non-blocking channel. Reading is
+                // continued since the callers expect all the remaining bytes to be transferred
+                Thread.yield();
+            }
+        }
+        return transferredBytes;
+    }
+
     /**
      * Returns the hashcode of the channel as the id.
      *
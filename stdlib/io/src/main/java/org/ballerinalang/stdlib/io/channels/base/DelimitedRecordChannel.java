@@ -24,7 +24,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -56,6 +59,49 @@ public class DelimitedRecordChannel implements IOChannel {
      */
     private StringBuilder persistentCharSequence;
 
+    /**
+     * Index of the persistentCharSequence from which the next record starts. Characters before this index belong to
+     * records which were already read, and are discarded when more characters are read from the channel.
+     */
+    private int recordStartIndex = 0;
+
+    /**
+     * Compiled record separator for reading. Separators are compiled once for the channel, when the first record is
+     * read.
+     */
+    private Pattern recordSeparatorPattern;
+
+    /**
+     * Compiled field separator for reading. This will be null if the fields are split by a single character.
+     */
+    private Pattern fieldSeparatorPattern;
+
+    /**
+     * Field separator character for reading, if the field separator denotes a single character.
+     */
+    private char fieldSeparatorChar;
+
+    /**
+     * Specifies whether the record and field separators enclosed within quotes should be ignored, as specified in
+     * RFC4180.
+     */
+    private boolean quoted;
+
+    /**
+     * Index of the persistentCharSequence up to which quoted records were scanned for the record separator.
+     */
+    private int quotedScanIndex = 0;
+
+    /**
+     * Specifies whether the quoted record scan ended within a quoted field.
+     */
+    private boolean withinQuotes = false;
+
+    /**
+     * Reused for collecting the fields of a record.
+     */
+    private List<String> fieldBuffer = new ArrayList<>();
+
     /**
      * A rough character count which will contain a record. This will be resized dynamically if the length of the
      * record is long.
@@ -95,6 +141,11 @@ public class DelimitedRecordChannel implements IOChannel {
 
     private static final Logger log = LoggerFactory.getLogger(DelimitedRecordChannel.class);
 
+    private static final char QUOTE = '"';
+    private static final char LINE_FEED = '\n';
+    private static final char CARRIAGE_RETURN = '\r';
+    private static final String REGEX_META_CHARACTERS = ".$|()[]{}^?*+\\";
+
     public DelimitedRecordChannel(CharacterChannel channel, Format format) {
         this.channel = channel;
         this.format = format;
@@ -165,6 +216,34 @@ public class DelimitedRecordChannel implements IOChannel {
         return format.getWriteFieldSeparator();
     }
 
+    /**
+     * Compiles the separators used for reading records. Separators are given as regular expressions, however field
+     * separators which denote a single character are matched without the regex engine.
+     */
+    private void initReadSeparators() {
+        if (null != recordSeparatorPattern) {
+            return;
+        }
+        quoted = Format.CSV == format;
+        recordSeparatorPattern = Pattern.compile(getRecordSeparatorForReading());
+        if (quoted) {
+            fieldSeparatorChar = format.getWriteFieldSeparator().charAt(0);
+            return;
+        }
+        String separator = getFieldSeparatorForReading();
+        int separatorLength = separator.length();
+        if (separatorLength == 1 && REGEX_META_CHARACTERS.indexOf(separator.charAt(0)) < 0) {
+            fieldSeparatorChar = separator.charAt(0);
+        } else if (separatorLength == 2 && separator.charAt(0) == '\\' &&
+                !Character.isLetterOrDigit(separator.charAt(1))) {
+            fieldSeparatorChar = separator.charAt(1);
+        } else if ("\\t".equals(separator)) {
+            fieldSeparatorChar = '\t';
+        } else {
+            fieldSeparatorPattern = Pattern.compile(separator);
+        }
+    }
+
     /**
      * <p>
      * Gets record from specified sequence of characters.
@@ -174,40 +253,81 @@ public class DelimitedRecordChannel implements IOChannel {
      * @throws BallerinaIOException during I/O error.
      */
     private String readRecord() throws BallerinaIOException {
-        String record = null;
-        final int minimumRecordCount = 1;
-        final int numberOfSplits = 2;
-        do {
-            if (log.isTraceEnabled()) {
-                log.trace(String.format("char[] remaining in memory %s", persistentCharSequence));
-            }
-            //We need to split the string into 2
-            String[] delimitedRecord = persistentCharSequence.toString().
-                    split(getRecordSeparatorForReading(), numberOfSplits);
-            if (delimitedRecord.length > minimumRecordCount) {
-                record = processIdentifiedRecord(delimitedRecord);
-                int recordCharacterLength = record.length();
-                if (recordCharacterLength > recordCharacterCount) {
-                    recordCharacterCount = record.length();
-                }
-            } else {
-                readRecordFromChannel();
-                if (channel.hasReachedEnd()) {
-                    delimitedRecord = persistentCharSequence.toString().
-                            split(getRecordSeparatorForReading(), numberOfSplits);
-                    record = (delimitedRecord.length == numberOfSplits) ?
-                            processIdentifiedRecord(delimitedRecord) :
-                            readFinalRecord();
-                }
-            }
-        } while (record == null && !channel.hasReachedEnd());
-
+        initReadSeparators();
+        String record = identifyRecord();
+        while (null == record && !channel.hasReachedEnd()) {
+            readRecordFromChannel();
+            record = identifyRecord();
+        }
         if (null == record) {
             record = readFinalRecord();
         }
         return record;
     }
 
+    /**
+     * <p>
+     * Identifies the next record from the characters in memory.
+     * </p>
+     * <p>
+     * The characters in memory are matched in place, and only the identified record is copied.
+     * </p>
+     *
+     * @return the identified record or null if the characters in memory does not contain a record separator.
+     */
+    private String identifyRecord() {
+        int separatorStartIndex;
+        int separatorEndIndex;
+        if (quoted) {
+            separatorEndIndex = findQuotedRecordEnd();
+            if (separatorEndIndex < 0) {
+                return null;
+            }
+            separatorStartIndex = separatorEndIndex - 1;
+            if (separatorStartIndex > recordStartIndex &&
+                    persistentCharSequence.charAt(separatorStartIndex - 1) == CARRIAGE_RETURN) {
+                separatorStartIndex--;
+            }
+        } else {
+            Matcher matcher = recordSeparatorPattern.matcher(persistentCharSequence);
+            if (!matcher.find(recordStartIndex)) {
+                return null;
+            }
+            separatorStartIndex = matcher.start();
+            separatorEndIndex = matcher.end();
+        }
+        String record = persistentCharSequence.substring(recordStartIndex, separatorStartIndex);
+        recordStartIndex = separatorEndIndex;
+        if (record.length() > recordCharacterCount) {
+            recordCharacterCount = record.length();
+        }
+        if (log.isTraceEnabled()) {
+            log.trace(String.format("Record identified from remaining char[] in memory %s", record));
+        }
+        return record;
+    }
+
+    /**
+     * Finds the end of the next record, ignoring line feeds which are enclosed within quotes. The characters which
+     * were already scanned are not scanned again when more characters are read from the channel.
+     *
+     * @return index after the line feed which ends the record or -1 if the record end is not found.
+     */
+    private int findQuotedRecordEnd() {
+        int length = persistentCharSequence.length();
+        for (int i = Math.max(quotedScanIndex, recordStartIndex); i < length; i++) {
+            char c = persistentCharSequence.charAt(i);
+            if (c == QUOTE) {
+                withinQuotes = !withinQuotes;
+            } else if (c == LINE_FEED && !withinQuotes) {
+                quotedScanIndex = i + 1;
+                return i + 1;
+            }
+        }
+        quotedScanIndex = length;
+        return -1;
+    }
+
     /**
      * <p>
      * Reads the remaining set of characters as the final record.
@@ -217,7 +337,6 @@ public class DelimitedRecordChannel implements IOChannel {
      * </p>
      */
     private String readFinalRecord() {
-        final int minimumRemainingLength = 0;
         String record = "";
         //This means there's no more to be get as records
         if (log.isDebugEnabled()) {
@@ -226,14 +345,14 @@ public class DelimitedRecordChannel implements IOChannel {
         //This means this will be the last record which could be get
         this.remaining = false;
         //If there're any remaining characters left we provide it as the last record
-        if (persistentCharSequence.length() > minimumRemainingLength) {
-            record = persistentCharSequence.toString();
-            //Once the final record is processed there will be no chars left
-            persistentCharSequence.setLength(minimumRemainingLength);
+        if (persistentCharSequence.length() > recordStartIndex) {
+            record = persistentCharSequence.substring(recordStartIndex);
             if (log.isTraceEnabled()) {
                 log.trace(String.format("char [] remaining in memory, will be marked as the last record %s", record));
             }
         }
+        //Once the final record is processed there will be no chars left
+        discardReadRecords();
         if (log.isDebugEnabled()) {
             log.debug("Final record is get from channel " + channel.hashCode() + " number of records get " +
                     "from channel " + (numberOfRecordsReadThroughChannel + 1));
@@ -254,6 +373,7 @@ public class DelimitedRecordChannel implements IOChannel {
         if (log.isTraceEnabled()) {
             log.trace(String.format("char [] get from channel,%d=%s", channel.hashCode(), readCharacters));
         }
+        discardReadRecords();
         persistentCharSequence.append(readCharacters);
         if (log.isTraceEnabled()) {
             log.trace(String.format("char [] appended to the memory %s", persistentCharSequence));
@@ -262,68 +382,79 @@ public class DelimitedRecordChannel implements IOChannel {
     }
 
     /**
-     * <p>
-     * Identifies the record from the provided collection.
-     * </p>
-     * <p>
-     * <b>Note :</b> This operation would append the remaining content to the string.
-     * </p>
-     *
-     * @param delimitedRecords collection of records which required to be split.
-     * @return the record content value.
-     */
-    private String processIdentifiedRecord(String[] delimitedRecords) {
-        String record;
-        final int minimumRemainingLength = 0;
-        final int delimitedRecordIndex = 0;
-        final int delimitedRemainingIndex = 1;
-        String recordContent = delimitedRecords[delimitedRemainingIndex];
-        record = delimitedRecords[delimitedRecordIndex];
-        persistentCharSequence.setLength(minimumRemainingLength);
-        persistentCharSequence.append(recordContent);
-        if (log.isTraceEnabled()) {
-            log.trace(String.format("Record identified from remaining char[] in memory %s", record));
-            log.trace(String.format("The char[] left after split %s", persistentCharSequence));
+     * Removes the characters of the records which were already read from memory. Only the characters of the partially
+     * read record are moved, which would be less than a record in length.
+     */
+    private void discardReadRecords() {
+        if (recordStartIndex == 0) {
+            return;
         }
-        return record;
+        if (recordStartIndex >= persistentCharSequence.length()) {
+            persistentCharSequence.setLength(0);
+        } else {
+            persistentCharSequence.delete(0, recordStartIndex);
+        }
+        quotedScanIndex = Math.max(0, quotedScanIndex - recordStartIndex);
+        recordStartIndex = 0;
     }
 
     /**
      * <p>
-     * Split based on given regEx.
+     * Splits the record by the given field separator character, with the same semantics as {@link String#split}.
      * </p>
      * <p>
-     * This operation will produce null for blanks.
+     * If the record is quoted, separators enclosed within quotes are ignored. The quotes are retained in the fields.
      * </p>
      *
-     * @param record record which should be separated.
-     * @param regex  condition which should be used to split.
+     * @param record    record which should be separated.
+     * @param separator character which separates the fields.
      * @return the list of fields
      */
-    private String[] splitIgnoreBlanks(String record, String regex) {
-        Pattern reg = Pattern.compile(regex);
-        String[] split = reg.split(record);
-        for (int i = 0; i < split.length; i++) {
-            if (split[i].isEmpty()) {
-                split[i] = null;
+    private String[] split(String record, char separator) {
+        int length = record.length();
+        int fieldStartIndex = 0;
+        boolean withinQuotedField = false;
+        fieldBuffer.clear();
+        for (int i = 0; i < length; i++) {
+            char c = record.charAt(i);
+            if (quoted && c == QUOTE) {
+                withinQuotedField = !withinQuotedField;
+            } else if (c == separator && !withinQuotedField) {
+                fieldBuffer.add(record.substring(fieldStartIndex, i));
+                fieldStartIndex = i + 1;
             }
         }
-        return split;
+        if (fieldStartIndex == 0) {
+            return new String[]{record};
+        }
+        fieldBuffer.add(record.substring(fieldStartIndex));
+        //Trailing empty fields are omitted similar to String#split
+        int numberOfFields = fieldBuffer.size();
+        while (numberOfFields > 0 && fieldBuffer.get(numberOfFields - 1).isEmpty()) {
+            numberOfFields--;
+        }
+        return fieldBuffer.subList(0, numberOfFields).toArray(new String[numberOfFields]);
     }
 
     /**
      * Get the fields identified through the record.
+     * <p>
+     * If the format ignores blanks, empty fields will be returned as null.
      *
      * @param record the record which contains all the fields.
      * @return fields which are separated as records.
      */
     private String[] getFields(String record) {
-        String fieldSeparatorForReading = getFieldSeparatorForReading();
+        String[] fields = null == fieldSeparatorPattern ? split(record, fieldSeparatorChar) :
+                fieldSeparatorPattern.split(record);
         if (null != format && format.shouldIgnoreBlanks()) {
-            return splitIgnoreBlanks(record, fieldSeparatorForReading);
-        } else {
-            return record.split(fieldSeparatorForReading);
+            for (int i = 0; i < fields.length; i++) {
+                if (fields[i].isEmpty()) {
+                    fields[i] = null;
+                }
+            }
         }
+        return fields;
     }
 
     /**
@@ -392,19 +523,20 @@ public class DelimitedRecordChannel implements IOChannel {
         String finalizedRecord;
         long numberOfFields = fields.size();
         final int fieldStartIndex = 0;
+        final String fieldSeparatorForWriting = getFieldSeparatorForWriting();
         final long secondLastFieldIndex = numberOfFields - 1;
         if (log.isDebugEnabled()) {
             log.debug(String.format("Number of fields to be composed %d", numberOfFields));
         }
         for (int fieldCount = fieldStartIndex; fieldCount < numberOfFields; fieldCount++) {
             String currentFieldString = fields.getString(fieldCount);
-            if (currentFieldString.contains(getFieldSeparatorForWriting())) {
+            if (currentFieldString.contains(fieldSeparatorForWriting)) {
                 currentFieldString = encloseField(currentFieldString);
             }
             recordConsolidator.append(currentFieldString);
             if (fieldCount < secondLastFieldIndex) {
                 //The idea here is to omit appending the field separator after the final field
-                recordConsolidator.append(getFieldSeparatorForWriting());
+                recordConsolidator.append(fieldSeparatorForWriting);
             }
         }
         finalizedRecord = recordConsolidator.toString();
@@ -454,7 +586,7 @@ public class DelimitedRecordChannel implements IOChannel {
 
     @Override
     public boolean remaining() {
-        return persistentCharSequence.length() > 0;
+        return persistentCharSequence.length() > recordStartIndex;
     }
 
     /**
@@ -464,7 +596,7 @@ public class DelimitedRecordChannel implements IOChannel {
      * @throws BallerinaIOException if encoding error or channel reading error happens
      */
     public boolean hasNext() throws BallerinaIOException {
-        if (remaining && persistentCharSequence.length() == 0) {
+        if (remaining && persistentCharSequence.length() == recordStartIndex) {
             //If this is the case we need to further verify whether there will be more bytes left to be read
             //Remaining can become false in the next iteration
             String readChars = readRecordFromChannel();
@@ -42,10 +42,8 @@ import org.ballerinalang.stdlib.io.utils.IOUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collection;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Extern function ballerina/io#loadToTable.
@@ -66,6 +64,7 @@ public class GetTable {
 
     private static final Logger log = LoggerFactory.getLogger(GetTable.class);
     private static final String CSV_CHANNEL_DELIMITED_STRUCT_FIELD = "dc";
+    private static final int UNSUPPORTED_UNION_TAG = -1;
 
     public static Object getTable(Strand strand, ObjectValue csvChannel, TypedescValue typedescValue) {
         try {
@@ -75,11 +74,7 @@ public class GetTable {
             if (delimitedChannel.hasReachedEnd()) {
                 return IOUtils.createEoFError();
             }
-            List<String[]> records = new ArrayList<>();
-            while (delimitedChannel.hasNext()) {
-                records.add(delimitedChannel.read());
-            }
-            return getTable(typedescValue, records);
+            return getTable(typedescValue, delimitedChannel);
         } catch (BallerinaIOException | BallerinaException e) {
             String msg = "failed to process the delimited file: " + e.getMessage();
             log.error(msg, e);
@@ -87,13 +82,26 @@ public class GetTable {
         }
     }
 
-    private static TableValue getTable(TypedescValue typedescValue, List records) {
+    /**
+     * Populates the table while the records are read from the channel, without retaining the records read.
+     */
+    private static TableValue getTable(TypedescValue typedescValue, DelimitedRecordChannel delimitedChannel)
+            throws BallerinaIOException {
         BType describingType = typedescValue.getDescribingType();
         TableValue table = new TableValue(new BTableType(describingType), null, null);
         BStructureType structType = (BStructureType) describingType;
-        for (Object obj : records) {
-            String[] fields = (String[]) obj;
-            final MapValueImpl<String, Object> struct = getStruct(fields, structType);
+        Collection<BField> internalStructFields = structType.getFields().values();
+        String[] fieldNames = new String[internalStructFields.size()];
+        int[] fieldTypes = new int[internalStructFields.size()];
+        int fieldIndex = 0;
+        for (BField internalStructField : internalStructFields) {
+            fieldNames[fieldIndex] = internalStructField.getFieldName();
+            fieldTypes[fieldIndex] = getFieldType(internalStructField.getFieldType());
+            fieldIndex++;
+        }
+        while (delimitedChannel.hasNext()) {
+            final MapValueImpl<String, Object> struct = getStruct(delimitedChannel.read(), structType, fieldNames,
+                    fieldTypes);
             if (struct != null) {
                 table.addData(struct);
             }
@@ -101,43 +109,39 @@ public class GetTable {
         return table;
     }
 
-    private static MapValueImpl<String, Object> getStruct(String[] fields, final BStructureType structType) {
-        Map<String, BField> internalStructFields = structType.getFields();
-        int fieldLength = internalStructFields.size();
+    /**
+     * Resolves the type tag which should be used to convert the values of a field.
+     *
+     * @param fieldType type of the field
+     * @return type tag of the field, the nil lifted member type tag for nillable fields or
+     * {@code UNSUPPORTED_UNION_TAG} for other unions
+     */
+    private static int getFieldType(BType fieldType) {
+        if (fieldType.getTag() != TypeTags.UNION_TAG) {
+            return fieldType.getTag();
+        }
+        List<BType> members = ((BUnionType) fieldType).getMemberTypes();
+        if (members.get(0).getTag() == TypeTags.NULL_TAG) {
+            return members.get(1).getTag();
+        } else if (members.get(1).getTag() == TypeTags.NULL_TAG) {
+            return members.get(0).getTag();
+        }
+        return UNSUPPORTED_UNION_TAG;
+    }
+
+    private static MapValueImpl<String, Object> getStruct(String[] fields, final BStructureType structType,
+                                                          String[] fieldNames, int[] fieldTypes) {
         MapValueImpl<String, Object> struct = null;
         if (fields.length > 0) {
-            Iterator<Map.Entry<String, BField>> itr = internalStructFields.entrySet().iterator();
             struct = new MapValueImpl<>(structType);
-            for (int i = 0; i < fieldLength; i++) {
-                final BField internalStructField = itr.next().getValue();
-                final int type = internalStructField.getFieldType().getTag();
-                String fieldName = internalStructField.getFieldName();
+            for (int i = 0; i < fieldNames.length; i++) {
                 if (fields.length > i) {
-                    String value = fields[i];
-                    switch (type) {
-                        case TypeTags.INT_TAG:
-                        case TypeTags.FLOAT_TAG:
-                        case TypeTags.STRING_TAG:
-                        case TypeTags.BOOLEAN_TAG:
-                            populateRecord(type, struct, fieldName, value);
-                        break;
-                        case TypeTags.UNION_TAG:
-                            List<BType> members = ((BUnionType) internalStructField.getFieldType()).getMemberTypes();
-                            if (members.get(0).getTag() == TypeTags.NULL_TAG) {
-                                populateRecord(members.get(1).getTag(), struct, fieldName, value);
-                            } else if (members.get(1).getTag() == TypeTags.NULL_TAG) {
-                                populateRecord(members.get(0).getTag(), struct, fieldName, value);
-                            } else {
-                                throw IOUtils.createError("unsupported nillable field for value: " + value);
-                            }
-                            break;
-                        default:
-                            throw IOUtils.createError(
-                                    "type casting support only for int, float, boolean and string. "
-                                            + "Invalid value for the struct field: " + value);
+                    if (fieldTypes[i] == UNSUPPORTED_UNION_TAG) {
+                        throw IOUtils.createError("unsupported nillable field for value: " + fields[i]);
                     }
+                    populateRecord(fieldTypes[i], struct, fieldNames[i], fields[i]);
                 } else {
-                    struct.put(fieldName, null);
+                    struct.put(fieldNames[i], null);
                 }
             }
         }
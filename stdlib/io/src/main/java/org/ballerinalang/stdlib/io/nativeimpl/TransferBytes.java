@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.io.nativeimpl;
+
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.Argument;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.Receiver;
+import org.ballerinalang.natives.annotations.ReturnType;
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.ballerinalang.stdlib.io.utils.IOConstants;
+import org.ballerinalang.stdlib.io.utils.IOUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+
+/**
+ * Extern function ballerina/io#transferTo.
+ *
+ * @since 1.0.2
+ */
+@BallerinaFunction(
+        orgName = "ballerina", packageName = "io",
+        functionName = "transferTo",
+        receiver = @Receiver(type = TypeKind.OBJECT, structType = "ReadableByteChannel",
+                structPackage = "ballerina/io"),
+        args = {@Argument(name = "dstChannel", type = TypeKind.OBJECT, structType = "WritableByteChannel")},
+        returnType = {@ReturnType(type = TypeKind.INT),
+                @ReturnType(type = TypeKind.ERROR)},
+        isPublic = true
+)
+public class TransferBytes {
+
+    private static final Logger log = LoggerFactory.getLogger(TransferBytes.class);
+
+    public static Object transferTo(Strand strand, ObjectValue channel, ObjectValue dstChannel) {
+        Channel srcByteChannel = (Channel) channel.getNativeData(IOConstants.BYTE_CHANNEL_NAME);
+        Channel dstByteChannel = (Channel) dstChannel.getNativeData(IOConstants.BYTE_CHANNEL_NAME);
+        if (srcByteChannel == null || dstByteChannel == null) {
+            return IOUtils.createError("byte channel is not initialized or already closed");
+        }
+        try {
+            return srcByteChannel.transferTo(dstByteChannel.getByteChannel());
+        } catch (IOException e) {
+            log.error("Error occurred while transferring bytes between channels.", e);
+            return IOUtils.createError(e);
+        }
+    }
+}
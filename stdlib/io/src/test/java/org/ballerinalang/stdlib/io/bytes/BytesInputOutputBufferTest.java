@@ -18,6 +18,7 @@
 package org.ballerinalang.stdlib.io.bytes;
 
 import org.ballerinalang.stdlib.io.MockByteChannel;
+import org.ballerinalang.stdlib.io.channels.FileIOChannel;
 import org.ballerinalang.stdlib.io.channels.base.Buffer;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.util.TestUtil;
@@ -27,12 +28,19 @@ import org.testng.annotations.BeforeSuite;
 import org.testng.annotations.Test;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URISyntaxException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ByteChannel;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
 import java.util.stream.Collectors;
 
 /**
@@ -278,4 +286,92 @@ public class BytesInputOutputBufferTest {
         channel.close();
         channel.getInputStream();
     }
+
+    @Test(description = "Read the start of a large file and transfer the rest of it to another file")
+    public void readAndTransferLargeFile() throws IOException {
+        byte[] content = new byte[3 * 1024 * 1024 + 7];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        Path srcPath = Files.write(Files.createTempFile("io-src", ".bin"), content);
+        Path dstPath = Files.createTempFile("io-dst", ".bin");
+        try {
+            Channel channel = new FileIOChannel(FileChannel.open(srcPath, StandardOpenOption.READ));
+            channel.setReadable(true);
+            ByteBuffer readBuffer = ByteBuffer.allocate(1024 * 1024);
+            channel.read(readBuffer);
+            Assert.assertEquals(readBuffer.array(), Arrays.copyOf(content, readBuffer.capacity()));
+
+            Channel dstChannel = new FileIOChannel(FileChannel.open(dstPath, StandardOpenOption.WRITE));
+            long transferredBytes = channel.transferTo(dstChannel.getByteChannel());
+            Assert.assertEquals(transferredBytes, content.length - readBuffer.capacity());
+            Assert.assertTrue(channel.hasReachedEnd());
+            channel.close();
+            dstChannel.close();
+            Assert.assertEquals(Files.readAllBytes(dstPath),
+                    Arrays.copyOfRange(content, readBuffer.capacity(), content.length));
+        } finally {
+            Files.deleteIfExists(srcPath);
+            Files.deleteIfExists(dstPath);
+        }
+    }
+
+    @Test(description = "Transfer all the bytes of a channel which does not have bytes available at times")
+    public void transferFromChannelWithoutAvailableBytes() throws IOException {
+        byte[] content = new byte[64 * 1024 + 3];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Channel channel = new MockByteChannel(new IntermittentByteChannel(content, 1000));
+        long transferredBytes = channel.transferTo(Channels.newChannel(outputStream));
+        Assert.assertEquals(transferredBytes, content.length);
+        Assert.assertTrue(channel.hasReachedEnd());
+        Assert.assertEquals(outputStream.toByteArray(), content);
+    }
+
+    /**
+     * Byte channel which returns no bytes on every other read, similar to a non-blocking channel.
+     */
+    private static class IntermittentByteChannel implements ByteChannel {
+
+        private final byte[] content;
+        private final int chunkSize;
+        private int position = 0;
+        private boolean available = false;
+
+        IntermittentByteChannel(byte[] content, int chunkSize) {
+            this.content = content;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public int read(ByteBuffer dst) {
+            if (position == content.length) {
+                return -1;
+            }
+            available = !available;
+            if (!available) {
+                return 0;
+            }
+            int length = Math.min(Math.min(chunkSize, dst.remaining()), content.length - position);
+            dst.put(content, position, length);
+            position += length;
+            return length;
+        }
+
+        @Override
+        public int write(ByteBuffer src) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isOpen() {
+            return true;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
 }
@@ -22,6 +22,7 @@ import org.ballerinalang.stdlib.io.MockByteChannel;
 import org.ballerinalang.stdlib.io.channels.base.Channel;
 import org.ballerinalang.stdlib.io.channels.base.CharacterChannel;
 import org.ballerinalang.stdlib.io.channels.base.DelimitedRecordChannel;
+import org.ballerinalang.stdlib.io.csv.Format;
 import org.ballerinalang.stdlib.io.util.TestUtil;
 import org.ballerinalang.stdlib.io.utils.BallerinaIOException;
 import org.testng.Assert;
@@ -164,4 +165,27 @@ public class RecordInputOutputTest {
         recordChannel.write(recordTwoArr);
         recordChannel.close();
     }
+
+    @Test(description = "Reads RFC4180 records with quoted separators")
+    public void readQuotedRecords() throws IOException, URISyntaxException, BallerinaIOException {
+        ByteChannel byteChannel = TestUtil.openForReading("datafiles/io/records/sampleRfcMultiline.csv");
+        Channel channel = new MockByteChannel(byteChannel);
+        CharacterChannel characterChannel = new CharacterChannel(channel, StandardCharsets.UTF_8.name());
+        DelimitedRecordChannel recordChannel = new DelimitedRecordChannel(characterChannel, Format.CSV);
+
+        Assert.assertTrue(recordChannel.hasNext());
+        String[] readRecord = recordChannel.read();
+        Assert.assertEquals(readRecord, new String[]{"\"User1,12\"", " WSO2", " 07xxxxxx"});
+
+        Assert.assertTrue(recordChannel.hasNext());
+        readRecord = recordChannel.read();
+        Assert.assertEquals(readRecord, new String[]{"User2", " \"WSO2,\nColombo\"", " 07xxxxxxx"});
+
+        Assert.assertTrue(recordChannel.hasNext());
+        readRecord = recordChannel.read();
+        Assert.assertEquals(readRecord, new String[]{"User3", " ", " 07xxxxxxx"});
+
+        Assert.assertFalse(recordChannel.hasNext());
+        recordChannel.close();
+    }
 }
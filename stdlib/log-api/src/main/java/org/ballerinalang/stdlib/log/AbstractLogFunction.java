@@ -23,12 +23,19 @@ import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.values.FPValue;
 import org.ballerinalang.logging.BLogManager;
 import org.ballerinalang.logging.util.BLogLevel;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.ballerinalang.logging.util.BLogLevelMapper;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.logging.Level;
 import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
 
 /**
  * Base class for the other log functions, containing a getter to retrieve the correct logger, given a package name.
@@ -39,14 +46,40 @@ public abstract class AbstractLogFunction {
 
     protected static final BLogManager LOG_MANAGER = (BLogManager) LogManager.getLogManager();
 
-    private static final Logger ballerinaRootLogger = LoggerFactory.getLogger(BLogManager.BALLERINA_ROOT_LOGGER_NAME);
+    private static final Logger ballerinaRootLogger = Logger.getLogger(BLogManager.BALLERINA_ROOT_LOGGER_NAME);
+
+    private static final Map<String, Logger> loggers = new ConcurrentHashMap<>();
+
+    // Index of the frame of the calling Ballerina module in the call stack, the frames above it being
+    // CallerResolver.getCallerClassName, getPackagePath, the log function and the log module function.
+    private static final int CALLER_FRAME_INDEX = 4;
+
+    private static final CallerResolver callerResolver = new CallerResolver(CALLER_FRAME_INDEX);
+
+    // Module paths are derived from the caller class names only once per class
+    private static final Map<String, String> packagePaths = new ConcurrentHashMap<>();
 
     protected static Logger getLogger(String pkg) {
         if (".".equals(pkg) || pkg == null) {
             return ballerinaRootLogger;
         } else {
-            // TODO: Refactor this later
-            return LoggerFactory.getLogger(ballerinaRootLogger.getName() + "." + pkg);
+            return loggers.computeIfAbsent(pkg,
+                                           key -> Logger.getLogger(ballerinaRootLogger.getName() + "." + key));
+        }
+    }
+
+    /**
+     * Log the message with the given Ballerina log level, through the logger of the given package.
+     *
+     * @param pkg      package
+     * @param logLevel log level
+     * @param message  log message
+     */
+    protected static void log(String pkg, BLogLevel logLevel, String message) {
+        Level level = BLogLevelMapper.getLoggerLevel(logLevel);
+        Logger logger = getLogger(pkg);
+        if (logger.isLoggable(level)) {
+            logger.log(level, message);
         }
     }
 
@@ -85,11 +118,65 @@ public abstract class AbstractLogFunction {
     }
 
     static String getPackagePath() {
-        String className = Thread.currentThread().getStackTrace()[4].getClassName();
+        String callerClassName = callerResolver.getCallerClassName();
+        return callerClassName == null ? "." : packagePaths.computeIfAbsent(callerClassName,
+                                                                           AbstractLogFunction::toPackagePath);
+    }
+
+    private static String toPackagePath(String className) {
         int lastIndex = className.lastIndexOf(".");
         if (lastIndex != -1) {
             return className.substring(0, lastIndex).replace(".", "/");
         }
         return ".";
     }
+
+    /**
+     * Resolves the class names in the call stack. On Java 9 and above, the frames are walked with the stack walker,
+     * which creates only the frames up to the requested one, and is several times cheaper than filling in the stack
+     * trace, which is used on Java 8. The stack walker is looked up reflectively since the runtime targets Java 8.
+     */
+    private static class CallerResolver {
+
+        private final Object stackWalker;
+        private final MethodHandle walk;
+        private final MethodHandle getClassName;
+        private final int frameIndex;
+        private final Function<Stream<?>, Object> frameFinder;
+
+        CallerResolver(int frameIndex) {
+            this.frameIndex = frameIndex;
+            this.frameFinder = frames -> frames.skip(frameIndex).findFirst().orElse(null);
+            Object walker = null;
+            MethodHandle walkHandle = null;
+            MethodHandle classNameHandle = null;
+            try {
+                Class<?> walkerClass = Class.forName("java.lang.StackWalker");
+                Class<?> frameClass = Class.forName("java.lang.StackWalker$StackFrame");
+                MethodHandles.Lookup lookup = MethodHandles.lookup();
+                walker = walkerClass.getMethod("getInstance").invoke(null);
+                walkHandle = lookup.unreflect(walkerClass.getMethod("walk", Function.class));
+                classNameHandle = lookup.unreflect(frameClass.getMethod("getClassName"));
+            } catch (ReflectiveOperationException e) {
+                // Stack walker is not available on Java 8
+                walker = null;
+            }
+            this.stackWalker = walker;
+            this.walk = walkHandle;
+            this.getClassName = classNameHandle;
+        }
+
+        String getCallerClassName() {
+            if (stackWalker == null) {
+                StackTraceElement[] stackTrace = new Throwable().getStackTrace();
+                return frameIndex < stackTrace.length ? stackTrace[frameIndex].getClassName() : null;
+            }
+            try {
+                Object frame = walk.invoke(stackWalker, frameFinder);
+                return frame == null ? null : (String) getClassName.invoke(frame);
+            } catch (Throwable e) {
+                return null;
+            }
+        }
+    }
 }
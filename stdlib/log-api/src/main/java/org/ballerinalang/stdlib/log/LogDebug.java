@@ -40,7 +40,7 @@ public class LogDebug extends AbstractLogFunction {
     public static void printDebug(Strand strand, Object msg) {
         String packagePath = getPackagePath();
         logMessage(strand, msg, BLogLevel.DEBUG, packagePath, (pkg, message) -> {
-            getLogger(pkg).debug(message);
+            log(pkg, BLogLevel.DEBUG, message);
         });
     }
 }
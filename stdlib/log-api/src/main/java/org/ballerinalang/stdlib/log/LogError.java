@@ -43,7 +43,7 @@ public class LogError extends AbstractLogFunction {
         String packagePath = getPackagePath();
         logMessage(strand, msg, BLogLevel.ERROR, packagePath, (pkg, message) -> {
             String errorMsg = (err == null) ? "" : " : " + err.toString();
-            getLogger(pkg).error(message + errorMsg);
+            log(pkg, BLogLevel.ERROR, message + errorMsg);
         });
     }
 }
@@ -40,7 +40,7 @@ public class LogInfo extends AbstractLogFunction {
     public static void printInfo(Strand strand, Object msg) {
         String packagePath = getPackagePath();
         logMessage(strand, msg, BLogLevel.INFO, packagePath, (pkg, message) -> {
-            getLogger(pkg).info(message);
+            log(pkg, BLogLevel.INFO, message);
         });
     }
 }
@@ -40,7 +40,7 @@ public class LogTrace extends AbstractLogFunction {
     public static void printTrace(Strand strand, Object msg) {
         String packagePath = getPackagePath();
         logMessage(strand, msg, BLogLevel.TRACE, packagePath, (pkg, message) -> {
-            getLogger(pkg).trace(message);
+            log(pkg, BLogLevel.TRACE, message);
         });
     }
 }
@@ -40,7 +40,7 @@ public class LogWarn extends AbstractLogFunction {
     public static void printWarn(Strand strand, Object msg) {
         String packagePath = getPackagePath();
         logMessage(strand, msg, BLogLevel.WARN, packagePath, (pkg, message) -> {
-            getLogger(pkg).warn(message);
+            log(pkg, BLogLevel.WARN, message);
         });
     }
 }
@@ -58,6 +58,9 @@ import ballerina/lang.'object as lang;
 # + checkCRCS - Check the CRC32 of the records consumed.
 # + excludeInternalTopics - Whether records from internal topics should be exposed to the consumer.
 # + decoupleProcessing - Decouples processing.
+# + partitionedProcessing - Processes the records of each partition in a separate resource invocation, so that
+#       partitions are processed concurrently while preserving the order of records within a partition. Offsets of
+#       the processed records are committed by the listener when auto commit is disabled.
 # + secureSocket - Configurations related to SSL/TLS.
 public type ConsumerConfig record {|
     string? bootstrapServers = ();
@@ -101,6 +104,7 @@ public type ConsumerConfig record {|
     boolean checkCRCS = true;
     boolean excludeInternalTopics = true;
     boolean decoupleProcessing = false;
+    boolean partitionedProcessing = false;
 
     SecureSocket secureSocket?;
 |};
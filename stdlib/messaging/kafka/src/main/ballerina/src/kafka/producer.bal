@@ -97,6 +97,21 @@ public const ACKS_SINGLE = "1";
 # Kafka producer acknowledgement type.
 public type Producer_Acks ACKS_ALL|ACKS_NONE|ACKS_SINGLE;
 
+# Type related to a record to be sent by the producer.
+#
+# + value - Record contents.
+# + topic - Topic to which the record will be appended to.
+# + key - Key that will be included in the record.
+# + partition - Partition to which the record should be sent.
+# + timestamp - Timestamp of the record, in milliseconds since epoch.
+public type ProducerRecord record {|
+    byte[] value;
+    string topic;
+    byte[]? key = ();
+    int? partition = ();
+    int? timestamp = ();
+|};
+
 # Represent a Kafka producer endpoint.
 #
 # + connectorId - Unique ID for a particular connector.
@@ -164,4 +179,12 @@ public type Producer client object {
     public remote function send(byte[] value, string topic, public byte[]? key = (), public int? partition = (),
                                 public int? timestamp = ()) returns ProducerError? = external;
 
+    # Send action which produces a batch of records to Kafka server. Records are handed over to the producer at
+    # once, so that they are batched as per the `batchSize` and `linger` configurations, and the action returns
+    # once all the records are acknowledged.
+    #
+    # + records - Records to be sent.
+    # + return - Returns `kafka:ProducerError` if any of the records could not be sent, nil otherwise.
+    public remote function sendRecords(ProducerRecord[] records) returns ProducerError? = external;
+
 };
@@ -20,6 +20,7 @@ package org.ballerinalang.messaging.kafka.api;
 
 import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
 import org.ballerinalang.messaging.kafka.impl.KafkaPollCycleFutureListener;
 
 /**
@@ -49,6 +50,20 @@ public interface KafkaListener {
                            String groupID,
                            KafkaPollCycleFutureListener listener);
 
+    /**
+     * When records are processed by partition, it will trigger invocation to this method dispatching the kafka
+     * records polled for a single partition.
+     *
+     * @param records       Kafka records of a single partition
+     * @param kafkaConsumer consumer on which poll is called upon
+     * @param groupId       ID of the consumer group in which the consumer belongs
+     * @param callback      which is notified once the records are processed
+     */
+    void onPartitionRecordsReceived(ConsumerRecords records,
+                                    KafkaConsumer kafkaConsumer,
+                                    String groupId,
+                                    CallableUnitCallback callback);
+
     /**
      * If there are errors, Kafka connector will trigger this method.
      *
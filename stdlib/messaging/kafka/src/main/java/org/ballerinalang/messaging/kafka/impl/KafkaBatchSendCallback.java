@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.messaging.kafka.impl;
+
+import org.apache.kafka.clients.producer.Callback;
+import org.apache.kafka.clients.producer.RecordMetadata;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+/**
+ * {@code KafkaBatchSendCallback} is shared by all the records of a batch sent by the producer, and completes once
+ * every record of the batch is acknowledged, so that the caller is resumed once per batch instead of once per record.
+ * <p>
+ * The completion handler receives the first error reported for the batch, or {@code null} if all the records were
+ * sent successfully.
+ *
+ * @since 1.0.2
+ */
+public class KafkaBatchSendCallback implements Callback {
+
+    private final AtomicInteger remainingRecords;
+    private final AtomicReference<Exception> firstError = new AtomicReference<>();
+    private final Consumer<Exception> completionHandler;
+
+    /**
+     * Creates a callback for a batch of records.
+     *
+     * @param recordCount       number of records in the batch
+     * @param completionHandler handler notified once all the records of the batch are completed
+     */
+    public KafkaBatchSendCallback(int recordCount, Consumer<Exception> completionHandler) {
+        this.remainingRecords = new AtomicInteger(recordCount);
+        this.completionHandler = completionHandler;
+        if (recordCount == 0) {
+            completionHandler.accept(null);
+        }
+    }
+
+    @Override
+    public void onCompletion(RecordMetadata metadata, Exception exception) {
+        if (Objects.nonNull(exception)) {
+            firstError.compareAndSet(null, exception);
+        }
+        if (remainingRecords.decrementAndGet() == 0) {
+            completionHandler.accept(firstError.get());
+        }
+    }
+
+    /**
+     * Completes the records of the batch which could not be handed over to the producer.
+     *
+     * @param unsentRecords number of records which were not sent
+     * @param exception     error which prevented sending the records
+     */
+    public void abort(int unsentRecords, Exception exception) {
+        firstError.compareAndSet(null, exception);
+        if (unsentRecords > 0 && remainingRecords.addAndGet(-unsentRecords) == 0) {
+            completionHandler.accept(firstError.get());
+        }
+    }
+}
@@ -77,6 +77,19 @@ public class KafkaListenerImpl implements KafkaListener {
 
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onPartitionRecordsReceived(ConsumerRecords records,
+                                           KafkaConsumer kafkaConsumer,
+                                           String groupId,
+                                           CallableUnitCallback callback) {
+        listener.addNativeData(NATIVE_CONSUMER, kafkaConsumer);
+        Executor.submit(this.scheduler, service, KAFKA_RESOURCE_ON_MESSAGE, callback, null,
+                getResourceParameters(service, this.listener, records, groupId));
+    }
+
     /**
      * {@inheritDoc}
      */
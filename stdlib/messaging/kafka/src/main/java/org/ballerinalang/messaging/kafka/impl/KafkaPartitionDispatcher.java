@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.messaging.kafka.impl;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRebalanceListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.TopicPartition;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiConsumer;
+
+/**
+ * {@code KafkaPartitionDispatcher} dispatches the records of each partition separately, so that partitions are
+ * processed concurrently while the records of a partition are processed in order.
+ * <p>
+ * Only one batch of records of a partition is processed at a time. A partition is paused while its records are being
+ * processed, so that the consumer keeps fetching only the partitions which can accept more records, and is resumed
+ * once the records are processed. If auto commit is disabled, offsets of the processed records are committed
+ * asynchronously for each partition.
+ * <p>
+ * If the records of a partition fail to be processed, the partition is kept paused for a backoff which doubles with
+ * each attempt, and is then sought back to the first record of the failed batch, so that the records are fetched and
+ * processed again. Once the retries are exhausted, the failure is logged and the records are skipped and committed,
+ * the same as a failure when the records are not processed by partition.
+ * <p>
+ * The dispatcher should be registered as the rebalance listener of the consumer. Offsets of the records processed
+ * for a revoked partition are committed synchronously before its state is dropped, and the completion of records
+ * which were still being processed is ignored.
+ * <p>
+ * Except for the completion of dispatched records, the dispatcher should only be accessed by the thread polling the
+ * consumer, as the consumer does not support multi-threaded access.
+ */
+public class KafkaPartitionDispatcher implements ConsumerRebalanceListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(KafkaPartitionDispatcher.class);
+    private static final int DEFAULT_MAX_RETRIES = 3;
+    private static final long DEFAULT_RETRY_BACKOFF_MILLIS = 100;
+
+    private final Consumer<byte[], byte[]> consumer;
+    private final BiConsumer<ConsumerRecords<byte[], byte[]>, CallableUnitCallback> recordsHandler;
+    private final boolean commitOffsets;
+    private final int maxRetries;
+    private final long retryBackoffMillis;
+    private final Map<TopicPartition, PartitionState> partitionStates = new HashMap<>();
+    private final Queue<CompletedBatch> completedBatches = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a dispatcher for the given consumer.
+     *
+     * @param consumer       consumer which the records are polled from
+     * @param recordsHandler handler which processes the records of a partition and notifies the given callback once
+     *                       the records are processed
+     * @param commitOffsets  whether the offsets of the processed records should be committed by the dispatcher
+     */
+    public KafkaPartitionDispatcher(Consumer<byte[], byte[]> consumer,
+                                    BiConsumer<ConsumerRecords<byte[], byte[]>, CallableUnitCallback> recordsHandler,
+                                    boolean commitOffsets) {
+        this(consumer, recordsHandler, commitOffsets, DEFAULT_MAX_RETRIES, DEFAULT_RETRY_BACKOFF_MILLIS);
+    }
+
+    /**
+     * Creates a dispatcher for the given consumer.
+     *
+     * @param consumer           consumer which the records are polled from
+     * @param recordsHandler     handler which processes the records of a partition and notifies the given callback
+     *                           once the records are processed
+     * @param commitOffsets      whether the offsets of the processed records should be committed by the dispatcher
+     * @param maxRetries         number of times failed records are processed again before they are skipped
+     * @param retryBackoffMillis time to wait before the first retry of failed records
+     */
+    public KafkaPartitionDispatcher(Consumer<byte[], byte[]> consumer,
+                                    BiConsumer<ConsumerRecords<byte[], byte[]>, CallableUnitCallback> recordsHandler,
+                                    boolean commitOffsets, int maxRetries, long retryBackoffMillis) {
+        this.consumer = consumer;
+        this.recordsHandler = recordsHandler;
+        this.commitOffsets = commitOffsets;
+        this.maxRetries = maxRetries;
+        this.retryBackoffMillis = retryBackoffMillis;
+    }
+
+    /**
+     * Dispatches the polled records by partition. Records of a partition which is still processing a previous batch
+     * are held until that batch is processed.
+     *
+     * @param records records returned from a poll cycle
+     */
+    public void dispatch(ConsumerRecords<byte[], byte[]> records) {
+        if (Objects.isNull(records) || records.isEmpty()) {
+            return;
+        }
+        for (TopicPartition partition : records.partitions()) {
+            PartitionState state = partitionStates.computeIfAbsent(partition, key -> new PartitionState());
+            List<ConsumerRecord<byte[], byte[]>> partitionRecords = records.records(partition);
+            if (state.inFlight) {
+                // Partition was resumed by a rebalance while its records are being processed
+                state.pendingRecords.addAll(partitionRecords);
+            } else {
+                submit(partition, state, partitionRecords);
+            }
+        }
+    }
+
+    /**
+     * Resumes the partitions of which the records are processed, dispatches records held for them and commits the
+     * offsets of the processed records. Partitions of which the records failed to be processed are sought back to the
+     * first failed record and resumed once their backoff has passed.
+     */
+    public void processCompletedBatches() {
+        processCompletedBatches(Collections.emptySet());
+    }
+
+    /**
+     * Commits the offsets of the records processed for the revoked partitions, and drops their state. Records being
+     * processed for them are not committed, and records held for them are discarded, as they are fetched again by the
+     * consumer the partitions are assigned to.
+     *
+     * @param partitions partitions revoked from the consumer
+     */
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        for (TopicPartition partition : partitions) {
+            PartitionState state = partitionStates.get(partition);
+            if (Objects.nonNull(state)) {
+                state.pendingRecords = new ArrayList<>();
+            }
+        }
+        processCompletedBatches(partitions);
+        for (TopicPartition partition : partitions) {
+            partitionStates.remove(partition);
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+        // State of an assigned partition is created when its records are dispatched
+    }
+
+    /**
+     * Returns the number of partitions which have records being processed.
+     *
+     * @return number of in-flight partitions
+     */
+    public int getInFlightPartitionCount() {
+        int count = 0;
+        for (PartitionState state : partitionStates.values()) {
+            if (state.inFlight) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void processCompletedBatches(Collection<TopicPartition> revokedPartitions) {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        Map<TopicPartition, OffsetAndMetadata> revokedOffsets = new HashMap<>();
+        List<TopicPartition> resumedPartitions = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        CompletedBatch batch;
+        while ((batch = completedBatches.poll()) != null) {
+            PartitionState state = partitionStates.get(batch.partition);
+            if (state != batch.state) {
+                // Partition was revoked while its records were being processed
+                continue;
+            }
+            state.inFlight = false;
+            boolean revoked = revokedPartitions.contains(batch.partition);
+            if (!batch.succeeded) {
+                if (revoked) {
+                    // Failed records are processed again from the committed offset by the next owner
+                    continue;
+                }
+                if (retry(batch, state, now)) {
+                    continue;
+                }
+            }
+            state.failedAttempts = 0;
+            OffsetAndMetadata offset = new OffsetAndMetadata(batch.lastOffset + 1);
+            if (revoked) {
+                if (commitOffsets) {
+                    revokedOffsets.put(batch.partition, offset);
+                }
+                continue;
+            }
+            if (commitOffsets) {
+                offsets.put(batch.partition, offset);
+            }
+            if (!state.pendingRecords.isEmpty()) {
+                List<ConsumerRecord<byte[], byte[]>> pendingRecords = state.pendingRecords;
+                state.pendingRecords = new ArrayList<>();
+                submit(batch.partition, state, pendingRecords);
+            } else {
+                resumedPartitions.add(batch.partition);
+            }
+        }
+        for (Map.Entry<TopicPartition, PartitionState> entry : partitionStates.entrySet()) {
+            PartitionState state = entry.getValue();
+            if (state.retryAt >= 0 && state.retryAt <= now && !revokedPartitions.contains(entry.getKey())) {
+                state.retryAt = -1;
+                resumedPartitions.add(entry.getKey());
+            }
+        }
+        if (!resumedPartitions.isEmpty()) {
+            Set<TopicPartition> pausedPartitions = consumer.paused();
+            resumedPartitions.retainAll(pausedPartitions);
+            consumer.resume(resumedPartitions);
+        }
+        if (!offsets.isEmpty()) {
+            consumer.commitAsync(offsets, (committedOffsets, exception) -> {
+                if (Objects.nonNull(exception)) {
+                    logger.error("Failed to commit offsets " + committedOffsets + ": " + exception.getMessage(),
+                            exception);
+                }
+            });
+        }
+        if (!revokedOffsets.isEmpty()) {
+            try {
+                consumer.commitSync(revokedOffsets);
+            } catch (KafkaException e) {
+                logger.error("Failed to commit offsets " + revokedOffsets + " of revoked partitions: " +
+                        e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Seeks the partition of a failed batch back to its first record, to be resumed once the backoff has passed.
+     *
+     * @return false if the retries of the batch are exhausted and its records should be skipped
+     */
+    private boolean retry(CompletedBatch batch, PartitionState state, long now) {
+        if (state.failedAttempts > 0 && state.failedOffset == batch.firstOffset) {
+            state.failedAttempts++;
+        } else {
+            state.failedAttempts = 1;
+            state.failedOffset = batch.firstOffset;
+        }
+        if (state.failedAttempts > maxRetries) {
+            logger.error("Skipping records of partition " + batch.partition + " from offset " + batch.firstOffset +
+                    " to " + batch.lastOffset + " after " + maxRetries + " failed retries");
+            return false;
+        }
+        // Records held for the partition follow the failed records, and are fetched again after the seek
+        state.pendingRecords = new ArrayList<>();
+        consumer.seek(batch.partition, batch.firstOffset);
+        state.retryAt = now + (retryBackoffMillis << (state.failedAttempts - 1));
+        return true;
+    }
+
+    private void submit(TopicPartition partition, PartitionState state,
+                        List<ConsumerRecord<byte[], byte[]>> partitionRecords) {
+        state.inFlight = true;
+        if (consumer.assignment().contains(partition)) {
+            consumer.pause(Collections.singletonList(partition));
+        }
+        long firstOffset = partitionRecords.get(0).offset();
+        long lastOffset = partitionRecords.get(partitionRecords.size() - 1).offset();
+        ConsumerRecords<byte[], byte[]> batch =
+                new ConsumerRecords<>(Collections.singletonMap(partition, partitionRecords));
+        recordsHandler.accept(batch, new BatchCallback(partition, state, firstOffset, lastOffset));
+    }
+
+    private static class PartitionState {
+        private boolean inFlight = false;
+        private List<ConsumerRecord<byte[], byte[]>> pendingRecords = new ArrayList<>();
+        private int failedAttempts = 0;
+        private long failedOffset = -1;
+        private long retryAt = -1;
+    }
+
+    private static class CompletedBatch {
+        private final TopicPartition partition;
+        private final PartitionState state;
+        private final long firstOffset;
+        private final long lastOffset;
+        private final boolean succeeded;
+
+        private CompletedBatch(TopicPartition partition, PartitionState state, long firstOffset, long lastOffset,
+                               boolean succeeded) {
+            this.partition = partition;
+            this.state = state;
+            this.firstOffset = firstOffset;
+            this.lastOffset = lastOffset;
+            this.succeeded = succeeded;
+        }
+    }
+
+    /**
+     * Callback notified once the records of a partition are processed. The completion is handed over to the polling
+     * thread, which is woken up so that the partition is resumed without waiting for the poll timeout.
+     */
+    private class BatchCallback implements CallableUnitCallback {
+
+        private final TopicPartition partition;
+        private final PartitionState state;
+        private final long firstOffset;
+        private final long lastOffset;
+
+        private BatchCallback(TopicPartition partition, PartitionState state, long firstOffset, long lastOffset) {
+            this.partition = partition;
+            this.state = state;
+            this.firstOffset = firstOffset;
+            this.lastOffset = lastOffset;
+        }
+
+        @Override
+        public void notifySuccess() {
+            completedBatches.add(new CompletedBatch(partition, state, firstOffset, lastOffset, true));
+            consumer.wakeup();
+        }
+
+        @Override
+        public void notifyFailure(ErrorValue error) {
+            logger.error("Failed to process records of partition " + partition + " from offset " + firstOffset + ": "
+                    + error.stringValue());
+            completedBatches.add(new CompletedBatch(partition, state, firstOffset, lastOffset, false));
+            consumer.wakeup();
+        }
+    }
+}
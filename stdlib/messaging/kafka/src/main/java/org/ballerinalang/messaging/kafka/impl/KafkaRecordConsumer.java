@@ -55,6 +55,7 @@ public class KafkaRecordConsumer {
     private Duration pollingTimeout = Duration.ofMillis(1000);
     private int pollingInterval = 1000;
     private boolean decoupleProcessing = true;
+    private KafkaPartitionDispatcher partitionDispatcher;
     private String groupId;
     private KafkaListener kafkaListener;
     private String serviceId;
@@ -75,9 +76,6 @@ public class KafkaRecordConsumer {
         } else {
             this.kafkaConsumer = kafkaConsumer;
         }
-        List<String> topics = (ArrayList<String>) configParams.get(KafkaConstants.ALIAS_TOPICS);
-        // Subscribe Kafka Consumer to given topics.
-        this.kafkaConsumer.subscribe(topics);
         this.kafkaListener = kafkaListener;
         if (configParams.get(KafkaConstants.ALIAS_POLLING_TIMEOUT) != null) {
             this.pollingTimeout = Duration.ofMillis((Integer) configParams.get(KafkaConstants.ALIAS_POLLING_TIMEOUT));
@@ -93,6 +91,21 @@ public class KafkaRecordConsumer {
             this.decoupleProcessing = (Boolean) configParams.get(KafkaConstants.ALIAS_DECOUPLE_PROCESSING);
         }
         this.groupId = (String) configParams.get(ConsumerConfig.GROUP_ID_CONFIG);
+        if (Boolean.TRUE.equals(configParams.get(KafkaConstants.ALIAS_PARTITIONED_PROCESSING))) {
+            // Auto commit is enabled unless it is disabled explicitly
+            boolean commitOffsets = Boolean.FALSE.equals(configParams.get(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG));
+            this.partitionDispatcher = new KafkaPartitionDispatcher(this.kafkaConsumer,
+                    (records, callback) -> this.kafkaListener.onPartitionRecordsReceived(records, this.kafkaConsumer,
+                            this.groupId, callback), commitOffsets);
+        }
+        List<String> topics = (ArrayList<String>) configParams.get(KafkaConstants.ALIAS_TOPICS);
+        // Subscribe Kafka Consumer to given topics.
+        if (Objects.nonNull(this.partitionDispatcher)) {
+            // Dispatcher drops the state of revoked partitions
+            this.kafkaConsumer.subscribe(topics, this.partitionDispatcher);
+        } else {
+            this.kafkaConsumer.subscribe(topics);
+        }
     }
 
     private void poll() {
@@ -101,15 +114,19 @@ public class KafkaRecordConsumer {
             try {
                 // Make thread-safe as kafka does not support multiple thread access
                 if (!closed.get()) {
+                    if (Objects.nonNull(this.partitionDispatcher)) {
+                        this.partitionDispatcher.processCompletedBatches();
+                    }
                     recordsRetrieved = this.kafkaConsumer.poll(this.pollingTimeout);
                 }
             } catch (WakeupException e) {
-                // Ignore exception if connection is closing.
-                if (!closed.get()) {
+                // Ignore exception if connection is closing, or if the partition dispatcher woke up the poll to
+                // resume partitions of which the records are processed.
+                if (!closed.get() && Objects.isNull(this.partitionDispatcher)) {
                     throw e;
                 }
             }
-            if (logger.isDebugEnabled()) {
+            if (logger.isDebugEnabled() && Objects.nonNull(recordsRetrieved)) {
                 logger.debug("Kafka service " + this.serviceId + " attached to consumer "
                         + this.consumerId + " has received " + recordsRetrieved.count() + " records.");
             }
@@ -124,6 +141,11 @@ public class KafkaRecordConsumer {
 
     private void processRetrievedRecords(ConsumerRecords<byte[], byte[]> consumerRecords) {
         if (Objects.nonNull(consumerRecords) && !consumerRecords.isEmpty()) {
+            // When partitioned processing is enabled, records of each partition are dispatched separately.
+            if (Objects.nonNull(this.partitionDispatcher)) {
+                this.partitionDispatcher.dispatch(consumerRecords);
+                return;
+            }
             // When decoupleProcessing == 'true' Kafka records set will be dispatched and processed in
             // Parallel threads.
             // Otherwise dispatching and processing will have single threaded semantics.
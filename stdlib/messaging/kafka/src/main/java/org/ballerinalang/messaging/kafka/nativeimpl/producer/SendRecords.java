@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.messaging.kafka.nativeimpl.producer;
+
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.KafkaException;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.connector.NonBlockingCallback;
+import org.ballerinalang.messaging.kafka.impl.KafkaBatchSendCallback;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.Receiver;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Objects;
+
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_KEY;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_PARTITION;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_TIMESTAMP;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_TOPIC;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ALIAS_VALUE;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.KAFKA_PACKAGE_NAME;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.KAFKA_PROTOCOL_PACKAGE;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.NATIVE_PRODUCER;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.ORG_NAME;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.PRODUCER_ERROR;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.PRODUCER_STRUCT_NAME;
+import static org.ballerinalang.messaging.kafka.utils.KafkaConstants.UNCHECKED;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.createKafkaError;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getIntValue;
+import static org.ballerinalang.messaging.kafka.utils.KafkaUtils.getLongValue;
+import static org.ballerinalang.messaging.kafka.utils.TransactionUtils.handleTransactions;
+
+/**
+ * Native action produces a batch of records, resuming the caller once all the records are acknowledged.
+ *
+ * @since 1.0.2
+ */
+@BallerinaFunction(
+        orgName = ORG_NAME,
+        packageName = KAFKA_PACKAGE_NAME,
+        functionName = "sendRecords",
+        receiver = @Receiver(
+                type = TypeKind.OBJECT,
+                structType = PRODUCER_STRUCT_NAME,
+                structPackage = KAFKA_PROTOCOL_PACKAGE
+        ),
+        isPublic = true
+)
+public class SendRecords {
+
+    private static final Logger logger = LoggerFactory.getLogger(SendRecords.class);
+
+    @SuppressWarnings(UNCHECKED)
+    public static Object sendRecords(Strand strand, ObjectValue producerObject, ArrayValue records) {
+        final NonBlockingCallback callback = new NonBlockingCallback(strand);
+        int recordCount = records.size();
+        KafkaBatchSendCallback batchCallback = new KafkaBatchSendCallback(recordCount, exception -> {
+            if (Objects.nonNull(exception)) {
+                callback.setReturnValues(createKafkaError("Failed to send data to Kafka server: "
+                        + exception.getMessage(), PRODUCER_ERROR));
+            }
+            callback.notifySuccess();
+        });
+        KafkaProducer<byte[], byte[]> producer = (KafkaProducer) producerObject.getNativeData(NATIVE_PRODUCER);
+        int sentRecords = 0;
+        try {
+            if (strand.isInTransaction()) {
+                handleTransactions(strand, producerObject);
+            }
+            for (; sentRecords < recordCount; sentRecords++) {
+                producer.send(createProducerRecord((MapValue<String, Object>) records.getRefValue(sentRecords)),
+                        batchCallback);
+            }
+        } catch (IllegalStateException | KafkaException e) {
+            batchCallback.abort(recordCount - sentRecords, e);
+        }
+        return null;
+    }
+
+    @SuppressWarnings(UNCHECKED)
+    private static ProducerRecord<byte[], byte[]> createProducerRecord(MapValue<String, Object> record) {
+        Integer partitionValue = getIntValue(record.get(ALIAS_PARTITION), ALIAS_PARTITION, logger);
+        Long timestampValue = getLongValue(record.get(ALIAS_TIMESTAMP));
+        Object key = record.get(ALIAS_KEY);
+        byte[] keyValue = Objects.nonNull(key) ? ((ArrayValue) key).getBytes() : null;
+        return new ProducerRecord(record.getStringValue(ALIAS_TOPIC), partitionValue, timestampValue, keyValue,
+                ((ArrayValue) record.get(ALIAS_VALUE)).getBytes());
+    }
+}
@@ -89,8 +89,12 @@ public class KafkaConstants {
     public static final String ALIAS_POLLING_TIMEOUT = "pollingTimeoutInMillis";
     public static final String ALIAS_POLLING_INTERVAL = "pollingIntervalInMillis";
     public static final String ALIAS_DECOUPLE_PROCESSING = "decoupleProcessing";
+    public static final String ALIAS_PARTITIONED_PROCESSING = "partitionedProcessing";
     public static final String ALIAS_TOPIC = "topic";
     public static final String ALIAS_PARTITION = "partition";
+    public static final String ALIAS_KEY = "key";
+    public static final String ALIAS_VALUE = "value";
+    public static final String ALIAS_TIMESTAMP = "timestamp";
     public static final String ALIAS_OFFSET = "offset";
     public static final String ALIAS_DURATION = "duration";
 
@@ -0,0 +1,209 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.messaging.kafka.consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
+import org.ballerinalang.messaging.kafka.impl.KafkaPartitionDispatcher;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for dispatching Kafka records by partition.
+ */
+public class KafkaPartitionDispatcherTest {
+
+    private static final String TOPIC = "partitioned-topic";
+    private static final int MAX_RETRIES = 2;
+
+    private TopicPartition partition0 = new TopicPartition(TOPIC, 0);
+    private TopicPartition partition1 = new TopicPartition(TOPIC, 1);
+    private MockConsumer<byte[], byte[]> consumer;
+    private Map<TopicPartition, List<Long>> dispatchedOffsets;
+    private Map<TopicPartition, CallableUnitCallback> inFlightCallbacks;
+    private KafkaPartitionDispatcher dispatcher;
+
+    @BeforeMethod
+    public void setup() {
+        consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+        consumer.assign(Arrays.asList(partition0, partition1));
+        Map<TopicPartition, Long> beginningOffsets = new HashMap<>();
+        beginningOffsets.put(partition0, 0L);
+        beginningOffsets.put(partition1, 0L);
+        consumer.updateBeginningOffsets(beginningOffsets);
+
+        dispatchedOffsets = new HashMap<>();
+        inFlightCallbacks = new HashMap<>();
+        dispatcher = createDispatcher(0);
+    }
+
+    private KafkaPartitionDispatcher createDispatcher(long retryBackoffMillis) {
+        return new KafkaPartitionDispatcher(consumer, (records, callback) -> {
+            Assert.assertEquals(records.partitions().size(), 1);
+            TopicPartition partition = records.partitions().iterator().next();
+            Assert.assertFalse(inFlightCallbacks.containsKey(partition), "Partition is already being processed");
+            for (ConsumerRecord<byte[], byte[]> record : records) {
+                dispatchedOffsets.computeIfAbsent(partition, key -> new ArrayList<>()).add(record.offset());
+            }
+            inFlightCallbacks.put(partition, callback);
+        }, true, MAX_RETRIES, retryBackoffMillis);
+    }
+
+    @Test(description = "Test dispatching records of partitions concurrently")
+    public void testDispatchPartitionsConcurrently() {
+        addRecords(partition0, 0, 3);
+        addRecords(partition1, 0, 2);
+        dispatcher.dispatch(poll());
+
+        Assert.assertEquals(dispatchedOffsets.get(partition0), Arrays.asList(0L, 1L, 2L));
+        Assert.assertEquals(dispatchedOffsets.get(partition1), Arrays.asList(0L, 1L));
+        Assert.assertEquals(dispatcher.getInFlightPartitionCount(), 2);
+        Assert.assertTrue(consumer.paused().contains(partition0));
+        Assert.assertTrue(consumer.paused().contains(partition1));
+    }
+
+    @Test(description = "Test resuming a partition and committing offsets once its records are processed")
+    public void testResumePartitionOnCompletion() {
+        addRecords(partition0, 0, 3);
+        addRecords(partition1, 0, 1);
+        dispatcher.dispatch(poll());
+
+        // Records of a paused partition are not fetched until its previous records are processed
+        addRecords(partition0, 3, 2);
+        dispatcher.dispatch(poll());
+        Assert.assertEquals(dispatchedOffsets.get(partition0), Arrays.asList(0L, 1L, 2L));
+
+        inFlightCallbacks.remove(partition0).notifySuccess();
+        dispatcher.processCompletedBatches();
+        Assert.assertFalse(consumer.paused().contains(partition0));
+        Assert.assertTrue(consumer.paused().contains(partition1));
+        Assert.assertEquals(consumer.committed(partition0).offset(), 3L);
+        Assert.assertNull(consumer.committed(partition1));
+
+        dispatcher.dispatch(poll());
+        Assert.assertEquals(dispatchedOffsets.get(partition0), Arrays.asList(0L, 1L, 2L, 3L, 4L));
+        Assert.assertEquals(dispatchedOffsets.get(partition1), Arrays.asList(0L));
+    }
+
+    @Test(description = "Test processing the records of a partition again once they fail to be processed")
+    public void testSeekBackOnFailure() {
+        addRecords(partition0, 0, 3);
+        dispatcher.dispatch(poll());
+        Assert.assertEquals(consumer.position(partition0), 3L);
+
+        inFlightCallbacks.remove(partition0).notifyFailure(createError());
+        dispatcher.processCompletedBatches();
+        Assert.assertEquals(dispatcher.getInFlightPartitionCount(), 0);
+        Assert.assertFalse(consumer.paused().contains(partition0));
+        Assert.assertEquals(consumer.position(partition0), 0L);
+        Assert.assertNull(consumer.committed(partition0));
+
+        // Records are fetched again from the first failed record
+        addRecords(partition0, 0, 3);
+        dispatcher.dispatch(poll());
+        Assert.assertEquals(dispatchedOffsets.get(partition0), Arrays.asList(0L, 1L, 2L, 0L, 1L, 2L));
+    }
+
+    @Test(description = "Test keeping a partition paused until the backoff of a failed batch has passed")
+    public void testRetryBackoff() {
+        dispatcher = createDispatcher(60000);
+        addRecords(partition0, 0, 3);
+        dispatcher.dispatch(poll());
+
+        inFlightCallbacks.remove(partition0).notifyFailure(createError());
+        dispatcher.processCompletedBatches();
+        Assert.assertTrue(consumer.paused().contains(partition0));
+        Assert.assertEquals(consumer.position(partition0), 0L);
+    }
+
+    @Test(description = "Test skipping and committing the records of a partition once the retries are exhausted")
+    public void testSkipAfterRetries() {
+        for (int attempt = 0; attempt <= MAX_RETRIES; attempt++) {
+            addRecords(partition0, 0, 3);
+            dispatcher.dispatch(poll());
+            inFlightCallbacks.remove(partition0).notifyFailure(createError());
+            dispatcher.processCompletedBatches();
+        }
+        Assert.assertEquals(dispatchedOffsets.get(partition0).size(), 3 * (MAX_RETRIES + 1));
+        Assert.assertFalse(consumer.paused().contains(partition0));
+        Assert.assertEquals(consumer.position(partition0), 3L);
+        Assert.assertEquals(consumer.committed(partition0).offset(), 3L);
+    }
+
+    @Test(description = "Test committing the processed records of a partition when it is revoked")
+    public void testCommitOnRevoke() {
+        addRecords(partition0, 0, 3);
+        dispatcher.dispatch(poll());
+        inFlightCallbacks.remove(partition0).notifySuccess();
+
+        dispatcher.onPartitionsRevoked(Collections.singletonList(partition0));
+        Assert.assertEquals(consumer.committed(partition0).offset(), 3L);
+        Assert.assertEquals(dispatcher.getInFlightPartitionCount(), 0);
+    }
+
+    @Test(description = "Test ignoring the completion of records of a revoked partition")
+    public void testRevokePartitionInFlight() {
+        addRecords(partition0, 0, 3);
+        dispatcher.dispatch(poll());
+        Assert.assertEquals(dispatcher.getInFlightPartitionCount(), 1);
+
+        dispatcher.onPartitionsRevoked(Collections.singletonList(partition0));
+        Assert.assertEquals(dispatcher.getInFlightPartitionCount(), 0);
+
+        inFlightCallbacks.remove(partition0).notifySuccess();
+        dispatcher.processCompletedBatches();
+        Assert.assertNull(consumer.committed(partition0));
+    }
+
+    private static ErrorValue createError() {
+        return new ErrorValue("failed", new MapValueImpl<>());
+    }
+
+    private void addRecords(TopicPartition partition, long startOffset, int count) {
+        for (long offset = startOffset; offset < startOffset + count; offset++) {
+            consumer.addRecord(new ConsumerRecord<>(TOPIC, partition.partition(), offset, null,
+                    ("message-" + offset).getBytes()));
+        }
+    }
+
+    private ConsumerRecords<byte[], byte[]> poll() {
+        try {
+            return consumer.poll(Duration.ofMillis(10));
+        } catch (WakeupException e) {
+            // Dispatcher wakes up the consumer once records of a partition are processed
+            return consumer.poll(Duration.ofMillis(10));
+        }
+    }
+}
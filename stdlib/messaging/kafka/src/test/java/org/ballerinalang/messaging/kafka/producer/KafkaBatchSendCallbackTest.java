@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.messaging.kafka.producer;
+
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.ballerinalang.messaging.kafka.impl.KafkaBatchSendCallback;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for completing a batch of records sent by the producer.
+ */
+public class KafkaBatchSendCallbackTest {
+
+    private static final String TOPIC = "batch-topic";
+
+    private MockProducer<byte[], byte[]> producer;
+    private List<Exception> completions;
+
+    @BeforeMethod
+    public void setup() {
+        producer = new MockProducer<>(false, new ByteArraySerializer(), new ByteArraySerializer());
+        completions = new ArrayList<>();
+    }
+
+    @Test(description = "Test completing a batch once all the records are acknowledged")
+    public void testBatchCompletion() {
+        KafkaBatchSendCallback callback = new KafkaBatchSendCallback(3, completions::add);
+        for (int i = 0; i < 3; i++) {
+            producer.send(new ProducerRecord<>(TOPIC, ("message-" + i).getBytes()), callback);
+        }
+        producer.completeNext();
+        producer.completeNext();
+        Assert.assertTrue(completions.isEmpty());
+
+        producer.completeNext();
+        Assert.assertEquals(completions.size(), 1);
+        Assert.assertNull(completions.get(0));
+        Assert.assertEquals(producer.history().size(), 3);
+    }
+
+    @Test(description = "Test completing a batch with the first error reported for its records")
+    public void testBatchCompletionWithError() {
+        KafkaBatchSendCallback callback = new KafkaBatchSendCallback(2, completions::add);
+        producer.send(new ProducerRecord<>(TOPIC, "message-0".getBytes()), callback);
+        producer.send(new ProducerRecord<>(TOPIC, "message-1".getBytes()), callback);
+        RuntimeException error = new RuntimeException("Broker unavailable");
+        producer.errorNext(error);
+        producer.completeNext();
+
+        Assert.assertEquals(completions.size(), 1);
+        Assert.assertSame(completions.get(0), error);
+    }
+
+    @Test(description = "Test completing a batch of which some records could not be sent")
+    public void testAbortedBatch() {
+        KafkaBatchSendCallback callback = new KafkaBatchSendCallback(3, completions::add);
+        producer.send(new ProducerRecord<>(TOPIC, "message-0".getBytes()), callback);
+        IllegalStateException error = new IllegalStateException("Producer is closed");
+        callback.abort(2, error);
+        Assert.assertTrue(completions.isEmpty());
+
+        producer.completeNext();
+        Assert.assertEquals(completions.size(), 1);
+        Assert.assertSame(completions.get(0), error);
+    }
+
+    @Test(description = "Test completing an empty batch")
+    public void testEmptyBatch() {
+        new KafkaBatchSendCallback(0, completions::add);
+        Assert.assertEquals(completions.size(), 1);
+        Assert.assertNull(completions.get(0));
+    }
+}
@@ -48,6 +48,29 @@ public type Producer client object {
 
     function externPublish(string subject, string | byte[] data, string? replyTo = ()) returns Error? = external;
 
+    # Produces a batch of messages to a NATS basic server for the given subject. The messages are queued on the
+    # connection together and written to the server as the outgoing buffer is flushed. If a message cannot be
+    # published, the messages before it remain published, the rest are not published and the returned error states
+    # the number of messages published.
+    #
+    # + subject - The subject to send the messages to.
+    # + data - Data of the messages to publish.
+    # + return -  A specific error if there is a problem when publishing the messages. Returns () otherwise.
+    public remote function publishBatch(string subject, @untainted Content[] data) returns Error? {
+        (string | byte[])[] convertedData = [];
+        foreach Content content in data {
+            string | byte[] | error converted = convertData(content);
+            if (converted is error) {
+                return prepareError("Error in data conversion", err = converted);
+            } else {
+                convertedData[convertedData.length()] = converted;
+            }
+        }
+        return self.externPublishBatch(subject, convertedData);
+    }
+
+    function externPublishBatch(string subject, (string | byte[])[] data) returns Error? = external;
+
     # Produces a message and would wait for a response.
     #
     # + subject - Would represent the topic/queue name.
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.nats.basic.producer;
+
+import io.nats.client.Connection;
+import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.model.types.TypeKind;
+import org.ballerinalang.natives.annotations.BallerinaFunction;
+import org.ballerinalang.natives.annotations.Receiver;
+import org.ballerinalang.nats.Constants;
+
+import java.util.function.Consumer;
+
+import static org.ballerinalang.nats.Utils.convertDataIntoByteArray;
+
+/**
+ * Extern function to publish a batch of messages to a given subject.
+ *
+ * @since 1.0.2
+ */
+@BallerinaFunction(
+        orgName = Constants.ORG_NAME,
+        packageName = Constants.NATS,
+        functionName = "externPublishBatch",
+        receiver = @Receiver(type = TypeKind.OBJECT,
+                structType = "Producer",
+                structPackage = Constants.NATS_PACKAGE),
+        isPublic = true
+)
+public class PublishBatch {
+
+    public static Object externPublishBatch(Strand strand, ObjectValue producerObject, String subject,
+                                            ArrayValue data) {
+        Object connection = producerObject.get("conn");
+
+        if (TypeChecker.getType(connection).getTag() == TypeTags.OBJECT_TYPE_TAG) {
+            ObjectValue connectionObject = (ObjectValue) connection;
+            Connection natsConnection = (Connection) connectionObject.getNativeData(Constants.NATS_CONNECTION);
+
+            if (natsConnection == null) {
+                return BallerinaErrors.createError(Constants.NATS_ERROR_CODE, Constants.PRODUCER_ERROR + subject +
+                        ". NATS connection doesn't exist.");
+            }
+            int messageCount = data.size();
+            byte[][] messages = new byte[messageCount][];
+            for (int i = 0; i < messageCount; i++) {
+                messages[i] = convertDataIntoByteArray(data.getRefValue(i));
+            }
+            RuntimeException[] failure = new RuntimeException[1];
+            int publishedCount = publishMessages(natsConnection, subject, messages, ex -> failure[0] = ex);
+            if (failure[0] != null) {
+                return BallerinaErrors.createError(Constants.NATS_ERROR_CODE, Constants.PRODUCER_ERROR + subject +
+                        ". Published " + publishedCount + " of " + messageCount + " messages. " +
+                        failure[0].getMessage());
+            }
+        } else {
+            return BallerinaErrors.createError(Constants.NATS_ERROR_CODE, Constants.PRODUCER_ERROR + subject +
+                    ". Producer is logically disconnected.");
+        }
+        return null;
+    }
+
+    /**
+     * Publishes the messages in order, stopping at the first message which could not be published. Publishing only
+     * queues a message on the connection, the queued messages are written to the server together by the
+     * connection's writer.
+     *
+     * @param natsConnection connection to publish the messages
+     * @param subject        subject to publish the messages to
+     * @param messages       messages to publish
+     * @param errorHandler   called with the error if a message could not be published
+     * @return the number of messages published, which is the leading part of the batch
+     */
+    static int publishMessages(Connection natsConnection, String subject, byte[][] messages,
+                               Consumer<RuntimeException> errorHandler) {
+        for (int i = 0; i < messages.length; i++) {
+            try {
+                natsConnection.publish(subject, messages[i]);
+            } catch (IllegalArgumentException | IllegalStateException ex) {
+                errorHandler.accept(ex);
+                return i;
+            }
+        }
+        return messages.length;
+    }
+}
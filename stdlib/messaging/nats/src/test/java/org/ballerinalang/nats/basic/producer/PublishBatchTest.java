@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.nats.basic.producer;
+
+import io.nats.client.Connection;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test cases for publishing a batch of messages through a NATS connection.
+ */
+public class PublishBatchTest {
+
+    private static final String SUBJECT = "batch-subject";
+
+    private List<String> published;
+    private List<RuntimeException> errors;
+
+    @BeforeMethod
+    public void setup() {
+        published = new ArrayList<>();
+        errors = new ArrayList<>();
+    }
+
+    @Test(description = "Test publishing all the messages of a batch in order")
+    public void testPublishBatch() {
+        int publishedCount = PublishBatch.publishMessages(createConnection(-1), SUBJECT, createMessages(3),
+                                                          errors::add);
+        Assert.assertEquals(publishedCount, 3);
+        Assert.assertEquals(published, createMessageList(3));
+        Assert.assertTrue(errors.isEmpty());
+    }
+
+    @Test(description = "Test publishing a batch of which a message could not be published")
+    public void testPartiallyPublishedBatch() {
+        int publishedCount = PublishBatch.publishMessages(createConnection(2), SUBJECT, createMessages(5),
+                                                          errors::add);
+        Assert.assertEquals(publishedCount, 2);
+        Assert.assertEquals(published, createMessageList(2));
+        Assert.assertEquals(errors.size(), 1);
+        Assert.assertEquals(errors.get(0).getMessage(), "Connection is Closed");
+    }
+
+    @Test(description = "Test publishing a batch of which the first message could not be published")
+    public void testUnpublishedBatch() {
+        int publishedCount = PublishBatch.publishMessages(createConnection(0), SUBJECT, createMessages(2),
+                                                          errors::add);
+        Assert.assertEquals(publishedCount, 0);
+        Assert.assertTrue(published.isEmpty());
+        Assert.assertEquals(errors.size(), 1);
+    }
+
+    @Test(description = "Test publishing an empty batch")
+    public void testEmptyBatch() {
+        int publishedCount = PublishBatch.publishMessages(createConnection(0), SUBJECT, createMessages(0),
+                                                          errors::add);
+        Assert.assertEquals(publishedCount, 0);
+        Assert.assertTrue(errors.isEmpty());
+    }
+
+    /**
+     * Creates a connection which records the published messages, and fails to publish once the given number of
+     * messages are published, similar to a connection closed while publishing.
+     */
+    private Connection createConnection(int failAfter) {
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (!"publish".equals(method.getName()) || args.length != 2) {
+                        throw new UnsupportedOperationException(method.getName());
+                    }
+                    if (published.size() == failAfter) {
+                        throw new IllegalStateException("Connection is Closed");
+                    }
+                    Assert.assertEquals(args[0], SUBJECT);
+                    published.add(new String((byte[]) args[1], StandardCharsets.UTF_8));
+                    return null;
+                });
+    }
+
+    private static byte[][] createMessages(int count) {
+        byte[][] messages = new byte[count][];
+        for (int i = 0; i < count; i++) {
+            messages[i] = ("message-" + i).getBytes(StandardCharsets.UTF_8);
+        }
+        return messages;
+    }
+
+    private static List<String> createMessageList(int count) {
+        List<String> messages = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            messages.add("message-" + i);
+        }
+        return messages;
+    }
+}
@@ -3,11 +3,10 @@ package org.ballerinalang.mime.nativeimpl;
 import org.ballerinalang.jvm.BallerinaValues;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.values.ObjectValue;
-import org.ballerinalang.mime.util.EntityBodyChannel;
-import org.ballerinalang.mime.util.EntityWrapper;
 import org.ballerinalang.mime.util.HeaderUtil;
 import org.ballerinalang.mime.util.MimeUtil;
 import org.ballerinalang.mime.util.MultipartDataSource;
+import org.ballerinalang.mime.util.SpillOverOutputStream;
 import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.Receiver;
@@ -16,9 +15,6 @@ import org.ballerinalang.stdlib.io.utils.IOConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-
 import static org.ballerinalang.mime.nativeimpl.AbstractGetPayloadHandler.getErrorMsg;
 import static org.ballerinalang.mime.util.HeaderUtil.isMultipart;
 import static org.ballerinalang.mime.util.MimeConstants.PARSING_ENTITY_BODY_FAILED;
@@ -42,24 +38,27 @@ public class GetBodyPartsAsChannel {
     private static final Logger log = LoggerFactory.getLogger(GetBodyPartsAsChannel.class);
 
     public static Object getBodyPartsAsChannel(Strand strand, ObjectValue entityObj) {
+        SpillOverOutputStream outputStream = null;
         try {
             String contentType = getContentTypeWithParameters(entityObj);
             if (isMultipart(contentType)) {
                 String boundaryValue = HeaderUtil.extractBoundaryParameter(contentType);
                 String multipartDataBoundary = boundaryValue != null ? boundaryValue : getNewMultipartDelimiter();
-                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                // Encoded body parts are moved to a temporary file once they exceed the memory threshold
+                outputStream = new SpillOverOutputStream(MimeUtil.getMemoryThreshold());
                 MultipartDataSource multipartDataSource = new MultipartDataSource(entityObj, multipartDataBoundary);
                 multipartDataSource.serialize(outputStream);
-                EntityBodyChannel entityBodyChannel = new EntityBodyChannel(new ByteArrayInputStream(
-                        outputStream.toByteArray()));
                 ObjectValue byteChannelObj = BallerinaValues.createObjectValue(IOConstants.IO_PACKAGE_ID,
                                                                                READABLE_BYTE_CHANNEL_STRUCT);
-                byteChannelObj.addNativeData(IOConstants.BYTE_CHANNEL_NAME, new EntityWrapper(entityBodyChannel));
+                byteChannelObj.addNativeData(IOConstants.BYTE_CHANNEL_NAME, outputStream.getByteChannel());
                 return byteChannelObj;
             } else {
                 return MimeUtil.createError(PARSING_ENTITY_BODY_FAILED, "Entity doesn't contain body parts");
             }
         } catch (Throwable err) {
+            if (outputStream != null) {
+                outputStream.discard();
+            }
             log.error("Error occurred while constructing a byte channel out of body parts", err);
             return MimeUtil.createError(PARSING_ENTITY_BODY_FAILED, "Error occurred while constructing a byte " +
                     "channel out of body parts : " + getErrorMsg(err));
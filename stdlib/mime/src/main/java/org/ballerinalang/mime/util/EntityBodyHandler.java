@@ -39,6 +39,7 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
 import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
@@ -56,6 +57,8 @@ import static org.ballerinalang.mime.util.MimeConstants.ENTITY_BYTE_CHANNEL;
 import static org.ballerinalang.mime.util.MimeConstants.FIRST_BODY_PART_INDEX;
 import static org.ballerinalang.mime.util.MimeConstants.MESSAGE_DATA_SOURCE;
 import static org.ballerinalang.mime.util.MimeConstants.MULTIPART_AS_PRIMARY_TYPE;
+import static org.ballerinalang.mime.util.MimeConstants.NO_CONTENT_LENGTH_FOUND;
+import static org.ballerinalang.mime.util.MimeConstants.SIZE_FIELD;
 import static org.ballerinalang.mime.util.MimeUtil.isNotNullAndEmpty;
 
 /**
@@ -149,7 +152,7 @@ public class EntityBodyHandler {
             return new ArrayValue(new byte[0]);
         }
         try {
-            return constructBlobDataSource(byteChannel.getInputStream());
+            return constructBlobDataSource(byteChannel.getInputStream(), getContentLength(entityObj));
         } finally {
             closeByteChannel(byteChannel);
         }
@@ -162,15 +165,32 @@ public class EntityBodyHandler {
      * @return Data source for binary data which is kept in memory
      */
     public static ArrayValue constructBlobDataSource(InputStream inputStream) {
+        return constructBlobDataSource(inputStream, NO_CONTENT_LENGTH_FOUND);
+    }
+
+    /**
+     * Construct BlobDataSource from the given input stream, allocating the byte array upfront when the content length
+     * is known.
+     *
+     * @param inputStream   Represent the input stream
+     * @param contentLength Length of the content or a negative value if it is not known
+     * @return Data source for binary data which is kept in memory
+     */
+    public static ArrayValue constructBlobDataSource(InputStream inputStream, long contentLength) {
         byte[] byteData;
         try {
-            byteData = MimeUtil.getByteArray(inputStream);
+            byteData = MimeUtil.getByteArray(inputStream, contentLength);
         } catch (IOException ex) {
             throw BallerinaErrors.createError("Error occurred while reading input stream :" + ex.getMessage());
         }
         return new ArrayValue(byteData);
     }
 
+    private static long getContentLength(ObjectValue entityObj) {
+        Object contentLength = entityObj.get(SIZE_FIELD);
+        return contentLength instanceof Long ? (Long) contentLength : NO_CONTENT_LENGTH_FOUND;
+    }
+
     /**
      * Construct JsonDataSource from the underneath byte channel which is associated with the entity object.
      *
@@ -362,7 +382,8 @@ public class EntityBodyHandler {
             throws IOException {
         Channel byteChannel = EntityBodyHandler.getByteChannel(entityObj);
         if (byteChannel != null) {
-            MimeUtil.writeInputToOutputStream(byteChannel.getInputStream(), messageOutputStream);
+            //File channels are transferred to the output stream without reading the content to Ballerina byte arrays
+            byteChannel.transferTo(Channels.newChannel(messageOutputStream));
             byteChannel.close();
             //Set the byte channel to null, once it is consumed
             entityObj.addNativeData(ENTITY_BYTE_CHANNEL, null);
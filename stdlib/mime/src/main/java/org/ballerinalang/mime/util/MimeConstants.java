@@ -153,7 +153,9 @@ public class MimeConstants {
 
     public static final short ONE_BYTE = 1;
     public static final int READABLE_BUFFER_SIZE = 8192; //8KB
-    public static final double MAX_THRESHOLD_PERCENTAGE = 0.1;
+    public static final String MEMORY_THRESHOLD_CONFIG = "b7a.mime.memory.threshold";
+    public static final long DEFAULT_MEMORY_THRESHOLD = 1024 * 1024; //1MB
+    public static final long MAX_PREALLOCATED_SIZE = 256 * 1024; //256KB
 
     public static final String UTF_8 = "UTF-8";
     public static final String CONTENT_TRANSFER_ENCODING_7_BIT = "7bit";
@@ -20,6 +20,7 @@ package org.ballerinalang.mime.util;
 
 import io.netty.handler.codec.http.HttpHeaderNames;
 import io.netty.util.internal.PlatformDependent;
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.jvm.BallerinaErrors;
 import org.ballerinalang.jvm.BallerinaValues;
 import org.ballerinalang.jvm.TypeChecker;
@@ -39,6 +40,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Enumeration;
 
 import javax.activation.MimeType;
@@ -53,6 +55,7 @@ import static org.ballerinalang.mime.util.MimeConstants.CONTENT_DISPOSITION_FILE
 import static org.ballerinalang.mime.util.MimeConstants.CONTENT_DISPOSITION_NAME;
 import static org.ballerinalang.mime.util.MimeConstants.CONTENT_DISPOSITION_NAME_FIELD;
 import static org.ballerinalang.mime.util.MimeConstants.CONTENT_DISPOSITION_PARA_MAP_FIELD;
+import static org.ballerinalang.mime.util.MimeConstants.DEFAULT_MEMORY_THRESHOLD;
 import static org.ballerinalang.mime.util.MimeConstants.DEFAULT_PRIMARY_TYPE;
 import static org.ballerinalang.mime.util.MimeConstants.DEFAULT_SUB_TYPE;
 import static org.ballerinalang.mime.util.MimeConstants.DISPOSITION_FIELD;
@@ -60,8 +63,10 @@ import static org.ballerinalang.mime.util.MimeConstants.DOUBLE_QUOTE;
 import static org.ballerinalang.mime.util.MimeConstants.FORM_DATA_PARAM;
 import static org.ballerinalang.mime.util.MimeConstants.INVALID_CONTENT_LENGTH;
 import static org.ballerinalang.mime.util.MimeConstants.INVALID_CONTENT_TYPE;
+import static org.ballerinalang.mime.util.MimeConstants.MAX_PREALLOCATED_SIZE;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE;
 import static org.ballerinalang.mime.util.MimeConstants.MEDIA_TYPE_FIELD;
+import static org.ballerinalang.mime.util.MimeConstants.MEMORY_THRESHOLD_CONFIG;
 import static org.ballerinalang.mime.util.MimeConstants.MULTIPART_AS_PRIMARY_TYPE;
 import static org.ballerinalang.mime.util.MimeConstants.MULTIPART_FORM_DATA;
 import static org.ballerinalang.mime.util.MimeConstants.NO_CONTENT_LENGTH_FOUND;
@@ -381,6 +386,73 @@ public class MimeUtil {
         }
     }
 
+    /**
+     * Given an input stream and the expected length of its content, get a byte array. The byte array is allocated
+     * upfront when the length is known, instead of growing an intermediate buffer while reading the stream. Since the
+     * expected length usually comes from a header, it is not trusted for allocations beyond
+     * {@code MAX_PREALLOCATED_SIZE}. Longer content is read into a buffer of that size, which grows only as the
+     * content actually arrives.
+     *
+     * @param input          Represent an input stream
+     * @param expectedLength Expected number of bytes in the input stream or a negative value if it is not known
+     * @return A byte array
+     * @throws IOException In case an error occurs while reading input stream
+     */
+    public static byte[] getByteArray(InputStream input, long expectedLength) throws IOException {
+        if (expectedLength < 0) {
+            return getByteArray(input);
+        }
+        if (expectedLength > MAX_PREALLOCATED_SIZE) {
+            try (ByteArrayOutputStream output = new ByteArrayOutputStream((int) MAX_PREALLOCATED_SIZE)) {
+                byte[] buffer = new byte[READABLE_BUFFER_SIZE];
+                for (int len; (len = input.read(buffer)) != -1; ) {
+                    output.write(buffer, 0, len);
+                }
+                return output.toByteArray();
+            }
+        }
+        byte[] byteData = new byte[(int) expectedLength];
+        int offset = 0;
+        int len;
+        while (offset < byteData.length && (len = input.read(byteData, offset, byteData.length - offset)) != -1) {
+            offset += len;
+        }
+        if (offset < byteData.length) {
+            return Arrays.copyOf(byteData, offset);
+        }
+        int nextByte = input.read();
+        if (nextByte == -1) {
+            return byteData;
+        }
+        // Content is longer than expected, hence read the rest of the content as well
+        try (ByteArrayOutputStream output = new ByteArrayOutputStream(byteData.length + READABLE_BUFFER_SIZE)) {
+            output.write(byteData);
+            output.write(nextByte);
+            byte[] buffer = new byte[READABLE_BUFFER_SIZE];
+            while ((len = input.read(buffer)) != -1) {
+                output.write(buffer, 0, len);
+            }
+            return output.toByteArray();
+        }
+    }
+
+    /**
+     * Get the maximum number of bytes of an entity body which is kept in memory while decoding or encoding multiparts.
+     * Content beyond this is written to temporary files.
+     *
+     * @return memory threshold in bytes
+     */
+    public static long getMemoryThreshold() {
+        String threshold = ConfigRegistry.getInstance().getConfigOrDefault(MEMORY_THRESHOLD_CONFIG,
+                String.valueOf(DEFAULT_MEMORY_THRESHOLD));
+        try {
+            long memoryThreshold = Long.parseLong(threshold.trim());
+            return memoryThreshold >= 0 ? memoryThreshold : DEFAULT_MEMORY_THRESHOLD;
+        } catch (NumberFormatException e) {
+            return DEFAULT_MEMORY_THRESHOLD;
+        }
+    }
+
     /**
      * Check whether the given string is not null and empty.
      *
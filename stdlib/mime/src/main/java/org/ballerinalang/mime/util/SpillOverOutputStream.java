@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.mime.util;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.Unpooled;
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.ballerinalang.mime.util.MimeConstants.READABLE_BUFFER_SIZE;
+import static org.ballerinalang.mime.util.MimeConstants.TEMP_FILE_EXTENSION;
+import static org.ballerinalang.mime.util.MimeConstants.TEMP_FILE_NAME;
+
+/**
+ * Output stream which keeps the written content in memory until it reaches the given threshold, after which the
+ * content is written to a temporary file. Once written, the content can be read back as a byte channel.
+ *
+ * @since 1.0.2
+ */
+public class SpillOverOutputStream extends OutputStream {
+
+    private final long memoryThreshold;
+    private ByteBuf memoryBuffer = Unpooled.buffer();
+    private Path tempFile;
+    private OutputStream fileOutputStream;
+    private boolean closed = false;
+
+    public SpillOverOutputStream(long memoryThreshold) {
+        this.memoryThreshold = memoryThreshold;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        OutputStream outputStream = getOutputStream(1);
+        if (outputStream != null) {
+            outputStream.write(b);
+        } else {
+            memoryBuffer.writeByte(b);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        OutputStream outputStream = getOutputStream(len);
+        if (outputStream != null) {
+            outputStream.write(b, off, len);
+        } else {
+            memoryBuffer.writeBytes(b, off, len);
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (fileOutputStream != null) {
+            fileOutputStream.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed && fileOutputStream != null) {
+            fileOutputStream.close();
+        }
+        closed = true;
+    }
+
+    /**
+     * Get a byte channel to read the written content. The temporary file, if any, is deleted once the channel is
+     * closed.
+     *
+     * @return Channel which represent the written content
+     * @throws IOException When an error occurs while closing the temporary file
+     */
+    public Channel getByteChannel() throws IOException {
+        close();
+        if (tempFile != null) {
+            return EntityBodyHandler.getByteChannelForTempFile(tempFile.toString());
+        }
+        ByteBuf content = memoryBuffer;
+        memoryBuffer = null;
+        return new EntityWrapper(new EntityBodyChannel(new ByteBufInputStream(content, true)));
+    }
+
+    /**
+     * Discard the written content, deleting the temporary file if any.
+     */
+    public void discard() {
+        try {
+            close();
+            if (tempFile != null) {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            // Temporary file will be left for the OS to clean up
+        }
+        if (memoryBuffer != null) {
+            memoryBuffer.release();
+            memoryBuffer = null;
+        }
+    }
+
+    /**
+     * Get the file output stream if the content has been moved to a temporary file, moving the content if writing
+     * the given number of bytes exceeds the memory threshold.
+     *
+     * @param length Number of bytes to be written
+     * @return File output stream or null if the content should be written to memory
+     * @throws IOException When an error occurs while writing to the temporary file
+     */
+    private OutputStream getOutputStream(int length) throws IOException {
+        if (closed) {
+            throw new IOException("Stream is already closed");
+        }
+        if (fileOutputStream == null && memoryBuffer.readableBytes() + (long) length > memoryThreshold) {
+            tempFile = Files.createTempFile(TEMP_FILE_NAME, TEMP_FILE_EXTENSION);
+            fileOutputStream = new BufferedOutputStream(Files.newOutputStream(tempFile), READABLE_BUFFER_SIZE);
+            memoryBuffer.readBytes(fileOutputStream, memoryBuffer.readableBytes());
+            memoryBuffer.release();
+            memoryBuffer = null;
+        }
+        return fileOutputStream;
+    }
+}
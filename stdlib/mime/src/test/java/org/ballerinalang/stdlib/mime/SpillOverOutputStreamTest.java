@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.mime;
+
+import org.ballerinalang.mime.util.EntityWrapper;
+import org.ballerinalang.mime.util.MimeUtil;
+import org.ballerinalang.mime.util.SpillOverOutputStream;
+import org.ballerinalang.stdlib.io.channels.TempFileIOChannel;
+import org.ballerinalang.stdlib.io.channels.base.Channel;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test cases for writing content through memory and temporary files.
+ *
+ * @since 1.0.2
+ */
+public class SpillOverOutputStreamTest {
+
+    private static final String CONTENT = "--boundary\r\nContent-Type: text/plain\r\n\r\nballerina\r\n--boundary--\r\n";
+
+    @Test(description = "Content below the threshold should be kept in memory")
+    public void testContentWithinThreshold() throws IOException {
+        SpillOverOutputStream outputStream = new SpillOverOutputStream(1024);
+        outputStream.write(CONTENT.getBytes(StandardCharsets.UTF_8));
+        Channel byteChannel = outputStream.getByteChannel();
+        Assert.assertTrue(byteChannel instanceof EntityWrapper);
+        Assert.assertEquals(readContent(byteChannel), CONTENT);
+    }
+
+    @Test(description = "Content beyond the threshold should be moved to a temporary file")
+    public void testContentBeyondThreshold() throws IOException {
+        SpillOverOutputStream outputStream = new SpillOverOutputStream(16);
+        byte[] content = CONTENT.getBytes(StandardCharsets.UTF_8);
+        outputStream.write(content, 0, 10);
+        outputStream.write(content[10]);
+        outputStream.write(content, 11, content.length - 11);
+        Channel byteChannel = outputStream.getByteChannel();
+        Assert.assertTrue(byteChannel instanceof TempFileIOChannel);
+        Assert.assertEquals(readContent(byteChannel), CONTENT);
+    }
+
+    private static String readContent(Channel byteChannel) throws IOException {
+        try (InputStream inputStream = byteChannel.getInputStream()) {
+            return new String(MimeUtil.getByteArray(inputStream), StandardCharsets.UTF_8);
+        } finally {
+            byteChannel.close();
+        }
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.ballerinalang.stdlib.socket.tcp;
 
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.jvm.BallerinaValues;
 import org.ballerinalang.jvm.runtime.BLangThreadFactory;
 import org.ballerinalang.jvm.types.BArrayType;
@@ -52,6 +53,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.nio.channels.SelectionKey.OP_READ;
 import static org.ballerinalang.stdlib.socket.SocketConstants.DEFAULT_EXPECTED_READ_LENGTH;
@@ -59,7 +61,11 @@ import static org.ballerinalang.stdlib.socket.SocketConstants.ErrorCode.ReadTime
 import static org.ballerinalang.stdlib.socket.SocketConstants.SOCKET_PACKAGE_ID;
 
 /**
- * This will manage the Selector instance and handle the accept, read and write operations.
+ * This will manage the Selector instances and handle the accept, read and write operations.
+ * <p>
+ * Channels are distributed among a set of selector loops, each running in its own thread with its own
+ * {@link Selector}. The number of selector loops defaults to the number of available processors and could be
+ * configured with the {@code b7a.socket.selector.threads} configuration.
  *
  * @since 0.985.0
  */
@@ -67,13 +73,22 @@ public class SelectorManager {
 
     private static final Logger log = LoggerFactory.getLogger(SelectorManager.class);
 
-    private Selector selector;
+    private static final String SELECTOR_THREADS_CONFIG = "b7a.socket.selector.threads";
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Direct buffers used to read from TCP sockets. Read content is copied out of the buffer before the read
+     * completes, hence a buffer is reused by all reads of a thread.
+     */
+    private static final ThreadLocal<ByteBuffer> readBuffers =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(READ_BUFFER_SIZE));
+
+    private final SelectorLoop[] selectorLoops;
+    private final AtomicInteger selectorLoopIndex = new AtomicInteger();
     private ThreadFactory threadFactory = new BLangThreadFactory("socket-selector");
     private ExecutorService executor = null;
     private boolean running = false;
-    private boolean executing = true;
-    private ConcurrentLinkedQueue<ChannelRegisterCallback> registerPendingSockets = new ConcurrentLinkedQueue<>();
-    private ConcurrentLinkedQueue<Integer> readReadySockets = new ConcurrentLinkedQueue<>();
+    private volatile boolean executing = true;
     private final Object startStopLock = new Object();
     private static final BTupleType receiveFromResultTuple = new BTupleType(
             Arrays.asList(new BArrayType(BTypes.typeByte), BTypes.typeInt,
@@ -82,7 +97,24 @@ public class SelectorManager {
             Arrays.asList(new BArrayType(BTypes.typeByte), BTypes.typeInt));
 
     private SelectorManager() throws IOException {
-        selector = Selector.open();
+        int selectorCount = getSelectorCount();
+        selectorLoops = new SelectorLoop[selectorCount];
+        for (int i = 0; i < selectorCount; i++) {
+            selectorLoops[i] = new SelectorLoop(Selector.open());
+        }
+    }
+
+    private static int getSelectorCount() {
+        int defaultCount = Runtime.getRuntime().availableProcessors();
+        String configuredCount = ConfigRegistry.getInstance().getConfigOrDefault(SELECTOR_THREADS_CONFIG,
+                String.valueOf(defaultCount));
+        try {
+            int selectorCount = Integer.parseInt(configuredCount.trim());
+            return selectorCount > 0 ? selectorCount : defaultCount;
+        } catch (NumberFormatException e) {
+            log.warn("Invalid value for " + SELECTOR_THREADS_CONFIG + ": " + configuredCount);
+            return defaultCount;
+        }
     }
 
     /**
@@ -117,8 +149,9 @@ public class SelectorManager {
      *                      packageInfo and A {@link SelectableChannel}.
      */
     public void registerChannel(ChannelRegisterCallback callback) {
-        registerPendingSockets.add(callback);
-        selector.wakeup();
+        SelectorLoop selectorLoop = nextSelectorLoop();
+        selectorLoop.registerPendingSockets.add(callback);
+        selectorLoop.selector.wakeup();
     }
 
     /**
@@ -127,20 +160,43 @@ public class SelectorManager {
      * @param channel {@link SelectableChannel} that about to unregister.
      */
     public void unRegisterChannel(SelectableChannel channel) {
-        final SelectionKey selectionKey = channel.keyFor(selector);
-        if (selectionKey != null) {
-            selectionKey.cancel();
+        for (SelectorLoop selectorLoop : selectorLoops) {
+            final SelectionKey selectionKey = channel.keyFor(selectorLoop.selector);
+            if (selectionKey != null) {
+                selectionKey.cancel();
+            }
         }
     }
 
     /**
-     * Adding onReadReady finish notification to the queue and wakeup the selector.
+     * Adding onReadReady finish notification to the queue and wakeup the selector which the channel is registered.
+     *
+     * @param channel the read ready socket.
+     */
+    void invokePendingReadReadyResources(SelectableChannel channel) {
+        SelectorLoop selectorLoop = getSelectorLoop(channel);
+        selectorLoop.readReadySockets.add(channel.hashCode());
+        selectorLoop.selector.wakeup();
+    }
+
+    /**
+     * Selects the selector loop for a new channel, the channels are distributed among the selector loops in a
+     * round robin manner.
      *
-     * @param socketHashCode hashCode of the read ready socket.
+     * @return the selector loop for the channel
      */
-    void invokePendingReadReadyResources(int socketHashCode) {
-        readReadySockets.add(socketHashCode);
-        selector.wakeup();
+    private SelectorLoop nextSelectorLoop() {
+        int index = selectorLoopIndex.getAndIncrement() & Integer.MAX_VALUE;
+        return selectorLoops[index % selectorLoops.length];
+    }
+
+    private SelectorLoop getSelectorLoop(SelectableChannel channel) {
+        for (SelectorLoop selectorLoop : selectorLoops) {
+            if (channel.keyFor(selectorLoop.selector) != null) {
+                return selectorLoop;
+            }
+        }
+        return selectorLoops[0];
     }
 
     /**
@@ -152,127 +208,16 @@ public class SelectorManager {
                 return;
             }
             if (executor == null || executor.isTerminated()) {
-                executor = Executors.newSingleThreadExecutor(threadFactory);
+                executor = Executors.newFixedThreadPool(selectorLoops.length, threadFactory);
             }
             running = true;
             executing = true;
-            executor.execute(this::execute);
-        }
-    }
-
-    private void execute() {
-        while (executing) {
-            try {
-                registerChannels();
-                invokeReadReadyResources();
-                if (selector.select() == 0) {
-                    continue;
-                }
-                Iterator<SelectionKey> keyIterator = selector.selectedKeys().iterator();
-                while (keyIterator.hasNext()) {
-                    SelectionKey key = keyIterator.next();
-                    keyIterator.remove();
-                    performAction(key);
-                }
-            } catch (Throwable e) {
-                log.error("An error occurred in selector loop: " + e.getMessage(), e);
+            for (SelectorLoop selectorLoop : selectorLoops) {
+                executor.execute(selectorLoop::execute);
             }
         }
     }
 
-    /*
-    Channel registration has to be done in the same thread that selector loops runs.
-     */
-    private void registerChannels() {
-        ChannelRegisterCallback channelRegisterCallback;
-        while ((channelRegisterCallback = registerPendingSockets.poll()) != null) {
-            SocketService socketService = channelRegisterCallback.getSocketService();
-            try {
-                socketService.getSocketChannel()
-                        .register(selector, channelRegisterCallback.getInitialInterest(), socketService);
-            } catch (ClosedChannelException e) {
-                channelRegisterCallback.notifyFailure("socket already closed");
-                continue;
-            }
-            // Notification needs to happen to the client connection in the socket server only if the client has
-            // a callback service.
-            boolean serviceAttached = (socketService.getService() != null
-                    && channelRegisterCallback.getInitialInterest() == OP_READ);
-            channelRegisterCallback.notifyRegister(serviceAttached);
-        }
-    }
-
-    private void invokeReadReadyResources() {
-        final Iterator<Integer> iterator = readReadySockets.iterator();
-        while (iterator.hasNext()) {
-            Integer socketHashCode = iterator.next();
-            // Removing an entry from the readReadySockets queue is fine. This will cleanup the last entry that add due
-            // execution of TCPSocketReadCallback.
-            final SocketReader socketReader = ReadReadySocketMap.getInstance().get(socketHashCode);
-            // SocketReader can be null if there is no new read ready notification.
-            if (socketReader == null) {
-                continue;
-            }
-            iterator.remove();
-            final SocketService socketService = socketReader.getSocketService();
-            invokeReadReadyResource(socketService);
-        }
-    }
-
-    private void performAction(SelectionKey key) {
-        if (!key.isValid()) {
-            key.cancel();
-        } else if (key.isAcceptable()) {
-            onAccept(key);
-        } else if (key.isReadable()) {
-            onReadReady(key);
-        }
-    }
-
-    private void onAccept(SelectionKey key) {
-        SocketService socketService = (SocketService) key.attachment();
-        ServerSocketChannel server = (ServerSocketChannel) socketService.getSocketChannel();
-        try {
-            SocketChannel client = server.accept();
-            client.configureBlocking(false);
-            // Creating a new SocketService instance with the newly accepted client.
-            // We don't need the ServerSocketChannel in here since we have all the necessary resources.
-            SocketService clientSocketService = new SocketService(client, socketService.getScheduler(),
-                    socketService.getService(), socketService.getReadTimeout());
-            // Registering the channel against the selector directly without going through the queue,
-            // since we are in same thread.
-            client.register(selector, OP_READ, clientSocketService);
-            SelectorDispatcher.invokeOnConnect(clientSocketService);
-        } catch (ClosedByInterruptException e) {
-            SelectorDispatcher
-                    .invokeOnError(new SocketService(socketService.getScheduler(), socketService.getService()),
-                    "client accept interrupt by another process");
-        } catch (AsynchronousCloseException e) {
-            SelectorDispatcher
-                    .invokeOnError(new SocketService(socketService.getScheduler(), socketService.getService()),
-                            "client closed by another process");
-        } catch (ClosedChannelException e) {
-            SelectorDispatcher
-                    .invokeOnError(new SocketService(socketService.getScheduler(), socketService.getService()),
-                            "client is already closed");
-        } catch (IOException e) {
-            log.error("An error occurred while accepting new client", e);
-            SelectorDispatcher
-                    .invokeOnError(new SocketService(socketService.getScheduler(), socketService.getService()),
-                            "unable to accept a new client. " +  e.getMessage());
-        }
-    }
-
-    private void onReadReady(SelectionKey key) {
-        SocketService socketService = (SocketService) key.attachment();
-        // Remove further interest on future read ready requests until this one is served.
-        // This will prevent the busy loop.
-        key.interestOps(0);
-        // Add to the read ready queue. The content will be read through the caller->read action.
-        ReadReadySocketMap.getInstance().add(new SocketReader(socketService, key));
-        invokeRead(key.channel().hashCode(), socketService.getService() != null);
-    }
-
     /**
      * Perform the read operation for the given socket. This will either read data from the socket channel or dispatch
      * to the onReadReady resource if resource's lock available.
@@ -319,7 +264,7 @@ public class SelectorManager {
             callback.updateCurrentLength(bufferPosition);
             // Re-register for read ready events.
             socketReader.getSelectionKey().interestOps(OP_READ);
-            selector.wakeup();
+            socketReader.getSelectionKey().selector().wakeup();
             if (callback.getExpectedLength() != DEFAULT_EXPECTED_READ_LENGTH) {
                 if (callback.getBuffer() == null) {
                     callback.setBuffer(ByteBuffer.allocate(buffer.capacity()));
@@ -352,18 +297,21 @@ public class SelectorManager {
     private void readTcpSocket(SocketReader socketReader, ReadPendingCallback callback) {
         SocketChannel socketChannel = (SocketChannel) socketReader.getSocketService().getSocketChannel();
         try {
-            ByteBuffer buffer = createBuffer(callback, socketChannel);
+            ByteBuffer buffer = getReadBuffer(callback, socketChannel);
             int read = socketChannel.read(buffer);
             callback.resetTimeout();
             if (read < 0) {
-                SelectorManager.getInstance().unRegisterChannel(socketChannel);
+                unRegisterChannel(socketChannel);
             } else {
                 callback.updateCurrentLength(read);
                 // Re-register for read ready events.
                 socketReader.getSelectionKey().interestOps(OP_READ);
-                selector.wakeup();
+                socketReader.getSelectionKey().selector().wakeup();
                 if (callback.getBuffer() == null) {
-                    callback.setBuffer(ByteBuffer.allocate(buffer.capacity()));
+                    // Read content is copied out of the read buffer, since the read buffer is reused.
+                    callback.setBuffer(ByteBuffer.allocate(
+                            callback.getExpectedLength() == DEFAULT_EXPECTED_READ_LENGTH ? read :
+                                    callback.getExpectedLength()));
                 }
                 buffer.flip();
                 callback.getBuffer().put(buffer);
@@ -431,8 +379,28 @@ public class SelectorManager {
         return buffer;
     }
 
-    private ByteBuffer createBuffer(ReadPendingCallback callback, SocketChannel socketChannel) throws SocketException {
-        return createBuffer(callback, socketChannel.socket().getReceiveBufferSize());
+    /**
+     * Returns the direct buffer of the current thread to read from the given TCP socket. The buffer is limited to the
+     * number of bytes expected by the read or the receive buffer size of the socket, if the read does not expect a
+     * specific length.
+     *
+     * @param callback      pending read callback
+     * @param socketChannel socket to read from
+     * @return read buffer of the current thread
+     * @throws SocketException if the receive buffer size cannot be retrieved
+     */
+    private ByteBuffer getReadBuffer(ReadPendingCallback callback, SocketChannel socketChannel)
+            throws SocketException {
+        int bufferSize;
+        if (callback.getExpectedLength() == DEFAULT_EXPECTED_READ_LENGTH) {
+            bufferSize = socketChannel.socket().getReceiveBufferSize();
+        } else {
+            bufferSize = callback.getExpectedLength() - callback.getCurrentLength();
+        }
+        ByteBuffer buffer = readBuffers.get();
+        buffer.clear();
+        buffer.limit(Math.min(bufferSize, buffer.capacity()));
+        return buffer;
     }
 
     private ByteBuffer createBuffer(ReadPendingCallback callback, DatagramChannel socketChannel)
@@ -470,7 +438,167 @@ public class SelectorManager {
         synchronized (startStopLock) {
             executing = false;
             running = false;
-            selector.wakeup();
+            for (SelectorLoop selectorLoop : selectorLoops) {
+                selectorLoop.selector.wakeup();
+            }
+        }
+    }
+
+    /**
+     * A selector loop which serves the channels registered to its {@link Selector}. Channel registration and the
+     * onReadReady notifications of a channel are handled in the thread of the selector loop which the channel is
+     * registered to.
+     */
+    private class SelectorLoop {
+
+        private final Selector selector;
+        private final ConcurrentLinkedQueue<ChannelRegisterCallback> registerPendingSockets =
+                new ConcurrentLinkedQueue<>();
+        private final ConcurrentLinkedQueue<SocketService> acceptedSockets = new ConcurrentLinkedQueue<>();
+        private final ConcurrentLinkedQueue<Integer> readReadySockets = new ConcurrentLinkedQueue<>();
+
+        private SelectorLoop(Selector selector) {
+            this.selector = selector;
+        }
+
+        private void execute() {
+            while (executing) {
+                try {
+                    registerChannels();
+                    registerAcceptedChannels();
+                    invokeReadReadyResources();
+                    if (selector.select() == 0) {
+                        continue;
+                    }
+                    Iterator<SelectionKey> keyIterator = selector.selectedKeys().iterator();
+                    while (keyIterator.hasNext()) {
+                        SelectionKey key = keyIterator.next();
+                        keyIterator.remove();
+                        performAction(key);
+                    }
+                } catch (Throwable e) {
+                    log.error("An error occurred in selector loop: " + e.getMessage(), e);
+                }
+            }
+        }
+
+        /*
+        Channel registration has to be done in the same thread that selector loops runs.
+         */
+        private void registerChannels() {
+            ChannelRegisterCallback channelRegisterCallback;
+            while ((channelRegisterCallback = registerPendingSockets.poll()) != null) {
+                SocketService socketService = channelRegisterCallback.getSocketService();
+                try {
+                    socketService.getSocketChannel()
+                            .register(selector, channelRegisterCallback.getInitialInterest(), socketService);
+                } catch (ClosedChannelException e) {
+                    channelRegisterCallback.notifyFailure("socket already closed");
+                    continue;
+                }
+                // Notification needs to happen to the client connection in the socket server only if the client has
+                // a callback service.
+                boolean serviceAttached = (socketService.getService() != null
+                        && channelRegisterCallback.getInitialInterest() == OP_READ);
+                channelRegisterCallback.notifyRegister(serviceAttached);
+            }
+        }
+
+        /*
+        Clients accepted by a server socket in another selector loop are registered here.
+         */
+        private void registerAcceptedChannels() {
+            SocketService clientSocketService;
+            while ((clientSocketService = acceptedSockets.poll()) != null) {
+                registerAcceptedChannel(clientSocketService);
+            }
+        }
+
+        private void registerAcceptedChannel(SocketService clientSocketService) {
+            try {
+                clientSocketService.getSocketChannel().register(selector, OP_READ, clientSocketService);
+                SelectorDispatcher.invokeOnConnect(clientSocketService);
+            } catch (ClosedChannelException e) {
+                SelectorDispatcher.invokeOnError(
+                        new SocketService(clientSocketService.getScheduler(), clientSocketService.getService()),
+                        "client is already closed");
+            }
+        }
+
+        private void invokeReadReadyResources() {
+            final Iterator<Integer> iterator = readReadySockets.iterator();
+            while (iterator.hasNext()) {
+                Integer socketHashCode = iterator.next();
+                // Removing an entry from the readReadySockets queue is fine. This will cleanup the last entry that
+                // add due execution of TCPSocketReadCallback.
+                final SocketReader socketReader = ReadReadySocketMap.getInstance().get(socketHashCode);
+                // SocketReader can be null if there is no new read ready notification.
+                if (socketReader == null) {
+                    continue;
+                }
+                iterator.remove();
+                final SocketService socketService = socketReader.getSocketService();
+                invokeReadReadyResource(socketService);
+            }
+        }
+
+        private void performAction(SelectionKey key) {
+            if (!key.isValid()) {
+                key.cancel();
+            } else if (key.isAcceptable()) {
+                onAccept(key);
+            } else if (key.isReadable()) {
+                onReadReady(key);
+            }
+        }
+
+        private void onAccept(SelectionKey key) {
+            SocketService socketService = (SocketService) key.attachment();
+            ServerSocketChannel server = (ServerSocketChannel) socketService.getSocketChannel();
+            try {
+                SocketChannel client = server.accept();
+                client.configureBlocking(false);
+                // Creating a new SocketService instance with the newly accepted client.
+                // We don't need the ServerSocketChannel in here since we have all the necessary resources.
+                SocketService clientSocketService = new SocketService(client, socketService.getScheduler(),
+                        socketService.getService(), socketService.getReadTimeout());
+                SelectorLoop selectorLoop = nextSelectorLoop();
+                if (selectorLoop == this) {
+                    // Registering the channel against the selector directly without going through the queue,
+                    // since we are in same thread.
+                    registerAcceptedChannel(clientSocketService);
+                } else {
+                    selectorLoop.acceptedSockets.add(clientSocketService);
+                    selectorLoop.selector.wakeup();
+                }
+            } catch (ClosedByInterruptException e) {
+                SelectorDispatcher
+                        .invokeOnError(new SocketService(socketService.getScheduler(), socketService.getService()),
+                                "client accept interrupt by another process");
+            } catch (AsynchronousCloseException e) {
+                SelectorDispatcher
+                        .invokeOnError(new SocketService(socketService.getScheduler(), socketService.getService()),
+                                "client closed by another process");
+            } catch (ClosedChannelException e) {
+                SelectorDispatcher
+                        .invokeOnError(new SocketService(socketService.getScheduler(), socketService.getService()),
+                                "client is already closed");
+            } catch (IOException e) {
+                log.error("An error occurred while accepting new client", e);
+                SelectorDispatcher
+                        .invokeOnError(new SocketService(socketService.getScheduler(), socketService.getService()),
+                                "unable to accept a new client. " + e.getMessage());
+            }
+        }
+
+        private void onReadReady(SelectionKey key) {
+            SocketService socketService = (SocketService) key.attachment();
+            // Remove further interest on future read ready requests until this one is served.
+            // This will prevent the busy loop.
+            key.interestOps(0);
+            // Add to the read ready queue. The content will be read through the caller->read action.
+            ReadReadySocketMap.getInstance().add(new SocketReader(socketService, key));
+            invokeRead(key.channel().hashCode(), socketService.getService() != null);
         }
     }
 }
@@ -42,7 +42,7 @@ public class TCPSocketReadCallback extends TCPSocketCallback {
     public void notifySuccess() {
         // Exiting from the resource, so no more further caller->read statements. Release the resource lock.
         socketService.getResourceLock().release();
-        SelectorManager.getInstance().invokePendingReadReadyResources(socketService.getSocketChannel().hashCode());
+        SelectorManager.getInstance().invokePendingReadReadyResources(socketService.getSocketChannel());
         log.debug("Socket resource dispatch succeed.");
     }
 
@@ -23,9 +23,13 @@ import ballerina/stringutils;
 # stream of the join and its attached window is `'lhsWindow`. The `rhsStream` is the right hand side stream of the join
 # and its attached window is `'rhsWindow`. The `unidirectionalStream` stream defines the stream by which the joining is
 # triggered when the events are received. Usually it is `lhsStream`, in rare cases it can be `rhsStream`. The
-# `joinType` is the type of the join and it can be any value defined by `streams:JoinType`.
+# `joinType` is the type of the join and it can be any value defined by `streams:JoinType`. When the join condition is
+# an equality between the attributes of the two streams, `lhsKeyFunc` and `rhsKeyFunc` return those attributes from
+# the events of the respective streams, and the windows which are `IndexedWindow`s are indexed on them.
 #
 # + onConditionFunc - description
+# + lhsKeyFunc - description
+# + rhsKeyFunc - description
 # + nextProcessor - description
 # + lhsWindow - description
 # + rhsWindow - description
@@ -36,6 +40,8 @@ import ballerina/stringutils;
 # + lockField - description
 public type StreamJoinProcessor object {
     private (function (map<anydata> e1Data, map<anydata> e2Data) returns boolean)? onConditionFunc;
+    private (function (map<anydata> data) returns anydata)? lhsKeyFunc;
+    private (function (map<anydata> data) returns anydata)? rhsKeyFunc;
     private function (StreamEvent?[]) nextProcessor;
     public Window? lhsWindow;
     public Window? rhsWindow;
@@ -46,10 +52,14 @@ public type StreamJoinProcessor object {
     public int lockField = 0;
 
     public function __init(function (StreamEvent?[]) nextProcessor, JoinType joinType,
-                           (function (map<anydata> e1Data, map<anydata> e2Data) returns boolean)? onConditionFunc) {
+                           (function (map<anydata> e1Data, map<anydata> e2Data) returns boolean)? onConditionFunc,
+                           (function (map<anydata> data) returns anydata)? lhsKeyFunc = (),
+                           (function (map<anydata> data) returns anydata)? rhsKeyFunc = ()) {
         self.nextProcessor = nextProcessor;
         self.joinType = joinType;
         self.onConditionFunc = onConditionFunc;
+        self.lhsKeyFunc = lhsKeyFunc;
+        self.rhsKeyFunc = rhsKeyFunc;
         self.lhsWindow = ();
         self.rhsWindow = ();
         self.lhsStream = ();
@@ -91,7 +101,8 @@ public type StreamJoinProcessor object {
                         // triggered from LHS
                         Window? rWindow = self.rhsWindow;
                         if (rWindow is Window) {
-                            candidateEvents = rWindow.getCandidateEvents(event, self.onConditionFunc);
+                            candidateEvents = self.getCandidateEvents(rWindow, event, self.lhsKeyFunc,
+                                self.rhsKeyFunc);
                             // with left/full joins, we need to emit an event even there's no candidate events in rhs.
                             if (candidateEvents.length() == 0 && (self.joinType == "LEFTOUTERJOIN"
                                     || self.joinType == "FULLOUTERJOIN")) {
@@ -108,8 +119,8 @@ public type StreamJoinProcessor object {
                         //var evtArr = self.lhsWindow.getCandidateEvents(event, self.onConditionFunc, isLHSTrigger = false);
                         Window? lWindow = self.lhsWindow;
                         if (lWindow is Window) {
-                            var evtArr = lWindow.getCandidateEvents(event, self.onConditionFunc, isLHSTrigger = false);
-                            candidateEvents = evtArr;
+                            candidateEvents = self.getCandidateEvents(lWindow, event, self.rhsKeyFunc,
+                                self.lhsKeyFunc, isLHSTrigger = false);
                             // with right/full joins, we need to emit an event even there's no candidate events in rhs.
                             if (candidateEvents.length() == 0 && (self.joinType == "RIGHTOUTERJOIN"
                                     || self.joinType == "FULLOUTERJOIN")) {
@@ -145,6 +156,10 @@ public type StreamJoinProcessor object {
     public function setLHS(string streamName, Window windowInstance) {
         self.lhsStream = streamName;
         self.lhsWindow = windowInstance;
+        var keyFunc = self.lhsKeyFunc;
+        if (keyFunc is function (map<anydata> data) returns anydata && windowInstance is IndexedWindow) {
+            windowInstance.setJoinKey(keyFunc);
+        }
     }
 
     # Sets the right hand side stream name and the respective window instance.
@@ -153,6 +168,10 @@ public type StreamJoinProcessor object {
     public function setRHS(string streamName, Window windowInstance) {
         self.rhsStream = streamName;
         self.rhsWindow = windowInstance;
+        var keyFunc = self.rhsKeyFunc;
+        if (keyFunc is function (map<anydata> data) returns anydata && windowInstance is IndexedWindow) {
+            windowInstance.setJoinKey(keyFunc);
+        }
     }
 
     # Sets the stream by which the joining is triggered.
@@ -163,6 +182,20 @@ public type StreamJoinProcessor object {
         self.unidirectionalStream = streamName;
     }
 
+    # Returns the events of the given window which join with the given event. If the window is indexed on the join
+    # key, only the events with the same key as the given event are matched with the join condition.
+    function getCandidateEvents(Window window, StreamEvent event,
+                                (function (map<anydata> data) returns anydata)? originKeyFunc,
+                                (function (map<anydata> data) returns anydata)? windowKeyFunc,
+                                boolean isLHSTrigger = true) returns [StreamEvent?, StreamEvent?][] {
+        if (originKeyFunc is function (map<anydata> data) returns anydata
+                && windowKeyFunc is function (map<anydata> data) returns anydata && window is IndexedWindow) {
+            return window.getCandidateEventsByKey(event, originKeyFunc(event.data), self.onConditionFunc,
+                isLHSTrigger = isLHSTrigger);
+        }
+        return window.getCandidateEvents(event, self.onConditionFunc, isLHSTrigger = isLHSTrigger);
+    }
+
     function joinEvents(StreamEvent? lhsEvent, StreamEvent? rhsEvent, boolean lhsTriggered = true)
                  returns StreamEvent? {
         StreamEvent? joined = ();
@@ -257,12 +290,18 @@ public type StreamJoinProcessor object {
 # + joinType - Type of the join being performed ("JOIN"|"LEFTOUTERJOIN"|"RIGHTOUTERJOIN"|"FULLOUTERJOIN")
 # + conditionFunc - A lambda function which contains the joining condition and return true if the condition satifies
 #                   the condition.
+# + lhsKeyFunc - A lambda function which returns the join key from the data of a left hand side stream event, when the
+#                joining condition is an equality between the attributes of the two streams.
+# + rhsKeyFunc - A lambda function which returns the join key from the data of a right hand side stream event, when the
+#                joining condition is an equality between the attributes of the two streams.
 #
 # + return - Returns a `StreamJoinProcessor` object.
 public function createStreamJoinProcessor(function (StreamEvent?[]) nextProcessor, JoinType joinType,
                                           public (function (map<anydata> e1Data, map<anydata> e2Data) returns boolean)?
-                                          conditionFunc = ())
+                                          conditionFunc = (),
+                                          public (function (map<anydata> data) returns anydata)? lhsKeyFunc = (),
+                                          public (function (map<anydata> data) returns anydata)? rhsKeyFunc = ())
                     returns StreamJoinProcessor {
-    StreamJoinProcessor joinProcesor = new(nextProcessor, joinType, conditionFunc);
+    StreamJoinProcessor joinProcesor = new(nextProcessor, joinType, conditionFunc, lhsKeyFunc, rhsKeyFunc);
     return joinProcesor;
 }
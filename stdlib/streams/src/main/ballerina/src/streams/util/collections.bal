@@ -14,6 +14,8 @@
 // specific language governing permissions and limitations
 // under the License.
 
+import ballerinax/java;
+
 # The `Node` object represents a node in the linkedlist data structure.
 #
 # + data - description
@@ -31,168 +33,76 @@ public type Node object {
     }
 };
 
-# The `LinkedList` object which represents the linked list data structure.
-#
-# + first - description
-# + last - description
-# + curr - description
-# + size - description
-# + ascend - description
+# The `LinkedList` object which represents the linked list data structure. The elements are held in a native ring
+# buffer, so that adding and removing elements at either end of the list does not allocate a node per element.
 public type LinkedList object {
-    public Node? first;
-    public Node? last;
-    public Node? curr;
-    public int size = 0;
-    public boolean ascend = true;
+    private handle list;
 
     public function __init() {
-        self.first = ();
-        self.last = ();
-        self.curr = ();
-        self.size = 0;
-        self.ascend = true;
+        self.list = newRingBufferList();
     }
 
     # Checks if the linked list is empty.
     #
     # + return - Returns `true` if the linked list is empty, otherwise returns `false`.
     public function isEmpty() returns boolean {
-        var value = self.first;
-        if (value is Node) {
-            return false;
-        } else {
-            return true;
-        }
+        return isEmptyExternal(self.list);
     }
 
     # Moves the cursoer to the front/head of the linked list.
     public function resetToFront() {
-        self.curr = ();
-        self.ascend = true;
+        resetToFrontExternal(self.list);
     }
 
     # Moves the cursor to the end of the linked list if the cursor is not already at the last element of the linked
     # list.
     public function resetToRear() {
-        self.curr = ();
-        self.ascend = false;
+        resetToRearExternal(self.list);
     }
 
     # Returns true if the linked list has more elements starting from the current cursor location.
     #
     # + return - Returns `true` if there are more elements onwards from the current cursor location, otherwise `false`.
     public function hasNext() returns boolean {
-        var c = self.curr;
-        if (c is Node) {
-            Node? next = c.next;
-            return !(next is ());
-        } else {
-            return (self.ascend && !(self.first is ()));
-        }
+        return hasNextExternal(self.list);
     }
 
     # Returns `true` if there are prior elements to the current element/cursor location, otherwise false.
     #
     # + return - Returns true, if there are elements prior to the current cursor location, otherwise `false`.
     public function hasPrevious() returns boolean {
-        var c = self.curr;
-        if (c is Node) {
-            Node? prev = c.prev;
-            return !(prev is ());
-        } else {
-            return (!self.ascend && !(self.last is ()));
-        }
+        return hasPreviousExternal(self.list);
     }
 
     # Returns the next element of the linked list and moves the cursor to the next element.
     #
     # + return - The next element from the current cursor location.
     public function next() returns any? {
-        if (self.hasNext()) {
-            var c = self.curr;
-            if (c is Node) {
-                Node? next = c.next;
-                self.curr = next;
-            } else {
-                Node? next = self.first;
-                self.curr = next;
-            }
-            Node? val = self.curr;
-            if (val is Node) {
-                return val.data;
-            }
-            return ();
-        } else {
-            error e = error("couldn't iterate to next node.");
-            // TODO : Fix this.
-            panic e;
-        }
+        return nextExternal(self.list);
     }
 
     # Returns the previous element of the linked list and moves the cursor to the previous element.
     #
     # + return - The previous element from the current cursor location.
     public function previous() returns any? {
-        if (self.hasPrevious()) {
-            var c = self.curr;
-            if (c is Node) {
-                Node? prev = c.prev;
-                self.curr = prev;
-            } else {
-                Node? prev = self.last;
-                self.curr = prev;
-            }
-            Node? val = self.curr;
-            if (val is Node) {
-                return val.data;
-            }
-            return ();
-        } else {
-            error e = error("couldn't iterate to previous node.");
-            // TODO : Fix this.
-            panic e;
-        }
+        return previousExternal(self.list);
     }
 
     # Removes the element at the current cursor location.
     public function removeCurrent() {
-        var c = self.curr;
-        if (c is Node) {
-            _ = self.unlink(c);
-        } else {
-
-        }
+        removeCurrentExternal(self.list);
     }
 
     # Returns the current number of elements in the linked list.
     #
     # + return - The number of elements in the linked list.
     public function getSize() returns int {
-        return self.size;
+        return getSizeExternal(self.list);
     }
 
     # Empties the linked list.
     public function clear() {
-        // TODO: unlink every node and clean up properly.
-        //match self.first {
-        //    Node f => {
-        //        Node x = f;
-        //        while (x != ()) {
-        //            Node nxt = x.next;
-        //            x.data = ();
-        //            x.next = ();
-        //            x.prev = ();
-        //            x = nxt;
-        //        }
-        //        self.first = ();
-        //        self.last = ();
-        //        self.size = 0;
-        //    }
-        //    () => {}
-        //}
-        self.first = ();
-        self.last = ();
-        self.size = 0;
+        clearExternal(self.list);
     }
 
     # Removes the first occurence of the element pass as `elem` and return `true` of the removal is successful.
@@ -204,281 +114,82 @@ public type LinkedList object {
     }
 
     # Removes the first occurence of the element pass as `elem` and return `true` of the removal is successful.
+    # Elements are compared the same as the `===` operator.
     #
     # + elem - the element to be removed
     # + return - Return `true` if removal is successful otherwise `false`.
     public function remove(any? elem) returns boolean {
-        // TODO: find a way to loop, and implement properly
-        //match elem {
-        //    () => {
-        //        Node x = self.first;
-        //        while (x != ()) {
-        //            any? data = x.data;
-        //            match data {
-        //                () => {
-        //                    _ = unlink(x);
-        //                    return true;
-        //                }
-        //                any d => {}
-        //            }
-        //            x = x.next;
-        //        }
-        //    }
-        //    any a => {
-        //        Node x = self.first;
-        //        while (x != ()) {
-        //            any? data = x.data;
-        //            match data {
-        //                () => {}
-        //                any d => {
-        //                    if (reflect:equals(a, d)) {
-        //                        _ = unlink(x);
-        //                        return true;
-        //                    }
-        //                }
-        //            }
-        //            x = x.next;
-        //        }
-        //    }
-        //}
-        return false;
+        return removeExternal(self.list, elem);
     }
 
     # Returns the first element of the linked list, without moving the cursor.
     #
     # + return - First element of the linked list.
     public function getFirst() returns any? {
-        var n = self.first;
-        if (n is Node) {
-            return n.data;
-        } else {
-            return ();
-        }
+        return getFirstExternal(self.list);
     }
 
     # Returns the last element of the linked list, without moving the cursor.
     #
     # + return - Last element of the linked list.
     public function getLast() returns any? {
-        var n = self.last;
-        if (n is Node) {
-            return n.data;
-        } else {
-            return ();
-        }
+        return getLastExternal(self.list);
     }
 
     # Adds a new element to the front of the linked list without moving the cursor.
     #
     # + data - Data to be added to the front of the linked list.
     public function addFirst(any data) {
-        self.linkFirst(data);
+        addFirstExternal(self.list, data);
     }
 
     # Adds a new element to the end of the linked list without moving the cursor.
     #
     # + data - Data to be added to the end of the linked list.
     public function addLast(any data) {
-        self.linkLast(data);
+        addLastExternal(self.list, data);
     }
 
     # Removes the first element in the linked list without moving the cursor.
     #
     # + return - Returns the removed element.
     public function removeFirst() returns any? {
-        var f = self.first;
-        if (f is Node) {
-            return self.unlinkFirst(f);
-        } else {
-            return ();
-        }
+        return removeFirstExternal(self.list);
     }
 
     # Removes the last element in the linked list without moving the cursor.
     #
     # + return - Returns the removed element.
     public function removeLast() returns any? {
-        var l = self.last;
-        if (l is Node) {
-            return self.unlinkLast(l);
-        } else {
-            return ();
-        }
+        return removeLastExternal(self.list);
     }
 
     # Insert a new element before the current cursor location.
     #
     # + data - Data to be inserted.
     public function insertBeforeCurrent(any data) {
-        var c = self.curr;
-        if (c is Node) {
-            self.linkBefore(data, c);
-        } else {
-
-        }
-    }
-
-    // Links data as first element.
-    function linkFirst(any data) {
-        var f = self.first;
-        if (f is Node) {
-            Node newNode = new((), data, f);
-            self.first = newNode;
-            f.prev = newNode;
-        } else {
-            Node newNode = new((), data, ());
-            self.first = newNode;
-            self.last = newNode;
-        }
-        self.size += 1;
-    }
-
-    // Links data as last element.
-    function linkLast(any data) {
-        var l = self.last;
-        if (l is Node) {
-            Node newNode = new(l, data, ());
-            self.last = newNode;
-            l.next = newNode;
-        } else {
-            Node newNode = new((), data, ());
-            self.first = newNode;
-            self.last = newNode;
-        }
-        self.size += 1;
-    }
-
-    // Inserts element 'data' before non-null Node succ.
-    function linkBefore(any data, Node succ) {
-        Node? pred = succ.prev;
-        Node newNode = new(pred, data, succ);
-        succ.prev = newNode;
-        var n = pred;
-        if (n is Node) {
-            n.next = newNode;
-        } else {
-            self.first = newNode;
-        }
-        self.size += 1;
-    }
-
-    // Unlinks non-null first Node node.
-    function unlinkFirst(Node node) returns any? {
-        any data = node.data;
-        Node? next = node.next;
-        self.first = next;
-        node.data = ();
-        node.next = ();
-        var n = next;
-        if (n is Node) {
-            n.prev = ();
-        } else {
-            self.last = ();
-        }
-        self.size -= 1;
-        return data;
-    }
-
-    // Unlinks non-null last Node node.
-    function unlinkLast(Node node) returns any? {
-        any data = node.data;
-        Node? prev = node.prev;
-        self.last = prev;
-        node.data = ();
-        node.prev = ();
-        var n = prev;
-        if (n is Node) {
-            n.next = ();
-        } else {
-            self.first = ();
-        }
-        self.size -= 1;
-        return data;
-    }
-
-    // Unlinks non-null node x.
-    function unlink(Node x) returns any? {
-        any data = x.data;
-        Node? next = x.next;
-        Node? prev = x.prev;
-
-        var p = prev;
-        if (p is Node) {
-            p.next = next;
-            x.prev = ();
-        } else {
-            self.first = next;
-        }
-
-        var n = next;
-        if (n is Node) {
-            n.prev = prev;
-            x.next = ();
-        } else {
-            self.last = prev;
-        }
-
-        if (x === self.curr) {
-            if (self.ascend) {
-                self.curr = prev;
-            } else {
-                self.curr = next;
-            }
-        }
-        x.data = ();
-        self.size -= 1;
-        return data;
+        insertBeforeCurrentExternal(self.list, data);
     }
 
     # Returns the first element which is added to the linked list.
     #
     # + return - The dequeued element.
     public function dequeue() returns any? {
-        var value = self.first;
-        if (value is Node) {
-            self.first = value.next;
-            var nextValue = self.first;
-            if (nextValue is Node) {
-                // do nothing
-            } else {
-                self.last = ();
-            }
-            return value.data;
-        } else {
-            return ();
-        }
+        return removeFirstExternal(self.list);
     }
 
     # Creates an array from the elements in the linked list and return it. The cursor will not be changed.
     #
     # + return - An array of elements in the linked list.
     public function asArray() returns any[] {
-        any[] arr = [self.size - 1];
-        Node? temp;
-        int i = 0;
-        if (!self.isEmpty()) {
-            var value = self.first;
-            if (value is Node) {
-                temp = value;
-                while (temp is Node) {
-                    arr[i] = temp.data;
-                    i = i + 1;
-                    temp = temp.next;
-                }
-            } else {
-
-            }
-        }
-        return arr;
+        return asArrayExternal(self.list);
     }
 
-    # Adds elements of an array to the current cursor location and moves the cursor to the end of the list.
+    # Adds elements of an array to the end of the linked list.
     #
     # + data - The array to be added to the linked list.
     public function addAll(any[] data) {
-        foreach any d in data {
-            self.addLast(d);
-        }
+        addAllExternal(self.list, data);
     }
 };
 
@@ -560,3 +271,108 @@ public type IntSort object {
         }
     }
 };
+
+// Interoperable external functions.
+function newRingBufferList() returns handle = @java:Constructor {
+    class: "org.ballerinalang.streams.RingBufferList"
+} external;
+
+function isEmptyExternal(handle list) returns boolean = @java:Method {
+    name: "isEmpty",
+    class: "org.ballerinalang.streams.RingBufferList"
+} external;
+
+function resetToFrontExternal(handle list) = @java:Method {
+    name: "resetToFront",
+    class: "org.ballerinalang.streams.RingBufferList"
+} external;
+
+function resetToRearExternal(handle list) = @java:Method {
+    name: "resetToRear",
+    class: "org.ballerinalang.streams.RingBufferList"
+} external;
+
+function hasNextExternal(handle list) returns boolean = @java:Method {
+    name: "hasNext",
+    class: "org.ballerinalang.streams.RingBufferList"
+} external;
+
+function hasPreviousExternal(handle list) returns boolean = @java:Method {
+    name: "hasPrevious",
+    class: "org.ballerinalang.streams.RingBufferList"
+} external;
+
+function nextExternal(handle list) returns any? = @java:Method {
+    name: "next",
+    class: "org.ballerinalang.streams.RingBufferList"
+} external;
+
+function previousExternal(handle list) returns any? = @java:Method {
+    name: "previous",
+    class: "org.ballerinalang.streams.RingBufferList"
+} external;
+
+function removeCurrentExternal(handle list) = @java:Method {
+    name: "removeCurrent",
+    class: "org.ballerinalang.streams.RingBufferList"
+} external;
+
+function getSizeExternal(handle list) returns int = @java:Method {
+    name: "getSize",
+    class: "org.ballerinalang.streams.RingBufferList"
+} external;
+
+function clearExternal(handle list) = @java:Method {
+    name: "clear",
+    class: "org.ballerinalang.streams.RingBufferList"
+} external;
+
+function getFirstExternal(handle list) returns any? = @java:Method {
+    name: "getFirst",
+    class: "org.ballerinalang.streams.RingBufferList"
+} external;
+
+function getLastExternal(handle list) returns any? = @java:Method {
+    name: "getLast",
+    class: "org.ballerinalang.streams.RingBufferList"
+} external;
+
+function addFirstExternal(handle list, any data) = @java:Method {
+    name: "addFirst",
+    class: "org.ballerinalang.streams.RingBufferList"
+} external;
+
+function addLastExternal(handle list, any data) = @java:Method {
+    name: "addLast",
+    class: "org.ballerinalang.streams.RingBufferList"
+} external;
+
+function removeFirstExternal(handle list) returns any? = @java:Method {
+    name: "removeFirst",
+    class: "org.ballerinalang.streams.RingBufferList"
+} external;
+
+function removeLastExternal(handle list) returns any? = @java:Method {
+    name: "removeLast",
+    class: "org.ballerinalang.streams.RingBufferList"
+} external;
+
+function removeExternal(handle list, any? data) returns boolean = @java:Method {
+    name: "remove",
+    class: "org.ballerinalang.streams.RingBufferList"
+} external;
+
+function insertBeforeCurrentExternal(handle list, any data) = @java:Method {
+    name: "insertBeforeCurrent",
+    class: "org.ballerinalang.streams.RingBufferList"
+} external;
+
+function asArrayExternal(handle list) returns any[] = @java:Method {
+    name: "asArray",
+    class: "org.ballerinalang.streams.RingBufferList"
+} external;
+
+function addAllExternal(handle list, any[] data) = @java:Method {
+    name: "addAll",
+    class: "org.ballerinalang.streams.RingBufferList"
+} external;
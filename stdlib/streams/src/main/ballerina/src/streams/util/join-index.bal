@@ -0,0 +1,121 @@
+// Copyright (c) 2019 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# The `JoinIndex` object is a hash index on the join key of the events held by a window. The events are grouped by
+# the string value of the key returned by `keyFunc`, in the order they are added, so that the events which can match
+# an equi-join condition are looked up without going through all the events of the window. As different keys can
+# have the same string value, the join condition should still be evaluated on the events returned by the index.
+#
+# + keyFunc - description
+# + buckets - description
+public type JoinIndex object {
+    public function (map<anydata> data) returns anydata keyFunc;
+    public map<LinkedList> buckets = {};
+
+    public function __init(function (map<anydata> data) returns anydata keyFunc) {
+        self.keyFunc = keyFunc;
+    }
+
+    # Adds an event to the index.
+    # + event - The event to be added.
+    public function add(StreamEvent event) {
+        string key = self.getKey(event);
+        LinkedList? bucket = self.buckets[key];
+        if (bucket is LinkedList) {
+            bucket.addLast(event);
+        } else {
+            LinkedList newBucket = new;
+            newBucket.addLast(event);
+            self.buckets[key] = newBucket;
+        }
+    }
+
+    # Adds all the given events to the index.
+    # + events - The events to be added.
+    public function addAll(any[] events) {
+        foreach var event in events {
+            if (event is StreamEvent) {
+                self.add(event);
+            }
+        }
+    }
+
+    # Removes the oldest event which has the same key as the given event. This should be used by windows which
+    # always expire their oldest event first.
+    # + event - The event being removed from the window.
+    public function removeOldest(StreamEvent event) {
+        string key = self.getKey(event);
+        LinkedList? bucket = self.buckets[key];
+        if (bucket is LinkedList) {
+            _ = bucket.removeFirst();
+            if (bucket.isEmpty()) {
+                _ = self.buckets.remove(key);
+            }
+        }
+    }
+
+    # Returns the events which have the given key.
+    # + key - The join key.
+    # + return - The events with the given key, in the order they were added.
+    public function getEvents(anydata key) returns any[] {
+        LinkedList? bucket = self.buckets[key.toString()];
+        if (bucket is LinkedList) {
+            return bucket.asArray();
+        }
+        return [];
+    }
+
+    # Removes all the events from the index.
+    public function clear() {
+        self.buckets = {};
+    }
+
+    function getKey(StreamEvent event) returns string {
+        function (map<anydata> data) returns anydata keyFunc = self.keyFunc;
+        return keyFunc(event.data).toString();
+    }
+};
+
+# Returns the pairs of events which satisfy the join condition, out of the given candidate events of a window.
+# + originEvent - The event against which the candidate events are matched.
+# + candidateEvents - The events of the window which could match the origin event.
+# + conditionFunc - The function pointer to the lambda function which contain the condition logic in where clause.
+# + isLHSTrigger - Specify if the join is triggered when the lhs stream received the events.
+# + return - Returns an array of 2 element tuples of events. A tuple contains the matching events one from lhs
+#            stream and one from rhs stream.
+public function getMatchingEvents(StreamEvent originEvent, any[] candidateEvents,
+                                  (function (map<anydata> e1Data, map<anydata> e2Data) returns boolean)? conditionFunc,
+                                  boolean isLHSTrigger) returns [StreamEvent?, StreamEvent?][] {
+    [StreamEvent?, StreamEvent?][] events = [];
+    int i = 0;
+    foreach var e in candidateEvents {
+        if (e is StreamEvent) {
+            StreamEvent lhsEvent = (isLHSTrigger) ? originEvent : e;
+            StreamEvent rhsEvent = (isLHSTrigger) ? e : originEvent;
+
+            if (conditionFunc is function (map<anydata> e1Data, map<anydata> e2Data) returns boolean) {
+                if (conditionFunc(lhsEvent.data, rhsEvent.data)) {
+                    events[i] = [lhsEvent, rhsEvent];
+                    i += 1;
+                }
+            } else {
+                events[i] = [lhsEvent, rhsEvent];
+                i += 1;
+            }
+        }
+    }
+    return events;
+}
@@ -15,13 +15,9 @@
 // under the License.
 
 import ballerina/config;
-import ballerina/file;
-import ballerina/filepath;
-import ballerina/io;
-import ballerina/lang.'int as langint;
 import ballerina/log;
 import ballerina/task;
-import ballerina/time;
+import ballerinax/java;
 
 # Abstract Snapshotable to be referenced by all snapshotable objects.
 public type Snapshotable abstract object {
@@ -39,264 +35,50 @@ public type Snapshotable abstract object {
 
 // Global variables to be used with snapshot persistence.
 task:Scheduler persistScheduler = new({ intervalInMillis: 1 });
-map<map<any>> streamsPersistanceState = {};
+handle snapshotStore = newSnapshotStore();
 map<Snapshotable> snapshotables = {};
 string persistanceDirectory = "snapshots";
 int persistanceIntervalInMillis = 30000;
 boolean stateLoaded = false;
 map<boolean> loadedStates = {};
 
-# Native function to deserialize a serialized snapshot.
-# + str - A `string` of serialized content.
-# + return - A deserialized `map<any>` state.
-function deserialize(string str) returns map<any> = external;
-
-# Native function to serialize a snapshot.
-# + data - A `map<any>` state to be serialized.
-# + return - A `string` of serialized state.
-function serialize(map<any> data) returns string = external;
-
-# Function to read given number of characters from an io:ReadableCharacterChannel.
-# + rch - A `ReadableCharacterChannel` instance.
-# + numberOfCharacters - A `int` indicating number of chars to read.
-# + return - A `string` of content or an `error`.
-function readCharacters(io:ReadableCharacterChannel rch, int numberOfCharacters) returns @tainted string|error {
-    return rch.read(numberOfCharacters);
-}
-
-# Function to read all characters as a string from an io:ReadableCharacterChannel.
-# + rch - A `ReadableCharacterChannel` instance.
-# + return - A `string` of content or an `error`.
-function readAllCharacters(io:ReadableCharacterChannel rch) returns @tainted string|error? {
-    int fixedSize = 128;
-    boolean isDone = false;
-    string result = "";
-    while (!isDone) {
-        var readResult = readCharacters(rch, fixedSize);
-        if (readResult is string) {
-            result = result + readResult;
-        } else {
-            if (readResult is io:EofError) {
-                isDone = true;
-            } else {
-                return readResult;
-            }
-        }
-    }
-    return result;
-}
-
-# Function to write a string to a file using an io:WritableCharacterChannel.
-# + wch - A `WritableCharacterChannel` instance.
-# + content - The `string` content to be written.
-# + startOffset - A `int` indicating start offset.
-# + return - A `int` indicating number of chars got written or an `error`.
-function writeCharacters(io:WritableCharacterChannel wch, string content, int startOffset) returns int|error? {
-    return wch.write(content, startOffset);
-}
-
-# Function to initialize an io:ReadableCharacterChannel.
-# + filePath - A `string` path to the file.
-# + encoding - A `string` indicating the encoding type.
-# + return - The `ReadableCharacterChannel` which got initilized.
-function createReadableCharacterChannel(string filePath, string encoding) returns io:ReadableCharacterChannel? {
-    io:ReadableCharacterChannel? rch = ();
-    io:ReadableByteChannel|error byteChannel = trap io:openReadableFile(filePath);
-    if (byteChannel is io:ReadableByteChannel) {
-        rch = <@untainted> new io:ReadableCharacterChannel(byteChannel, encoding);
-    }
-    return rch;
-}
-
-# Function to initialize an io:WritableCharacterChannel.
-# + filePath - A `string` path to the file.
-# + encoding - A `string` indicating the encoding type.
-# + return - The `WritableCharacterChannel` which got initilized.
-function createWritableCharacterChannel(string filePath, string encoding) returns io:WritableCharacterChannel? {
-    io:WritableCharacterChannel? wch = ();
-    io:WritableByteChannel|error byteChannel = trap io:openWritableFile(filePath);
-    if (byteChannel is io:WritableByteChannel) {
-        wch = <@untainted> new io:WritableCharacterChannel(byteChannel, encoding);
-    }
-    return wch;
-}
-
-# Function to close writable/readable character channels.
-# + c - Character channel to be closed.
-function closeCharChannel(any c) {
-    error? e = ();
-    if (c is io:ReadableCharacterChannel) {
-        e = c.close();
-    } else if (c is io:WritableCharacterChannel) {
-        e = c.close();
-    }
-    if (e is error) {
-        log:printError("Couldn't close char channel.", e);
-    }
-}
-
-# Function to read a text file.
-# + filePath - A `string` path to the file.
-# + encoding - A `string` indicating the encoding type.
-# + return - The `string` content of the file.
-function readFile(string filePath, string encoding) returns @tainted string {
-    string content = "";
-    io:ReadableCharacterChannel? rch = createReadableCharacterChannel(filePath, encoding);
-    if (rch is io:ReadableCharacterChannel) {
-        string|error? c = readAllCharacters(rch);
-        closeCharChannel(rch);
-        if (c is string) {
-            content = c;
-        }
-    }
-    return content;
-}
-
-# Function to write text to a file.
-# + filePath - A `string` path to the file.
-# + encoding - A `string` indicating the encoding type.
-# + content - A `string` content to be written.
-# + return - An `int` indicating how many chars got written.
-function writeToFile(string filePath, string encoding, string content) returns int {
-    int written = 0;
-    io:WritableCharacterChannel? wch = createWritableCharacterChannel(filePath, encoding);
-    if (wch is io:WritableCharacterChannel) {
-        int|error? i = writeCharacters(wch, content, 0);
-        closeCharChannel(wch);
-        if (i is int) {
-            written = i;
-        }
-    }
-    return written;
-}
-
-# Function to serialize a Snapshotable state and write that to given file.
-# + persistancePath - A `string` path of the persistance directory.
-# + return - An `error` if state cannot be written to a file.
-function writeStateToFile(string persistancePath) returns error? {
-    string? snapshotFile = ();
-    time:Time ct = time:currentTime();
-    int currentTimeMillis = ct.time;
-
-    if (!file:exists(persistancePath)) {
-        string|error e = file:createDir(persistancePath, true);
-    }
-    string path = check filepath:build(persistancePath, currentTimeMillis.toString());
-    if (!file:exists(path)) {
-        string|error filepath = file:createFile(path);
-        if (filepath is string) {
-            snapshotFile = filepath;
-        }
-    }
-    if (snapshotFile is string) {
-        string serialized = serialize(streamsPersistanceState);
-        int written = writeToFile(snapshotFile, "UTF8", serialized);
-        if (written > 0) {
-            return;
-        } else {
-            error e = error("Error while writing streaming state to a file.");
-            return e;
-        }
-    } else {
-        error e = error("Error while creating snapshot file: " + path);
-        return e;
-    }
-}
-
-# Function to get all snapshot files in persistance path
-# + persistancePath - A `string` path of the persistance directory.
-# + return - An `array` containing absolute paths of all snapshot files.
-function getSnapshotFiles(string persistancePath) returns string[] {
-    string[] snapshotFiles = [];
-    if (file:exists(persistancePath)) {
-        var files = file:readDir(persistancePath);
-        int[] timestamps = [];
-        if (files is file:FileInfo[]) {
-            foreach file:FileInfo p in files {
-                int|error t = langint:fromString(p.getName());
-                if (t is int) {
-                    timestamps[timestamps.length()] = t;
-                }
-            }
-        }
-        IntSort s = new;
-        s.sort(timestamps);
-        foreach int t in timestamps {
-            string|error sf = filepath:build(persistancePath, t.toString());
-            if (sf is string) {
-                snapshotFiles[snapshotFiles.length()] = sf;
-            }
-        }
-    }
-    return snapshotFiles;
-}
-
-# Function to get latest snapshot file in persistance path
-# + persistancePath - A `string` path of the persistance directory.
-# + return - A `string` absolute path of the latest snapshot file.
-function getLatestSnapshotFile(string persistancePath) returns string? {
-    string[] files = getSnapshotFiles(persistancePath);
-    string? latestFile = ();
-    if (files.length() > 0) {
-        latestFile = files[files.length() - 1];
-    }
-    return latestFile;
-}
-
-# Function to purge/delete old snapshot files from persistance path
-# + persistancePath - A `string` path of the directory where the states should get persisted.
-function purgeOldSnapshotFiles(string persistancePath) {
-    int revisionsToKeep = 5;
-    string[] files = getSnapshotFiles(persistancePath);
-    if (files.length() > revisionsToKeep) {
-        int i = 0;
-        while (i < (files.length() - revisionsToKeep)) {
-            string f = files[i];
-            if (file:exists(f)) {
-                error? e = file:remove(f);
-                if (e is error) {
-                    log:printError("Couldn't delete snapshot.", e);
-                }
-            }
-            i += 1;
-        }
-    }
-}
-
-# Function to restore a persisted snapshotable states from a file.
+# Function to restore the persisted states of the registered snapshotables from the snapshot log.
 function restoreStates() {
     if (!stateLoaded) {
-        string? lastSnapshotFile = getLatestSnapshotFile(persistanceDirectory);
-        if (lastSnapshotFile is string) {
-            string stateStr = readFile(lastSnapshotFile, "UTF8");
-            var retrievedState = trap deserialize(stateStr);
-            if (retrievedState is map<map<any>>) {
-                streamsPersistanceState = retrievedState;
-                stateLoaded = true;
-            }
+        error? e = openSnapshotStoreExternal(snapshotStore, java:fromString(persistanceDirectory));
+        if (e is error) {
+            log:printError("Couldn't load the persisted state.", e);
+            return;
+        }
+        stateLoaded = true;
+        if (hasLegacySnapshotsExternal(snapshotStore)) {
+            log:printWarn("Snapshots of a previous version found in " + persistanceDirectory + " are not restored, " +
+                "and can be deleted.");
         }
     }
-    foreach var [k, v] in streamsPersistanceState.entries() {
+    foreach var [k, v] in snapshotables.entries() {
         boolean loaded = loadedStates[k] ?: false;
         if (!loaded) {
-            Snapshotable? s = snapshotables[k];
-            if (s is Snapshotable) {
-                s.restoreState(v);
+            map<any>? state = getStateExternal(snapshotStore, java:fromString(k));
+            if (state is map<any>) {
+                v.restoreState(state);
                 loadedStates[k] = true;
             }
         }
     }
 }
 
-# Function to iterate through all the snapshotables, and persist their states into a file.
-# + return - An `error` if the state cannot be persisted into a file.
-function persistStatesAndPurgeOldSnapshots() returns error? {
+# Function to iterate through all the snapshotables, and append the states which changed since the previous snapshot
+# to the snapshot log.
+# + return - An `error` if the state cannot be persisted.
+function persistStates() returns error? {
     foreach var [k, v] in snapshotables.entries() {
-        streamsPersistanceState[k] = v.saveState();
+        error? e = updateStateExternal(snapshotStore, java:fromString(k), v.saveState());
+        if (e is error) {
+            log:printError("Couldn't persist the state of " + k + ".", e);
+        }
     }
-    error? e = writeStateToFile(persistanceDirectory);
-    purgeOldSnapshotFiles(persistanceDirectory);
-    return e;
+    return commitExternal(snapshotStore);
 }
 
 # Function to initilize a Scheduler task and start periodic snapshotting.
@@ -313,9 +95,9 @@ function startPersisting() {
 # Scheduler service for persisting states.
 service persistanceSchedulerService = service {
     resource function onTrigger() {
-        error? e = persistStatesAndPurgeOldSnapshots();
+        error? e = persistStates();
         if (e is error) {
-            log:printError("Couldn't persist state and purge old snapshots.", e);
+            log:printError("Couldn't persist state.", e);
         }
     }
 };
@@ -324,9 +106,11 @@ service persistanceSchedulerService = service {
 # + key - An unique `string` identifier for the snapshotable reference.
 # + reference - The snapshotable reference to be restored.
 public function restoreState(string key, any reference) {
-    var state = streamsPersistanceState[key];
-    if (state is map<any> && reference is Snapshotable) {
-        reference.restoreState(state);
+    if (reference is Snapshotable) {
+        map<any>? state = getStateExternal(snapshotStore, java:fromString(key));
+        if (state is map<any>) {
+            reference.restoreState(state);
+        }
     }
 }
 
@@ -334,9 +118,10 @@ public function restoreState(string key, any reference) {
 # + key - An unique `string` identifier for the snapshotable reference.
 # + return - A `boolean` indicating whether the state for the given key removed successfully.
 public function removeState(string key) returns boolean {
-    if (snapshotables.hasKey(key) && streamsPersistanceState.hasKey(key)) {
+    handle storeKey = java:fromString(key);
+    if (snapshotables.hasKey(key) && hasStateExternal(snapshotStore, storeKey)) {
         var snapshotableRemoved = snapshotables.remove(key);
-        var stateRemoved = streamsPersistanceState.remove(key);
+        removeStateExternal(snapshotStore, storeKey);
         return true;
     } else {
         return false;
@@ -363,3 +148,65 @@ public function initPersistence() {
         startPersisting();
     }
 }
+
+# Function to stop snapshotting. The current states are persisted, and the snapshot log is closed.
+public function stopPersistence() {
+    if (!stateLoaded) {
+        return;
+    }
+    task:SchedulerError? stopResult = persistScheduler.stop();
+    if (stopResult is task:SchedulerError) {
+        log:printError("Couldn't stop the snapshot scheduler.", stopResult);
+    }
+    error? e = persistStates();
+    if (e is error) {
+        log:printError("Couldn't persist state.", e);
+    }
+    closeExternal(snapshotStore);
+    stateLoaded = false;
+    loadedStates = {};
+}
+
+function newSnapshotStore() returns handle = @java:Constructor {
+    class: "org.ballerinalang.streams.SnapshotStore"
+} external;
+
+function openSnapshotStoreExternal(handle store, handle directory) returns error? = @java:Method {
+    name: "open",
+    class: "org.ballerinalang.streams.SnapshotStore"
+} external;
+
+function hasStateExternal(handle store, handle key) returns boolean = @java:Method {
+    name: "hasState",
+    class: "org.ballerinalang.streams.SnapshotStore"
+} external;
+
+function getStateExternal(handle store, handle key) returns map<any>? = @java:Method {
+    name: "getState",
+    class: "org.ballerinalang.streams.SnapshotStore"
+} external;
+
+function updateStateExternal(handle store, handle key, map<any> state) returns error? = @java:Method {
+    name: "updateState",
+    class: "org.ballerinalang.streams.SnapshotStore"
+} external;
+
+function removeStateExternal(handle store, handle key) = @java:Method {
+    name: "removeState",
+    class: "org.ballerinalang.streams.SnapshotStore"
+} external;
+
+function commitExternal(handle store) returns error? = @java:Method {
+    name: "commit",
+    class: "org.ballerinalang.streams.SnapshotStore"
+} external;
+
+function hasLegacySnapshotsExternal(handle store) returns boolean = @java:Method {
+    name: "hasLegacySnapshots",
+    class: "org.ballerinalang.streams.SnapshotStore"
+} external;
+
+function closeExternal(handle store) = @java:Method {
+    name: "close",
+    class: "org.ballerinalang.streams.SnapshotStore"
+} external;
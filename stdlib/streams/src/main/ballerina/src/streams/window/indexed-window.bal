@@ -0,0 +1,44 @@
+// Copyright (c) 2019 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+# The `IndexedWindow` abstract object is implemented by windows which can keep a hash index on the join key of their
+# events. When the join condition of a streaming query is an equality between the attributes of the joined streams,
+# the `StreamJoinProcessor` sets the join key of the windows which are `IndexedWindow`s, and looks up the candidate
+# events by key instead of matching the join condition against all the events of the window. Other windows are joined
+# through `getCandidateEvents`.
+public type IndexedWindow abstract object {
+    *Window;
+
+    # Sets the function which returns the join key of an event, and indexes the events of the window on that key.
+    # + keyFunc - The function which returns the join key from the data of an event of the window.
+    public function setJoinKey(function (map<anydata> data) returns anydata keyFunc);
+
+    # Returns the events(State) which have the given join key and match with the where condition in the join clause
+    # for a given event.
+    # + originEvent - The event against which the state or the events being held by the window is matched.
+    # + key - The join key of the origin event.
+    # + conditionFunc - The function pointer to the lambda function which contain the condition logic in where clause.
+    # + isLHSTrigger - Specify if the join is triggered when the lhs stream received the events, if so it should be
+    #                  true.
+    # + return - Returns an array of 2 element tuples of events. A tuple contains the matching events one from lhs
+    #            stream and one from rhs stream.
+    public function getCandidateEventsByKey(
+                        StreamEvent originEvent,
+                        anydata key,
+                        (function (map<anydata> e1Data, map<anydata> e2Data) returns boolean)? conditionFunc,
+                        public boolean isLHSTrigger = true)
+                        returns [StreamEvent?, StreamEvent?][];
+};
@@ -30,13 +30,15 @@
 # + linkedList - description
 # + windowParameters - description
 # + nextProcessPointer - description
+# + joinIndex - description
 public type LengthWindow object {
-    *Window;
+    *IndexedWindow;
     *Snapshotable;
     public int size;
     public LinkedList linkedList;
     public any[] windowParameters;
     public function (StreamEvent?[])? nextProcessPointer;
+    public JoinIndex? joinIndex = ();
 
     public function __init(function (StreamEvent?[])? nextProcessPointer, any[] windowParameters) {
         self.nextProcessPointer = nextProcessPointer;
@@ -67,6 +69,7 @@ public type LengthWindow object {
     # + streamEvents - The array of stream events to be processed.
     public function process(StreamEvent?[] streamEvents) {
         StreamEvent?[] outputEvents = [];
+        JoinIndex? index = self.joinIndex;
         foreach var evt in streamEvents {
             StreamEvent event = <StreamEvent>evt;
             if (self.linkedList.getSize() == self.size) {
@@ -74,6 +77,9 @@ public type LengthWindow object {
                 any anyValue = self.linkedList.removeFirst();
                 if (anyValue is StreamEvent) {
                     outputEvents[outputEvents.length()] = anyValue;
+                    if (index is JoinIndex) {
+                        index.removeOldest(anyValue);
+                    }
                 }
             }
 
@@ -81,6 +87,9 @@ public type LengthWindow object {
             StreamEvent expiredVeresionOfEvent = event.copy();
             expiredVeresionOfEvent.eventType = "EXPIRED";
             self.linkedList.addLast(expiredVeresionOfEvent);
+            if (index is JoinIndex) {
+                index.add(expiredVeresionOfEvent);
+            }
         }
 
         any nextProcessFuncPointer = self.nextProcessPointer;
@@ -123,6 +132,36 @@ public type LengthWindow object {
         return events;
     }
 
+    # Sets the function which returns the join key of an event, and indexes the events of the window on that key.
+    # + keyFunc - The function which returns the join key from the data of an event of the window.
+    public function setJoinKey(function (map<anydata> data) returns anydata keyFunc) {
+        JoinIndex index = new(keyFunc);
+        index.addAll(self.linkedList.asArray());
+        self.joinIndex = index;
+    }
+
+    # Returns the events(State) which have the given join key and match with the where condition in the join clause
+    # for a given event.
+    # + originEvent - The event against which the state or the events being held by the window is matched.
+    # + key - The join key of the origin event.
+    # + conditionFunc - The function pointer to the lambda function which contain the condition logic in where clause.
+    # + isLHSTrigger - Specify if the join is triggered when the lhs stream received the events, if so it should be
+    #                  true.
+    # + return - Returns an array of 2 element tuples of events. A tuple contains the matching events one from lhs
+    #            stream and one from rhs stream.
+    public function getCandidateEventsByKey(
+                        StreamEvent originEvent,
+                        anydata key,
+                        (function (map<anydata> e1Data, map<anydata> e2Data) returns boolean)? conditionFunc,
+                        public boolean isLHSTrigger = true)
+                        returns @tainted [StreamEvent?, StreamEvent?][] {
+        JoinIndex? index = self.joinIndex;
+        if (index is JoinIndex) {
+            return getMatchingEvents(originEvent, index.getEvents(key), conditionFunc, isLHSTrigger);
+        }
+        return self.getCandidateEvents(originEvent, conditionFunc, isLHSTrigger = isLHSTrigger);
+    }
+
     # Return current state to be saved as a map of `any` typed values.
     # + return - A map of `any` typed values.
     public function saveState() returns map<any> {
@@ -140,6 +179,11 @@ public type LengthWindow object {
             StreamEvent?[] streamEvents = toStreamEvents(eventsList);
             self.linkedList = new;
             self.linkedList.addAll(streamEvents);
+            JoinIndex? index = self.joinIndex;
+            if (index is JoinIndex) {
+                index.clear();
+                index.addAll(streamEvents);
+            }
         }
     }
 };
@@ -33,8 +33,9 @@ import ballerina/time;
 # + nextProcessPointer - description
 # + lastTimestamp - description
 # + scheduler - description
+# + joinIndex - description
 public type TimeWindow object {
-    *Window;
+    *IndexedWindow;
     *Snapshotable;
     public int timeInMillis;
     public any[] windowParameters;
@@ -42,6 +43,7 @@ public type TimeWindow object {
     public function (StreamEvent?[])? nextProcessPointer;
     public int lastTimestamp = -0x8000000000000000;
     public Scheduler scheduler;
+    public JoinIndex? joinIndex = ();
 
     public function __init(function (StreamEvent?[])? nextProcessPointer, any[] windowParameters) {
         self.nextProcessPointer = nextProcessPointer;
@@ -74,6 +76,7 @@ public type TimeWindow object {
     # + streamEvents - The array of stream events to be processed.
     public function process(StreamEvent?[] streamEvents) {
         LinkedList streamEventChunk = new;
+        JoinIndex? index = self.joinIndex;
         lock {
             foreach var event in streamEvents {
                 streamEventChunk.addLast(event);
@@ -91,6 +94,9 @@ public type TimeWindow object {
                     int timeDiff = (expiredEvent.timestamp - currentTime) + self.timeInMillis;
                     if (timeDiff <= 0) {
                         self.expiredEventQueue.removeCurrent();
+                        if (index is JoinIndex) {
+                            index.removeOldest(expiredEvent);
+                        }
                         expiredEvent.timestamp = currentTime;
                         streamEventChunk.insertBeforeCurrent(expiredEvent);
                     } else {
@@ -102,6 +108,9 @@ public type TimeWindow object {
                     StreamEvent clonedEvent = streamEvent.copy();
                     clonedEvent.eventType = "EXPIRED";
                     self.expiredEventQueue.addLast(clonedEvent);
+                    if (index is JoinIndex) {
+                        index.add(clonedEvent);
+                    }
 
                     if (self.lastTimestamp < clonedEvent.timestamp) {
                         self.scheduler.notifyAt(clonedEvent.timestamp + self.timeInMillis);
@@ -162,6 +171,38 @@ public type TimeWindow object {
         return events;
     }
 
+    # Sets the function which returns the join key of an event, and indexes the events of the window on that key.
+    # + keyFunc - The function which returns the join key from the data of an event of the window.
+    public function setJoinKey(function (map<anydata> data) returns anydata keyFunc) {
+        lock {
+            JoinIndex index = new(keyFunc);
+            index.addAll(self.expiredEventQueue.asArray());
+            self.joinIndex = index;
+        }
+    }
+
+    # Returns the events(State) which have the given join key and match with the where condition in the join clause
+    # for a given event.
+    # + originEvent - The event against which the state or the events being held by the window is matched.
+    # + key - The join key of the origin event.
+    # + conditionFunc - The function pointer to the lambda function which contain the condition logic in where clause.
+    # + isLHSTrigger - Specify if the join is triggered when the lhs stream received the events, if so it should be
+    #                  true.
+    # + return - Returns an array of 2 element tuples of events. A tuple contains the matching events one from lhs
+    #            stream and one from rhs stream.
+    public function getCandidateEventsByKey(
+                        StreamEvent originEvent,
+                        anydata key,
+                        (function (map<anydata> e1Data, map<anydata> e2Data) returns boolean)? conditionFunc,
+                        public boolean isLHSTrigger = true)
+                        returns @tainted [StreamEvent?, StreamEvent?][] {
+        JoinIndex? index = self.joinIndex;
+        if (index is JoinIndex) {
+            return getMatchingEvents(originEvent, index.getEvents(key), conditionFunc, isLHSTrigger);
+        }
+        return self.getCandidateEvents(originEvent, conditionFunc, isLHSTrigger = isLHSTrigger);
+    }
+
     # Return current state to be saved as a map of `any` typed values.
     # + return - A map of `any` typed values.
     public function saveState() returns map<any> {
@@ -180,6 +221,11 @@ public type TimeWindow object {
             StreamEvent?[] streamEvents = toStreamEvents(expiredEventsList);
             self.expiredEventQueue = new;
             self.expiredEventQueue.addAll(streamEvents);
+            JoinIndex? index = self.joinIndex;
+            if (index is JoinIndex) {
+                index.clear();
+                index.addAll(streamEvents);
+            }
         }
         any lastTimestamp = state["lastTimestamp"];
         if (lastTimestamp is int) {
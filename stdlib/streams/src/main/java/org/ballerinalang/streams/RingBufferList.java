@@ -0,0 +1,250 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.streams;
+
+import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ArrayValue;
+
+/**
+ * Ring buffer backing the `LinkedList` object of the streams module, which holds the events of windows and the
+ * values of aggregators.
+ * <p>
+ * Elements are kept in a circular array, so that adding and removing elements at either end, which is how windows
+ * and aggregators use the list, does not allocate a node per element. Elements in the middle are removed or inserted
+ * by shifting the shorter side of the buffer. The list keeps a cursor with the same semantics as the Ballerina linked
+ * list it replaces: after removing the current element, the cursor moves back to the previous element when iterating
+ * from the front, and to the next element when iterating from the rear.
+ *
+ * @since 1.0.2
+ */
+public class RingBufferList {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int NO_CURSOR = -1;
+    private static final BArrayType ANY_ARRAY_TYPE = new BArrayType(BTypes.typeAny);
+
+    private Object[] elements = new Object[INITIAL_CAPACITY];
+    private int head = 0;
+    private int size = 0;
+    private int cursor = NO_CURSOR;
+    private boolean ascend = true;
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void resetToFront() {
+        cursor = NO_CURSOR;
+        ascend = true;
+    }
+
+    public void resetToRear() {
+        cursor = NO_CURSOR;
+        ascend = false;
+    }
+
+    public boolean hasNext() {
+        if (cursor != NO_CURSOR) {
+            return cursor + 1 < size;
+        }
+        return ascend && size > 0;
+    }
+
+    public boolean hasPrevious() {
+        if (cursor != NO_CURSOR) {
+            return cursor > 0;
+        }
+        return !ascend && size > 0;
+    }
+
+    public Object next() {
+        if (!hasNext()) {
+            throw BallerinaErrors.createError("couldn't iterate to next node.");
+        }
+        cursor = cursor != NO_CURSOR ? cursor + 1 : 0;
+        return get(cursor);
+    }
+
+    public Object previous() {
+        if (!hasPrevious()) {
+            throw BallerinaErrors.createError("couldn't iterate to previous node.");
+        }
+        cursor = cursor != NO_CURSOR ? cursor - 1 : size - 1;
+        return get(cursor);
+    }
+
+    public void removeCurrent() {
+        if (cursor != NO_CURSOR) {
+            removeAt(cursor);
+        }
+    }
+
+    public void insertBeforeCurrent(Object data) {
+        if (cursor != NO_CURSOR) {
+            insertAt(cursor, data);
+        }
+    }
+
+    public Object getFirst() {
+        return size > 0 ? get(0) : null;
+    }
+
+    public Object getLast() {
+        return size > 0 ? get(size - 1) : null;
+    }
+
+    public void addFirst(Object data) {
+        insertAt(0, data);
+    }
+
+    public void addLast(Object data) {
+        insertAt(size, data);
+    }
+
+    public Object removeFirst() {
+        return size > 0 ? removeAt(0) : null;
+    }
+
+    public Object removeLast() {
+        return size > 0 ? removeAt(size - 1) : null;
+    }
+
+    /**
+     * Removes the first element which is the same as the given element, compared the same as the `===` operator.
+     *
+     * @param data element to be removed
+     * @return true if an element was removed
+     */
+    public boolean remove(Object data) {
+        for (int i = 0; i < size; i++) {
+            if (TypeChecker.isReferenceEqual(get(i), data)) {
+                removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void addAll(ArrayValue data) {
+        int length = data.size();
+        ensureCapacity(size + length);
+        for (int i = 0; i < length; i++) {
+            elements[physicalIndex(size)] = data.get(i);
+            size++;
+        }
+    }
+
+    public ArrayValue asArray() {
+        Object[] values = new Object[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = get(i);
+        }
+        return new ArrayValue(values, ANY_ARRAY_TYPE);
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            elements[physicalIndex(i)] = null;
+        }
+        head = 0;
+        size = 0;
+        cursor = NO_CURSOR;
+    }
+
+    private Object get(int index) {
+        return elements[physicalIndex(index)];
+    }
+
+    private int physicalIndex(int index) {
+        int physicalIndex = head + index;
+        return physicalIndex < elements.length ? physicalIndex : physicalIndex - elements.length;
+    }
+
+    private void insertAt(int index, Object data) {
+        ensureCapacity(size + 1);
+        if (index < size - index) {
+            // Shift the elements before the index towards the front
+            head = head == 0 ? elements.length - 1 : head - 1;
+            for (int i = 0; i < index; i++) {
+                elements[physicalIndex(i)] = elements[physicalIndex(i + 1)];
+            }
+        } else {
+            for (int i = size; i > index; i--) {
+                elements[physicalIndex(i)] = elements[physicalIndex(i - 1)];
+            }
+        }
+        elements[physicalIndex(index)] = data;
+        size++;
+        if (cursor != NO_CURSOR && index <= cursor) {
+            cursor++;
+        }
+    }
+
+    private Object removeAt(int index) {
+        Object data = get(index);
+        if (index < size - index - 1) {
+            // Shift the elements before the index towards the back
+            for (int i = index; i > 0; i--) {
+                elements[physicalIndex(i)] = elements[physicalIndex(i - 1)];
+            }
+            elements[head] = null;
+            head = physicalIndex(1);
+        } else {
+            for (int i = index; i < size - 1; i++) {
+                elements[physicalIndex(i)] = elements[physicalIndex(i + 1)];
+            }
+            elements[physicalIndex(size - 1)] = null;
+        }
+        size--;
+        if (cursor != NO_CURSOR) {
+            if (index < cursor) {
+                cursor--;
+            } else if (index == cursor) {
+                if (ascend) {
+                    cursor--;
+                } else if (cursor >= size) {
+                    cursor = NO_CURSOR;
+                }
+            }
+        }
+        return data;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= elements.length) {
+            return;
+        }
+        int newCapacity = elements.length;
+        while (newCapacity < capacity) {
+            newCapacity <<= 1;
+        }
+        Object[] newElements = new Object[newCapacity];
+        for (int i = 0; i < size; i++) {
+            newElements[i] = get(i);
+        }
+        elements = newElements;
+        head = 0;
+    }
+}
@@ -0,0 +1,367 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.streams;
+
+import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.ValueCreator;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binary encoding of the states of snapshotable objects of the streams module.
+ * <p>
+ * A state is encoded as a tagged value, in which strings are length prefixed. Arrays and maps are preceded by their
+ * type, so that they are decoded into values of the same type, which the snapshotables check when restoring their
+ * states. Record types are encoded by their package and name, and resolved through the value creator of the package.
+ * Types which cannot be encoded, such as tuples, are encoded as `anydata`. Only values which are `anydata` can be
+ * encoded.
+ *
+ * @since 1.0.2
+ */
+public class SnapshotCodec {
+
+    private static final byte NIL = 0;
+    private static final byte BOOLEAN = 1;
+    private static final byte INT = 2;
+    private static final byte FLOAT = 3;
+    private static final byte DECIMAL = 4;
+    private static final byte STRING = 5;
+    private static final byte BYTE = 6;
+    private static final byte ARRAY = 7;
+    private static final byte MAP = 8;
+
+    private static final byte TYPE_ANYDATA = 0;
+    private static final byte TYPE_ANY = 1;
+    private static final byte TYPE_NIL = 2;
+    private static final byte TYPE_BOOLEAN = 3;
+    private static final byte TYPE_INT = 4;
+    private static final byte TYPE_FLOAT = 5;
+    private static final byte TYPE_DECIMAL = 6;
+    private static final byte TYPE_STRING = 7;
+    private static final byte TYPE_BYTE = 8;
+    private static final byte TYPE_JSON = 9;
+    private static final byte TYPE_ARRAY = 10;
+    private static final byte TYPE_MAP = 11;
+    private static final byte TYPE_RECORD = 12;
+    private static final byte TYPE_UNION = 13;
+
+    private static final BType ANYDATA_ARRAY_TYPE = new BArrayType(BTypes.typeAnydata);
+    private static final BType ANYDATA_MAP_TYPE = new BMapType(BTypes.typeAnydata);
+
+    private final Map<String, BType> recordTypes = new HashMap<>();
+
+    /**
+     * Encodes a value.
+     *
+     * @param value Value to be encoded.
+     * @return Encoded value.
+     * @throws IllegalArgumentException if the value, or a member of it, is not `anydata`.
+     */
+    public byte[] encode(Object value) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            writeValue(out, value);
+        } catch (IOException e) {
+            // Writing to a byte array does not fail
+            throw new IllegalStateException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decodes a value which was encoded by {@link #encode(Object)}.
+     *
+     * @param bytes Encoded value.
+     * @return Decoded value.
+     * @throws IOException if the bytes are not a valid encoded value.
+     */
+    public Object decode(byte[] bytes) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            return readValue(in);
+        }
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private void writeValue(DataOutput out, Object value) throws IOException {
+        if (value == null) {
+            out.writeByte(NIL);
+        } else if (value instanceof Boolean) {
+            out.writeByte(BOOLEAN);
+            out.writeBoolean((Boolean) value);
+        } else if (value instanceof Long) {
+            out.writeByte(INT);
+            out.writeLong((Long) value);
+        } else if (value instanceof Double) {
+            out.writeByte(FLOAT);
+            out.writeDouble((Double) value);
+        } else if (value instanceof DecimalValue) {
+            out.writeByte(DECIMAL);
+            writeString(out, ((DecimalValue) value).value().toString());
+        } else if (value instanceof String) {
+            out.writeByte(STRING);
+            writeString(out, (String) value);
+        } else if (value instanceof Byte || value instanceof Integer) {
+            out.writeByte(BYTE);
+            out.writeByte(((Number) value).intValue());
+        } else if (value instanceof ArrayValue) {
+            ArrayValue array = (ArrayValue) value;
+            out.writeByte(ARRAY);
+            writeType(out, array.getType());
+            int size = array.size();
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                writeValue(out, array.get(i));
+            }
+        } else if (value instanceof MapValue) {
+            MapValue<?, ?> map = (MapValue<?, ?>) value;
+            out.writeByte(MAP);
+            writeType(out, map.getType());
+            out.writeInt(map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeString(out, entry.getKey().toString());
+                writeValue(out, entry.getValue());
+            }
+        } else {
+            throw new IllegalArgumentException("unsupported value of type '" + TypeChecker.getType(value) +
+                    "' in state");
+        }
+    }
+
+    private Object readValue(DataInput in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case NIL:
+                return null;
+            case BOOLEAN:
+                return in.readBoolean();
+            case INT:
+                return in.readLong();
+            case FLOAT:
+                return in.readDouble();
+            case DECIMAL:
+                return new DecimalValue(readString(in));
+            case STRING:
+                return readString(in);
+            case BYTE:
+                return Byte.toUnsignedInt(in.readByte());
+            case ARRAY:
+                return readArray(in);
+            case MAP:
+                return readMap(in);
+            default:
+                throw new IOException("invalid value tag: " + tag);
+        }
+    }
+
+    private ArrayValue readArray(DataInput in) throws IOException {
+        BType type = readType(in);
+        ArrayValue array = new ArrayValue(type.getTag() == TypeTags.ARRAY_TAG ? type : ANYDATA_ARRAY_TYPE);
+        BType elementType = ((BArrayType) array.getType()).getElementType();
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            Object element = readValue(in);
+            switch (elementType.getTag()) {
+                case TypeTags.INT_TAG:
+                    array.add(i, (long) (Long) element);
+                    break;
+                case TypeTags.FLOAT_TAG:
+                    array.add(i, (double) (Double) element);
+                    break;
+                case TypeTags.STRING_TAG:
+                    array.add(i, (String) element);
+                    break;
+                case TypeTags.BOOLEAN_TAG:
+                    array.add(i, (boolean) (Boolean) element);
+                    break;
+                case TypeTags.BYTE_TAG:
+                    array.add(i, ((Number) element).byteValue());
+                    break;
+                default:
+                    array.add(i, element);
+            }
+        }
+        return array;
+    }
+
+    private MapValue<String, Object> readMap(DataInput in) throws IOException {
+        BType type = readType(in);
+        boolean isMapType = type.getTag() == TypeTags.MAP_TAG || type.getTag() == TypeTags.RECORD_TYPE_TAG;
+        MapValue<String, Object> map = new MapValueImpl<>(isMapType ? type : ANYDATA_MAP_TYPE);
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            String key = readString(in);
+            map.put(key, readValue(in));
+        }
+        return map;
+    }
+
+    private void writeType(DataOutput out, BType type) throws IOException {
+        switch (type.getTag()) {
+            case TypeTags.ANY_TAG:
+                out.writeByte(TYPE_ANY);
+                break;
+            case TypeTags.NULL_TAG:
+                out.writeByte(TYPE_NIL);
+                break;
+            case TypeTags.BOOLEAN_TAG:
+                out.writeByte(TYPE_BOOLEAN);
+                break;
+            case TypeTags.INT_TAG:
+                out.writeByte(TYPE_INT);
+                break;
+            case TypeTags.FLOAT_TAG:
+                out.writeByte(TYPE_FLOAT);
+                break;
+            case TypeTags.DECIMAL_TAG:
+                out.writeByte(TYPE_DECIMAL);
+                break;
+            case TypeTags.STRING_TAG:
+                out.writeByte(TYPE_STRING);
+                break;
+            case TypeTags.BYTE_TAG:
+                out.writeByte(TYPE_BYTE);
+                break;
+            case TypeTags.JSON_TAG:
+                out.writeByte(TYPE_JSON);
+                break;
+            case TypeTags.ARRAY_TAG:
+                out.writeByte(TYPE_ARRAY);
+                writeType(out, ((BArrayType) type).getElementType());
+                break;
+            case TypeTags.MAP_TAG:
+                out.writeByte(TYPE_MAP);
+                writeType(out, ((BMapType) type).getConstrainedType());
+                break;
+            case TypeTags.RECORD_TYPE_TAG:
+                BPackage pkg = type.getPackage();
+                out.writeByte(TYPE_RECORD);
+                writeNullableString(out, pkg.getOrg());
+                writeNullableString(out, pkg.getName());
+                writeNullableString(out, pkg.getVersion());
+                writeString(out, type.getName());
+                break;
+            case TypeTags.UNION_TAG:
+                List<BType> memberTypes = ((BUnionType) type).getMemberTypes();
+                out.writeByte(TYPE_UNION);
+                out.writeInt(memberTypes.size());
+                for (BType memberType : memberTypes) {
+                    writeType(out, memberType);
+                }
+                break;
+            default:
+                out.writeByte(TYPE_ANYDATA);
+        }
+    }
+
+    private BType readType(DataInput in) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case TYPE_ANYDATA:
+                return BTypes.typeAnydata;
+            case TYPE_ANY:
+                return BTypes.typeAny;
+            case TYPE_NIL:
+                return BTypes.typeNull;
+            case TYPE_BOOLEAN:
+                return BTypes.typeBoolean;
+            case TYPE_INT:
+                return BTypes.typeInt;
+            case TYPE_FLOAT:
+                return BTypes.typeFloat;
+            case TYPE_DECIMAL:
+                return BTypes.typeDecimal;
+            case TYPE_STRING:
+                return BTypes.typeString;
+            case TYPE_BYTE:
+                return BTypes.typeByte;
+            case TYPE_JSON:
+                return BTypes.typeJSON;
+            case TYPE_ARRAY:
+                return new BArrayType(readType(in));
+            case TYPE_MAP:
+                return new BMapType(readType(in));
+            case TYPE_RECORD:
+                BPackage pkg = new BPackage(readNullableString(in), readNullableString(in), readNullableString(in));
+                return resolveRecordType(pkg, readString(in));
+            case TYPE_UNION:
+                int memberCount = in.readInt();
+                List<BType> memberTypes = new ArrayList<>(memberCount);
+                for (int i = 0; i < memberCount; i++) {
+                    memberTypes.add(readType(in));
+                }
+                return new BUnionType(memberTypes);
+            default:
+                throw new IOException("invalid type tag: " + tag);
+        }
+    }
+
+    private BType resolveRecordType(BPackage pkg, String typeName) {
+        return recordTypes.computeIfAbsent(pkg + ":" + typeName, key -> {
+            try {
+                return ValueCreator.getValueCreator(pkg.toString()).createRecordValue(typeName).getType();
+            } catch (RuntimeException e) {
+                // The record is restored as a map, if its module is no longer part of the program
+                return ANYDATA_MAP_TYPE;
+            }
+        });
+    }
+
+    private static void writeNullableString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeString(out, value);
+        }
+    }
+
+    private static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? readString(in) : null;
+    }
+}
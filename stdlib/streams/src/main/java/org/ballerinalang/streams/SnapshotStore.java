@@ -0,0 +1,426 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.streams;
+
+import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.MapValue;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of the states of snapshotable objects of the streams module.
+ * <p>
+ * Each snapshot appends only the states which changed since the previous snapshot, and the states which were
+ * removed, followed by a commit record. Records are length prefixed and carry a checksum, so that a snapshot which
+ * was only partially written when the program stopped is discarded on restore. The log is written by a single
+ * background thread, so that persisting a snapshot does not wait for the disk. Once the log grows beyond a multiple of
+ * the size of the current states, it is compacted by rewriting the current states to a new log, which replaces the
+ * old one.
+ * <p>
+ * A state is the unit of change: a state which changed is encoded and appended as a whole, and the snapshotable still
+ * builds its complete state on each snapshot. Hence a snapshot costs the size of the states which changed, rather
+ * than the size of the changes within them, e.g. a window which receives a single event rewrites all of its events.
+ * <p>
+ * Snapshots written by previous versions as one text file per snapshot cannot be read, and are left as they are.
+ *
+ * @since 1.0.2
+ */
+public class SnapshotStore {
+
+    static final String LOG_FILE_NAME = "snapshots.log";
+    private static final String COMPACTED_LOG_FILE_NAME = LOG_FILE_NAME + ".compacted";
+    private static final String WRITER_THREAD_NAME = "ballerina-streams-snapshot-writer";
+    private static final byte STATE_RECORD = 1;
+    private static final byte REMOVE_RECORD = 2;
+    private static final byte COMMIT_RECORD = 3;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int COMPACTION_RATIO = 4;
+    private static final long MIN_COMPACTION_SIZE = 1024 * 1024;
+
+    private final SnapshotCodec codec = new SnapshotCodec();
+    private final Map<String, byte[]> states = new HashMap<>();
+    private final ByteArrayOutputStream pendingRecords = new ByteArrayOutputStream();
+    private ExecutorService writer;
+    private Path logFile;
+    private FileChannel channel;
+    private long logSize;
+    private long stateSize;
+    private boolean legacySnapshotsFound;
+    private Thread shutdownHook;
+    private volatile IOException writeError;
+
+    /**
+     * Opens the log in the given directory and loads the states of the last complete snapshot. Opening an already
+     * opened store has no effect.
+     *
+     * @param directory Directory of the log.
+     * @return An error if the log cannot be opened.
+     */
+    public synchronized ErrorValue open(String directory) {
+        if (writer != null) {
+            return null;
+        }
+        try {
+            Path dir = Paths.get(directory);
+            Files.createDirectories(dir);
+            logFile = dir.resolve(LOG_FILE_NAME);
+            legacySnapshotsFound = hasLegacySnapshotFiles(dir);
+            logSize = Files.exists(logFile) ? load() : 0;
+            channel = FileChannel.open(logFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            // Discard a partially written snapshot at the end of the log
+            channel.truncate(logSize);
+            channel.position(logSize);
+        } catch (IOException e) {
+            states.clear();
+            return BallerinaErrors.createError("Error while opening the snapshot log in '" + directory + "': " +
+                    e.getMessage());
+        }
+        writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, WRITER_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        // Writer thread is a daemon, hence pending snapshots are flushed when the program exits
+        shutdownHook = new Thread(this::close);
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+        return null;
+    }
+
+    /**
+     * Checks whether the directory of the log holds snapshots written by a previous version, which cannot be restored.
+     *
+     * @return true if snapshot files of a previous version were found when the log was opened.
+     */
+    public synchronized boolean hasLegacySnapshots() {
+        return legacySnapshotsFound;
+    }
+
+    /**
+     * Checks whether there is a state for the given key.
+     *
+     * @param key Key of the snapshotable.
+     * @return true if there is a state for the key.
+     */
+    public synchronized boolean hasState(String key) {
+        return states.containsKey(key);
+    }
+
+    /**
+     * Gets the last persisted state for the given key.
+     *
+     * @param key Key of the snapshotable.
+     * @return State of the snapshotable, or null if there is no state for the key.
+     */
+    public synchronized MapValue<?, ?> getState(String key) {
+        byte[] state = states.get(key);
+        if (state == null) {
+            return null;
+        }
+        try {
+            return (MapValue<?, ?>) codec.decode(state);
+        } catch (IOException | ClassCastException e) {
+            throw BallerinaErrors.createError("Error while restoring the state of '" + key + "': " + e.getMessage());
+        }
+    }
+
+    /**
+     * Adds the state of a snapshotable to the next snapshot, if it changed since the previous snapshot.
+     *
+     * @param key   Key of the snapshotable.
+     * @param state Current state of the snapshotable.
+     * @return An error if the state cannot be encoded.
+     */
+    public synchronized ErrorValue updateState(String key, MapValue<?, ?> state) {
+        if (writer == null) {
+            return null;
+        }
+        byte[] encodedState;
+        try {
+            encodedState = codec.encode(state);
+        } catch (IllegalArgumentException e) {
+            return BallerinaErrors.createError("Error while persisting the state of '" + key + "': " +
+                    e.getMessage());
+        }
+        byte[] previousState = states.put(key, encodedState);
+        if (previousState != null) {
+            if (Arrays.equals(previousState, encodedState)) {
+                return null;
+            }
+            stateSize -= previousState.length;
+        }
+        stateSize += encodedState.length;
+        writeRecord(pendingRecords, STATE_RECORD, key, encodedState);
+        return null;
+    }
+
+    /**
+     * Removes the state of a snapshotable from the next snapshot.
+     *
+     * @param key Key of the snapshotable.
+     */
+    public synchronized void removeState(String key) {
+        byte[] previousState = states.remove(key);
+        if (previousState != null) {
+            stateSize -= previousState.length;
+            if (writer != null) {
+                writeRecord(pendingRecords, REMOVE_RECORD, key, null);
+            }
+        }
+    }
+
+    /**
+     * Appends the changes added since the previous commit to the log, as a snapshot. The log is written in the
+     * background, and an error which occurred while writing a previous snapshot is returned.
+     *
+     * @return An error if a previous snapshot could not be written.
+     */
+    public synchronized ErrorValue commit() {
+        if (writer == null) {
+            return null;
+        }
+        IOException error = writeError;
+        writeError = null;
+        if (pendingRecords.size() > 0) {
+            writeRecord(pendingRecords, COMMIT_RECORD, null, null);
+            byte[] snapshot = pendingRecords.toByteArray();
+            pendingRecords.reset();
+            logSize += snapshot.length;
+            writer.execute(() -> append(snapshot));
+            if (logSize > MIN_COMPACTION_SIZE && logSize > stateSize * COMPACTION_RATIO) {
+                ByteArrayOutputStream compactedLog = new ByteArrayOutputStream();
+                states.forEach((key, state) -> writeRecord(compactedLog, STATE_RECORD, key, state));
+                writeRecord(compactedLog, COMMIT_RECORD, null, null);
+                logSize = compactedLog.size();
+                writer.execute(() -> compact(compactedLog.toByteArray()));
+            }
+        }
+        if (error != null) {
+            return BallerinaErrors.createError("Error while writing a snapshot: " + error.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Waits for the pending snapshots to be written and closes the log.
+     */
+    public synchronized void close() {
+        if (writer == null) {
+            return;
+        }
+        if (shutdownHook != null && Thread.currentThread() != shutdownHook) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // Program is already exiting
+            }
+        }
+        shutdownHook = null;
+        writer.execute(this::closeChannel);
+        writer.shutdown();
+        try {
+            writer.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+
+    /**
+     * Loads the states of the complete snapshots in the log.
+     *
+     * @return Size of the log up to the end of the last complete snapshot.
+     */
+    private long load() throws IOException {
+        Map<String, byte[]> snapshotStates = new HashMap<>();
+        long validSize = 0;
+        long position = 0;
+        long logFileSize = Files.size(logFile);
+        CRC32 checksum = new CRC32();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(logFile)))) {
+            while (true) {
+                int length = in.readInt();
+                int expectedChecksum = in.readInt();
+                if (length <= 0 || length > logFileSize - position - RECORD_HEADER_SIZE) {
+                    // Corrupted or partially written record header
+                    break;
+                }
+                byte[] record = new byte[length];
+                in.readFully(record);
+                checksum.reset();
+                checksum.update(record, 0, length);
+                if ((int) checksum.getValue() != expectedChecksum || !isValidRecordType(record[0])) {
+                    // Corrupted record, the log is truncated from here
+                    break;
+                }
+                position += RECORD_HEADER_SIZE + length;
+                if (!readRecord(record, snapshotStates)) {
+                    // A commit record completes a snapshot
+                    snapshotStates.forEach((key, state) -> {
+                        if (state.length == 0) {
+                            states.remove(key);
+                        } else {
+                            states.put(key, state);
+                        }
+                    });
+                    snapshotStates.clear();
+                    validSize = position;
+                }
+            }
+        } catch (EOFException e) {
+            // End of the log, or a partially written record
+        }
+        stateSize = 0;
+        states.values().forEach(state -> stateSize += state.length);
+        return validSize;
+    }
+
+    /**
+     * Reads a record into the states of the snapshot it belongs to. A removed state is marked with an empty state.
+     *
+     * @return false if the record is a commit record.
+     */
+    private static boolean readRecord(byte[] record, Map<String, byte[]> snapshotStates) throws IOException {
+        byte type = record[0];
+        if (type == COMMIT_RECORD) {
+            return false;
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(record, 1, record.length - 1));
+        String key = SnapshotCodec.readString(in);
+        if (type == STATE_RECORD) {
+            byte[] state = new byte[in.available()];
+            in.readFully(state);
+            snapshotStates.put(key, state);
+        } else {
+            snapshotStates.put(key, new byte[0]);
+        }
+        return true;
+    }
+
+    private static boolean isValidRecordType(byte type) {
+        return type == STATE_RECORD || type == REMOVE_RECORD || type == COMMIT_RECORD;
+    }
+
+    /**
+     * Previous versions wrote each snapshot to a text file named by the time it was taken.
+     */
+    private static boolean hasLegacySnapshotFiles(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.anyMatch(file -> {
+                Path fileName = file.getFileName();
+                return fileName != null && fileName.toString().matches("[0-9]+") && Files.isRegularFile(file);
+            });
+        }
+    }
+
+    private static void writeRecord(ByteArrayOutputStream out, byte type, String key, byte[] state) {
+        ByteArrayOutputStream record = new ByteArrayOutputStream();
+        try (DataOutputStream recordOut = new DataOutputStream(record)) {
+            recordOut.writeByte(type);
+            if (key != null) {
+                SnapshotCodec.writeString(recordOut, key);
+            }
+            if (state != null) {
+                recordOut.write(state);
+            }
+        } catch (IOException e) {
+            // Writing to a byte array does not fail
+            throw new IllegalStateException(e);
+        }
+        CRC32 checksum = new CRC32();
+        byte[] recordBytes = record.toByteArray();
+        checksum.update(recordBytes, 0, recordBytes.length);
+        DataOutputStream dataOut = new DataOutputStream(out);
+        try {
+            dataOut.writeInt(recordBytes.length);
+            dataOut.writeInt((int) checksum.getValue());
+            dataOut.write(recordBytes);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void append(byte[] snapshot) {
+        try {
+            write(channel, snapshot);
+            channel.force(false);
+        } catch (IOException e) {
+            writeError = e;
+        }
+    }
+
+    private void compact(byte[] compactedLog) {
+        Path compactedLogFile = logFile.resolveSibling(COMPACTED_LOG_FILE_NAME);
+        try {
+            try (FileChannel compactedChannel = FileChannel.open(compactedLogFile, StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                write(compactedChannel, compactedLog);
+                compactedChannel.force(false);
+            }
+            channel.close();
+            Files.move(compactedLogFile, logFile, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            writeError = e;
+        } finally {
+            try {
+                if (!channel.isOpen()) {
+                    channel = FileChannel.open(logFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                }
+            } catch (IOException e) {
+                writeError = e;
+            }
+        }
+    }
+
+    private void closeChannel() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            writeError = e;
+        }
+    }
+
+    private static void write(FileChannel fileChannel, byte[] bytes) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        while (buffer.hasRemaining()) {
+            fileChannel.write(buffer);
+        }
+    }
+}
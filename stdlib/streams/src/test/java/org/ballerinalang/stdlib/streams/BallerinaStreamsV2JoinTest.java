@@ -18,6 +18,7 @@
 package org.ballerinalang.stdlib.streams;
 
 import org.ballerinalang.model.values.BFloat;
+import org.ballerinalang.model.values.BInteger;
 import org.ballerinalang.model.values.BMap;
 import org.ballerinalang.model.values.BValue;
 import org.ballerinalang.test.util.BCompileUtil;
@@ -38,6 +39,7 @@ public class BallerinaStreamsV2JoinTest {
     private CompileResult resultWithAlias;
     private CompileResult resultWithoutOnCondition;
     private CompileResult resultWithoutWindow;
+    private CompileResult resultWithLargeWindow;
 
     @BeforeClass
     public void setup() {
@@ -47,6 +49,7 @@ public class BallerinaStreamsV2JoinTest {
                 compile("test-src/streamingv2-join-without-on-condition-test.bal");
         resultWithoutWindow = BCompileUtil.
                 compile("test-src/streamingv2-join-without-window-test.bal");
+        resultWithLargeWindow = BCompileUtil.compile("test-src/streamingv2-join-large-window-test.bal");
     }
 
     @Test(description = "Test stream join query.")
@@ -117,4 +120,17 @@ public class BallerinaStreamsV2JoinTest {
         Assert.assertEquals(((BFloat) stock2.get("price")).floatValue(), 58.6);
     }
 
+    @Test(description = "Test stream join query on the attributes of large windows.")
+    public void testStreamJoinWithLargeWindowQuery() {
+        BValue[] stocksWithPrices = BRunUtil.invoke(resultWithLargeWindow, "startJoinQuery");
+        Assert.assertNotNull(stocksWithPrices);
+        Assert.assertEquals(stocksWithPrices.length, 250, "Expected events are not received");
+
+        for (BValue stockWithPrice : stocksWithPrices) {
+            BMap<String, BValue> stock = (BMap<String, BValue>) stockWithPrice;
+            long volume = ((BInteger) stock.get("volume")).intValue();
+            Assert.assertTrue(volume >= 2500);
+            Assert.assertEquals(stock.get("symbol").stringValue(), "SYM" + (volume % 100));
+        }
+    }
 }
@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.stdlib.streams;
+
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.streams.RingBufferList;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for the ring buffer which backs the linked list of the streams module.
+ */
+public class RingBufferListTest {
+
+    @Test(description = "Test removing elements while iterating from the front")
+    public void testRemoveWhileIteratingFromFront() {
+        RingBufferList list = createList(1, 2, 3, 4, 5);
+        list.resetToFront();
+        while (list.hasNext()) {
+            long value = (Long) list.next();
+            if (value % 2 == 1) {
+                list.removeCurrent();
+            }
+        }
+        assertElements(list, 2, 4);
+    }
+
+    @Test(description = "Test removing elements while iterating from the rear")
+    public void testRemoveWhileIteratingFromRear() {
+        RingBufferList list = createList(5, 3, 1, 2);
+        list.resetToRear();
+        while (list.hasPrevious()) {
+            long value = (Long) list.previous();
+            if (value < 4) {
+                list.removeCurrent();
+            } else {
+                break;
+            }
+        }
+        list.addLast(4L);
+        assertElements(list, 5, 4);
+    }
+
+    @Test(description = "Test inserting elements before the cursor")
+    public void testInsertBeforeCurrent() {
+        RingBufferList list = createList(1, 3);
+        list.resetToFront();
+        list.next();
+        list.next();
+        list.insertBeforeCurrent(2L);
+        Assert.assertFalse(list.hasNext());
+        list.addFirst(0L);
+        assertElements(list, 0, 1, 2, 3);
+    }
+
+    @Test(description = "Test removing the first occurrence of an element")
+    public void testRemoveElement() {
+        RingBufferList list = createList(1000, 2, 1000, 3);
+        // Simple values are compared by value
+        Assert.assertTrue(list.remove(Long.valueOf(1000)));
+        assertElements(list, 2, 1000, 3);
+        Assert.assertFalse(list.remove(4L));
+        assertElements(list, 2, 1000, 3);
+
+        // Other values are compared by reference
+        MapValueImpl<String, Object> first = new MapValueImpl<>();
+        MapValueImpl<String, Object> second = new MapValueImpl<>();
+        RingBufferList events = new RingBufferList();
+        events.addLast(first);
+        events.addLast(second);
+        Assert.assertTrue(events.remove(second));
+        Assert.assertFalse(events.remove(new MapValueImpl<>()));
+        Assert.assertEquals(events.getSize(), 1L);
+        Assert.assertSame(events.getFirst(), first);
+    }
+
+    @Test(description = "Test adding and removing elements across the end of the buffer")
+    public void testWrapAround() {
+        RingBufferList list = new RingBufferList();
+        for (long i = 0; i < 100; i++) {
+            list.addLast(i);
+            if (list.getSize() > 10) {
+                Assert.assertEquals(list.removeFirst(), i - 10);
+            }
+        }
+        Assert.assertEquals(list.getFirst(), 90L);
+        Assert.assertEquals(list.getLast(), 99L);
+        Assert.assertEquals(list.getSize(), 10);
+
+        list.clear();
+        Assert.assertTrue(list.isEmpty());
+        Assert.assertNull(list.removeLast());
+        Assert.assertEquals(list.asArray().size(), 0);
+    }
+
+    private static RingBufferList createList(long... values) {
+        RingBufferList list = new RingBufferList();
+        list.addAll(new ArrayValue(values));
+        return list;
+    }
+
+    private static void assertElements(RingBufferList list, long... values) {
+        ArrayValue array = list.asArray();
+        Assert.assertEquals(array.size(), values.length);
+        for (int i = 0; i < values.length; i++) {
+            Assert.assertEquals(array.get(i), values[i]);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.stdlib.streams;
+
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.streams.SnapshotStore;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Tests for the snapshot log of the streams module.
+ */
+public class SnapshotStoreTest {
+
+    private Path directory;
+
+    @BeforeMethod
+    public void createDirectory() throws IOException {
+        directory = Files.createTempDirectory("streams-snapshots");
+    }
+
+    @AfterMethod
+    public void deleteDirectory() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test(description = "Test restoring the states of the last snapshot")
+    public void testRestoreStates() {
+        SnapshotStore store = openStore();
+        Assert.assertNull(store.updateState("count", createState(1)));
+        Assert.assertNull(store.updateState("sum", createState(10)));
+        Assert.assertNull(store.commit());
+        Assert.assertNull(store.updateState("count", createState(2)));
+        store.removeState("sum");
+        Assert.assertNull(store.commit());
+        store.close();
+
+        SnapshotStore restoredStore = openStore();
+        Assert.assertFalse(restoredStore.hasState("sum"));
+        assertState(restoredStore.getState("count"), 2);
+        restoredStore.close();
+    }
+
+    @Test(description = "Test discarding a partially written snapshot")
+    public void testDiscardPartialSnapshot() throws IOException {
+        SnapshotStore store = openStore();
+        Assert.assertNull(store.updateState("count", createState(1)));
+        Assert.assertNull(store.commit());
+        Assert.assertNull(store.updateState("count", createState(2)));
+        Assert.assertNull(store.commit());
+        store.close();
+
+        Path logFile = directory.resolve("snapshots.log");
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 1);
+        }
+
+        SnapshotStore restoredStore = openStore();
+        assertState(restoredStore.getState("count"), 1);
+        Assert.assertNull(restoredStore.updateState("count", createState(3)));
+        Assert.assertNull(restoredStore.commit());
+        restoredStore.close();
+
+        restoredStore = openStore();
+        assertState(restoredStore.getState("count"), 3);
+        restoredStore.close();
+    }
+
+    @Test(description = "Test discarding a record of which the length exceeds the size of the log")
+    public void testDiscardCorruptedRecordLength() throws IOException {
+        SnapshotStore store = openStore();
+        Assert.assertNull(store.updateState("count", createState(1)));
+        Assert.assertNull(store.commit());
+        store.close();
+
+        Path logFile = directory.resolve("snapshots.log");
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.APPEND)) {
+            ByteBuffer header = ByteBuffer.allocate(8);
+            header.putInt(Integer.MAX_VALUE).putInt(0).flip();
+            channel.write(header);
+        }
+
+        SnapshotStore restoredStore = openStore();
+        assertState(restoredStore.getState("count"), 1);
+        Assert.assertNull(restoredStore.updateState("count", createState(2)));
+        Assert.assertNull(restoredStore.commit());
+        restoredStore.close();
+
+        restoredStore = openStore();
+        assertState(restoredStore.getState("count"), 2);
+        restoredStore.close();
+    }
+
+    @Test(description = "Test discarding a record of an unknown type")
+    public void testDiscardUnknownRecordType() throws IOException {
+        SnapshotStore store = openStore();
+        Assert.assertNull(store.updateState("count", createState(1)));
+        Assert.assertNull(store.commit());
+        store.close();
+
+        Path logFile = directory.resolve("snapshots.log");
+        byte[] record = {42, 0, 0};
+        CRC32 checksum = new CRC32();
+        checksum.update(record, 0, record.length);
+        try (FileChannel channel = FileChannel.open(logFile, StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.allocate(8 + record.length);
+            buffer.putInt(record.length).putInt((int) checksum.getValue()).put(record).flip();
+            channel.write(buffer);
+        }
+
+        SnapshotStore restoredStore = openStore();
+        assertState(restoredStore.getState("count"), 1);
+        Assert.assertNull(restoredStore.updateState("count", createState(2)));
+        Assert.assertNull(restoredStore.commit());
+        restoredStore.close();
+
+        restoredStore = openStore();
+        assertState(restoredStore.getState("count"), 2);
+        restoredStore.close();
+    }
+
+    @Test(description = "Test detecting snapshots written by a previous version")
+    public void testDetectLegacySnapshots() throws IOException {
+        SnapshotStore store = openStore();
+        Assert.assertFalse(store.hasLegacySnapshots());
+        store.close();
+
+        Files.write(directory.resolve("1570000000000"), "{}".getBytes(StandardCharsets.UTF_8));
+        store = openStore();
+        Assert.assertTrue(store.hasLegacySnapshots());
+        store.close();
+    }
+
+    private SnapshotStore openStore() {
+        SnapshotStore store = new SnapshotStore();
+        Assert.assertNull(store.open(directory.toString()));
+        return store;
+    }
+
+    private static MapValue<String, Object> createState(long count) {
+        MapValue<String, Object> state = new MapValueImpl<>(new BMapType(BTypes.typeAnydata));
+        state.put("count", count);
+        ArrayValue values = new ArrayValue(new BArrayType(BTypes.typeString));
+        values.add(0, "value-" + count);
+        state.put("values", values);
+        return state;
+    }
+
+    private static void assertState(MapValue<?, ?> state, long count) {
+        Assert.assertNotNull(state);
+        Assert.assertEquals(state.get("count"), count);
+        ArrayValue values = (ArrayValue) state.get("values");
+        Assert.assertEquals(values.size(), 1);
+        Assert.assertEquals(values.getString(0), "value-" + count);
+    }
+}
@@ -0,0 +1,104 @@
+// Copyright (c) 2019 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerina/runtime;
+
+type Stock record {
+    string symbol;
+    float price;
+    int volume;
+};
+
+type Twitter record {
+    string user;
+    string tweet;
+    string company;
+};
+
+type StockWithPrice record {
+    string symbol;
+    string tweet;
+    float price;
+    int volume;
+};
+
+const int STOCK_COUNT = 5000;
+const int SYMBOL_COUNT = 100;
+const int TWEET_COUNT = 10;
+
+StockWithPrice[] globalEventsArray = [];
+int index = 0;
+
+stream<Stock> stockStream = new;
+stream<Twitter> twitterStream = new;
+stream<StockWithPrice> stockWithPriceStream = new;
+
+function testJoinQuery() {
+
+    forever {
+        from stockStream window length(10000)
+        join twitterStream window length(10)
+        on stockStream.symbol == twitterStream.company && stockStream.volume >= 2500
+        select stockStream.symbol as symbol, twitterStream.tweet as tweet, stockStream.price as price,
+            stockStream.volume as volume
+        => (StockWithPrice[] emp) {
+            foreach var e in emp {
+                stockWithPriceStream.publish(e);
+            }
+        }
+    }
+}
+
+function startJoinQuery() returns (StockWithPrice[]) {
+
+    testJoinQuery();
+
+    stockWithPriceStream.subscribe(function(StockWithPrice e) {printCompanyStockPrice(e);});
+
+    int i = 0;
+    while (i < STOCK_COUNT) {
+        Stock s = {symbol:"SYM" + (i % SYMBOL_COUNT).toString(), price:<float>i, volume:i};
+        stockStream.publish(s);
+        i += 1;
+    }
+
+    i = 0;
+    while (i < TWEET_COUNT) {
+        Twitter t = {user:"User" + i.toString(), tweet:"Hello", company:"SYM" + i.toString()};
+        twitterStream.publish(t);
+        i += 1;
+    }
+
+    int count = 0;
+    while(true) {
+        runtime:sleep(500);
+        count += 1;
+        if((globalEventsArray.length()) == 250 || count == 20) {
+            break;
+        }
+    }
+
+    return globalEventsArray;
+}
+
+function printCompanyStockPrice(StockWithPrice s) {
+    addToGlobalEventsArray(s);
+}
+
+function addToGlobalEventsArray(StockWithPrice s) {
+    globalEventsArray[index] = s;
+    index = index + 1;
+}
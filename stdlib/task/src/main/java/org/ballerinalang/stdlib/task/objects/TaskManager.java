@@ -19,6 +19,7 @@
 package org.ballerinalang.stdlib.task.objects;
 
 import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
+import org.ballerinalang.stdlib.task.utils.TimingWheel;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.impl.StdSchedulerFactory;
@@ -29,6 +30,9 @@ import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_MISFIRE_T
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_MISFIRE_THRESHOLD_VALUE;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_THREAD_COUNT;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_THREAD_COUNT_VALUE;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.TIMING_WHEEL_NAME;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.TIMING_WHEEL_SIZE;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.TIMING_WHEEL_TICK_MILLIS;
 
 
 /**
@@ -36,6 +40,7 @@ import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_THREAD_CO
  */
 public class TaskManager {
     private Scheduler scheduler;
+    private volatile TimingWheel timingWheel;
 
     private static class TaskManagerHelper {
         private static final TaskManager INSTANCE = new TaskManager();
@@ -61,6 +66,23 @@ public class TaskManager {
         return this.scheduler;
     }
 
+    /**
+     * Gets the timing wheel which is used to schedule timers, creating it if not created yet.
+     *
+     * @return Timing wheel of the task manager.
+     */
+    public TimingWheel getTimingWheel() {
+        if (this.timingWheel == null) {
+            synchronized (this) {
+                if (this.timingWheel == null) {
+                    this.timingWheel = new TimingWheel(TIMING_WHEEL_NAME, TIMING_WHEEL_TICK_MILLIS,
+                            TIMING_WHEEL_SIZE);
+                }
+            }
+        }
+        return this.timingWheel;
+    }
+
     private Properties createSchedulerProperties() {
         Properties properties = new Properties();
         properties.setProperty(QUARTZ_MISFIRE_THRESHOLD, QUARTZ_MISFIRE_THRESHOLD_VALUE);
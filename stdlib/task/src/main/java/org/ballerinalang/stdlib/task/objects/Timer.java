@@ -18,27 +18,29 @@
 package org.ballerinalang.stdlib.task.objects;
 
 import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
-import org.ballerinalang.stdlib.task.utils.TaskJob;
-import org.quartz.JobDataMap;
-import org.quartz.JobDetail;
-import org.quartz.SchedulerException;
-import org.quartz.SimpleScheduleBuilder;
-import org.quartz.Trigger;
+import org.ballerinalang.stdlib.task.utils.TaskExecutor;
+import org.ballerinalang.stdlib.task.utils.TimingWheel;
 
-import java.util.Date;
-
-import static org.quartz.JobBuilder.newJob;
-import static org.quartz.SimpleScheduleBuilder.simpleSchedule;
-import static org.quartz.TriggerBuilder.newTrigger;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Represents a Timer object used to create and run Timers.
+ * <p>
+ * Timers are scheduled in the timing wheel of the {@link TaskManager}, and each run dispatches the attached services
+ * directly to the Ballerina scheduler. Runs which are missed, e.g. while the timer is paused, are skipped, but they
+ * still count towards the maximum number of runs.
  *
  * @since 0.995.0
  */
 public class Timer extends AbstractTask {
 
     private long interval, delay;
+    private long nextRunTime;
+    private long noOfRuns = 0;
+    private boolean paused = false;
+    private boolean stopped = false;
+    private TimingWheel.Timeout timeout;
 
     /**
      * Creates a Timer object.
@@ -74,12 +76,64 @@ public class Timer extends AbstractTask {
      */
     @Override
     public void start() throws SchedulingException {
-        JobDataMap jobDataMap = getJobDataMapFromTask();
-        try {
-            scheduleTimer(jobDataMap);
-        } catch (SchedulerException e) {
-            throw new SchedulingException("Failed to schedule task.", e);
+        TimingWheel timingWheel = TaskManager.getInstance().getTimingWheel();
+        synchronized (this) {
+            this.stopped = false;
+            this.paused = false;
+            this.noOfRuns = 0;
+            this.nextRunTime = TimingWheel.currentTimeMillis() + this.getDelay();
+        }
+        scheduleNextRun(timingWheel);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        TimingWheel.Timeout currentTimeout;
+        synchronized (this) {
+            this.stopped = true;
+            currentTimeout = this.timeout;
+            this.timeout = null;
+        }
+        cancel(currentTimeout);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void pause() {
+        TimingWheel.Timeout currentTimeout;
+        synchronized (this) {
+            this.paused = true;
+            currentTimeout = this.timeout;
+            this.timeout = null;
+        }
+        cancel(currentTimeout);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void resume() throws SchedulingException {
+        TimingWheel timingWheel = TaskManager.getInstance().getTimingWheel();
+        synchronized (this) {
+            if (!this.paused) {
+                return;
+            }
+            this.paused = false;
+            if (this.stopped) {
+                return;
+            }
+            if (skipMissedRuns(TimingWheel.currentTimeMillis())) {
+                this.stopped = true;
+                return;
+            }
         }
+        scheduleNextRun(timingWheel);
     }
 
     /**
@@ -119,49 +173,86 @@ public class Timer extends AbstractTask {
     }
 
     /**
-     * Schedule a Timer.
+     * Schedule the next run of the Timer in the timing wheel.
+     *
+     * @param timingWheel Timing wheel which the timer is scheduled in.
+     */
+    private void scheduleNextRun(TimingWheel timingWheel) {
+        long runTime;
+        synchronized (this) {
+            runTime = this.nextRunTime;
+        }
+        TimingWheel.Timeout nextTimeout = timingWheel.schedule(runTime - TimingWheel.currentTimeMillis(),
+                () -> run(timingWheel, runTime));
+        synchronized (this) {
+            if (this.nextRunTime != runTime) {
+                // Timeout has already run
+                return;
+            }
+            if (!this.stopped && !this.paused) {
+                this.timeout = nextTimeout;
+                return;
+            }
+        }
+        nextTimeout.cancel();
+    }
+
+    /**
+     * Run the services attached to the Timer and schedule the next run.
      *
-     * @param jobData Map containing the details of the job.
-     * @throws SchedulerException if scheduling is failed.
+     * @param timingWheel Timing wheel which the timer is scheduled in.
+     * @param runTime     Time which the run was scheduled for.
      */
-    private void scheduleTimer(JobDataMap jobData) throws SchedulerException, SchedulingException {
-        SimpleScheduleBuilder schedule = createSchedulerBuilder(this.getInterval(), this.getMaxRuns());
-        String triggerId = this.getId();
-        JobDetail job = newJob(TaskJob.class).usingJobData(jobData).withIdentity(triggerId).build();
-        Trigger trigger;
-
-        if (this.getDelay() > 0) {
-            Date startTime = new Date(System.currentTimeMillis() + this.getDelay());
-            trigger = newTrigger()
-                    .withIdentity(triggerId)
-                    .startAt(startTime)
-                    .forJob(job)
-                    .withSchedule(schedule)
-                    .build();
-        } else {
-            trigger = newTrigger()
-                    .withIdentity(triggerId)
-                    .startNow()
-                    .forJob(job)
-                    .withSchedule(schedule)
-                    .build();
+    private void run(TimingWheel timingWheel, long runTime) {
+        boolean scheduleNext;
+        List<ServiceInformation> services;
+        synchronized (this) {
+            if (this.stopped || this.paused || this.nextRunTime != runTime) {
+                return;
+            }
+            this.timeout = null;
+            this.noOfRuns++;
+            if (hasReachedMaxRuns()) {
+                scheduleNext = false;
+            } else {
+                this.nextRunTime += this.getInterval();
+                scheduleNext = !skipMissedRuns(TimingWheel.currentTimeMillis());
+            }
+            this.stopped = !scheduleNext;
+            services = new ArrayList<>(this.getServicesMap().values());
         }
+        for (ServiceInformation serviceInformation : services) {
+            TaskExecutor.executeFunction(serviceInformation);
+        }
+        if (scheduleNext) {
+            scheduleNextRun(timingWheel);
+        }
+    }
+
+    /**
+     * Skip the runs which were due before the given time. Skipped runs count towards the maximum number of runs, the
+     * same as the runs which were missed with the Quartz misfire policy used by the timer before.
+     *
+     * @param currentTime Time which the runs are skipped until.
+     * @return true if the maximum number of runs is reached.
+     */
+    private boolean skipMissedRuns(long currentTime) {
+        if (this.nextRunTime < currentTime) {
+            long missedRuns = (currentTime - this.nextRunTime) / this.getInterval() + 1;
+            this.nextRunTime += missedRuns * this.getInterval();
+            this.noOfRuns += missedRuns;
+        }
+        return hasReachedMaxRuns();
+    }
 
-        TaskManager.getInstance().getScheduler().scheduleJob(job, trigger);
-        quartzJobs.put(triggerId, job.getKey());
+    private boolean hasReachedMaxRuns() {
+        long maxRuns = this.getMaxRuns();
+        return maxRuns > 0 && this.noOfRuns >= maxRuns;
     }
 
-    private static SimpleScheduleBuilder createSchedulerBuilder(long interval, long maxRuns) {
-        SimpleScheduleBuilder simpleScheduleBuilder = simpleSchedule()
-                .withMisfireHandlingInstructionNextWithRemainingCount()
-                .withIntervalInMilliseconds(interval);
-        if (maxRuns > 0) {
-            // Quartz uses number of repeats, but we count total number of runs.
-            // Hence we subtract 1 from the maxRuns to get the repeat count.
-            simpleScheduleBuilder.withRepeatCount((int) (maxRuns - 1));
-        } else {
-            simpleScheduleBuilder.repeatForever();
+    private static void cancel(TimingWheel.Timeout timeout) {
+        if (timeout != null) {
+            timeout.cancel();
         }
-        return simpleScheduleBuilder;
     }
 }
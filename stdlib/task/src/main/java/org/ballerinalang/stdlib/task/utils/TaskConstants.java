@@ -90,4 +90,9 @@ public class TaskConstants {
     public static final String QUARTZ_MISFIRE_THRESHOLD_VALUE = "5000";
     public static final String QUARTZ_THREAD_POOL_CLASS_VALUE = "org.quartz.simpl.SimpleThreadPool";
     public static final String QUARTZ_JOB_STORE_CLASS_VALUE = "org.quartz.simpl.RAMJobStore";
+
+    // Timing wheel used to schedule timers
+    public static final String TIMING_WHEEL_NAME = "ballerina-task-timer";
+    public static final long TIMING_WHEEL_TICK_MILLIS = 1;
+    public static final int TIMING_WHEEL_SIZE = 512;
 }
@@ -0,0 +1,336 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.ballerinalang.stdlib.task.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Hierarchical timing wheel which schedules delayed actions.
+ * <p>
+ * Each level of the wheel is an array of buckets, each covering one tick of that level. A timeout which does not fit
+ * into the range of a level is added to the next level, of which a tick covers the whole range of the previous level.
+ * Scheduling and cancelling a timeout only links or unlinks it from a bucket. Only buckets with timeouts are added to
+ * a delay queue, which the worker thread waits on, so that the worker does not wake up for empty ticks. When a bucket
+ * of a higher level expires, its timeouts are moved down to the lower levels, and the timeouts of an expired bucket of
+ * the lowest level are run on the worker thread. Hence actions should only hand over the work to be done.
+ *
+ * @since 1.0.2
+ */
+public class TimingWheel {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TimingWheel.class);
+    private static final long WORKER_POLL_TIMEOUT_MILLIS = 200;
+
+    private final DelayQueue<TimeoutBucket> delayQueue = new DelayQueue<>();
+    private final AtomicInteger timeoutCount = new AtomicInteger(0);
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Wheel rootWheel;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    /**
+     * Creates a timing wheel and starts its worker thread.
+     *
+     * @param name       Name of the worker thread.
+     * @param tickMillis Duration of a tick of the lowest level, in milliseconds.
+     * @param wheelSize  Number of buckets in each level.
+     */
+    public TimingWheel(String name, long tickMillis, int wheelSize) {
+        this.rootWheel = new Wheel(tickMillis, wheelSize, currentTimeMillis());
+        this.worker = new Thread(this::runWorker, name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Schedules an action to be run after the given delay. The delay is rounded up to at least a tick, so that the
+     * action is always run on the worker thread.
+     *
+     * @param delayMillis Delay in milliseconds.
+     * @param action      Action to be run.
+     * @return Timeout which can be used to cancel the action.
+     */
+    public Timeout schedule(long delayMillis, Runnable action) {
+        Timeout timeout = new Timeout(action, currentTimeMillis() + Math.max(delayMillis, rootWheel.tickMillis));
+        lock.readLock().lock();
+        try {
+            addOrRun(timeout);
+        } finally {
+            lock.readLock().unlock();
+        }
+        return timeout;
+    }
+
+    /**
+     * Gets the number of timeouts which are waiting to be run.
+     *
+     * @return Number of pending timeouts.
+     */
+    public int size() {
+        return timeoutCount.get();
+    }
+
+    /**
+     * Stops the worker thread. Pending timeouts will not be run.
+     */
+    public void shutdown() {
+        running = false;
+        worker.interrupt();
+    }
+
+    /**
+     * Gets the current time of the clock used by the timing wheel.
+     *
+     * @return Current time in milliseconds.
+     */
+    public static long currentTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    private void runWorker() {
+        while (running) {
+            try {
+                advanceClock();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void advanceClock() throws InterruptedException {
+        TimeoutBucket bucket = delayQueue.poll(WORKER_POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if (bucket == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            while (bucket != null) {
+                rootWheel.advanceClock(bucket.getExpiration());
+                bucket.flush(this);
+                bucket = delayQueue.poll();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addOrRun(Timeout timeout) {
+        if (!rootWheel.add(timeout) && !timeout.isCancelled()) {
+            try {
+                timeout.action.run();
+            } catch (Throwable e) {
+                LOG.error("Error occurred while running a scheduled timeout: " + e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Timeout scheduled in the timing wheel.
+     */
+    public static class Timeout {
+
+        private final Runnable action;
+        private final long expiration;
+        private volatile TimeoutBucket bucket;
+        private volatile boolean cancelled = false;
+        private Timeout next;
+        private Timeout previous;
+
+        private Timeout(Runnable action, long expiration) {
+            this.action = action;
+            this.expiration = expiration;
+        }
+
+        /**
+         * Cancels the timeout, so that its action will not be run.
+         */
+        public void cancel() {
+            cancelled = true;
+            TimeoutBucket currentBucket = bucket;
+            // Bucket could be changed while the timeout is being moved to a lower level
+            while (currentBucket != null) {
+                currentBucket.remove(this);
+                currentBucket = bucket;
+            }
+        }
+
+        /**
+         * Checks whether the timeout is cancelled.
+         *
+         * @return true if the timeout is cancelled.
+         */
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    /**
+     * A level of the timing wheel.
+     */
+    private class Wheel {
+
+        private final long tickMillis;
+        private final int wheelSize;
+        private final long interval;
+        private final TimeoutBucket[] buckets;
+        private long currentTime;
+        private volatile Wheel overflowWheel;
+
+        private Wheel(long tickMillis, int wheelSize, long startTime) {
+            this.tickMillis = tickMillis;
+            this.wheelSize = wheelSize;
+            this.interval = tickMillis * wheelSize;
+            this.buckets = new TimeoutBucket[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                buckets[i] = new TimeoutBucket(timeoutCount);
+            }
+            this.currentTime = startTime - (startTime % tickMillis);
+        }
+
+        /**
+         * Adds a timeout to the bucket it expires in.
+         *
+         * @param timeout Timeout to be added.
+         * @return false if the timeout is already expired or cancelled.
+         */
+        private boolean add(Timeout timeout) {
+            if (timeout.isCancelled() || timeout.expiration < currentTime + tickMillis) {
+                return false;
+            }
+            if (timeout.expiration < currentTime + interval) {
+                long virtualId = timeout.expiration / tickMillis;
+                TimeoutBucket bucket = buckets[(int) (virtualId % wheelSize)];
+                bucket.add(timeout);
+                // A bucket is reused once its previous expiration is flushed
+                if (bucket.setExpiration(virtualId * tickMillis)) {
+                    delayQueue.offer(bucket);
+                }
+                return true;
+            }
+            return getOverflowWheel().add(timeout);
+        }
+
+        private void advanceClock(long time) {
+            if (time >= currentTime + tickMillis) {
+                currentTime = time - (time % tickMillis);
+                Wheel overflow = overflowWheel;
+                if (overflow != null) {
+                    overflow.advanceClock(currentTime);
+                }
+            }
+        }
+
+        private Wheel getOverflowWheel() {
+            if (overflowWheel == null) {
+                synchronized (this) {
+                    if (overflowWheel == null) {
+                        overflowWheel = new Wheel(interval, wheelSize, currentTime);
+                    }
+                }
+            }
+            return overflowWheel;
+        }
+    }
+
+    /**
+     * Bucket of timeouts which expire within the same tick, kept as a doubly linked list so that a timeout can be
+     * removed in constant time.
+     */
+    private static class TimeoutBucket implements Delayed {
+
+        private final Timeout head = new Timeout(null, -1);
+        private final AtomicLong expiration = new AtomicLong(-1);
+        private final AtomicInteger timeoutCount;
+
+        private TimeoutBucket(AtomicInteger timeoutCount) {
+            this.timeoutCount = timeoutCount;
+            head.next = head;
+            head.previous = head;
+        }
+
+        private synchronized void add(Timeout timeout) {
+            synchronized (timeout) {
+                if (timeout.bucket == null) {
+                    Timeout tail = head.previous;
+                    timeout.next = head;
+                    timeout.previous = tail;
+                    tail.next = timeout;
+                    head.previous = timeout;
+                    timeout.bucket = this;
+                    timeoutCount.incrementAndGet();
+                }
+            }
+        }
+
+        private synchronized void remove(Timeout timeout) {
+            synchronized (timeout) {
+                if (timeout.bucket == this) {
+                    timeout.next.previous = timeout.previous;
+                    timeout.previous.next = timeout.next;
+                    timeout.next = null;
+                    timeout.previous = null;
+                    timeout.bucket = null;
+                    timeoutCount.decrementAndGet();
+                }
+            }
+        }
+
+        /**
+         * Removes all the timeouts of the bucket and adds them back to the wheel, which runs the expired ones.
+         *
+         * @param timingWheel Timing wheel which the bucket belongs to.
+         */
+        private synchronized void flush(TimingWheel timingWheel) {
+            Timeout timeout = head.next;
+            while (timeout != head) {
+                remove(timeout);
+                timingWheel.addOrRun(timeout);
+                timeout = head.next;
+            }
+            expiration.set(-1);
+        }
+
+        private boolean setExpiration(long expirationTime) {
+            return expiration.getAndSet(expirationTime) != expirationTime;
+        }
+
+        private long getExpiration() {
+            return expiration.get();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Math.max(getExpiration() - currentTimeMillis(), 0), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getExpiration(), ((TimeoutBucket) other).getExpiration());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *  Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ *
+ */
+package org.ballerinalang.stdlib.task.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the timing wheel used to schedule timers.
+ */
+public class TimingWheelTest {
+
+    private static final int TIMEOUT_COUNT = 1000000;
+
+    private TimingWheel timingWheel;
+
+    @BeforeMethod
+    public void setup() {
+        // A small wheel, so that the timeouts span multiple levels
+        timingWheel = new TimingWheel("test-timing-wheel", 1, 8);
+    }
+
+    @AfterMethod
+    public void cleanup() {
+        timingWheel.shutdown();
+    }
+
+    @Test(description = "Tests running timeouts in multiple levels of the wheel")
+    public void testTimeouts() throws InterruptedException {
+        long[] delays = {150, 5, 70, 0, 20};
+        CountDownLatch latch = new CountDownLatch(delays.length);
+        List<Long> completedDelays = Collections.synchronizedList(new ArrayList<>());
+        long startTime = TimingWheel.currentTimeMillis();
+        for (long delay : delays) {
+            timingWheel.schedule(delay, () -> {
+                Assert.assertTrue(TimingWheel.currentTimeMillis() - startTime >= delay);
+                completedDelays.add(delay);
+                latch.countDown();
+            });
+        }
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(completedDelays.size(), delays.length);
+        Assert.assertEquals(completedDelays.get(delays.length - 1), Long.valueOf(150));
+        Assert.assertEquals(timingWheel.size(), 0);
+    }
+
+    @Test(description = "Tests cancelling a timeout")
+    public void testCancelTimeout() throws InterruptedException {
+        AtomicInteger runCount = new AtomicInteger(0);
+        CountDownLatch latch = new CountDownLatch(1);
+        TimingWheel.Timeout cancelledTimeout = timingWheel.schedule(50, runCount::incrementAndGet);
+        timingWheel.schedule(100, latch::countDown);
+        Assert.assertEquals(timingWheel.size(), 2);
+
+        cancelledTimeout.cancel();
+        Assert.assertTrue(cancelledTimeout.isCancelled());
+        Assert.assertEquals(timingWheel.size(), 1);
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(runCount.get(), 0);
+    }
+
+    @Test(description = "Tests rescheduling from a running timeout")
+    public void testRescheduleFromTimeout() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(3);
+        Runnable[] action = new Runnable[1];
+        action[0] = () -> {
+            latch.countDown();
+            if (latch.getCount() > 0) {
+                timingWheel.schedule(10, action[0]);
+            }
+        };
+        timingWheel.schedule(10, action[0]);
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test(description = "Tests scheduling and cancelling a million timeouts", groups = { "TakesTooMuchTime" })
+    public void testScheduleMillionTimeouts() {
+        TimingWheel.Timeout[] timeouts = new TimingWheel.Timeout[TIMEOUT_COUNT];
+        AtomicInteger runCount = new AtomicInteger(0);
+        for (int i = 0; i < TIMEOUT_COUNT; i++) {
+            timeouts[i] = timingWheel.schedule(60000 + i % 60000, runCount::incrementAndGet);
+        }
+        Assert.assertEquals(timingWheel.size(), TIMEOUT_COUNT);
+        for (TimingWheel.Timeout timeout : timeouts) {
+            timeout.cancel();
+        }
+        Assert.assertEquals(timingWheel.size(), 0);
+        Assert.assertEquals(runCount.get(), 0);
+    }
+}
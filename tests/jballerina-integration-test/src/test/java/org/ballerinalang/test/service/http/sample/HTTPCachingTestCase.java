@@ -110,4 +110,11 @@ public class HTTPCachingTestCase extends HttpBaseTest {
         assertEquals(response.getHeaders().get(serviceHitCount), "2");
         assertEquals(response.getHeaders().get(proxyHitCount), "3");
     }
+
+    @Test(description = "Test coalescing concurrent requests for a resource missing in the cache")
+    public void testRequestCoalescing() throws IOException {
+        HttpResponse response = HttpClientRequest.doGet(serverInstance.getServiceURLHttp(9239, "cache/coalesce"));
+        assertEquals(response.getResponseCode(), 200);
+        assertEquals(response.getData(), "Successful responses: 5, backend hits: 1");
+    }
 }
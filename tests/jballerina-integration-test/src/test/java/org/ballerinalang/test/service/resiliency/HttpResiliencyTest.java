@@ -67,6 +67,7 @@ public class HttpResiliencyTest extends BaseTest {
     private static final String LB_ROUND_ROBIN_WITH_FO_SERVICE_PATH = "lb" + File.separator + "failover";
     private static final String ALL_LB_EP_FAILURE_SERVICE_PATH = "lb" + File.separator + "delay";
     private static final String LB_CUSTOM_ALGO_SERVICE_PATH = "lb" + File.separator + "custom";
+    private static final String LB_OUTLIER_EJECTION_SERVICE_PATH = "lb" + File.separator + "outlierEjection";
 
     @BeforeTest(alwaysRun = true)
     public void start() throws BallerinaTestException {
@@ -294,6 +295,19 @@ public class HttpResiliencyTest extends BaseTest {
         verifyResponses(9313, LB_CUSTOM_ALGO_SERVICE_PATH, responseCode, message);
     }
 
+    @Test(description = "Test for ejecting a failing endpoint with the least outstanding requests load balancer")
+    public void testLbOutlierEjection() throws Exception {
+        Map<String, String> headers = new HashMap<>();
+        headers.put(HttpHeaderNames.CONTENT_TYPE.toString(), TestConstant.CONTENT_TYPE_JSON);
+        HttpResponse response = HttpClientRequest.doPost(serverInstance.getServiceURLHttp(9313,
+                LB_OUTLIER_EJECTION_SERVICE_PATH), REQUEST_PAYLOAD_STRING, headers);
+        Assert.assertEquals(response.getResponseCode(), SC_OK, "Response code mismatched");
+        // Only the first request to the failing endpoint can fail, as the endpoint is ejected afterwards
+        String data = response.getData();
+        Assert.assertTrue(data.equals("Successful responses: 9") || data.equals("Successful responses: 10"),
+                "Message content mismatched");
+    }
+
     // TODO: #16933
     @Test(description = "Test basic failover scenario for HTTP2 clients")
     public void testBasicHttp2Failover() throws IOException {
@@ -15,8 +15,10 @@
 // under the License.
 
 import ballerina/http;
+import ballerina/runtime;
 
 http:Client cachingEP = new("http://localhost:9240", { cache: { isShared: true } });
+http:Client coalescingEP = new("http://localhost:9240", { cache: { isShared: true, coalesceRequests: true } });
 int cachingProxyHitcount = 0;
 
 @http:ServiceConfig {
@@ -42,10 +44,31 @@ service cachingProxy on new http:Listener(9239) {
             checkpanic caller->respond(res);
         }
     }
+
+    @http:ResourceConfig {
+        methods: ["GET"],
+        path: "/coalesce"
+    }
+    resource function coalescedResource(http:Caller caller, http:Request req) {
+        future<http:Response|http:ClientError>[] responses = [];
+        foreach var i in 0 ..< 5 {
+            responses[i] = start coalescingEP->get("/hello/slow");
+        }
+        int successfulResponses = 0;
+        foreach var response in responses {
+            var result = wait response;
+            if (result is http:Response) {
+                successfulResponses += 1;
+            }
+        }
+        checkpanic caller->respond("Successful responses: " + successfulResponses.toString() + ", backend hits: "
+                                    + slowHitcount.toString());
+    }
 }
 
 json payload = { "message": "Hello, World!" };
 int hitcount = 0;
+int slowHitcount = 0;
 
 @http:ServiceConfig {
     basePath: "/hello"
@@ -72,4 +95,24 @@ service cachingBackend on new http:Listener(9240) {
 
         checkpanic caller->respond(res);
     }
+
+    @http:ResourceConfig { path: "/slow" }
+    resource function sayHelloSlowly(http:Caller caller, http:Request req) {
+        http:Response res = new;
+
+        http:ResponseCacheControl resCC = new;
+        resCC.maxAge = 60;
+        resCC.isPrivate = false;
+
+        res.cacheControl = resCC;
+
+        res.setETag(payload);
+        res.setLastModified();
+
+        slowHitcount += 1;
+        runtime:sleep(1000);
+        res.setPayload(payload);
+
+        checkpanic caller->respond(res);
+    }
 }
@@ -61,6 +61,15 @@ http:LoadBalanceClient customLbBackendEP = new ({
     timeoutInMillis: 5000
 });
 
+http:LoadBalanceClient outlierEjectionBackendEP = new ({
+    targets: [
+        { url: "http://localhost:8093/mock6" },
+        { url: "http://localhost:8093/mock1" }
+    ],
+    lbRule: new http:LoadBalancerLeastOutstandingRule({ consecutiveFailures: 1 }),
+    timeoutInMillis: 5000
+});
+
 @http:ServiceConfig {
     basePath: "/lb"
 }
@@ -156,6 +165,25 @@ service loadBalancerDemoService on new http:Listener(9313) {
             }
         }
     }
+
+    @http:ResourceConfig {
+        path: "/outlierEjection"
+    }
+    resource function outlierEjectionResource(http:Caller caller, http:Request req) {
+        int successCount = 0;
+        int i = 0;
+        while (i < 10) {
+            var response = outlierEjectionBackendEP->get("/");
+            if (response is http:Response && response.statusCode == 200) {
+                successCount += 1;
+            }
+            i += 1;
+        }
+        var responseToCaller = caller->respond("Successful responses: " + successCount.toString());
+        if (responseToCaller is error) {
+            log:printError("Error sending response", responseToCaller);
+        }
+    }
 }
 
 @http:ServiceConfig { basePath: "/mock1" }
@@ -225,6 +253,22 @@ service mock5 on backendEP {
     }
 }
 
+@http:ServiceConfig { basePath: "/mock6" }
+service mock6 on backendEP {
+    @http:ResourceConfig {
+        path: "/"
+    }
+    resource function mock6Resource(http:Caller caller, http:Request req) {
+        http:Response res = new;
+        res.statusCode = 500;
+        res.setPayload("Mock6 Resource failed.");
+        var responseToCaller = caller->respond(res);
+        if (responseToCaller is error) {
+            log:printError("Error sending response from mock service", responseToCaller);
+        }
+    }
+}
+
 # Implementation of custom load balancing strategy.
 #
 # + index - Keep tracks the current point of the CallerActions[]
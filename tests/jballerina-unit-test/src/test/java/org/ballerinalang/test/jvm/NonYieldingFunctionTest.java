@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2019, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ */
+
+package org.ballerinalang.test.jvm;
+
+import org.ballerinalang.model.values.BBoolean;
+import org.ballerinalang.model.values.BInteger;
+import org.ballerinalang.model.values.BValue;
+import org.ballerinalang.model.values.BValueArray;
+import org.ballerinalang.test.util.BCompileUtil;
+import org.ballerinalang.test.util.BRunUtil;
+import org.ballerinalang.test.util.CompileResult;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+/**
+ * Tests for functions generated without the frame spill logic, since they can never yield.
+ */
+public class NonYieldingFunctionTest {
+    private CompileResult compileResult;
+
+    @BeforeClass
+    public void setup() {
+        compileResult = BCompileUtil.compile("test-src/jvm/non-yielding-functions.bal");
+    }
+
+    @Test
+    public void testRecursiveNonYieldingFunction() {
+        BValue[] result = BRunUtil.invoke(compileResult, "testRecursiveNonYieldingFunction");
+        Assert.assertEquals(((BInteger) result[0]).intValue(), 6765);
+    }
+
+    @Test
+    public void testMutuallyRecursiveNonYieldingFunctions() {
+        BValue[] result = BRunUtil.invoke(compileResult, "testMutuallyRecursiveNonYieldingFunctions");
+        BValueArray tuple = (BValueArray) result[0];
+        Assert.assertTrue(((BBoolean) tuple.getRefValue(0)).booleanValue());
+        Assert.assertTrue(((BBoolean) tuple.getRefValue(1)).booleanValue());
+    }
+
+    @Test
+    public void testNonYieldingCallsAcrossYield() {
+        BValue[] result = BRunUtil.invoke(compileResult, "testNonYieldingCallsAcrossYield");
+        Assert.assertEquals(((BInteger) result[0]).intValue(), 5050 + 15 + 55);
+    }
+
+    @Test
+    public void testYieldingCallee() {
+        BValue[] result = BRunUtil.invoke(compileResult, "testYieldingCallee");
+        Assert.assertEquals(((BInteger) result[0]).intValue(), 5);
+    }
+}
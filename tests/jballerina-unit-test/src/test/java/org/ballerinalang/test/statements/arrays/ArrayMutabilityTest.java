@@ -164,6 +164,25 @@ public class ArrayMutabilityTest {
         BRunUtil.invoke(compileResult, "testChainingAssignment");
     }
 
+    @Test(description = "Test storing an int value in the byte range to a byte array through an int[] covariant array",
+            expectedExceptions = {BLangRuntimeException.class},
+            expectedExceptionsMessageRegExp =
+                    "error: \\{ballerina/lang.array\\}InherentTypeViolation message=incompatible types: expected " +
+                            "\\'byte\\', found \\'int\\'.*")
+    public void testCovarianceIntArrayHoldingByteArray() {
+        BRunUtil.invoke(compileResult, "testCovarianceIntArrayHoldingByteArray");
+    }
+
+    @Test(description = "Test storing an int value out of the byte range to a byte array through an int[] covariant " +
+            "array",
+            expectedExceptions = {BLangRuntimeException.class},
+            expectedExceptionsMessageRegExp =
+                    "error: \\{ballerina/lang.array\\}InherentTypeViolation message=incompatible types: expected " +
+                            "\\'byte\\', found \\'int\\'.*")
+    public void testCovarianceIntArrayHoldingByteArrayOutOfRange() {
+        BRunUtil.invoke(compileResult, "testCovarianceIntArrayHoldingByteArrayOutOfRange");
+    }
+
     @Test(description = "Test negative scenarios of assigning tuple literals")
     public void testNegativeTupleLiteralAssignments() {
         int i = 0;
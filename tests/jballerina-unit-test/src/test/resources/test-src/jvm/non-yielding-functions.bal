@@ -0,0 +1,83 @@
+// Copyright (c) 2019 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+int counter = 0;
+
+function testRecursiveNonYieldingFunction() returns int {
+    return fib(20);
+}
+
+function fib(int n) returns int {
+    if (n < 2) {
+        return n;
+    }
+    return fib(n - 1) + fib(n - 2);
+}
+
+function testMutuallyRecursiveNonYieldingFunctions() returns [boolean, boolean] {
+    return [isEven(100), isOdd(7)];
+}
+
+function isEven(int n) returns boolean {
+    if (n == 0) {
+        return true;
+    }
+    return isOdd(n - 1);
+}
+
+function isOdd(int n) returns boolean {
+    if (n == 0) {
+        return false;
+    }
+    return isEven(n - 1);
+}
+
+function testNonYieldingCallsAcrossYield() returns int {
+    counter = 0;
+    int before = sum(10);
+    future<int> f = start sum(100);
+    int result = wait f;
+    lock {
+        counter = counter + before;
+    }
+    return result + sum(5) + counter;
+}
+
+function sum(int n) returns int {
+    int total = 0;
+    int i = 1;
+    while (i <= n) {
+        total = total + i;
+        i += 1;
+    }
+    return total;
+}
+
+function testYieldingCallee() returns int {
+    counter = 0;
+    return callsYieldingFunction(5);
+}
+
+function callsYieldingFunction(int n) returns int {
+    return incrementWithLock(n);
+}
+
+function incrementWithLock(int n) returns int {
+    lock {
+        counter = counter + n;
+    }
+    return counter;
+}
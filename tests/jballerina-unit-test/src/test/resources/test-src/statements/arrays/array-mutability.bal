@@ -187,3 +187,15 @@ function testChainingAssignment() {
     fourth[1] = "string";
     fourth[2] = true; // Runtime Exception
 }
+
+function testCovarianceIntArrayHoldingByteArray() {
+    byte[] x = [1, 2, 3];
+    int[] y = x;
+    y[0] = 5; // Runtime Exception
+}
+
+function testCovarianceIntArrayHoldingByteArrayOutOfRange() {
+    byte[] x = [1, 2, 3];
+    int[] y = x;
+    y[1] = 300; // Runtime Exception
+}